@@ -10,6 +10,7 @@ import com.azure.core.util.tracing.Tracer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.ServiceLoader;
 import reactor.core.publisher.Signal;
 
 public class TracerProvider {
@@ -21,6 +22,23 @@ public class TracerProvider {
         tracers.forEach(e -> this.tracers.add(e));
     }
 
+    /**
+     * Creates a provider of the tracers plugged into the SDK through the {@link ServiceLoader}. Tracers which report
+     * they don't record spans are left out, so when none does the provider isn't enabled and callers skip starting
+     * spans and propagating their context. Unlike this, the constructor keeps every tracer it's given.
+     *
+     * @return A provider of the enabled tracers plugged into the SDK.
+     */
+    public static TracerProvider fromServiceLoader() {
+        List<Tracer> enabledTracers = new ArrayList<>();
+        for (Tracer tracer : ServiceLoader.load(Tracer.class)) {
+            if (tracer.isEnabled()) {
+                enabledTracers.add(tracer);
+            }
+        }
+        return new TracerProvider(enabledTracers);
+    }
+
     public boolean isEnabled() {
         return tracers.size() > 0;
     }
@@ -68,6 +68,21 @@ public class TracerProviderTest {
         }
     }
 
+    @Test
+    public void keepsTracersGivenToTheConstructor() {
+        // Arrange
+        final Tracer disabledTracer = Mockito.mock(Tracer.class);
+        when(disabledTracer.isEnabled()).thenReturn(false);
+        final TracerProvider provider = new TracerProvider(Collections.singletonList(disabledTracer));
+
+        // Act
+        provider.startSpan(Context.NONE, ProcessKind.SEND);
+
+        // Assert
+        Assertions.assertTrue(provider.isEnabled());
+        verify(disabledTracer, times(1)).start(eq(METHOD_NAME), any(), eq(ProcessKind.SEND));
+    }
+
     @Test
     public void notEnabledWhenNoTracers() {
         // Arrange
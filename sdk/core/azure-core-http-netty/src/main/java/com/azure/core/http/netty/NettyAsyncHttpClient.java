@@ -3,13 +3,20 @@
 
 package com.azure.core.http.netty;
 
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.ProxyOptions;
+import com.azure.core.http.netty.implementation.Http2ConnectionPool;
+import com.azure.core.http.netty.implementation.Http2Exchange;
 import com.azure.core.http.netty.implementation.HttpProxyExceptionHandler;
+import com.azure.core.http.netty.implementation.NettyToAzureCoreHttpHeadersWrapper;
+import com.azure.core.implementation.http.ConnectionWarmUp;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.EventLoopGroup;
@@ -27,8 +34,11 @@ import reactor.netty.http.client.HttpClientRequest;
 import reactor.netty.http.client.HttpClientResponse;
 import reactor.netty.tcp.TcpClient;
 
+import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -39,17 +49,21 @@ import java.util.regex.Pattern;
  * class can be achieved by using the {@link NettyAsyncHttpClientBuilder} class, which offers Netty-specific API for
  * features such as {@link NettyAsyncHttpClientBuilder#eventLoopGroup(EventLoopGroup) thread pooling}, {@link
  * NettyAsyncHttpClientBuilder#wiretap(boolean) wiretapping}, {@link NettyAsyncHttpClientBuilder#proxy(ProxyOptions)
- * setProxy configuration}, and much more.
+ * setProxy configuration}, {@link NettyAsyncHttpClientBuilder#http2(boolean) HTTP/2}, and much more.
  *
  * @see HttpClient
  * @see NettyAsyncHttpClientBuilder
  */
 class NettyAsyncHttpClient implements HttpClient {
+    private static final Map<String, String> METRICS_TAGS = Collections.singletonMap(Meter.CLIENT_TAG, "netty");
 
     private final EventLoopGroup eventLoopGroup;
     private final Supplier<ProxyHandler> proxyHandlerSupplier;
     private final Pattern nonProxyHostsPattern;
+    private final boolean proxyConfigured;
     private final boolean disableBufferCopy;
+    private final Http2ConnectionPool http2ConnectionPool;
+    private volatile Mono<Void> warmUp = Mono.empty();
 
     final reactor.netty.http.client.HttpClient nettyClient;
 
@@ -57,7 +71,7 @@ class NettyAsyncHttpClient implements HttpClient {
      * Creates default NettyAsyncHttpClient.
      */
     NettyAsyncHttpClient() {
-        this(reactor.netty.http.client.HttpClient.create(), null, null, null, false);
+        this(reactor.netty.http.client.HttpClient.create(), null, null, null, false, null);
     }
 
     /**
@@ -67,16 +81,38 @@ class NettyAsyncHttpClient implements HttpClient {
      * @param eventLoopGroup {@link EventLoopGroup} that processes requests.
      * @param proxyHandlerSupplier Supplier that returns the {@link ProxyHandler} that connects to the configured
      * proxy.
+     * @param nonProxyHosts Pattern of the hosts which aren't proxied.
+     * @param disableBufferCopy Whether response bodies received over HTTP/1.1 aren't copied out of Netty's buffers.
+     * @param http2ConnectionPool Pool of the HTTP/2 connections used for HTTPS requests, or null to use HTTP/1.1.
      */
     NettyAsyncHttpClient(reactor.netty.http.client.HttpClient nettyClient, EventLoopGroup eventLoopGroup,
-        Supplier<ProxyHandler> proxyHandlerSupplier, String nonProxyHosts, boolean disableBufferCopy) {
+        Supplier<ProxyHandler> proxyHandlerSupplier, String nonProxyHosts, boolean disableBufferCopy,
+        Http2ConnectionPool http2ConnectionPool) {
         this.nettyClient = nettyClient;
         this.eventLoopGroup = eventLoopGroup;
         this.proxyHandlerSupplier = proxyHandlerSupplier;
         this.nonProxyHostsPattern = (nonProxyHosts == null)
             ? null
             : Pattern.compile(nonProxyHosts, Pattern.CASE_INSENSITIVE);
+        this.proxyConfigured = proxyHandlerSupplier != null && proxyHandlerSupplier.get() != null;
         this.disableBufferCopy = disableBufferCopy;
+        this.http2ConnectionPool = http2ConnectionPool;
+    }
+
+    /*
+     * Starts opening connections ahead of the first requests, the outcome is replayed by warmUp().
+     */
+    NettyAsyncHttpClient startWarmUp(ConnectionWarmUp connectionWarmUp) {
+        this.warmUp = connectionWarmUp.start(this);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> warmUp() {
+        return warmUp;
     }
 
     /**
@@ -87,6 +123,14 @@ class NettyAsyncHttpClient implements HttpClient {
         Objects.requireNonNull(request.getHttpMethod(), "'request.getHttpMethod()' cannot be null.");
         Objects.requireNonNull(request.getUrl(), "'request.getUrl()' cannot be null.");
         Objects.requireNonNull(request.getUrl().getProtocol(), "'request.getUrl().getProtocol()' cannot be null.");
+        Mono<HttpResponse> response = canUseHttp2(request)
+            ? sendHttp2(request).switchIfEmpty(Mono.defer(() -> sendHttp11(request)))
+            : sendHttp11(request);
+        return MeterProxy.time(Meter.HTTP_CLIENT_DURATION, METRICS_TAGS, response,
+            httpResponse -> String.valueOf(httpResponse.getStatusCode()));
+    }
+
+    private Mono<HttpResponse> sendHttp11(HttpRequest request) {
         return nettyClient
             .tcpConfiguration(tcpClient -> configureTcpClient(tcpClient, request.getUrl().getHost()))
             .request(HttpMethod.valueOf(request.getHttpMethod().toString()))
@@ -96,6 +140,29 @@ class NettyAsyncHttpClient implements HttpClient {
             .single();
     }
 
+    /*
+     * Sends the request as a stream of a pooled HTTP/2 connection, completes empty if the host negotiated HTTP/1.1.
+     */
+    private Mono<HttpResponse> sendHttp2(HttpRequest request) {
+        URL url = request.getUrl();
+        int port = (url.getPort() == -1) ? url.getDefaultPort() : url.getPort();
+        return http2ConnectionPool.openStream(url.getHost(), port)
+            .flatMap(stream -> Http2Exchange.exchange(stream, request));
+    }
+
+    /*
+     * HTTP/2 is negotiated with ALPN, so it's only used for HTTPS requests which don't go through a proxy.
+     */
+    private boolean canUseHttp2(HttpRequest request) {
+        if (http2ConnectionPool == null || !"https".equalsIgnoreCase(request.getUrl().getProtocol())) {
+            return false;
+        }
+
+        String host = request.getUrl().getHost();
+        return !proxyConfigured
+            || (nonProxyHostsPattern != null && nonProxyHostsPattern.matcher(host).matches());
+    }
+
     /*
      * Configures the underlying TcpClient that sends the request.
      */
@@ -137,7 +204,12 @@ class NettyAsyncHttpClient implements HttpClient {
                     reactorNettyRequest.header(header.getName(), header.getValue());
                 }
             }
-            if (restRequest.getBody() != null) {
+            if (restRequest.getBody() instanceof FileContent) {
+                // Sent as a FileRegion, using sendfile when the connection allows it, or read in chunks with TLS.
+                FileContent fileContent = (FileContent) restRequest.getBody();
+                return reactorNettyOutbound.sendFile(fileContent.getFile(), fileContent.getPosition(),
+                    fileContent.getLength());
+            } else if (restRequest.getBody() != null) {
                 Flux<ByteBuf> nettyByteBufFlux = restRequest.getBody().map(Unpooled::wrappedBuffer);
                 return reactorNettyOutbound.send(nettyByteBufFlux);
             } else {
@@ -165,6 +237,7 @@ class NettyAsyncHttpClient implements HttpClient {
         private final HttpClientResponse reactorNettyResponse;
         private final Connection reactorNettyConnection;
         private final boolean disableBufferCopy;
+        private HttpHeaders headers;
 
         ReactorNettyHttpResponse(HttpClientResponse reactorNettyResponse, Connection reactorNettyConnection,
             HttpRequest httpRequest, boolean disableBufferCopy) {
@@ -186,8 +259,9 @@ class NettyAsyncHttpClient implements HttpClient {
 
         @Override
         public HttpHeaders getHeaders() {
-            HttpHeaders headers = new HttpHeaders();
-            reactorNettyResponse.responseHeaders().forEach(e -> headers.put(e.getKey(), e.getValue()));
+            if (headers == null) {
+                headers = new NettyToAzureCoreHttpHeadersWrapper(reactorNettyResponse.responseHeaders());
+            }
             return headers;
         }
 
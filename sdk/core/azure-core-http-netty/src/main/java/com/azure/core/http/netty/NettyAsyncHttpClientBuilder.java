@@ -4,8 +4,11 @@
 package com.azure.core.http.netty;
 
 import com.azure.core.http.ProxyOptions;
+import com.azure.core.http.netty.implementation.CachingAddressResolverGroup;
 import com.azure.core.http.netty.implementation.ChallengeHolder;
+import com.azure.core.http.netty.implementation.Http2ConnectionPool;
 import com.azure.core.http.netty.implementation.HttpProxyHandler;
+import com.azure.core.implementation.http.ConnectionWarmUp;
 import com.azure.core.util.AuthorizationChallengeHandler;
 import com.azure.core.util.Configuration;
 import com.azure.core.util.logging.ClientLogger;
@@ -14,10 +17,19 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.proxy.ProxyHandler;
 import io.netty.handler.proxy.Socks4ProxyHandler;
 import io.netty.handler.proxy.Socks5ProxyHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import reactor.netty.http.HttpResources;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.SslProvider;
 
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -44,6 +56,14 @@ public class NettyAsyncHttpClientBuilder {
     private EventLoopGroup eventLoopGroup;
     private Configuration configuration;
     private boolean disableBufferCopy;
+    private boolean enableHttp2;
+    private int http2MaxConcurrentStreams = Http2ConnectionPool.DEFAULT_MAX_CONCURRENT_STREAMS;
+    private Duration http2IdleTimeout = Http2ConnectionPool.DEFAULT_IDLE_TIMEOUT;
+    private SslContext http2SslContext;
+    private ConnectionWarmUp connectionWarmUp;
+    private Duration dnsCacheTimeToLive;
+    private long tlsSessionCacheSize;
+    private Duration tlsSessionTimeout;
 
     /**
      * Creates a new builder instance, where a builder is capable of generating multiple instances of {@link
@@ -70,7 +90,8 @@ public class NettyAsyncHttpClientBuilder {
      * set in the builder at the time of the build method call.
      *
      * @return A new Netty-backed {@link com.azure.core.http.HttpClient} instance.
-     * @throws IllegalStateException If the builder is configured to use an unknown proxy type.
+     * @throws IllegalStateException If the builder is configured to use an unknown proxy type, or the SSL context of
+     * the {@link #tlsSessionCache(int, Duration) TLS session cache} can't be created.
      */
     public com.azure.core.http.HttpClient build() {
         HttpClient nettyHttpClient;
@@ -86,6 +107,20 @@ public class NettyAsyncHttpClientBuilder {
             .port(port)
             .wiretap(enableWiretap);
 
+        // If set cache the addresses of the hosts.
+        if (dnsCacheTimeToLive != null) {
+            CachingAddressResolverGroup resolverGroup = new CachingAddressResolverGroup(dnsCacheTimeToLive);
+            nettyHttpClient = nettyHttpClient.tcpConfiguration(tcpClient -> tcpClient.resolver(resolverGroup));
+        }
+
+        // If set use an SSL context with the configured session cache, unless an SSL context was already configured.
+        if (tlsSessionTimeout != null) {
+            SslProvider sslProvider = createTlsSessionCacheProvider();
+            nettyHttpClient = nettyHttpClient.tcpConfiguration(tcpClient -> tcpClient.isSecure()
+                ? tcpClient
+                : tcpClient.secure(sslProvider));
+        }
+
         Configuration buildConfiguration = (configuration == null)
             ? Configuration.getGlobalConfiguration()
             : configuration;
@@ -100,8 +135,22 @@ public class NettyAsyncHttpClientBuilder {
             : new AuthorizationChallengeHandler(buildProxyOptions.getUsername(), buildProxyOptions.getPassword());
         AtomicReference<ChallengeHolder> proxyChallengeHolder = new AtomicReference<>();
 
-        return new NettyAsyncHttpClient(nettyHttpClient, eventLoopGroup,
-            () -> getProxyHandler(handler, proxyChallengeHolder), nonProxyHosts, disableBufferCopy);
+        Http2ConnectionPool http2ConnectionPool = null;
+        if (enableHttp2) {
+            EventLoopGroup http2EventLoopGroup = (eventLoopGroup == null)
+                ? HttpResources.get().onClient(true)
+                : eventLoopGroup;
+            http2ConnectionPool = new Http2ConnectionPool(http2EventLoopGroup,
+                HttpResources.get().onChannel(http2EventLoopGroup), http2SslContext, http2MaxConcurrentStreams,
+                http2IdleTimeout, enableWiretap);
+        }
+
+        NettyAsyncHttpClient httpClient = new NettyAsyncHttpClient(nettyHttpClient, eventLoopGroup,
+            () -> getProxyHandler(handler, proxyChallengeHolder), nonProxyHosts, disableBufferCopy,
+            http2ConnectionPool);
+        return (connectionWarmUp == null || connectionWarmUp.isEmpty())
+            ? httpClient
+            : httpClient.startWarmUp(connectionWarmUp);
     }
 
     /**
@@ -215,6 +264,154 @@ public class NettyAsyncHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Enables HTTP/2 for HTTPS requests, which by default are sent over HTTP/1.1.
+     * <p>
+     * HTTP/2 is negotiated with ALPN when connecting to a host, and concurrent requests to the host are sent as streams
+     * of a shared connection, up to the {@link #http2MaxConcurrentStreams(int) maximum concurrent streams} per
+     * connection. Hosts which don't support HTTP/2 are sent requests over HTTP/1.1, as are plain HTTP requests and
+     * requests which go through a proxy. Requests sent over HTTP/2 don't use the {@link
+     * #connectionProvider(ConnectionProvider) connection provider}, and their response bodies are always copied out of
+     * Netty's buffers.
+     *
+     * @param enableHttp2 Whether HTTPS requests are sent over HTTP/2 when the host supports it.
+     * @return The updated {@link NettyAsyncHttpClientBuilder} object.
+     */
+    public NettyAsyncHttpClientBuilder http2(boolean enableHttp2) {
+        this.enableHttp2 = enableHttp2;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of concurrent streams of an HTTP/2 connection, 100 by default. Another connection to the
+     * host is opened when every connection has this many streams, or the maximum the server allows if it's lower.
+     *
+     * @param http2MaxConcurrentStreams The maximum number of concurrent streams of an HTTP/2 connection.
+     * @return The updated {@link NettyAsyncHttpClientBuilder} object.
+     * @throws IllegalArgumentException If {@code http2MaxConcurrentStreams} is less than 1.
+     */
+    public NettyAsyncHttpClientBuilder http2MaxConcurrentStreams(int http2MaxConcurrentStreams) {
+        if (http2MaxConcurrentStreams < 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'http2MaxConcurrentStreams' must be at least 1."));
+        }
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+        return this;
+    }
+
+    /**
+     * Sets how long an HTTP/2 connection is kept without an active stream before it's closed, 60 seconds by default.
+     *
+     * @param http2IdleTimeout The time an HTTP/2 connection is kept without an active stream.
+     * @return The updated {@link NettyAsyncHttpClientBuilder} object.
+     * @throws NullPointerException If {@code http2IdleTimeout} is null.
+     * @throws IllegalArgumentException If {@code http2IdleTimeout} isn't positive.
+     */
+    public NettyAsyncHttpClientBuilder http2IdleTimeout(Duration http2IdleTimeout) {
+        Objects.requireNonNull(http2IdleTimeout, "'http2IdleTimeout' cannot be null.");
+        if (http2IdleTimeout.isNegative() || http2IdleTimeout.isZero()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'http2IdleTimeout' must be positive."));
+        }
+        this.http2IdleTimeout = http2IdleTimeout;
+        return this;
+    }
+
+    /**
+     * Opens connections to the given hosts when the client is built, so that its first requests don't wait on DNS, TCP
+     * and TLS setup. Each connection is opened by a HEAD request to the URL, whose response is discarded. The readiness
+     * of the client is reported by {@link com.azure.core.http.HttpClient#warmUp()}.
+     * <p>
+     * The connections are kept by the {@link #connectionProvider(ConnectionProvider) connection provider}. Hosts which
+     * are sent requests over {@link #http2(boolean) HTTP/2} are connected to over HTTP/2.
+     *
+     * @param urls The URLs of the hosts to connect to, such as {@code https://account.blob.core.windows.net}.
+     * @param connectionsPerHost The number of connections to open to each host.
+     * @return The updated {@link NettyAsyncHttpClientBuilder} object.
+     * @throws NullPointerException If {@code urls} is null.
+     * @throws IllegalArgumentException If a URL is malformed or {@code connectionsPerHost} is less than 1.
+     */
+    public NettyAsyncHttpClientBuilder warmUp(Collection<String> urls, int connectionsPerHost) {
+        this.connectionWarmUp = new ConnectionWarmUp(urls, connectionsPerHost);
+        return this;
+    }
+
+    /**
+     * Caches the addresses of the hosts the client connects to over HTTP/1.1 for the given time to live, rather than
+     * looking them up again when a new connection is opened. By default the addresses are looked up by the system,
+     * which caches them according to the {@code networkaddress.cache.ttl} security property.
+     *
+     * @param timeToLive How long the addresses of a host are cached, or null to use the system lookup.
+     * @return The updated {@link NettyAsyncHttpClientBuilder} object.
+     * @throws IllegalArgumentException If {@code timeToLive} is negative.
+     */
+    public NettyAsyncHttpClientBuilder dnsCacheTimeToLive(Duration timeToLive) {
+        if (timeToLive != null && timeToLive.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'timeToLive' cannot be negative."));
+        }
+        this.dnsCacheTimeToLive = timeToLive;
+        return this;
+    }
+
+    /**
+     * Sets the TLS session cache of HTTP/1.1 connections, from which new connections to a host resume the session of a
+     * previous connection instead of a full handshake. The cache belongs to an SSL context of the client, with the
+     * default trust managers, which is only used if the reactor netty HttpClient the client is built from has no SSL
+     * context configured; otherwise that context, and its own session cache, is kept.
+     *
+     * @param cacheSize The maximum number of cached sessions, 0 for no limit.
+     * @param sessionTimeout How long a session can be resumed.
+     * @return The updated {@link NettyAsyncHttpClientBuilder} object.
+     * @throws NullPointerException If {@code sessionTimeout} is null.
+     * @throws IllegalArgumentException If {@code cacheSize} or {@code sessionTimeout} is negative.
+     */
+    public NettyAsyncHttpClientBuilder tlsSessionCache(int cacheSize, Duration sessionTimeout) {
+        Objects.requireNonNull(sessionTimeout, "'sessionTimeout' cannot be null.");
+        if (cacheSize < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'cacheSize' cannot be negative."));
+        }
+        if (sessionTimeout.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'sessionTimeout' cannot be negative."));
+        }
+        this.tlsSessionCacheSize = cacheSize;
+        this.tlsSessionTimeout = sessionTimeout;
+        return this;
+    }
+
+    /*
+     * Creates an SSL provider with a client context trusting the default trust store, whose session cache has the
+     * configured size and timeout. As with the SSL contexts reactor netty configures for HTTP, the host name of the
+     * server is verified against its certificate.
+     */
+    private SslProvider createTlsSessionCacheProvider() {
+        SslContext sslContext;
+        try {
+            sslContext = SslContextBuilder.forClient()
+                .sessionCacheSize(tlsSessionCacheSize)
+                .sessionTimeout(tlsSessionTimeout.getSeconds())
+                .build();
+        } catch (SSLException e) {
+            throw logger.logExceptionAsError(new IllegalStateException("Failed to create the SSL context.", e));
+        }
+
+        return SslProvider.builder()
+            .sslContext(sslContext)
+            .handlerConfigurator(sslHandler -> {
+                SSLEngine engine = sslHandler.engine();
+                SSLParameters parameters = engine.getSSLParameters();
+                parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                engine.setSSLParameters(parameters);
+            })
+            .build();
+    }
+
+    /*
+     * Sets the SSL context of HTTP/2 connections, used for testing only.
+     */
+    NettyAsyncHttpClientBuilder http2SslContext(SslContext http2SslContext) {
+        this.http2SslContext = http2SslContext;
+        return this;
+    }
+
     /*
      * Creates a proxy handler based on the passed ProxyOptions.
      */
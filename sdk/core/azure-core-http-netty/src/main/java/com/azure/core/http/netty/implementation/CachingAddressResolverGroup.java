@@ -0,0 +1,95 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link AddressResolverGroup} which caches the addresses of a host for a time to live, so new connections to the
+ * host don't wait on a lookup. The cache is shared by the resolvers of every event loop, and failed lookups aren't
+ * cached.
+ */
+public final class CachingAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private final long timeToLiveNanos;
+    private final Map<String, CachedAddresses> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a caching address resolver group.
+     *
+     * @param timeToLive How long the addresses of a host are cached.
+     */
+    public CachingAddressResolverGroup(Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new CachingNameResolver(executor).asAddressResolver();
+    }
+
+    /*
+     * Returns the addresses of the host, looking them up with the system if they aren't cached.
+     */
+    List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        long now = System.nanoTime();
+        CachedAddresses cached = cache.get(hostname);
+        if (cached != null && now - cached.resolvedAt < timeToLiveNanos) {
+            return cached.addresses;
+        }
+
+        List<InetAddress> addresses = Arrays.asList(InetAddress.getAllByName(hostname));
+        cache.put(hostname, new CachedAddresses(addresses, now));
+        return addresses;
+    }
+
+    /*
+     * A resolver of an event loop backed by the shared cache. Lookups block like those of Netty's default resolver.
+     */
+    private final class CachingNameResolver extends InetNameResolver {
+        CachingNameResolver(EventExecutor executor) {
+            super(executor);
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            try {
+                promise.setSuccess(lookup(inetHost).get(0));
+            } catch (UnknownHostException e) {
+                promise.setFailure(e);
+            }
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            try {
+                promise.setSuccess(lookup(inetHost));
+            } catch (UnknownHostException e) {
+                promise.setFailure(e);
+            }
+        }
+    }
+
+    private static final class CachedAddresses {
+        private final List<InetAddress> addresses;
+        private final long resolvedAt;
+
+        CachedAddresses(List<InetAddress> addresses, long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+}
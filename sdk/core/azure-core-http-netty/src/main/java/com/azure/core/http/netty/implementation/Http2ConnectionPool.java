@@ -0,0 +1,394 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import com.azure.core.util.logging.ClientLogger;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Promise;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A pool of HTTP/2 connections which multiplexes concurrent requests to a host as streams of a shared connection.
+ *
+ * <p>Connections are negotiated with ALPN over TLS. A stream is opened on the first connection to the host with fewer
+ * active streams than the pool's maximum and the maximum advertised by the server, and a new connection is opened when
+ * every connection is at its limit. Hosts which negotiate HTTP/1.1 are remembered, and {@link #openStream(String,
+ * int)} completes empty for them so the request can be sent over HTTP/1.1 instead.</p>
+ *
+ * <p>Connections are closed once they have had no active stream for the idle timeout, or when the pool is closed.
+ * No new streams are opened on a connection once the server sends a GOAWAY.</p>
+ */
+public final class Http2ConnectionPool implements Closeable {
+    /**
+     * The default maximum number of concurrent streams per connection.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+
+    /**
+     * The default time a connection is kept without an active stream.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(60);
+
+    private final ClientLogger logger = new ClientLogger(Http2ConnectionPool.class);
+
+    private final Bootstrap bootstrap;
+    private final SslContext sslContext;
+    private final int maxConcurrentStreams;
+    private final long idleTimeoutNanos;
+    private final boolean wiretap;
+
+    // Guarded by itself, as is closed.
+    private final Map<String, List<Http2Connection>> connections = new HashMap<>();
+    private boolean closed;
+    private final Set<String> http11Hosts = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a connection pool.
+     *
+     * @param eventLoopGroup the event loop group running the connections.
+     * @param channelType the type of the connections' channels, which must be supported by the event loop group.
+     * @param sslContext the SSL context of the connections, which must negotiate the protocol with ALPN, or null to
+     * use the default SSL context offering h2 and http/1.1.
+     * @param maxConcurrentStreams the maximum number of concurrent streams per connection.
+     * @param idleTimeout the time a connection is kept without an active stream.
+     * @param wiretap whether the connections log their traffic.
+     * @throws NullPointerException If {@code idleTimeout} is null.
+     * @throws IllegalArgumentException If {@code maxConcurrentStreams} is less than 1, or {@code idleTimeout} isn't
+     * positive.
+     */
+    public Http2ConnectionPool(EventLoopGroup eventLoopGroup, Class<? extends Channel> channelType,
+        SslContext sslContext, int maxConcurrentStreams, Duration idleTimeout, boolean wiretap) {
+        if (maxConcurrentStreams < 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxConcurrentStreams' must be at least 1."));
+        }
+        Objects.requireNonNull(idleTimeout, "'idleTimeout' cannot be null.");
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'idleTimeout' must be positive."));
+        }
+
+        this.bootstrap = new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(channelType)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .option(ChannelOption.SO_KEEPALIVE, true);
+        this.sslContext = (sslContext == null) ? createSslContext() : sslContext;
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.wiretap = wiretap;
+    }
+
+    /*
+     * Creates the default SSL context of HTTP/2 connections, which offers h2 and http/1.1 with ALPN.
+     */
+    private SslContext createSslContext() {
+        try {
+            return SslContextBuilder.forClient()
+                .sslProvider(SslProvider.isAlpnSupported(SslProvider.OPENSSL) ? SslProvider.OPENSSL : SslProvider.JDK)
+                .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                .applicationProtocolConfig(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                    ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                    ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                    ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1))
+                .build();
+        } catch (SSLException e) {
+            throw logger.logExceptionAsError(new IllegalStateException("Failed to create the SSL context.", e));
+        }
+    }
+
+    /**
+     * Opens a stream to a host. The stream doesn't read automatically, and is closed by the caller once the exchange
+     * is done.
+     *
+     * @param host the host.
+     * @param port the port.
+     * @return a Mono emitting the stream, or completing empty if the host doesn't support HTTP/2, or erroring with an
+     * {@link IllegalStateException} if the pool is closed.
+     */
+    public Mono<Http2StreamChannel> openStream(String host, int port) {
+        String key = host + ":" + port;
+        return Mono.defer(() -> {
+            if (http11Hosts.contains(key)) {
+                return Mono.empty();
+            }
+
+            Http2Connection connection = reserve(key, host, port);
+            if (connection == null) {
+                return Mono.error(logger.logExceptionAsError(
+                    new IllegalStateException("The HTTP/2 connection pool is closed.")));
+            }
+
+            return Mono.create(sink -> connection.ready.addListener(future -> {
+                if (!future.isSuccess()) {
+                    release(connection);
+                    sink.error(future.cause());
+                } else if (!connection.ready.getNow()) {
+                    release(connection);
+                    http11Hosts.add(key);
+                    sink.success();
+                } else {
+                    open(connection, sink);
+                }
+            }));
+        });
+    }
+
+    private void open(Http2Connection connection, MonoSink<Http2StreamChannel> sink) {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        sink.onCancel(() -> cancelled.set(true));
+
+        new Http2StreamChannelBootstrap(connection.channel)
+            .option(ChannelOption.AUTO_READ, false)
+            .open()
+            .addListener(future -> {
+                if (!future.isSuccess()) {
+                    release(connection);
+                    sink.error(future.cause());
+                    return;
+                }
+
+                Http2StreamChannel stream = (Http2StreamChannel) future.getNow();
+                stream.closeFuture().addListener(ignored -> release(connection));
+                if (cancelled.get()) {
+                    stream.close();
+                } else {
+                    sink.success(stream);
+                }
+            });
+    }
+
+    /**
+     * Closes every connection of the pool, and fails the streams opened afterwards. Active streams are closed with
+     * their connection.
+     */
+    @Override
+    public void close() {
+        List<Http2Connection> closing = new ArrayList<>();
+        synchronized (connections) {
+            closed = true;
+            connections.values().forEach(closing::addAll);
+        }
+        closing.forEach(connection -> connection.channel.close());
+    }
+
+    /*
+     * Reserves a stream on a connection to the host, connecting if every connection is at its limit. Returns null if
+     * the pool is closed.
+     */
+    private Http2Connection reserve(String key, String host, int port) {
+        synchronized (connections) {
+            if (closed) {
+                return null;
+            }
+
+            List<Http2Connection> hostConnections = connections.computeIfAbsent(key, k -> new ArrayList<>());
+            for (Http2Connection connection : hostConnections) {
+                if (connection.activeStreams < Math.min(maxConcurrentStreams, connection.remoteMaxConcurrentStreams)
+                    && !connection.goingAway && connection.channel.isOpen()) {
+                    connection.activeStreams++;
+                    return connection;
+                }
+            }
+
+            Http2Connection connection = connect(key, host, port);
+            connection.activeStreams++;
+            hostConnections.add(connection);
+            return connection;
+        }
+    }
+
+    /*
+     * Releases a stream of a connection, the connection is closed if it is still idle after the idle timeout.
+     */
+    private void release(Http2Connection connection) {
+        synchronized (connections) {
+            if (--connection.activeStreams == 0) {
+                connection.idleSince = System.nanoTime();
+                connection.channel.eventLoop()
+                    .schedule(() -> closeIfIdle(connection), idleTimeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /*
+     * A connection which was used after the check was scheduled is checked again by the release of its last stream.
+     */
+    private void closeIfIdle(Http2Connection connection) {
+        synchronized (connections) {
+            if (connection.activeStreams > 0 || System.nanoTime() - connection.idleSince < idleTimeoutNanos) {
+                return;
+            }
+        }
+        connection.channel.close();
+    }
+
+    private void remove(String key, Http2Connection connection) {
+        synchronized (connections) {
+            List<Http2Connection> hostConnections = connections.get(key);
+            if (hostConnections != null && hostConnections.remove(connection) && hostConnections.isEmpty()) {
+                connections.remove(key);
+            }
+        }
+    }
+
+    private Http2Connection connect(String key, String host, int port) {
+        Bootstrap connectionBootstrap = bootstrap.clone();
+        Http2Connection connection = new Http2Connection(connectionBootstrap.config().group().next().newPromise());
+
+        ChannelFuture connectFuture = connectionBootstrap.handler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel channel) {
+                SslHandler sslHandler = sslContext.newHandler(channel.alloc(), host, port);
+                SSLParameters parameters = sslHandler.engine().getSSLParameters();
+                parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                sslHandler.engine().setSSLParameters(parameters);
+
+                if (wiretap) {
+                    channel.pipeline().addLast(new LoggingHandler(Http2ConnectionPool.class));
+                }
+                channel.pipeline().addLast(sslHandler, new ProtocolNegotiationHandler(connection));
+            }
+        }).connect(host, port);
+
+        connection.channel = connectFuture.channel();
+        connectFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                connection.ready.tryFailure(future.cause());
+            }
+        });
+        connection.channel.closeFuture().addListener(ignored -> {
+            remove(key, connection);
+            connection.ready.tryFailure(new IOException("The connection to " + key + " was closed."));
+        });
+        return connection;
+    }
+
+    /*
+     * Adds the HTTP/2 handlers once ALPN selected h2, or closes the connection.
+     */
+    private static final class ProtocolNegotiationHandler extends ApplicationProtocolNegotiationHandler {
+        private final Http2Connection connection;
+
+        ProtocolNegotiationHandler(Http2Connection connection) {
+            super(ApplicationProtocolNames.HTTP_1_1);
+            this.connection = connection;
+        }
+
+        @Override
+        protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+            if (!ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                connection.ready.trySuccess(false);
+                ctx.close();
+                return;
+            }
+
+            ChannelPipeline pipeline = ctx.pipeline();
+            pipeline.addLast(Http2FrameCodecBuilder.forClient()
+                .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                .build());
+            pipeline.addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+            pipeline.addLast(new ConnectionHandler(connection));
+        }
+
+        @Override
+        protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) {
+            connection.ready.tryFailure(cause);
+            ctx.close();
+        }
+    }
+
+    /*
+     * Tracks the settings and GOAWAY frames of a connection, the connection is ready for streams once the server's
+     * settings are received.
+     */
+    private static final class ConnectionHandler extends ChannelInboundHandlerAdapter {
+        private final Http2Connection connection;
+
+        ConnectionHandler(Http2Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            try {
+                if (msg instanceof Http2SettingsFrame) {
+                    Long serverMaxConcurrentStreams = ((Http2SettingsFrame) msg).settings().maxConcurrentStreams();
+                    if (serverMaxConcurrentStreams != null) {
+                        connection.remoteMaxConcurrentStreams =
+                            (int) Math.min(Integer.MAX_VALUE, serverMaxConcurrentStreams);
+                    }
+                    connection.ready.trySuccess(true);
+                } else if (msg instanceof Http2GoAwayFrame) {
+                    connection.goingAway = true;
+                }
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            connection.ready.tryFailure(cause);
+            ctx.close();
+        }
+    }
+
+    private static final class Http2Connection {
+        private final Promise<Boolean> ready;
+
+        // Guarded by the pool's connections.
+        private Channel channel;
+        private int activeStreams;
+        private long idleSince;
+
+        private volatile int remoteMaxConcurrentStreams = Integer.MAX_VALUE;
+        private volatile boolean goingAway;
+
+        Http2Connection(Promise<Boolean> ready) {
+            this.ready = ready;
+        }
+    }
+}
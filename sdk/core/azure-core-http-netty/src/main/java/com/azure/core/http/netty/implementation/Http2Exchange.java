@@ -0,0 +1,296 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.FluxUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.util.ReferenceCountUtil;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Sends a request and receives its response on an HTTP/2 stream opened by {@link Http2ConnectionPool}.
+ *
+ * <p>The stream is read as the response body is requested, so HTTP/2 flow control applies backpressure to the server.
+ * Response bodies are copied out of Netty's buffers. The stream is closed once the response body is received, or
+ * cancelled, or the response is closed.</p>
+ */
+public final class Http2Exchange extends ChannelInboundHandlerAdapter {
+    private final Http2StreamChannel stream;
+    private final HttpRequest request;
+    private final MonoSink<HttpResponse> responseSink;
+
+    // Confined to the stream's event loop.
+    private final Queue<ByteBuffer> received = new ArrayDeque<>();
+    private FluxSink<ByteBuffer> bodySink;
+    private boolean responseReceived;
+    private boolean bodyReceived;
+    private boolean bodySubscribed;
+    private Throwable error;
+
+    private Http2Exchange(Http2StreamChannel stream, HttpRequest request, MonoSink<HttpResponse> responseSink) {
+        this.stream = stream;
+        this.request = request;
+        this.responseSink = responseSink;
+    }
+
+    /**
+     * Sends a request on a stream.
+     *
+     * @param stream the stream, which must not read automatically.
+     * @param request the request.
+     * @return a Mono emitting the response once its headers are received.
+     */
+    public static Mono<HttpResponse> exchange(Http2StreamChannel stream, HttpRequest request) {
+        return Mono.create(sink -> {
+            Http2Exchange exchange = new Http2Exchange(stream, request, sink);
+            stream.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false), exchange);
+
+            Disposable writing = exchange.writeRequest().subscribe(null, exchange::fail);
+            sink.onCancel(() -> {
+                writing.dispose();
+                stream.close();
+            });
+            stream.eventLoop().execute(exchange::read);
+        });
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        try {
+            if (msg instanceof io.netty.handler.codec.http.HttpResponse) {
+                responseReceived = true;
+                responseSink.success(new Http2HttpResponse(request, (io.netty.handler.codec.http.HttpResponse) msg));
+            }
+
+            if (msg instanceof HttpContent) {
+                ByteBuf content = ((HttpContent) msg).content();
+                if (content.isReadable()) {
+                    ByteBuffer buffer = ByteBuffer.allocate(content.readableBytes());
+                    content.readBytes(buffer);
+                    buffer.flip();
+                    received.add(buffer);
+                }
+
+                if (msg instanceof LastHttpContent) {
+                    bodyReceived = true;
+                    ctx.close();
+                }
+                drain();
+            }
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        readIfRequested();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (!bodyReceived) {
+            fail(new IOException("The HTTP/2 stream was closed before the response was received."));
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        fail(cause);
+        ctx.close();
+    }
+
+    private Mono<Void> writeRequest() {
+        HttpMethod method = HttpMethod.valueOf(request.getHttpMethod().toString());
+        String uri = request.getUrl().toString();
+
+        io.netty.handler.codec.http.HttpRequest nettyRequest = (request.getBody() == null)
+            ? new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, uri, Unpooled.EMPTY_BUFFER)
+            : new DefaultHttpRequest(HttpVersion.HTTP_1_1, method, uri);
+        for (HttpHeader header : request.getHeaders()) {
+            if (header.getValue() != null) {
+                nettyRequest.headers().set(header.getName(), header.getValue());
+            }
+        }
+
+        Mono<Void> headers = write(nettyRequest);
+        if (request.getBody() == null) {
+            return headers;
+        }
+
+        // Each write waits for the previous one, so the body is read no faster than flow control lets it be sent.
+        return headers
+            .thenMany(request.getBody().concatMap(buffer ->
+                write(new DefaultHttpContent(Unpooled.wrappedBuffer(buffer)))))
+            .then(Mono.defer(() -> write(LastHttpContent.EMPTY_LAST_CONTENT)));
+    }
+
+    private Mono<Void> write(Object msg) {
+        return Mono.create(sink -> {
+            ChannelFuture future = stream.writeAndFlush(msg);
+            future.addListener(ignored -> {
+                if (future.isSuccess()) {
+                    sink.success();
+                } else {
+                    sink.error(future.cause());
+                }
+            });
+        });
+    }
+
+    private void fail(Throwable cause) {
+        if (!stream.eventLoop().inEventLoop()) {
+            stream.eventLoop().execute(() -> fail(cause));
+            return;
+        }
+
+        if (error != null || bodyReceived) {
+            return;
+        }
+
+        error = cause;
+        if (!responseReceived) {
+            responseSink.error(cause);
+        }
+        drain();
+        stream.close();
+    }
+
+    private void subscribeBody(FluxSink<ByteBuffer> sink) {
+        if (bodySubscribed) {
+            sink.error(new IllegalStateException("The response body can only be subscribed to once."));
+            return;
+        }
+
+        bodySubscribed = true;
+        bodySink = sink;
+        sink.onRequest(ignored -> stream.eventLoop().execute(this::readIfRequested));
+        sink.onCancel(() -> stream.eventLoop().execute(stream::close));
+        drain();
+        readIfRequested();
+    }
+
+    private void drain() {
+        if (bodySink == null) {
+            return;
+        }
+
+        while (!received.isEmpty()) {
+            bodySink.next(received.poll());
+        }
+        if (bodyReceived) {
+            bodySink.complete();
+        } else if (error != null) {
+            bodySink.error(error);
+        }
+    }
+
+    private void readIfRequested() {
+        if (error != null || bodyReceived) {
+            return;
+        }
+
+        // The headers are always read, the body only once it has been requested.
+        if (!responseReceived || (bodySink != null && bodySink.requestedFromDownstream() > 0 && received.isEmpty())) {
+            read();
+        }
+    }
+
+    private void read() {
+        stream.read();
+
+        // Starting a read returns the bytes consumed by the previous reads to the flow control window, but this version
+        // of Netty doesn't flush the window update when the stream has nothing buffered, which would stall the server.
+        stream.parent().flush();
+    }
+
+    private void close() {
+        stream.eventLoop().execute(() -> {
+            if (!bodyReceived) {
+                stream.close();
+            }
+        });
+    }
+
+    private final class Http2HttpResponse extends HttpResponse {
+        private final io.netty.handler.codec.http.HttpResponse nettyResponse;
+        private final HttpHeaders headers;
+
+        Http2HttpResponse(HttpRequest request, io.netty.handler.codec.http.HttpResponse nettyResponse) {
+            super(request);
+            this.nettyResponse = nettyResponse;
+            this.headers = new NettyToAzureCoreHttpHeadersWrapper(nettyResponse.headers());
+        }
+
+        @Override
+        public int getStatusCode() {
+            return nettyResponse.status().code();
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return nettyResponse.headers().get(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.create(sink -> stream.eventLoop().execute(() -> subscribeBody(sink)));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return FluxUtil.collectBytesInByteBufferStream(getBody());
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            // Decoded with the charset of the Content-Type, or UTF-8 if it doesn't declare one this JVM supports.
+            return getBodyAsString(HttpUtil.getCharset(nettyResponse, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
+        }
+
+        @Override
+        public void close() {
+            Http2Exchange.this.close();
+        }
+    }
+}
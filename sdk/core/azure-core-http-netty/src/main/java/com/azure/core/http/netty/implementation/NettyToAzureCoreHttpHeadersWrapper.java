@@ -0,0 +1,143 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An {@link HttpHeaders} view over Netty's {@link io.netty.handler.codec.http.HttpHeaders}, so response headers are
+ * read in place instead of being copied into a new collection for every response.
+ *
+ * <p>Values of a header received more than once, in any casing, are joined with commas by
+ * {@link #getValue(String)}, while {@link #getValues(String)} returns them as received. {@link HttpHeader}
+ * instances returned by this view are snapshots, changing them doesn't change the underlying Netty headers, while
+ * {@link #put(String, String)} and {@link #remove(String)} write through.</p>
+ */
+public final class NettyToAzureCoreHttpHeadersWrapper extends HttpHeaders {
+    private final io.netty.handler.codec.http.HttpHeaders nettyHeaders;
+
+    /**
+     * Creates a view over the provided Netty headers.
+     *
+     * @param nettyHeaders the Netty headers
+     */
+    public NettyToAzureCoreHttpHeadersWrapper(io.netty.handler.codec.http.HttpHeaders nettyHeaders) {
+        this.nettyHeaders = nettyHeaders;
+    }
+
+    @Override
+    public int getSize() {
+        final Set<String> names = nettyHeaders.names();
+        if (names.size() <= 1) {
+            return names.size();
+        }
+
+        // As in iterator, the same header may be listed under several names.
+        final Set<String> distinctNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        distinctNames.addAll(names);
+        return distinctNames.size();
+    }
+
+    @Override
+    public HttpHeaders put(String name, String value) {
+        if (value == null) {
+            nettyHeaders.remove(name);
+        } else {
+            nettyHeaders.set(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public HttpHeader get(String name) {
+        final String value = getValue(name);
+        return value == null ? null : new HttpHeader(name, value);
+    }
+
+    @Override
+    public HttpHeader remove(String name) {
+        final HttpHeader header = get(name);
+        if (header != null) {
+            nettyHeaders.remove(name);
+        }
+        return header;
+    }
+
+    @Override
+    public String getValue(String name) {
+        final List<String> values = nettyHeaders.getAll(name);
+        if (values.isEmpty()) {
+            return null;
+        } else if (values.size() == 1) {
+            return values.get(0);
+        } else {
+            return String.join(",", values);
+        }
+    }
+
+    @Override
+    public String[] getValues(String name) {
+        // Values are returned as received, a value such as a date may itself contain commas.
+        final List<String> values = nettyHeaders.getAll(name);
+        return values.isEmpty() ? null : values.toArray(new String[0]);
+    }
+
+    @Override
+    public Map<String, String> toMap() {
+        final Map<String, String> result = new HashMap<>();
+        for (final HttpHeader header : this) {
+            result.put(header.getName(), header.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<HttpHeader> iterator() {
+        final Iterator<String> names = nettyHeaders.names().iterator();
+        // Netty keeps the casing each header was received with, so the same header may be listed under several names.
+        final Set<String> returnedNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        return new Iterator<HttpHeader>() {
+            private String next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && names.hasNext()) {
+                    final String name = names.next();
+                    if (returnedNames.add(name)) {
+                        next = name;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public HttpHeader next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                final String name = next;
+                next = null;
+                return new HttpHeader(name, getValue(name));
+            }
+        };
+    }
+
+    @Override
+    public Stream<HttpHeader> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+}
@@ -7,9 +7,11 @@ module com.azure.http.netty {
     requires io.netty.buffer;
     requires io.netty.common;
     requires io.netty.transport;
+    requires io.netty.resolver;
     requires io.netty.handler;
     requires io.netty.codec;
     requires io.netty.codec.http;
+    requires io.netty.codec.http2;
     requires io.netty.handler.proxy;
 
     exports com.azure.core.http.netty;
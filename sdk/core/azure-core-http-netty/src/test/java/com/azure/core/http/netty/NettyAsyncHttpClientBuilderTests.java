@@ -11,6 +11,7 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelId;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.nio.NioEventLoop;
@@ -21,6 +22,9 @@ import io.netty.handler.proxy.HttpProxyHandler;
 import io.netty.handler.proxy.ProxyHandler;
 import io.netty.handler.proxy.Socks4ProxyHandler;
 import io.netty.handler.proxy.Socks5ProxyHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -31,8 +35,13 @@ import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.test.StepVerifier;
 
+import javax.net.ssl.SSLException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -46,6 +55,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 public class NettyAsyncHttpClientBuilderTests {
     private static final String DEFAULT_PATH = "/default";
     private static final String PREBUILT_CLIENT_PATH = "/prebuiltClient";
+    private static final String WARM_UP_PATH = "/warmUp";
 
     private static final String COOKIE_NAME = "test";
     private static final String COOKIE_VALUE = "success";
@@ -53,10 +63,12 @@ public class NettyAsyncHttpClientBuilderTests {
     private static WireMockServer server;
     private static String defaultUrl;
     private static String prebuiltClientUrl;
+    private static String warmUpUrl;
 
     @BeforeAll
     public static void setupWireMock() {
-        server = new WireMockServer(WireMockConfiguration.options().dynamicPort().disableRequestJournal());
+        server = new WireMockServer(WireMockConfiguration.options().dynamicPort().dynamicHttpsPort()
+            .disableRequestJournal());
 
         // Mocked endpoint to test building a client with a prebuilt Netty HttpClient.
         server.stubFor(WireMock.get(PREBUILT_CLIENT_PATH).withCookie(COOKIE_NAME, WireMock.matching(COOKIE_VALUE))
@@ -65,10 +77,15 @@ public class NettyAsyncHttpClientBuilderTests {
         // Mocked endpoint to test building a client with a set port.
         server.stubFor(WireMock.get(DEFAULT_PATH).willReturn(WireMock.aResponse().withStatus(200)));
 
+        // Mocked endpoint to test warming up a client, the delay keeps the warm-up requests concurrent.
+        server.stubFor(WireMock.head(WireMock.urlEqualTo(WARM_UP_PATH)).willReturn(WireMock.aResponse()
+            .withStatus(200).withFixedDelay(200)));
+
         server.start();
 
         defaultUrl = "http://localhost:" + server.port() + DEFAULT_PATH;
         prebuiltClientUrl = "http://localhost:" + server.port() + PREBUILT_CLIENT_PATH;
+        warmUpUrl = "http://localhost:" + server.port() + WARM_UP_PATH;
     }
 
     @AfterAll
@@ -275,4 +292,104 @@ public class NettyAsyncHttpClientBuilderTests {
             .assertNext(response -> assertEquals(200, response.getStatusCode()))
             .verifyComplete();
     }
+
+    /**
+     * Tests that a client warmed up when it's built opens the configured number of connections, which are reused by
+     * its requests.
+     */
+    @Test
+    public void warmUpOpensConnections() {
+        Set<ChannelId> connections = ConcurrentHashMap.newKeySet();
+        HttpClient countingClient = HttpClient.create(ConnectionProvider.fixed("warmUp", 5))
+            .tcpConfiguration(tcpClient -> tcpClient.doOnConnected(connection ->
+                connections.add(connection.channel().id())));
+
+        com.azure.core.http.HttpClient client = new NettyAsyncHttpClientBuilder(countingClient)
+            .warmUp(Collections.singletonList(warmUpUrl), 2)
+            .dnsCacheTimeToLive(Duration.ofMinutes(1))
+            .build();
+
+        StepVerifier.create(client.warmUp()).verifyComplete();
+        assertEquals(2, connections.size());
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET, defaultUrl)))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+        assertEquals(2, connections.size());
+    }
+
+    /**
+     * Tests that the warm-up of a client reports a host it couldn't connect to.
+     */
+    @Test
+    public void warmUpReportsUnreachableHost() {
+        com.azure.core.http.HttpClient client = new NettyAsyncHttpClientBuilder()
+            .warmUp(Collections.singletonList("http://localhost:1"), 1)
+            .build();
+
+        StepVerifier.create(client.warmUp())
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Tests that warming up a client with an invalid URL or number of connections throws.
+     */
+    @Test
+    public void invalidWarmUpThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new NettyAsyncHttpClientBuilder()
+            .warmUp(Collections.singletonList("not a url"), 1));
+        assertThrows(IllegalArgumentException.class, () -> new NettyAsyncHttpClientBuilder()
+            .warmUp(Collections.singletonList(warmUpUrl), 0));
+    }
+
+    /**
+     * Tests that a client with a TLS session cache can be built and sends plain HTTP requests.
+     */
+    @Test
+    public void buildWithTlsSessionCache() {
+        com.azure.core.http.HttpClient client = new NettyAsyncHttpClientBuilder()
+            .tlsSessionCache(100, Duration.ofMinutes(10))
+            .build();
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET, defaultUrl)))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+    }
+
+    /**
+     * Tests that the TLS session cache keeps the SSL context configured on the reactor netty HttpClient, which here
+     * trusts the self-signed certificate of the server.
+     */
+    @Test
+    public void tlsSessionCacheKeepsConfiguredSslContext() throws SSLException {
+        SslContext sslContext = SslContextBuilder.forClient()
+            .trustManager(InsecureTrustManagerFactory.INSTANCE)
+            .build();
+        com.azure.core.http.HttpClient client = new NettyAsyncHttpClientBuilder(HttpClient.create()
+            .secure(sslContextSpec -> sslContextSpec.sslContext(sslContext)))
+            .tlsSessionCache(100, Duration.ofMinutes(10))
+            .build();
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET,
+            "https://localhost:" + server.httpsPort() + DEFAULT_PATH)))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+    }
+
+    /**
+     * Tests that without a configured SSL context the TLS session cache uses the default trust store, which doesn't
+     * trust the self-signed certificate of the server.
+     */
+    @Test
+    public void tlsSessionCacheUsesDefaultTrustStore() {
+        com.azure.core.http.HttpClient client = new NettyAsyncHttpClientBuilder()
+            .tlsSessionCache(100, Duration.ofMinutes(10))
+            .build();
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET,
+            "https://localhost:" + server.httpsPort() + DEFAULT_PATH)))
+            .expectError()
+            .verify(Duration.ofSeconds(30));
+    }
 }
@@ -0,0 +1,218 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.Configuration;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.test.StepVerifier;
+
+import javax.net.ssl.SSLException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests HTTP/2 support of {@link NettyAsyncHttpClient} against a local h2 server with a self-signed certificate.
+ */
+public class NettyAsyncHttpClientHttp2Tests {
+    private static final String CERTIFICATE = "/http2-test-cert.pem";
+    private static final String PRIVATE_KEY = "/http2-test-key.pem";
+
+    private final Set<String> connections = ConcurrentHashMap.newKeySet();
+    private final Set<String> protocols = ConcurrentHashMap.newKeySet();
+    private DisposableServer server;
+
+    @AfterEach
+    public void stopServer() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    public void concurrentRequestsShareAConnection() throws SSLException {
+        startServer(true);
+        HttpClient client = http2ClientBuilder().build();
+
+        List<HttpResponse> responses = sendConcurrently(client, 10);
+
+        assertEquals(10, responses.size());
+        responses.forEach(response -> {
+            assertEquals(200, response.getStatusCode());
+            assertEquals("echoed", response.getHeaderValue("x-echo"));
+        });
+        assertEquals(1, connections.size());
+        assertEquals(Collections.singleton("h2"), protocols);
+    }
+
+    @Test
+    public void connectionsAreOpenedPastTheMaxConcurrentStreams() throws SSLException {
+        startServer(true);
+        HttpClient client = http2ClientBuilder().http2MaxConcurrentStreams(2).build();
+
+        sendConcurrently(client, 6);
+
+        assertEquals(3, connections.size());
+    }
+
+    @Test
+    public void requestAndResponseBodiesAreStreamed() throws SSLException {
+        startServer(true);
+        HttpClient client = http2ClientBuilder().build();
+
+        // Larger than the initial flow control window, so the window has to be updated in both directions.
+        byte[] body = new byte[1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(body);
+        HttpRequest request = new HttpRequest(HttpMethod.POST, url("/echo"))
+            .setHeader("Content-Length", String.valueOf(body.length))
+            .setBody(Flux.range(0, 16).map(i -> ByteBuffer.wrap(body, i * 65536, 65536)));
+
+        StepVerifier.create(client.send(request).flatMap(HttpResponse::getBodyAsByteArray))
+            .assertNext(received -> assertArrayEquals(body, received))
+            .expectComplete()
+            .verify(Duration.ofSeconds(30));
+        assertEquals(Collections.singleton("h2"), protocols);
+    }
+
+    @Test
+    public void bodyIsDecodedWithTheDeclaredCharset() throws SSLException {
+        startServer(true);
+        HttpClient client = http2ClientBuilder().build();
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET, url("/latin1")))
+            .flatMap(HttpResponse::getBodyAsString))
+            .expectNext("caf\u00e9")
+            .expectComplete()
+            .verify(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void hostsWithoutHttp2AreSentHttp11() throws SSLException {
+        startServer(false);
+        SslContext clientSslContext = clientSslContext();
+        HttpClient client = new NettyAsyncHttpClientBuilder(reactor.netty.http.client.HttpClient.create()
+            .secure(spec -> spec.sslContext(clientSslContext)))
+            .configuration(Configuration.NONE)
+            .http2(true)
+            .http2SslContext(clientSslContext)
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(client.send(delayedRequest())
+                .flatMap(HttpResponse::getBodyAsString))
+                .expectNext("/delayed")
+                .verifyComplete();
+        }
+        assertEquals(Collections.singleton("http/1.1"), protocols);
+    }
+
+    private void startServer(boolean http2) throws SSLException {
+        SslContextBuilder sslContextBuilder = SslContextBuilder.forServer(resource(CERTIFICATE), resource(PRIVATE_KEY));
+        if (http2) {
+            sslContextBuilder.ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                .applicationProtocolConfig(alpn(ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1));
+        }
+        SslContext sslContext = sslContextBuilder.build();
+
+        server = HttpServer.create()
+            .host("localhost")
+            .port(0)
+            .protocol(http2 ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+                : new HttpProtocol[] {HttpProtocol.HTTP11})
+            .secure(spec -> spec.sslContext(sslContext))
+            .route(routes -> routes
+                .get("/delayed", (request, response) -> {
+                    connections.add(String.valueOf(request.remoteAddress()));
+                    protocols.add(protocol(request));
+                    return response.header("x-echo", request.requestHeaders().get("x-echo"))
+                        .sendString(Mono.delay(Duration.ofMillis(200)).thenReturn("/delayed"));
+                })
+                .get("/latin1", (request, response) -> response
+                    .header("Content-Type", "text/plain; charset=ISO-8859-1")
+                    .sendString(Mono.just("caf\u00e9"), StandardCharsets.ISO_8859_1))
+                .post("/echo", (request, response) -> {
+                    protocols.add(protocol(request));
+                    // The h2 server of this reactor-netty version only sends bodies it has whole.
+                    return response.send(request.receive().aggregate().retain());
+                }))
+            .bindNow();
+    }
+
+    /*
+     * Requests received over HTTP/2 are converted to HTTP/1.1 requests with the stream ID as an extension header.
+     */
+    private static String protocol(HttpServerRequest request) {
+        return request.requestHeaders().contains(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text())
+            ? ApplicationProtocolNames.HTTP_2
+            : ApplicationProtocolNames.HTTP_1_1;
+    }
+
+    private NettyAsyncHttpClientBuilder http2ClientBuilder() throws SSLException {
+        return new NettyAsyncHttpClientBuilder()
+            .configuration(Configuration.NONE)
+            .http2(true)
+            .http2SslContext(clientSslContext());
+    }
+
+    private List<HttpResponse> sendConcurrently(HttpClient client, int count) {
+        return Flux.range(0, count)
+            .flatMap(i -> client.send(delayedRequest())
+                .flatMap(response -> response.getBodyAsString().thenReturn(response)))
+            .collectList()
+            .block(Duration.ofSeconds(30));
+    }
+
+    private HttpRequest delayedRequest() {
+        return new HttpRequest(HttpMethod.GET, url("/delayed")).setHeader("x-echo", "echoed");
+    }
+
+    private String url(String path) {
+        return "https://localhost:" + server.port() + path;
+    }
+
+    private static SslContext clientSslContext() throws SSLException {
+        return SslContextBuilder.forClient()
+            .trustManager(resource(CERTIFICATE))
+            .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+            .applicationProtocolConfig(alpn(ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1))
+            .build();
+    }
+
+    private static ApplicationProtocolConfig alpn(String... protocols) {
+        return new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT, protocols);
+    }
+
+    private static InputStream resource(String name) {
+        return NettyAsyncHttpClientHttp2Tests.class.getResourceAsStream(name);
+    }
+}
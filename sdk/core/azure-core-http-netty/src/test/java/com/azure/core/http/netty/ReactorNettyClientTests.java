@@ -3,12 +3,17 @@
 
 package com.azure.core.http.netty;
 
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.netty.implementation.ReactorNettyClientProvider;
+import com.azure.core.http.policy.MetricsPolicy;
 import com.azure.core.util.Context;
+import com.azure.core.util.metrics.Meter;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
@@ -32,8 +37,12 @@ import java.net.Socket;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -50,6 +59,7 @@ public class ReactorNettyClientTests {
 
     private static final String SHORT_BODY = "hi there";
     private static final String LONG_BODY = createLongBody();
+    private static final String FILE_POST_BODY = LONG_BODY.substring(0, 100000);
 
     private static WireMockServer server;
 
@@ -63,6 +73,8 @@ public class ReactorNettyClientTests {
             .willReturn(WireMock.aResponse().withBody("error").withStatus(500)));
         server.stubFor(
             WireMock.post("/shortPost").willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
+        server.stubFor(WireMock.post("/filePost").withRequestBody(WireMock.equalTo(FILE_POST_BODY))
+            .willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
         server.start();
         // ResourceLeakDetector.setLevel(Level.PARANOID);
     }
@@ -181,6 +193,70 @@ public class ReactorNettyClientTests {
             .verify();
     }
 
+    @Test
+    public void testFileContentIsSentFromTheFile() throws IOException {
+        // The range is preceded and followed by bytes which mustn't be sent.
+        byte[] range = FILE_POST_BODY.getBytes(StandardCharsets.UTF_8);
+        byte[] fileBytes = new byte[range.length + 200];
+        System.arraycopy(range, 0, fileBytes, 100, range.length);
+        Path file = Files.createTempFile("file-post", ".txt");
+        try {
+            Files.write(file, fileBytes);
+            HttpClient client = new NettyAsyncHttpClientBuilder().build();
+
+            for (int i = 0; i < 2; i++) {
+                HttpRequest request = new HttpRequest(HttpMethod.POST, url(server, "/filePost"))
+                    .setBody(new FileContent(file, 100, range.length));
+
+                StepVerifier.create(client.send(request).flatMap(HttpResponse::getBodyAsString))
+                    .expectNext(SHORT_BODY)
+                    .verifyComplete();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testTriesAreTimedWithTheTagsOfTheOperation() {
+        List<Map<String, String>> recorded = new ArrayList<>();
+        Meter meter = new Meter() {
+            @Override
+            public void recordDuration(String name, Duration duration, Map<String, String> tags) {
+                if (Meter.HTTP_CLIENT_DURATION.equals(name)) {
+                    recorded.add(tags);
+                }
+            }
+
+            @Override
+            public void recordValue(String name, long value, Map<String, String> tags) {
+            }
+
+            @Override
+            public void incrementCounter(String name, long amount, Map<String, String> tags) {
+            }
+
+            @Override
+            public void addUpDownCounter(String name, long delta, Map<String, String> tags) {
+            }
+        };
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NettyAsyncHttpClientBuilder().build())
+            .policies(new MetricsPolicy(meter))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, url(server, SHORT_BODY_PATH)),
+            new Context(Meter.SERVICE_NAME_KEY, "Blobs")))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+
+        assertEquals(1, recorded.size());
+        assertEquals("Blobs", recorded.get(0).get(Meter.SERVICE_TAG));
+        assertEquals("netty", recorded.get(0).get(Meter.CLIENT_TAG));
+        assertEquals("GET", recorded.get(0).get(Meter.METHOD_TAG));
+        assertEquals("200", recorded.get(0).get(Meter.STATUS_TAG));
+    }
+
     @Test
     public void testServerShutsDownSocketShouldPushErrorToContentFlowable() {
         assertTimeout(ofMillis(5000), () -> {
@@ -0,0 +1,146 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import javax.net.ssl.SSLException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the lifecycle of the connections of {@link Http2ConnectionPool} against a local h2 server with a self-signed
+ * certificate.
+ */
+public class Http2ConnectionPoolTests {
+    private static final String CERTIFICATE = "/http2-test-cert.pem";
+    private static final String PRIVATE_KEY = "/http2-test-key.pem";
+
+    private EventLoopGroup eventLoopGroup;
+    private DisposableServer server;
+
+    @BeforeEach
+    public void startServer() throws SSLException {
+        SslContext sslContext = SslContextBuilder.forServer(resource(CERTIFICATE), resource(PRIVATE_KEY))
+            .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+            .applicationProtocolConfig(alpn())
+            .build();
+        server = HttpServer.create()
+            .host("localhost")
+            .port(0)
+            .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+            .secure(spec -> spec.sslContext(sslContext))
+            .route(routes -> routes.get("/hello", (request, response) -> response.sendString(
+                Mono.just("hello"), StandardCharsets.UTF_8)))
+            .bindNow();
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.disposeNow();
+        eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+    }
+
+    @Test
+    public void idleConnectionsAreClosed() throws SSLException {
+        Http2ConnectionPool pool = new Http2ConnectionPool(eventLoopGroup, NioSocketChannel.class, clientSslContext(),
+            Http2ConnectionPool.DEFAULT_MAX_CONCURRENT_STREAMS, Duration.ofMillis(200), false);
+
+        Channel connection = exchange(pool);
+
+        assertTrue(connection.closeFuture().awaitUninterruptibly(5000));
+    }
+
+    @Test
+    public void connectionsInUseAreKept() throws SSLException {
+        Http2ConnectionPool pool = new Http2ConnectionPool(eventLoopGroup, NioSocketChannel.class, clientSslContext(),
+            Http2ConnectionPool.DEFAULT_MAX_CONCURRENT_STREAMS, Duration.ofMillis(200), false);
+
+        Http2StreamChannel stream = pool.openStream("localhost", server.port()).block(Duration.ofSeconds(10));
+
+        assertFalse(stream.parent().closeFuture().awaitUninterruptibly(500));
+        stream.close();
+        assertTrue(stream.parent().closeFuture().awaitUninterruptibly(5000));
+    }
+
+    @Test
+    public void closeClosesConnectionsAndFailsNewStreams() throws SSLException {
+        Http2ConnectionPool pool = new Http2ConnectionPool(eventLoopGroup, NioSocketChannel.class, clientSslContext(),
+            Http2ConnectionPool.DEFAULT_MAX_CONCURRENT_STREAMS, Http2ConnectionPool.DEFAULT_IDLE_TIMEOUT, false);
+        Channel connection = exchange(pool);
+
+        pool.close();
+
+        assertTrue(connection.closeFuture().awaitUninterruptibly(5000));
+        StepVerifier.create(pool.openStream("localhost", server.port()))
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void idleTimeoutMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new Http2ConnectionPool(eventLoopGroup,
+            NioSocketChannel.class, null, Http2ConnectionPool.DEFAULT_MAX_CONCURRENT_STREAMS, Duration.ZERO, false));
+    }
+
+    /*
+     * Sends a request on a stream of the pool, and returns the stream's connection once the response is received.
+     */
+    private Channel exchange(Http2ConnectionPool pool) {
+        Http2StreamChannel stream = pool.openStream("localhost", server.port()).block(Duration.ofSeconds(10));
+        HttpRequest request = new HttpRequest(HttpMethod.GET, "https://localhost:" + server.port() + "/hello");
+
+        StepVerifier.create(Http2Exchange.exchange(stream, request).flatMap(HttpResponse::getBodyAsString))
+            .expectNext("hello")
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+        return stream.parent();
+    }
+
+    private static SslContext clientSslContext() throws SSLException {
+        return SslContextBuilder.forClient()
+            .trustManager(resource(CERTIFICATE))
+            .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+            .applicationProtocolConfig(alpn())
+            .build();
+    }
+
+    private static ApplicationProtocolConfig alpn() {
+        return new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+    }
+
+    private static InputStream resource(String name) {
+        return Http2ConnectionPoolTests.class.getResourceAsStream(name);
+    }
+}
@@ -0,0 +1,101 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import com.azure.core.http.HttpHeader;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NettyToAzureCoreHttpHeadersWrapperTests {
+    @Test
+    public void readsNettyHeadersInPlace() {
+        HttpHeaders nettyHeaders = new DefaultHttpHeaders()
+            .add("Content-Type", "application/json")
+            .add("x-ms-meta", "a")
+            .add("X-MS-META", "b");
+        NettyToAzureCoreHttpHeadersWrapper headers = new NettyToAzureCoreHttpHeadersWrapper(nettyHeaders);
+
+        assertEquals(2, headers.getSize());
+        assertEquals("application/json", headers.getValue("content-type"));
+        assertEquals("a,b", headers.getValue("x-ms-meta"));
+        assertArrayEquals(new String[] { "a", "b" }, headers.getValues("X-Ms-Meta"));
+        assertNull(headers.get("missing"));
+        assertNull(headers.getValues("missing"));
+
+        nettyHeaders.set("ETag", "0x1");
+        assertEquals("0x1", headers.getValue("etag"));
+    }
+
+    @Test
+    public void writesThroughToNettyHeaders() {
+        HttpHeaders nettyHeaders = new DefaultHttpHeaders();
+        NettyToAzureCoreHttpHeadersWrapper headers = new NettyToAzureCoreHttpHeadersWrapper(nettyHeaders);
+
+        headers.put("a", "b");
+        assertEquals("b", nettyHeaders.get("A"));
+
+        headers.put("a", null);
+        assertFalse(nettyHeaders.contains("a"));
+
+        headers.put("c", "d");
+        HttpHeader removed = headers.remove("C");
+        assertEquals("d", removed.getValue());
+        assertFalse(nettyHeaders.contains("c"));
+        assertNull(headers.remove("c"));
+    }
+
+    @Test
+    public void keepsCommasInValues() {
+        NettyToAzureCoreHttpHeadersWrapper headers = new NettyToAzureCoreHttpHeadersWrapper(new DefaultHttpHeaders()
+            .add("Date", "Wed, 01 Jan 2020 00:00:00 GMT")
+            .add("ETag", "\"a,b\""));
+
+        assertArrayEquals(new String[] { "Wed, 01 Jan 2020 00:00:00 GMT" }, headers.getValues("date"));
+        assertArrayEquals(new String[] { "\"a,b\"" }, headers.getValues("etag"));
+        assertEquals(2, headers.getSize());
+    }
+
+    @Test
+    public void iteratesEachHeaderOnceInReceivedOrder() {
+        NettyToAzureCoreHttpHeadersWrapper headers = new NettyToAzureCoreHttpHeadersWrapper(new DefaultHttpHeaders()
+            .add("x-ms-meta", "a")
+            .add("Date", "Wed, 01 Jan 2020 00:00:00 GMT")
+            .add("X-MS-META", "b")
+            .add("Set-Cookie", "c")
+            .add("Set-Cookie", "d"));
+
+        List<String> headerStrings = new ArrayList<>();
+        headers.forEach(header -> headerStrings.add(header.getName() + "=" + header.getValue()));
+
+        assertEquals(Arrays.asList("x-ms-meta=a,b", "Date=Wed, 01 Jan 2020 00:00:00 GMT", "Set-Cookie=c,d"),
+            headerStrings);
+        assertEquals(3, headers.getSize());
+        assertArrayEquals(new String[] { "c", "d" }, headers.getValues("set-cookie"));
+    }
+
+    @Test
+    public void iteratesAndStreamsHeaders() {
+        NettyToAzureCoreHttpHeadersWrapper headers = new NettyToAzureCoreHttpHeadersWrapper(new DefaultHttpHeaders()
+            .add("key1", "value1")
+            .add("key2", "value2"));
+
+        List<String> names = new ArrayList<>();
+        headers.forEach(header -> names.add(header.getName() + "=" + header.getValue()));
+
+        assertEquals(2, names.size());
+        assertEquals(2, headers.stream().count());
+        assertEquals("value1", headers.toMap().get("key1"));
+        assertEquals("value2", headers.toMap().get("key2"));
+    }
+}
@@ -3,12 +3,18 @@
 
 package com.azure.core.http.okhttp;
 
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
+import com.azure.core.implementation.http.ConnectionWarmUp;
+import com.azure.core.util.ByteBufferPool;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
 import okhttp3.Call;
 import okhttp3.Headers;
 import okhttp3.MediaType;
@@ -17,36 +23,64 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.BufferedSink;
 import okio.ByteString;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
  * HttpClient implementation for OkHttp.
  */
 class OkHttpAsyncHttpClient implements HttpClient {
+    private static final Map<String, String> METRICS_TAGS = Collections.singletonMap(Meter.CLIENT_TAG, "okhttp");
+
+    private final ClientLogger logger = new ClientLogger(OkHttpAsyncHttpClient.class);
+
     private final OkHttpClient httpClient;
-    //
-    private static final Mono<okio.ByteString> EMPTY_BYTE_STRING_MONO = Mono.just(okio.ByteString.EMPTY);
+    private final ByteBufferPool bufferPool;
+    private volatile Mono<Void> warmUp = Mono.empty();
 
     OkHttpAsyncHttpClient(OkHttpClient httpClient) {
+        this(httpClient, ByteBufferPool.getDefault());
+    }
+
+    OkHttpAsyncHttpClient(OkHttpClient httpClient, ByteBufferPool bufferPool) {
         this.httpClient = httpClient;
+        this.bufferPool = bufferPool;
+    }
+
+    /*
+     * Starts opening connections ahead of the first requests, the outcome is replayed by warmUp().
+     */
+    OkHttpAsyncHttpClient startWarmUp(ConnectionWarmUp connectionWarmUp) {
+        this.warmUp = connectionWarmUp.start(this);
+        return this;
+    }
+
+    @Override
+    public Mono<Void> warmUp() {
+        return warmUp;
     }
 
     @Override
     public Mono<HttpResponse> send(HttpRequest request) {
-        return Mono.create(sink -> sink.onRequest(value -> {
+        Mono<HttpResponse> response = Mono.create(sink -> sink.onRequest(value -> {
             // Using MonoSink::onRequest for back pressure support.
 
             // The blocking behavior toOkHttpRequest(r).subscribe call:
@@ -59,97 +93,271 @@ class OkHttpAsyncHttpClient implements HttpClient {
             //   3. If Flux<ByteBuffer> asynchronous then subscribe does not block caller thread
             //      but block on the thread backing flux. This ignore any subscribeOn applied to send(r)
             //
-            toOkHttpRequest(request).subscribe(okHttpRequest -> {
+            toOkHttpRequest(request, bufferPool).subscribe(okHttpRequest -> {
                 Call call = httpClient.newCall(okHttpRequest);
                 call.enqueue(new OkHttpCallback(sink, request));
                 sink.onCancel(call::cancel);
             }, sink::error);
         }));
+        return MeterProxy.time(Meter.HTTP_CLIENT_DURATION, METRICS_TAGS, response,
+            httpResponse -> String.valueOf(httpResponse.getStatusCode()));
+    }
+
+    /**
+     * Sends the request with a synchronous OkHttp call, on the calling thread. The request body is collected on the
+     * calling thread as well when it's a synchronous Flux.
+     *
+     * @param request The HTTP request to send.
+     * @return The response.
+     */
+    @Override
+    public HttpResponse sendSync(HttpRequest request) {
+        return MeterProxy.timeSync(Meter.HTTP_CLIENT_DURATION, METRICS_TAGS, () -> {
+            Call call = httpClient.newCall(toOkHttpRequestSync(request, bufferPool));
+            try {
+                return new OkHttpResponse(call.execute(), request);
+            } catch (IOException e) {
+                throw logger.logExceptionAsError(new UncheckedIOException(e));
+            } finally {
+                // OkHttp is done with the request body once the response headers are read.
+                OkHttpCallback.releaseRequestBody(call);
+            }
+        }, httpResponse -> String.valueOf(httpResponse.getStatusCode()));
     }
 
     /**
      * Converts the given azure-core request to okhttp request.
      *
      * @param request the azure-core request
+     * @param bufferPool the pool the request body is buffered in
      * @return the Mono emitting okhttp request
      */
-    private static Mono<okhttp3.Request> toOkHttpRequest(HttpRequest request) {
-        return Mono.just(new okhttp3.Request.Builder())
-            .map(rb -> {
-                rb.url(request.getUrl());
-                if (request.getHeaders() != null) {
-                    Map<String, String> headers = new HashMap<>();
-                    for (HttpHeader hdr : request.getHeaders()) {
-                        if (hdr.getValue() != null) {
-                            headers.put(hdr.getName(), hdr.getValue());
-                        }
-                    }
-                    return rb.headers(okhttp3.Headers.of(headers));
-                } else {
-                    return rb.headers(okhttp3.Headers.of(new HashMap<>()));
-                }
-            })
+    private static Mono<okhttp3.Request> toOkHttpRequest(HttpRequest request, ByteBufferPool bufferPool) {
+        return Mono.fromCallable(() -> toOkHttpRequestBuilder(request))
             .flatMap((Function<Request.Builder, Mono<Request.Builder>>) rb -> {
                 if (request.getHttpMethod() == HttpMethod.GET) {
                     return Mono.just(rb.get());
                 } else if (request.getHttpMethod() == HttpMethod.HEAD) {
                     return Mono.just(rb.head());
                 } else {
-                    return toOkHttpRequestBody(request.getBody(), request.getHeaders())
+                    return toOkHttpRequestBody(request.getBody(), request.getHeaders(), bufferPool)
                             .map(requestBody -> rb.method(request.getHttpMethod().toString(), requestBody));
                 }
             })
             .map(Request.Builder::build);
     }
 
+    /**
+     * Converts the given azure-core request to okhttp request on the calling thread. Only a request body which must be
+     * collected in memory is subscribed to, other bodies are sent as they are.
+     *
+     * @param request the azure-core request
+     * @param bufferPool the pool the request body is buffered in
+     * @return the okhttp request
+     */
+    private static okhttp3.Request toOkHttpRequestSync(HttpRequest request, ByteBufferPool bufferPool) {
+        Request.Builder rb = toOkHttpRequestBuilder(request);
+        if (request.getHttpMethod() == HttpMethod.GET) {
+            rb.get();
+        } else if (request.getHttpMethod() == HttpMethod.HEAD) {
+            rb.head();
+        } else {
+            rb.method(request.getHttpMethod().toString(),
+                toOkHttpRequestBodySync(request.getBody(), request.getHeaders(), bufferPool));
+        }
+        return rb.build();
+    }
+
+    private static Request.Builder toOkHttpRequestBuilder(HttpRequest request) {
+        Request.Builder rb = new okhttp3.Request.Builder().url(request.getUrl());
+        Map<String, String> headers = new HashMap<>();
+        if (request.getHeaders() != null) {
+            for (HttpHeader hdr : request.getHeaders()) {
+                if (hdr.getValue() != null) {
+                    headers.put(hdr.getName(), hdr.getValue());
+                }
+            }
+        }
+        return rb.headers(okhttp3.Headers.of(headers));
+    }
+
     /**
      * Create a Mono of okhttp3.RequestBody from the given java.nio.ByteBuffer Flux.
      *
      * @param bbFlux stream of java.nio.ByteBuffer representing request content
      * @param headers the headers associated with the original request
+     * @param bufferPool the pool the request content is buffered in
      * @return the Mono emitting okhttp3.RequestBody
      */
-    private static Mono<RequestBody> toOkHttpRequestBody(Flux<ByteBuffer> bbFlux, HttpHeaders headers) {
-        Mono<okio.ByteString> bsMono = bbFlux == null
-            ? EMPTY_BYTE_STRING_MONO
-            : toByteString(bbFlux);
-
-        return bsMono.map(bs -> {
-            String contentType = headers.getValue("Content-Type");
-            if (contentType == null) {
-                return RequestBody.create(bs, null);
-            } else {
-                return RequestBody.create(bs, MediaType.parse(contentType));
-            }
-        });
+    private static Mono<RequestBody> toOkHttpRequestBody(Flux<ByteBuffer> bbFlux, HttpHeaders headers,
+                                                         ByteBufferPool bufferPool) {
+        MediaType mediaType = getMediaType(headers);
+        RequestBody requestBody = toUncollectedRequestBody(bbFlux, mediaType, bufferPool);
+        return (requestBody != null)
+            ? Mono.just(requestBody)
+            : PooledRequestBody.collect(bbFlux, mediaType, bufferPool);
     }
 
     /**
-     * Aggregate Flux of java.nio.ByteBuffer to single okio.ByteString.
+     * Create an okhttp3.RequestBody from the given java.nio.ByteBuffer Flux on the calling thread.
      *
-     * Pooled okio.Buffer type is used to buffer emitted ByteBuffer instances.
-     * Content of each ByteBuffer will be written (i.e copied) to the internal okio.Buffer slots.
-     * Once the stream terminates, the contents of all slots get copied to one single byte array
-     * and okio.ByteString will be created referring this byte array.
-     * Finally the initial okio.Buffer will be returned to the pool.
-     *
-     * @param bbFlux the Flux of ByteBuffer to aggregate
-     * @return a mono emitting aggregated ByteString
+     * @param bbFlux stream of java.nio.ByteBuffer representing request content
+     * @param headers the headers associated with the original request
+     * @param bufferPool the pool the request content is buffered in
+     * @return the okhttp3.RequestBody
+     */
+    private static RequestBody toOkHttpRequestBodySync(Flux<ByteBuffer> bbFlux, HttpHeaders headers,
+                                                       ByteBufferPool bufferPool) {
+        MediaType mediaType = getMediaType(headers);
+        RequestBody requestBody = toUncollectedRequestBody(bbFlux, mediaType, bufferPool);
+        // Any other Flux can only be read by subscribing, which runs on the calling thread when it's synchronous.
+        return (requestBody != null) ? requestBody : PooledRequestBody.collect(bbFlux, mediaType, bufferPool).block();
+    }
+
+    /*
+     * Creates the request body of an empty or file content, which is sent without collecting it, or null for any other
+     * content.
      */
-    private static Mono<ByteString> toByteString(Flux<ByteBuffer> bbFlux) {
-        Objects.requireNonNull(bbFlux, "'bbFlux' cannot be null.");
-        return Mono.using(okio.Buffer::new,
-            buffer -> bbFlux.reduce(buffer, (b, byteBuffer) -> {
-                try {
-                    b.write(byteBuffer);
-                    return b;
-                } catch (IOException ioe) {
-                    throw Exceptions.propagate(ioe);
+    private static RequestBody toUncollectedRequestBody(Flux<ByteBuffer> bbFlux, MediaType mediaType,
+                                                        ByteBufferPool bufferPool) {
+        if (bbFlux == null) {
+            return RequestBody.create(ByteString.EMPTY, mediaType);
+        } else if (bbFlux instanceof FileContent) {
+            return new FileContentRequestBody((FileContent) bbFlux, mediaType, bufferPool);
+        }
+        return null;
+    }
+
+    private static MediaType getMediaType(HttpHeaders headers) {
+        String contentType = headers.getValue("Content-Type");
+        return contentType == null ? null : MediaType.parse(contentType);
+    }
+
+    /**
+     * A request body aggregated into a buffer from a pool, which can be written any number of times, as OkHttp does
+     * when it retries or follows redirects. The buffer is released once the call completes.
+     */
+    private static final class PooledRequestBody extends RequestBody {
+        private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
+        private final MediaType mediaType;
+        private final ByteBufferPool bufferPool;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private ByteBuffer buffer;
+
+        private PooledRequestBody(MediaType mediaType, ByteBufferPool bufferPool) {
+            this.mediaType = mediaType;
+            this.bufferPool = bufferPool;
+            this.buffer = bufferPool.acquire(INITIAL_BUFFER_SIZE);
+            this.buffer.limit(buffer.capacity());
+        }
+
+        static Mono<RequestBody> collect(Flux<ByteBuffer> bbFlux, MediaType mediaType, ByteBufferPool bufferPool) {
+            return Mono.defer(() -> {
+                PooledRequestBody body = new PooledRequestBody(mediaType, bufferPool);
+                // A body which is never sent, because the request is cancelled, is left to the garbage collector.
+                return bbFlux.reduce(body, PooledRequestBody::append)
+                    .map(PooledRequestBody::flip)
+                    .doOnError(ignored -> body.release());
+            });
+        }
+
+        private PooledRequestBody append(ByteBuffer byteBuffer) {
+            if (buffer.remaining() < byteBuffer.remaining()) {
+                int required = buffer.position() + byteBuffer.remaining();
+                ByteBuffer grown = bufferPool.acquire(
+                    (int) Math.min(Integer.MAX_VALUE, Math.max(required, 2L * buffer.capacity())));
+                grown.limit(grown.capacity());
+                buffer.flip();
+                grown.put(buffer);
+                bufferPool.release(buffer);
+                buffer = grown;
+            }
+
+            buffer.put(byteBuffer.duplicate());
+            return this;
+        }
+
+        private PooledRequestBody flip() {
+            buffer.flip();
+            return this;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bufferPool.release(buffer);
+            }
+        }
+
+        @Override
+        public MediaType contentType() {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            ByteBuffer content = buffer.duplicate();
+            while (content.hasRemaining()) {
+                sink.write(content);
+            }
+        }
+    }
+
+    /**
+     * A request body streamed from a range of a file in chunks, rather than aggregated in memory, which is read again
+     * each time OkHttp writes it.
+     */
+    private static final class FileContentRequestBody extends RequestBody {
+        private final FileContent fileContent;
+        private final MediaType mediaType;
+        private final ByteBufferPool bufferPool;
+
+        private FileContentRequestBody(FileContent fileContent, MediaType mediaType, ByteBufferPool bufferPool) {
+            this.fileContent = fileContent;
+            this.mediaType = mediaType;
+            this.bufferPool = bufferPool;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength() {
+            return fileContent.getLength();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            ByteBuffer chunk = bufferPool.acquire(fileContent.getChunkSize());
+            try (FileChannel channel = FileChannel.open(fileContent.getFile(), StandardOpenOption.READ)) {
+                long position = fileContent.getPosition();
+                long end = position + fileContent.getLength();
+                while (position < end) {
+                    chunk.clear();
+                    chunk.limit((int) Math.min(chunk.limit(), end - position));
+                    int read = channel.read(chunk, position);
+                    if (read < 0) {
+                        throw new EOFException(String.format("The file ended %d bytes before the expected %d bytes.",
+                            end - position, fileContent.getLength()));
+                    }
+
+                    position += read;
+                    chunk.flip();
+                    while (chunk.hasRemaining()) {
+                        sink.write(chunk);
+                    }
                 }
-            })
-            .map(b -> ByteString.of(b.readByteArray())),
-            okio.Buffer::clear)
-            .switchIfEmpty(EMPTY_BYTE_STRING_MONO);
+            } finally {
+                bufferPool.release(chunk);
+            }
+        }
     }
 
     private static class OkHttpCallback implements okhttp3.Callback {
@@ -163,13 +371,23 @@ class OkHttpAsyncHttpClient implements HttpClient {
 
         @Override
         public void onFailure(okhttp3.Call call, IOException e) {
+            releaseRequestBody(call);
             sink.error(e);
         }
 
         @Override
         public void onResponse(okhttp3.Call call, okhttp3.Response response) {
+            // OkHttp is done with the request body once the response headers are read.
+            releaseRequestBody(call);
             sink.success(new OkHttpResponse(response, request));
         }
+
+        private static void releaseRequestBody(okhttp3.Call call) {
+            RequestBody body = call.request().body();
+            if (body instanceof PooledRequestBody) {
+                ((PooledRequestBody) body).release();
+            }
+        }
     }
 
     /**
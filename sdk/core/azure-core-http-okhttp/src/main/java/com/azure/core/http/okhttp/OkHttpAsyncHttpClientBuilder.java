@@ -5,18 +5,28 @@ package com.azure.core.http.okhttp;
 
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.ProxyOptions;
+import com.azure.core.http.okhttp.implementation.CachingDns;
 import com.azure.core.http.okhttp.implementation.OkHttpProxySelector;
 import com.azure.core.http.okhttp.implementation.ProxyAuthenticator;
+import com.azure.core.implementation.http.ConnectionWarmUp;
 import com.azure.core.util.Configuration;
 import com.azure.core.util.logging.ClientLogger;
 import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
+import okhttp3.Dns;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
 import java.net.Proxy;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -38,6 +48,10 @@ public class OkHttpAsyncHttpClientBuilder {
     private Dispatcher dispatcher;
     private ProxyOptions proxyOptions;
     private Configuration configuration;
+    private ConnectionWarmUp connectionWarmUp;
+    private Duration dnsCacheTimeToLive;
+    private int tlsSessionCacheSize = -1;
+    private Duration tlsSessionTimeout;
 
     /**
      * Creates OkHttpAsyncHttpClientBuilder.
@@ -158,10 +172,74 @@ public class OkHttpAsyncHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Opens connections to the given hosts when the client is built, so that its first requests don't wait on DNS, TCP
+     * and TLS setup. Each connection is opened by a HEAD request to the URL, whose response is discarded. The readiness
+     * of the client is reported by {@link HttpClient#warmUp()}.
+     * <p>
+     * The connections are kept by the {@link #connectionPool(ConnectionPool) connection pool}, which by default keeps
+     * up to 5 idle connections for 5 minutes, and at most 5 requests per host are sent concurrently by the default
+     * {@link #dispatcher(Dispatcher) dispatcher}.
+     *
+     * @param urls the URLs of the hosts to connect to, such as {@code https://account.blob.core.windows.net}
+     * @param connectionsPerHost the number of connections to open to each host
+     * @return the updated OkHttpAsyncHttpClientBuilder object
+     * @throws NullPointerException if {@code urls} is null
+     * @throws IllegalArgumentException if a URL is malformed or {@code connectionsPerHost} is less than 1
+     */
+    public OkHttpAsyncHttpClientBuilder warmUp(Collection<String> urls, int connectionsPerHost) {
+        this.connectionWarmUp = new ConnectionWarmUp(urls, connectionsPerHost);
+        return this;
+    }
+
+    /**
+     * Caches the addresses of the hosts the client connects to for the given time to live, rather than looking them up
+     * again when a new connection is opened. By default the addresses are looked up by the system, which caches them
+     * according to the {@code networkaddress.cache.ttl} security property.
+     *
+     * @param timeToLive how long the addresses of a host are cached, or null to use the system lookup
+     * @return the updated OkHttpAsyncHttpClientBuilder object
+     * @throws IllegalArgumentException if {@code timeToLive} is negative
+     */
+    public OkHttpAsyncHttpClientBuilder dnsCacheTimeToLive(Duration timeToLive) {
+        if (timeToLive != null && timeToLive.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'timeToLive' cannot be negative."));
+        }
+        this.dnsCacheTimeToLive = timeToLive;
+        return this;
+    }
+
+    /**
+     * Sets the TLS session cache of the client, from which new connections to a host resume the session of a previous
+     * connection instead of a full handshake. The cache belongs to an SSL context of the client, with the default
+     * trust managers, which is only used if the client isn't built from an existing {@link OkHttpClient}; otherwise
+     * the SSL socket factory of that client, which may have been configured, is kept.
+     *
+     * @param cacheSize the maximum number of cached sessions, 0 for no limit
+     * @param sessionTimeout how long a session can be resumed
+     * @return the updated OkHttpAsyncHttpClientBuilder object
+     * @throws NullPointerException if {@code sessionTimeout} is null
+     * @throws IllegalArgumentException if {@code cacheSize} or {@code sessionTimeout} is negative
+     */
+    public OkHttpAsyncHttpClientBuilder tlsSessionCache(int cacheSize, Duration sessionTimeout) {
+        Objects.requireNonNull(sessionTimeout, "'sessionTimeout' cannot be null.");
+        if (cacheSize < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'cacheSize' cannot be negative."));
+        }
+        if (sessionTimeout.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'sessionTimeout' cannot be negative."));
+        }
+        this.tlsSessionCacheSize = cacheSize;
+        this.tlsSessionTimeout = sessionTimeout;
+        return this;
+    }
+
     /**
      * Build a HttpClient with current configurations.
      *
      * @return a {@link HttpClient}.
+     * @throws IllegalStateException if the SSL context of the {@link #tlsSessionCache(int, Duration) TLS session cache}
+     * can't be created.
      */
     public HttpClient build() {
         OkHttpClient.Builder httpClientBuilder = this.okHttpClient == null
@@ -213,7 +291,57 @@ public class OkHttpAsyncHttpClientBuilder {
             }
         }
 
-        return new OkHttpAsyncHttpClient(httpClientBuilder.build());
+        // If set cache the addresses of the hosts.
+        if (this.dnsCacheTimeToLive != null) {
+            httpClientBuilder = httpClientBuilder.dns(new CachingDns(Dns.SYSTEM, dnsCacheTimeToLive));
+        }
+
+        // If set use an SSL context with the configured session cache, unless the client is built from an existing
+        // OkHttpClient, whose SSL socket factory may have been configured and is kept.
+        if (this.tlsSessionTimeout != null) {
+            if (this.okHttpClient == null) {
+                configureTlsSessionCache(httpClientBuilder);
+            } else {
+                logger.warning("The TLS session cache isn't used, as the SSL socket factory of the existing "
+                    + "OkHttpClient is kept.");
+            }
+        }
+
+        OkHttpAsyncHttpClient httpClient = new OkHttpAsyncHttpClient(httpClientBuilder.build());
+        return (connectionWarmUp == null || connectionWarmUp.isEmpty())
+            ? httpClient
+            : httpClient.startWarmUp(connectionWarmUp);
+    }
+
+    /*
+     * Uses an SSL context trusting the default trust store, whose client session cache has the configured size and
+     * timeout.
+     */
+    private void configureTlsSessionCache(OkHttpClient.Builder httpClientBuilder) {
+        try {
+            TrustManagerFactory trustManagerFactory =
+                TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init((KeyStore) null);
+            X509TrustManager trustManager = null;
+            for (TrustManager candidate : trustManagerFactory.getTrustManagers()) {
+                if (candidate instanceof X509TrustManager) {
+                    trustManager = (X509TrustManager) candidate;
+                    break;
+                }
+            }
+            if (trustManager == null) {
+                throw logger.logExceptionAsError(new IllegalStateException("No default X509 trust manager found."));
+            }
+
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[] {trustManager}, null);
+            sslContext.getClientSessionContext().setSessionCacheSize(tlsSessionCacheSize);
+            sslContext.getClientSessionContext().setSessionTimeout((int) Math.min(Integer.MAX_VALUE,
+                tlsSessionTimeout.getSeconds()));
+            httpClientBuilder.sslSocketFactory(sslContext.getSocketFactory(), trustManager);
+        } catch (GeneralSecurityException e) {
+            throw logger.logExceptionAsError(new IllegalStateException("Failed to create the SSL context.", e));
+        }
     }
 
     /*
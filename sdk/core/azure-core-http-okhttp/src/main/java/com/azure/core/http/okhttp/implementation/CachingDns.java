@@ -0,0 +1,57 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.okhttp.implementation;
+
+import okhttp3.Dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Dns} which caches the addresses of a host for a time to live, so new connections to the host don't wait on
+ * a lookup. Failed lookups aren't cached.
+ */
+public final class CachingDns implements Dns {
+    private final Dns dns;
+    private final long timeToLiveNanos;
+    private final Map<String, CachedAddresses> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a caching DNS.
+     *
+     * @param dns The DNS looking up the hosts which aren't cached.
+     * @param timeToLive How long the addresses of a host are cached.
+     */
+    public CachingDns(Dns dns, Duration timeToLive) {
+        this.dns = dns;
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        long now = System.nanoTime();
+        CachedAddresses cached = cache.get(hostname);
+        if (cached != null && now - cached.resolvedAt < timeToLiveNanos) {
+            return cached.addresses;
+        }
+
+        List<InetAddress> addresses = dns.lookup(hostname);
+        cache.put(hostname, new CachedAddresses(addresses, now));
+        return addresses;
+    }
+
+    private static final class CachedAddresses {
+        private final List<InetAddress> addresses;
+        private final long resolvedAt;
+
+        CachedAddresses(List<InetAddress> addresses, long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+}
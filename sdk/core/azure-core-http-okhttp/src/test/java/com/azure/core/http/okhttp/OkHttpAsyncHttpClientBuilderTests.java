@@ -3,6 +3,7 @@
 
 package com.azure.core.http.okhttp;
 
+import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.ProxyOptions;
@@ -16,6 +17,7 @@ import okhttp3.Dispatcher;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -23,13 +25,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import reactor.test.StepVerifier;
 
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -42,16 +50,19 @@ public class OkHttpAsyncHttpClientBuilderTests {
     private static final String COOKIE_VALIDATOR_PATH = "/cookieValidator";
     private static final String DEFAULT_PATH = "/default";
     private static final String DISPATCHER_PATH = "/dispatcher";
+    private static final String WARM_UP_PATH = "/warmUp";
 
     private static WireMockServer server;
 
     private static String cookieValidatorUrl;
     private static String defaultUrl;
     private static String dispatcherUrl;
+    private static String warmUpUrl;
 
     @BeforeAll
     public static void setupWireMock() {
-        server = new WireMockServer(WireMockConfiguration.options().dynamicPort().disableRequestJournal());
+        server = new WireMockServer(WireMockConfiguration.options().dynamicPort().dynamicHttpsPort()
+            .disableRequestJournal());
 
         // Mocked endpoint to test building a client with a prebuilt OkHttpClient.
         server.stubFor(WireMock.get(COOKIE_VALIDATOR_PATH).withCookie("test", WireMock.matching("success"))
@@ -64,11 +75,16 @@ public class OkHttpAsyncHttpClientBuilderTests {
         server.stubFor(WireMock.get(DISPATCHER_PATH).willReturn(WireMock.aResponse().withStatus(200)
             .withFixedDelay(5000)));
 
+        // Mocked endpoint to test warming up a client, the delay keeps the warm-up requests concurrent.
+        server.stubFor(WireMock.head(WireMock.urlEqualTo(WARM_UP_PATH)).willReturn(WireMock.aResponse()
+            .withStatus(200).withFixedDelay(200)));
+
         server.start();
 
         cookieValidatorUrl = "http://localhost:" + server.port() + COOKIE_VALIDATOR_PATH;
         defaultUrl = "http://localhost:" + server.port() + DEFAULT_PATH;
         dispatcherUrl = "http://localhost:" + server.port() + DISPATCHER_PATH;
+        warmUpUrl = "http://localhost:" + server.port() + WARM_UP_PATH;
     }
 
     @AfterAll
@@ -355,4 +371,113 @@ public class OkHttpAsyncHttpClientBuilderTests {
             super.connectStart(call, inetSocketAddress, proxy);
         }
     }
+
+    /**
+     * Tests that a client warmed up when it's built opens the configured number of connections, which are reused by
+     * its requests.
+     */
+    @Test
+    public void warmUpOpensConnections() {
+        AtomicInteger connections = new AtomicInteger();
+        OkHttpClient existingClient = new OkHttpClient.Builder()
+            .eventListener(new EventListener() {
+                @Override
+                public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                    Protocol protocol) {
+                    connections.incrementAndGet();
+                }
+            })
+            .build();
+
+        HttpClient client = new OkHttpAsyncHttpClientBuilder(existingClient)
+            .warmUp(Collections.singletonList(warmUpUrl), 2)
+            .dnsCacheTimeToLive(Duration.ofMinutes(1))
+            .build();
+
+        StepVerifier.create(client.warmUp()).verifyComplete();
+        assertEquals(2, connections.get());
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET, defaultUrl)))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+        assertEquals(2, connections.get());
+    }
+
+    /**
+     * Tests that the warm-up of a client reports a host it couldn't connect to.
+     */
+    @Test
+    public void warmUpReportsUnreachableHost() {
+        HttpClient client = new OkHttpAsyncHttpClientBuilder()
+            .warmUp(Collections.singletonList("http://localhost:1"), 1)
+            .build();
+
+        StepVerifier.create(client.warmUp())
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Tests that warming up a client with an invalid URL or number of connections throws.
+     */
+    @Test
+    public void invalidWarmUpThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new OkHttpAsyncHttpClientBuilder()
+            .warmUp(Collections.singletonList("not a url"), 1));
+        assertThrows(IllegalArgumentException.class, () -> new OkHttpAsyncHttpClientBuilder()
+            .warmUp(Collections.singletonList(warmUpUrl), 0));
+    }
+
+    /**
+     * Tests that the TLS session cache keeps the SSL socket factory of an existing {@link OkHttpClient}, which here
+     * trusts the self-signed certificate of the server.
+     */
+    @Test
+    public void tlsSessionCacheKeepsExistingSslSocketFactory() throws GeneralSecurityException {
+        X509TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[] {trustAll}, null);
+        OkHttpClient existingClient = new OkHttpClient.Builder()
+            .sslSocketFactory(sslContext.getSocketFactory(), trustAll)
+            .hostnameVerifier((hostname, session) -> true)
+            .build();
+
+        HttpClient client = new OkHttpAsyncHttpClientBuilder(existingClient)
+            .tlsSessionCache(100, Duration.ofMinutes(10))
+            .build();
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET,
+            "https://localhost:" + server.httpsPort() + DEFAULT_PATH)))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+    }
+
+    /**
+     * Tests that a new client with a TLS session cache uses the default trust store, which doesn't trust the
+     * self-signed certificate of the server.
+     */
+    @Test
+    public void tlsSessionCacheUsesDefaultTrustStore() {
+        HttpClient client = new OkHttpAsyncHttpClientBuilder()
+            .tlsSessionCache(100, Duration.ofMinutes(10))
+            .build();
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET,
+            "https://localhost:" + server.httpsPort() + DEFAULT_PATH)))
+            .expectError()
+            .verify(Duration.ofSeconds(30));
+    }
 }
@@ -3,13 +3,21 @@
 
 package com.azure.core.http.okhttp;
 
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.MetricsPolicy;
+import com.azure.core.util.ByteBufferPool;
+import com.azure.core.util.Context;
+import com.azure.core.util.metrics.Meter;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -29,9 +37,14 @@ import java.net.Socket;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -39,6 +52,7 @@ public class OkHttpClientTests {
 
     private static final String SHORT_BODY = "hi there";
     private static final String LONG_BODY = createLongBody();
+    private static final String POOLED_POST_BODY = LONG_BODY.substring(0, 100000);
 
     private static WireMockServer server;
 
@@ -52,6 +66,8 @@ public class OkHttpClientTests {
                 .willReturn(WireMock.aResponse().withBody("error").withStatus(500)));
         server.stubFor(
                 WireMock.post("/shortPost").willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
+        server.stubFor(WireMock.post("/pooledPost").withRequestBody(WireMock.equalTo(POOLED_POST_BODY))
+                .willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
         server.start();
     }
 
@@ -142,6 +158,146 @@ public class OkHttpClientTests {
                 .verify();
     }
 
+    @Test
+    public void testRequestBodyBuffersAreReturnedToPool() {
+        ByteBufferPool pool = new ByteBufferPool(false, ByteBufferPool.DEFAULT_MAX_RETAINED_BYTES, true);
+        HttpClient client = new OkHttpAsyncHttpClient(new okhttp3.OkHttpClient(), pool);
+        byte[] body = POOLED_POST_BODY.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 3; i++) {
+            // Chunks of 1000 bytes, so the pooled buffer has to grow.
+            HttpRequest request = new HttpRequest(HttpMethod.POST, url(server, "/pooledPost"))
+                .setHeader("Content-Length", String.valueOf(body.length))
+                .setBody(Flux.range(0, body.length / 1000).map(n -> ByteBuffer.wrap(body, n * 1000, 1000)));
+
+            StepVerifier.create(client.send(request).flatMap(HttpResponse::getBodyAsString))
+                .expectNext(SHORT_BODY)
+                .verifyComplete();
+        }
+
+        HttpRequest failingRequest = new HttpRequest(HttpMethod.POST, url(server, "/pooledPost"))
+            .setBody(Flux.just(ByteBuffer.wrap(body)).concatWith(Flux.error(new RuntimeException("boo"))));
+        StepVerifier.create(client.send(failingRequest))
+            .expectErrorMessage("boo")
+            .verify();
+
+        pool.checkLeaks();
+    }
+
+    @Test
+    public void testFileContentIsStreamedFromTheFile() throws IOException {
+        // The range is preceded and followed by bytes which mustn't be sent.
+        byte[] range = POOLED_POST_BODY.getBytes(StandardCharsets.UTF_8);
+        byte[] fileBytes = new byte[range.length + 200];
+        System.arraycopy(range, 0, fileBytes, 100, range.length);
+        Path file = Files.createTempFile("file-post", ".txt");
+        try {
+            Files.write(file, fileBytes);
+            ByteBufferPool pool = new ByteBufferPool(false, ByteBufferPool.DEFAULT_MAX_RETAINED_BYTES, true);
+            HttpClient client = new OkHttpAsyncHttpClient(new okhttp3.OkHttpClient(), pool);
+
+            HttpRequest request = new HttpRequest(HttpMethod.POST, url(server, "/pooledPost"))
+                .setBody(new FileContent(file, 100, range.length, 8192));
+            StepVerifier.create(client.send(request).flatMap(HttpResponse::getBodyAsString))
+                .expectNext(SHORT_BODY)
+                .verifyComplete();
+
+            // A range past the end of the file fails the request.
+            HttpRequest tooLong = new HttpRequest(HttpMethod.POST, url(server, "/pooledPost"))
+                .setBody(new FileContent(file, 100, fileBytes.length));
+            StepVerifier.create(client.send(tooLong))
+                .verifyError(IOException.class);
+
+            pool.checkLeaks();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testTriesAreTimedWithTheTagsOfTheOperation() {
+        List<Map<String, String>> recorded = new ArrayList<>();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new OkHttpAsyncHttpClient(new okhttp3.OkHttpClient()))
+            .policies(new MetricsPolicy(clientDurationMeter(recorded)))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, url(server, "/short")),
+            new Context(Meter.SERVICE_NAME_KEY, "Blobs")))
+            .assertNext(response -> Assertions.assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+
+        assertTryTags(recorded);
+    }
+
+    @Test
+    public void testSyncTriesAreTimedWithTheTagsOfTheOperation() {
+        List<Map<String, String>> recorded = new ArrayList<>();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new OkHttpAsyncHttpClient(new okhttp3.OkHttpClient()))
+            .policies(new MetricsPolicy(clientDurationMeter(recorded)))
+            .build();
+
+        HttpResponse response = pipeline.sendSync(new HttpRequest(HttpMethod.GET, url(server, "/short")),
+            new Context(Meter.SERVICE_NAME_KEY, "Blobs"));
+        Assertions.assertEquals(200, response.getStatusCode());
+
+        assertTryTags(recorded);
+    }
+
+    private static Meter clientDurationMeter(List<Map<String, String>> recorded) {
+        return new Meter() {
+            @Override
+            public void recordDuration(String name, Duration duration, Map<String, String> tags) {
+                if (Meter.HTTP_CLIENT_DURATION.equals(name)) {
+                    recorded.add(tags);
+                }
+            }
+
+            @Override
+            public void recordValue(String name, long value, Map<String, String> tags) {
+            }
+
+            @Override
+            public void incrementCounter(String name, long amount, Map<String, String> tags) {
+            }
+
+            @Override
+            public void addUpDownCounter(String name, long delta, Map<String, String> tags) {
+            }
+        };
+    }
+
+    private static void assertTryTags(List<Map<String, String>> recorded) {
+        Assertions.assertEquals(1, recorded.size());
+        Assertions.assertEquals("Blobs", recorded.get(0).get(Meter.SERVICE_TAG));
+        Assertions.assertEquals("okhttp", recorded.get(0).get(Meter.CLIENT_TAG));
+        Assertions.assertEquals("GET", recorded.get(0).get(Meter.METHOD_TAG));
+        Assertions.assertEquals("200", recorded.get(0).get(Meter.STATUS_TAG));
+    }
+
+    @Test
+    public void testSendSyncExecutesOnCallingThread() {
+        AtomicReference<Thread> callThread = new AtomicReference<>();
+        HttpClient client = new OkHttpAsyncHttpClientBuilder(new OkHttpClient.Builder()
+            .addInterceptor(chain -> {
+                callThread.set(Thread.currentThread());
+                return chain.proceed(chain.request());
+            })
+            .build())
+            .build();
+        HttpPipeline pipeline = new HttpPipelineBuilder().httpClient(client).build();
+
+        HttpRequest request = new HttpRequest(HttpMethod.POST, url(server, "/pooledPost"))
+            .setHeader("Content-Length", String.valueOf(POOLED_POST_BODY.length()))
+            .setBody(Flux.just(ByteBuffer.wrap(POOLED_POST_BODY.getBytes(StandardCharsets.UTF_8))));
+        HttpResponse response = pipeline.sendSync(request, Context.NONE);
+
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals(SHORT_BODY, response.getBodyAsString().block());
+        Assertions.assertSame(Thread.currentThread(), callThread.get());
+    }
+
     @Test
     public void testServerShutsDownSocketShouldPushErrorToContentFlowable()
             throws IOException, InterruptedException {
@@ -0,0 +1,63 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.okhttp.implementation;
+
+import okhttp3.Dns;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CachingDnsTests {
+    @Test
+    public void lookupIsCachedForTimeToLive() throws UnknownHostException {
+        AtomicInteger lookups = new AtomicInteger();
+        Dns dns = new CachingDns(countingDns(lookups), Duration.ofMinutes(1));
+
+        List<InetAddress> addresses = dns.lookup("localhost");
+        assertSame(addresses, dns.lookup("localhost"));
+        assertEquals(1, lookups.get());
+
+        dns.lookup("127.0.0.1");
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void expiredLookupIsResolvedAgain() throws UnknownHostException {
+        AtomicInteger lookups = new AtomicInteger();
+        Dns dns = new CachingDns(countingDns(lookups), Duration.ZERO);
+
+        dns.lookup("localhost");
+        dns.lookup("localhost");
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void failedLookupIsNotCached() {
+        AtomicInteger lookups = new AtomicInteger();
+        Dns dns = new CachingDns(hostname -> {
+            lookups.incrementAndGet();
+            throw new UnknownHostException(hostname);
+        }, Duration.ofMinutes(1));
+
+        assertThrows(UnknownHostException.class, () -> dns.lookup("unknown"));
+        assertThrows(UnknownHostException.class, () -> dns.lookup("unknown"));
+        assertEquals(2, lookups.get());
+    }
+
+    private static Dns countingDns(AtomicInteger lookups) {
+        return hostname -> {
+            lookups.incrementAndGet();
+            return Collections.singletonList(InetAddress.getLoopbackAddress());
+        };
+    }
+}
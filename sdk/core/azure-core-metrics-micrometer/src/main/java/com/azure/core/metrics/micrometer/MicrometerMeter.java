@@ -0,0 +1,118 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.metrics.micrometer;
+
+import com.azure.core.util.metrics.Meter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer implementation of the {@link Meter} plugged into the SDK.
+ *
+ * <p>Durations are recorded in timers, values in distribution summaries, counters in counters and up-down counters in
+ * gauges. Instruments are cached by name and tags, so recording a measurement doesn't build a new Micrometer id.</p>
+ */
+public class MicrometerMeter implements Meter {
+    private final MeterRegistry registry;
+    private final ConcurrentMap<InstrumentKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<InstrumentKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<InstrumentKey, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<InstrumentKey, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a MicrometerMeter which reports to the Micrometer global registry. This constructor is used when the
+     * meter is loaded as a service.
+     */
+    public MicrometerMeter() {
+        this(Metrics.globalRegistry);
+    }
+
+    /**
+     * Creates a MicrometerMeter which reports to the given registry.
+     *
+     * @param registry the registry to report to.
+     * @throws NullPointerException If {@code registry} is null.
+     */
+    public MicrometerMeter(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "'registry' cannot be null.");
+    }
+
+    @Override
+    public void recordDuration(String name, Duration duration, Map<String, String> tags) {
+        timers.computeIfAbsent(new InstrumentKey(name, tags),
+            key -> Timer.builder(name).tags(toTags(tags)).register(registry))
+            .record(duration);
+    }
+
+    @Override
+    public void recordValue(String name, long value, Map<String, String> tags) {
+        summaries.computeIfAbsent(new InstrumentKey(name, tags),
+            key -> DistributionSummary.builder(name).tags(toTags(tags)).register(registry))
+            .record(value);
+    }
+
+    @Override
+    public void incrementCounter(String name, long amount, Map<String, String> tags) {
+        counters.computeIfAbsent(new InstrumentKey(name, tags),
+            key -> Counter.builder(name).tags(toTags(tags)).register(registry))
+            .increment(amount);
+    }
+
+    @Override
+    public void addUpDownCounter(String name, long delta, Map<String, String> tags) {
+        // The registry holds gauges weakly, the map keeps the value they report alive.
+        gauges.computeIfAbsent(new InstrumentKey(name, tags),
+            key -> registry.gauge(name, toTags(tags), new AtomicLong()))
+            .addAndGet(delta);
+    }
+
+    private static List<Tag> toTags(Map<String, String> tags) {
+        List<Tag> micrometerTags = new ArrayList<>(tags.size());
+        tags.forEach((key, value) -> micrometerTags.add(Tag.of(key, value)));
+        return micrometerTags;
+    }
+
+    private static final class InstrumentKey {
+        private final String name;
+        private final Map<String, String> tags;
+        private final int hashCode;
+
+        InstrumentKey(String name, Map<String, String> tags) {
+            this.name = name;
+            this.tags = tags;
+            this.hashCode = 31 * name.hashCode() + tags.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InstrumentKey)) {
+                return false;
+            }
+
+            InstrumentKey other = (InstrumentKey) obj;
+            return name.equals(other.name) && tags.equals(other.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
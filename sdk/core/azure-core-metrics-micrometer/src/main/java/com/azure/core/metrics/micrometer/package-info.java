@@ -0,0 +1,7 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+/**
+ * A Micrometer implementation of the metrics APIs required by azure-core to enable users to see the latency, retries
+ * and body sizes of their calls in any monitoring system supported by Micrometer.
+ */
+package com.azure.core.metrics.micrometer;
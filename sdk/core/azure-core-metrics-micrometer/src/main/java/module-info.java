@@ -0,0 +1,11 @@
+import com.azure.core.metrics.micrometer.MicrometerMeter;
+
+module com.azure.core.metrics.micrometer {
+    requires transitive com.azure.core;
+    requires micrometer.core;
+
+    exports com.azure.core.metrics.micrometer;
+
+    provides com.azure.core.util.metrics.Meter
+        with MicrometerMeter;
+}
@@ -0,0 +1,177 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.metrics.micrometer;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.netty.NettyAsyncHttpClientBuilder;
+import com.azure.core.http.okhttp.OkHttpAsyncHttpClientBuilder;
+import com.azure.core.http.policy.FixedDelay;
+import com.azure.core.http.policy.MetricsPolicy;
+import com.azure.core.http.policy.RetryPolicy;
+import com.azure.core.util.metrics.Meter;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MicrometerMeterTest {
+    private static final String RETRIED_PATH = "/retried";
+    private static final String RETRIED_STATE = "retried";
+
+    private static WireMockServer server;
+
+    private SimpleMeterRegistry registry;
+    private MicrometerMeter meter;
+    private Map<String, String> tags;
+
+    @BeforeAll
+    public static void startServer() {
+        server = new WireMockServer(WireMockConfiguration.options().dynamicPort().disableRequestJournal());
+        server.stubFor(WireMock.get(RETRIED_PATH).inScenario(RETRIED_STATE)
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(WireMock.aResponse().withStatus(503))
+            .willSetStateTo(RETRIED_STATE));
+        server.stubFor(WireMock.get(RETRIED_PATH).inScenario(RETRIED_STATE)
+            .whenScenarioStateIs(RETRIED_STATE)
+            .willReturn(WireMock.aResponse().withBody("hello")));
+        server.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (server != null) {
+            server.shutdown();
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        server.resetScenarios();
+        registry = new SimpleMeterRegistry();
+        meter = new MicrometerMeter(registry);
+        tags = new HashMap<>();
+        tags.put(Meter.SERVICE_TAG, "Blobs");
+        tags.put(Meter.METHOD_TAG, "upload");
+    }
+
+    @Test
+    public void recordsDurations() {
+        meter.recordDuration(Meter.HTTP_REQUEST_DURATION, Duration.ofMillis(10), tags);
+        meter.recordDuration(Meter.HTTP_REQUEST_DURATION, Duration.ofMillis(30), tags);
+
+        Timer timer = registry.get(Meter.HTTP_REQUEST_DURATION)
+            .tag(Meter.SERVICE_TAG, "Blobs").tag(Meter.METHOD_TAG, "upload").timer();
+        assertEquals(2, timer.count());
+        assertEquals(40, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    public void recordsValuesAndCounters() {
+        meter.recordValue(Meter.HTTP_RESPONSE_BYTES, 100, tags);
+        meter.recordValue(Meter.HTTP_RESPONSE_BYTES, 50, tags);
+        meter.incrementCounter(Meter.HTTP_RETRIES, 1, tags);
+        meter.incrementCounter(Meter.HTTP_RETRIES, 2, tags);
+
+        assertEquals(150, registry.get(Meter.HTTP_RESPONSE_BYTES).summary().totalAmount(), 0.001);
+        assertEquals(3, registry.get(Meter.HTTP_RETRIES).counter().count(), 0.001);
+    }
+
+    @Test
+    public void upDownCountersAreGauges() {
+        meter.addUpDownCounter(Meter.HTTP_REQUESTS_ACTIVE, 1, tags);
+        meter.addUpDownCounter(Meter.HTTP_REQUESTS_ACTIVE, 1, tags);
+        meter.addUpDownCounter(Meter.HTTP_REQUESTS_ACTIVE, -1, tags);
+
+        assertEquals(1, registry.get(Meter.HTTP_REQUESTS_ACTIVE).gauge().value(), 0.001);
+    }
+
+    @Test
+    public void instrumentsAreSeparatedByTags() {
+        Map<String, String> otherTags = new HashMap<>(tags);
+        otherTags.put(Meter.METHOD_TAG, "download");
+        meter.incrementCounter(Meter.HTTP_RETRIES, 1, tags);
+        meter.incrementCounter(Meter.HTTP_RETRIES, 1, otherTags);
+
+        assertEquals(2, registry.get(Meter.HTTP_RETRIES).counters().size());
+        assertEquals(1, registry.get(Meter.HTTP_RETRIES).tag(Meter.METHOD_TAG, "download").counter().count(),
+            0.001);
+    }
+
+    @Test
+    public void nettyTagsMatchTheOperation() throws MalformedURLException {
+        assertTagsMatchTheOperation(new NettyAsyncHttpClientBuilder().build(), "netty");
+    }
+
+    @Test
+    public void okHttpTagsMatchTheOperation() throws MalformedURLException {
+        assertTagsMatchTheOperation(new OkHttpAsyncHttpClientBuilder().build(), "okhttp");
+    }
+
+    /*
+     * Sends a request which fails once with 503 and is retried, then checks that the operation timer, the retry
+     * counter and the timer of each try of the HTTP client share the method and host tags, and that the timers carry
+     * the status of the response they timed.
+     */
+    private void assertTagsMatchTheOperation(HttpClient httpClient, String clientName) throws MalformedURLException {
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(httpClient)
+            .policies(new MetricsPolicy(meter), new RetryPolicy(new FixedDelay(3, Duration.ofMillis(10))))
+            .build();
+        HttpRequest request = new HttpRequest(HttpMethod.GET,
+            new URL("http://localhost:" + server.port() + RETRIED_PATH));
+
+        HttpResponse response = pipeline.send(request).block();
+        assertEquals(200, response.getStatusCode());
+
+        Tags operationTags = Tags.of(Meter.SERVICE_TAG, "localhost", Meter.METHOD_TAG, "GET");
+
+        Timer operation = registry.get(Meter.HTTP_REQUEST_DURATION).timer();
+        assertEquals(1, operation.count());
+        assertEquals(operationTags.and(Meter.STATUS_TAG, "200"), Tags.of(operation.getId().getTags()));
+
+        assertEquals(1, registry.get(Meter.HTTP_RETRIES).counter().count(), 0.001);
+        assertEquals(operationTags, Tags.of(registry.get(Meter.HTTP_RETRIES).counter().getId().getTags()));
+
+        List<Timer> tries = registry.get(Meter.HTTP_CLIENT_DURATION).timers().stream()
+            .sorted((a, b) -> a.getId().getTag(Meter.STATUS_TAG).compareTo(b.getId().getTag(Meter.STATUS_TAG)))
+            .collect(Collectors.toList());
+        assertEquals(2, tries.size());
+        Tags clientTags = operationTags.and(Meter.CLIENT_TAG, clientName);
+        assertEquals(clientTags.and(Meter.STATUS_TAG, "200"), Tags.of(tries.get(0).getId().getTags()));
+        assertEquals(clientTags.and(Meter.STATUS_TAG, "503"), Tags.of(tries.get(1).getId().getTags()));
+        for (Timer timer : tries) {
+            assertEquals(1, timer.count());
+        }
+
+        // The successful try carries the same tags as the operation, plus the client.
+        List<Tag> successfulTry = tries.get(0).getId().getTags().stream()
+            .filter(tag -> !Meter.CLIENT_TAG.equals(tag.getKey()))
+            .collect(Collectors.toList());
+        assertEquals(operation.getId().getTags(), successfulTry);
+    }
+}
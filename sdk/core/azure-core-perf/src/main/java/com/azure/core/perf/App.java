@@ -0,0 +1,21 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the azure-core micro-benchmarks.
+ *
+ * <p>To run from command line. Package the project into a jar with dependencies via mvn clean package.
+ * Then run the program via java -jar 'compiled-jar-with-dependencies-path' [JMH options], for example
+ * {@code -prof gc} to report per-operation allocation alongside latency.</p>
+ *
+ * <p>To run from IDE, run the App's main method passing a regular expression matching the benchmarks to run.</p>
+ */
+public class App {
+    public static void main(String[] args) throws Exception {
+        Main.main(args);
+    }
+}
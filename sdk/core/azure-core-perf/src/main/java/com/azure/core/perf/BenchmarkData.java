@@ -0,0 +1,57 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.perf.models.FlattenedModel;
+import com.azure.core.perf.models.SimpleModel;
+import com.azure.core.perf.models.SimpleModelPage;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+    static final String ENDPOINT = "https://myaccount.azconfig.io";
+
+    private BenchmarkData() {
+    }
+
+    static SimpleModel simpleModel(int index) {
+        return new SimpleModel()
+            .setKey("app/settings/key-" + index)
+            .setValue("value-" + index)
+            .setEtag("\"0x8D7B5" + index + "\"")
+            .setLocked((index & 1) == 0)
+            .setLastModified(OffsetDateTime.of(2020, 3, 1, 12, 0, index % 60, 0, ZoneOffset.UTC));
+    }
+
+    static SimpleModelPage simpleModelPage(int size) {
+        List<SimpleModel> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(simpleModel(i));
+        }
+
+        return new SimpleModelPage().setItems(items).setNextLink("/kv?after=key-" + size);
+    }
+
+    static FlattenedModel flattenedModel() {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("env", "prod");
+        tags.put("team", "storage");
+
+        return new FlattenedModel()
+            .setId("/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Storage/storageAccounts/account")
+            .setName("account")
+            .setTags(tags)
+            .setProvisioningState("Succeeded")
+            .setSkuName("Standard_LRS")
+            .setSkuCapacity(3);
+    }
+}
@@ -0,0 +1,39 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.test.http.NoOpHttpClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * HttpClient that answers every request with the same status code, headers and body, so benchmarks measure the
+ * client stack rather than the cost of producing a response.
+ */
+public class CannedResponseHttpClient extends NoOpHttpClient {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    /**
+     * Creates a CannedResponseHttpClient.
+     *
+     * @param statusCode Status code returned for every request.
+     * @param headers Headers returned for every request.
+     * @param body Body returned for every request.
+     */
+    public CannedResponseHttpClient(int statusCode, HttpHeaders headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public Mono<HttpResponse> send(HttpRequest request) {
+        return Mono.just(new MockHttpResponse(request, statusCode, headers, body));
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Context#getData(Object)} on chains of different depths, and a pipeline whose policies look up and
+ * add context data the way the tracing, logging and retry policies do.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ContextBenchmark {
+    private static final int POLICIES = 8;
+
+    @Param({"1", "4", "12", "24"})
+    public int depth;
+
+    private Context context;
+    private String newestKey;
+    private HttpPipeline pipeline;
+    private URL url;
+
+    @Setup
+    public void setup() throws MalformedURLException {
+        context = Context.NONE;
+        for (int i = 0; i < depth; i++) {
+            context = context.addData("key-" + i, i);
+        }
+        newestKey = "key-" + (depth - 1);
+
+        // Each policy reads the oldest, a middle and a missing key and adds a key of its own.
+        HttpPipelinePolicy[] policies = new HttpPipelinePolicy[POLICIES];
+        for (int i = 0; i < POLICIES; i++) {
+            String policyKey = "policy-" + i;
+            String middleKey = "key-" + (depth / 2);
+            policies[i] = (callContext, next) -> {
+                callContext.getData("key-0");
+                callContext.getData(middleKey);
+                callContext.getData("missing");
+                callContext.setData(policyKey, Boolean.TRUE);
+                return next.process();
+            };
+        }
+        pipeline = new HttpPipelineBuilder()
+            .httpClient(new CannedResponseHttpClient(200, new HttpHeaders(), new byte[0]))
+            .policies(policies)
+            .build();
+
+        url = new URL(BenchmarkData.ENDPOINT + "/kv/key?api-version=1.0");
+    }
+
+    @Benchmark
+    public Optional<Object> getOldest() {
+        return context.getData("key-0");
+    }
+
+    @Benchmark
+    public Optional<Object> getNewest() {
+        return context.getData(newestKey);
+    }
+
+    @Benchmark
+    public Optional<Object> getMissing() {
+        return context.getData("missing");
+    }
+
+    @Benchmark
+    public HttpResponse pipeline() {
+        return pipeline.send(new HttpRequest(HttpMethod.GET, url), context).block();
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.perf.models.FlattenedModel;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.serializer.SerializerEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@code JsonNode} tree based and the streaming flattening of
+ * {@link com.azure.core.annotation.JsonFlatten} models in {@link JacksonAdapter}.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FlatteningBenchmark {
+    @Param({"tree", "streaming"})
+    public String flattening;
+
+    private JacksonAdapter serializer;
+
+    private FlattenedModel model;
+    private String modelJson;
+
+    private List<FlattenedModel> models;
+    private String modelsJson;
+    private Type modelsType;
+
+    @Setup
+    public void setup() throws IOException {
+        serializer = new JacksonAdapter("streaming".equals(flattening));
+
+        model = BenchmarkData.flattenedModel();
+        modelJson = serializer.serialize(model, SerializerEncoding.JSON);
+
+        models = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            models.add(BenchmarkData.flattenedModel());
+        }
+        modelsJson = serializer.serialize(models, SerializerEncoding.JSON);
+        modelsType = serializer.serializer().getTypeFactory().constructCollectionType(List.class,
+            FlattenedModel.class);
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return serializer.serialize(model, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public FlattenedModel deserialize() throws IOException {
+        return serializer.deserialize(modelJson, FlattenedModel.class, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public String serializeList() throws IOException {
+        return serializer.serialize(models, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public List<FlattenedModel> deserializeList() throws IOException {
+        return serializer.deserialize(modelsJson, modelsType, SerializerEncoding.JSON);
+    }
+}
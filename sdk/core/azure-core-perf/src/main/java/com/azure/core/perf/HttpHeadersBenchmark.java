@@ -0,0 +1,88 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link HttpHeaders} operations performed by policies and HTTP clients on every request and response.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class HttpHeadersBenchmark {
+    private static final String[] NAMES = {
+        "Content-Type", "Content-Length", "Date", "ETag", "Last-Modified", "x-ms-request-id",
+        "x-ms-client-request-id", "x-ms-version", "Server", "Strict-Transport-Security"
+    };
+
+    private static final String[] VALUES = {
+        "application/json", "1024", "Fri, 13 Oct 2017 20:33:09 GMT", "\"0x8D7B5\"", "Fri, 13 Oct 2017 20:33:09 GMT",
+        "5ad5a0e2-2f19-4d59-87a2-1e1b3b6a9f11", "b7e4f4f2-2b1c-4e07-a5c1-3b0b4a4d2c9e", "2019-07-07",
+        "Windows-Azure-Blob/1.0", "max-age=31536000"
+    };
+
+    private HttpHeaders populated;
+
+    @Setup
+    public void setup() {
+        populated = fill(new HttpHeaders());
+    }
+
+    @Benchmark
+    public HttpHeaders put() {
+        return fill(new HttpHeaders());
+    }
+
+    @Benchmark
+    public void getValue(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(populated.getValue(name));
+        }
+    }
+
+    @Benchmark
+    public void getValueMixedCase(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(populated.getValue(name.toUpperCase()));
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (HttpHeader header : populated) {
+            blackhole.consume(header.getValue());
+        }
+    }
+
+    @Benchmark
+    public HttpHeaders copy() {
+        return new HttpHeaders(populated);
+    }
+
+    private static HttpHeaders fill(HttpHeaders headers) {
+        for (int i = 0; i < NAMES.length; i++) {
+            headers.put(NAMES[i], VALUES[i]);
+        }
+
+        return headers;
+    }
+}
@@ -0,0 +1,90 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.AddDatePolicy;
+import com.azure.core.http.policy.AddHeadersPolicy;
+import com.azure.core.http.policy.HttpLogOptions;
+import com.azure.core.http.policy.HttpLoggingPolicy;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.http.policy.RequestIdPolicy;
+import com.azure.core.http.policy.RetryPolicy;
+import com.azure.core.http.policy.UserAgentPolicy;
+import com.azure.core.util.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of traversing an {@link HttpPipeline} through {@code HttpPipelineNextPolicy}, with and without
+ * the policies a typical client builder adds.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class HttpPipelineBenchmark {
+    private HttpPipeline emptyPipeline;
+    private HttpPipeline typicalPipeline;
+    private URL url;
+    private Context context;
+
+    @Setup
+    public void setup() throws MalformedURLException {
+        CannedResponseHttpClient httpClient = new CannedResponseHttpClient(200, new HttpHeaders(), new byte[0]);
+
+        emptyPipeline = new HttpPipelineBuilder()
+            .httpClient(httpClient)
+            .build();
+
+        HttpHeaders defaultHeaders = new HttpHeaders()
+            .put("Accept", "application/json")
+            .put("x-ms-version", "2019-07-07");
+
+        HttpPipelinePolicy[] policies = new HttpPipelinePolicy[] {
+            new UserAgentPolicy("azsdk-java-perf/1.0.0"),
+            new RequestIdPolicy(),
+            new AddHeadersPolicy(defaultHeaders),
+            new AddDatePolicy(),
+            new RetryPolicy(),
+            new HttpLoggingPolicy(new HttpLogOptions())
+        };
+        typicalPipeline = new HttpPipelineBuilder()
+            .httpClient(httpClient)
+            .policies(policies)
+            .build();
+
+        url = new URL(BenchmarkData.ENDPOINT + "/kv/key?api-version=1.0");
+        context = new Context("caller-key", "caller-value");
+    }
+
+    @Benchmark
+    public HttpResponse emptyPipeline() {
+        return emptyPipeline.send(new HttpRequest(HttpMethod.GET, url)).block();
+    }
+
+    @Benchmark
+    public HttpResponse typicalPipeline() {
+        return typicalPipeline.send(new HttpRequest(HttpMethod.GET, url), context).block();
+    }
+}
@@ -0,0 +1,90 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.rest.Response;
+import com.azure.core.implementation.TypeUtil;
+import com.azure.core.implementation.serializer.HttpResponseDecodeData;
+import com.azure.core.implementation.serializer.HttpResponseDecoder;
+import com.azure.core.perf.models.SimpleModelPage;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.core.util.serializer.SerializerEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of a JSON list response body through {@link HttpResponseDecoder}, which delegates to
+ * {@code HttpResponseBodyDecoder}.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class HttpResponseDecoderBenchmark {
+    @Param({"10", "1000"})
+    private int pageSize;
+
+    private HttpResponseDecoder decoder;
+    private HttpResponseDecodeData decodeData;
+    private HttpRequest request;
+    private HttpHeaders headers;
+    private byte[] body;
+
+    @Setup
+    public void setup() throws IOException {
+        SerializerAdapter serializer = JacksonAdapter.createDefaultSerializerAdapter();
+        decoder = new HttpResponseDecoder(serializer);
+
+        Type returnType = TypeUtil.createParameterizedType(Mono.class,
+            TypeUtil.createParameterizedType(Response.class, SimpleModelPage.class));
+        decodeData = new HttpResponseDecodeData() {
+            @Override
+            public Type getReturnType() {
+                return returnType;
+            }
+
+            @Override
+            public int[] getExpectedStatusCodes() {
+                return new int[] {200};
+            }
+        };
+
+        body = serializer.serialize(BenchmarkData.simpleModelPage(pageSize), SerializerEncoding.JSON)
+            .getBytes(StandardCharsets.UTF_8);
+        headers = new HttpHeaders()
+            .put("Content-Type", "application/json")
+            .put("Content-Length", String.valueOf(body.length));
+        request = new HttpRequest(HttpMethod.GET, new URL(BenchmarkData.ENDPOINT + "/kv"));
+    }
+
+    @Benchmark
+    public Object decodePage() {
+        return decoder.decode(Mono.just(new MockHttpResponse(request, 200, headers, body)), decodeData)
+            .flatMap(decoded -> decoded.getDecodedBody(null))
+            .block();
+    }
+}
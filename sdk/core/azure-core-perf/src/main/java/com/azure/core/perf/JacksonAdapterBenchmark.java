@@ -0,0 +1,90 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.perf.models.FlattenedModel;
+import com.azure.core.perf.models.SimpleModel;
+import com.azure.core.perf.models.SimpleModelPage;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.core.util.serializer.SerializerEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JacksonAdapter} serialization and deserialization of flat, flattened and list models.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class JacksonAdapterBenchmark {
+    private SerializerAdapter serializer;
+
+    private SimpleModel simpleModel;
+    private String simpleModelJson;
+
+    private FlattenedModel flattenedModel;
+    private String flattenedModelJson;
+
+    private SimpleModelPage page;
+    private String pageJson;
+
+    @Setup
+    public void setup() throws IOException {
+        serializer = JacksonAdapter.createDefaultSerializerAdapter();
+
+        simpleModel = BenchmarkData.simpleModel(1);
+        simpleModelJson = serializer.serialize(simpleModel, SerializerEncoding.JSON);
+
+        flattenedModel = BenchmarkData.flattenedModel();
+        flattenedModelJson = serializer.serialize(flattenedModel, SerializerEncoding.JSON);
+
+        page = BenchmarkData.simpleModelPage(100);
+        pageJson = serializer.serialize(page, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public String serializeSimple() throws IOException {
+        return serializer.serialize(simpleModel, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public SimpleModel deserializeSimple() throws IOException {
+        return serializer.deserialize(simpleModelJson, SimpleModel.class, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public String serializeFlattened() throws IOException {
+        return serializer.serialize(flattenedModel, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public FlattenedModel deserializeFlattened() throws IOException {
+        return serializer.deserialize(flattenedModelJson, FlattenedModel.class, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public String serializePage() throws IOException {
+        return serializer.serialize(page, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public SimpleModelPage deserializePage() throws IOException {
+        return serializer.deserialize(pageJson, SimpleModelPage.class, SerializerEncoding.JSON);
+    }
+}
@@ -0,0 +1,112 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.annotation.BodyParam;
+import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HeaderParam;
+import com.azure.core.annotation.Headers;
+import com.azure.core.annotation.Host;
+import com.azure.core.annotation.HostParam;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.Put;
+import com.azure.core.annotation.QueryParam;
+import com.azure.core.annotation.ServiceInterface;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.rest.Response;
+import com.azure.core.http.rest.RestProxy;
+import com.azure.core.perf.models.SimpleModel;
+import com.azure.core.util.Context;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.serializer.SerializerEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RestProxy} invocation end to end, which covers {@code SwaggerMethodParser} request building
+ * (host, path and query substitution, header collection, body serialization) and response decoding.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RestProxyBenchmark {
+    @Host("{endpoint}")
+    @ServiceInterface(name = "BenchmarkService")
+    interface BenchmarkService {
+        @Get("/kv/{key}")
+        @ExpectedResponses({200})
+        Mono<Response<Void>> getNoBody(@HostParam("endpoint") String endpoint, @PathParam("key") String key,
+            @QueryParam("label") String label, @QueryParam("api-version") String apiVersion,
+            @HeaderParam("If-Match") String ifMatch, Context context);
+
+        @Get("/kv/{key}")
+        @ExpectedResponses({200})
+        @Headers({"Accept: application/json", "x-ms-client-request-id: static-id"})
+        Mono<Response<SimpleModel>> get(@HostParam("endpoint") String endpoint, @PathParam("key") String key,
+            @QueryParam("label") String label, @QueryParam("api-version") String apiVersion, Context context);
+
+        @Put("/kv/{key}")
+        @ExpectedResponses({200})
+        Mono<Response<SimpleModel>> put(@HostParam("endpoint") String endpoint, @PathParam("key") String key,
+            @QueryParam("api-version") String apiVersion, @BodyParam("application/json") SimpleModel body,
+            Context context);
+    }
+
+    private BenchmarkService noBodyService;
+    private BenchmarkService jsonService;
+    private SimpleModel model;
+
+    @Setup
+    public void setup() throws IOException {
+        model = BenchmarkData.simpleModel(7);
+
+        noBodyService = RestProxy.create(BenchmarkService.class, new HttpPipelineBuilder()
+            .httpClient(new CannedResponseHttpClient(200, new HttpHeaders(), new byte[0]))
+            .build());
+
+        byte[] json = JacksonAdapter.createDefaultSerializerAdapter()
+            .serialize(model, SerializerEncoding.JSON)
+            .getBytes(StandardCharsets.UTF_8);
+        HttpHeaders jsonHeaders = new HttpHeaders()
+            .put("Content-Type", "application/json")
+            .put("Content-Length", String.valueOf(json.length));
+        jsonService = RestProxy.create(BenchmarkService.class, new HttpPipelineBuilder()
+            .httpClient(new CannedResponseHttpClient(200, jsonHeaders, json))
+            .build());
+    }
+
+    @Benchmark
+    public Response<Void> buildRequestNoBody() {
+        return noBodyService.getNoBody(BenchmarkData.ENDPOINT, "app/settings/key 1", "prod", "1.0", "\"etag\"",
+            Context.NONE).block();
+    }
+
+    @Benchmark
+    public Response<SimpleModel> getJson() {
+        return jsonService.get(BenchmarkData.ENDPOINT, "app/settings/key-7", "prod", "1.0", Context.NONE).block();
+    }
+
+    @Benchmark
+    public Response<SimpleModel> putJson() {
+        return jsonService.put(BenchmarkData.ENDPOINT, "app/settings/key-7", "1.0", model, Context.NONE).block();
+    }
+}
@@ -0,0 +1,59 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.util.UrlBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link UrlBuilder} parsing and rendering of typical service URLs.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class UrlBuilderBenchmark {
+    private static final String BLOB_URL = "https://myaccount.blob.core.windows.net/container/dir/blob.txt"
+        + "?sv=2019-07-07&ss=b&srt=sco&sp=rwdlac&se=2020-04-01T00:00:00Z&sig=abc%2Bdef%3D";
+
+    private UrlBuilder builder;
+
+    @Setup
+    public void setup() {
+        builder = UrlBuilder.parse(BLOB_URL);
+    }
+
+    @Benchmark
+    public UrlBuilder parse() {
+        return UrlBuilder.parse(BLOB_URL);
+    }
+
+    @Benchmark
+    public String render() {
+        return builder.toString();
+    }
+
+    @Benchmark
+    public URL parseModifyAndConvert() throws MalformedURLException {
+        return UrlBuilder.parse(BLOB_URL)
+            .setQueryParameter("comp", "block")
+            .setQueryParameter("blockid", "AAAAAA%3D%3D")
+            .toUrl();
+    }
+}
@@ -0,0 +1,129 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf.models;
+
+import com.azure.core.annotation.JsonFlatten;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * Resource shaped like a management-plane model, using {@link JsonFlatten} to hoist nested properties.
+ */
+@JsonFlatten
+public class FlattenedModel {
+    @JsonProperty(value = "id")
+    private String id;
+
+    @JsonProperty(value = "name")
+    private String name;
+
+    @JsonProperty(value = "tags")
+    private Map<String, String> tags;
+
+    @JsonProperty(value = "properties.provisioningState")
+    private String provisioningState;
+
+    @JsonProperty(value = "properties.sku.name")
+    private String skuName;
+
+    @JsonProperty(value = "properties.sku.capacity")
+    private Integer skuCapacity;
+
+    /**
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @param id the id
+     * @return the updated model
+     */
+    public FlattenedModel setId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param name the name
+     * @return the updated model
+     */
+    public FlattenedModel setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * @return the tags
+     */
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    /**
+     * @param tags the tags
+     * @return the updated model
+     */
+    public FlattenedModel setTags(Map<String, String> tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    /**
+     * @return the provisioning state
+     */
+    public String getProvisioningState() {
+        return provisioningState;
+    }
+
+    /**
+     * @param provisioningState the provisioning state
+     * @return the updated model
+     */
+    public FlattenedModel setProvisioningState(String provisioningState) {
+        this.provisioningState = provisioningState;
+        return this;
+    }
+
+    /**
+     * @return the SKU name
+     */
+    public String getSkuName() {
+        return skuName;
+    }
+
+    /**
+     * @param skuName the SKU name
+     * @return the updated model
+     */
+    public FlattenedModel setSkuName(String skuName) {
+        this.skuName = skuName;
+        return this;
+    }
+
+    /**
+     * @return the SKU capacity
+     */
+    public Integer getSkuCapacity() {
+        return skuCapacity;
+    }
+
+    /**
+     * @param skuCapacity the SKU capacity
+     * @return the updated model
+     */
+    public FlattenedModel setSkuCapacity(Integer skuCapacity) {
+        this.skuCapacity = skuCapacity;
+        return this;
+    }
+}
@@ -0,0 +1,108 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Flat resource shaped like a data-plane model, such as a configuration setting or secret.
+ */
+public class SimpleModel {
+    @JsonProperty(value = "key")
+    private String key;
+
+    @JsonProperty(value = "value")
+    private String value;
+
+    @JsonProperty(value = "etag")
+    private String etag;
+
+    @JsonProperty(value = "locked")
+    private boolean locked;
+
+    @JsonProperty(value = "last_modified")
+    private OffsetDateTime lastModified;
+
+    /**
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @param key the key
+     * @return the updated model
+     */
+    public SimpleModel setKey(String key) {
+        this.key = key;
+        return this;
+    }
+
+    /**
+     * @return the value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @param value the value
+     * @return the updated model
+     */
+    public SimpleModel setValue(String value) {
+        this.value = value;
+        return this;
+    }
+
+    /**
+     * @return the etag
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * @param etag the etag
+     * @return the updated model
+     */
+    public SimpleModel setEtag(String etag) {
+        this.etag = etag;
+        return this;
+    }
+
+    /**
+     * @return whether the resource is locked
+     */
+    public boolean isLocked() {
+        return locked;
+    }
+
+    /**
+     * @param locked whether the resource is locked
+     * @return the updated model
+     */
+    public SimpleModel setLocked(boolean locked) {
+        this.locked = locked;
+        return this;
+    }
+
+    /**
+     * @return the last modified time
+     */
+    public OffsetDateTime getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @param lastModified the last modified time
+     * @return the updated model
+     */
+    public SimpleModel setLastModified(OffsetDateTime lastModified) {
+        this.lastModified = lastModified;
+        return this;
+    }
+}
@@ -0,0 +1,51 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Page of {@link SimpleModel SimpleModels} shaped like a service list response.
+ */
+public class SimpleModelPage {
+    @JsonProperty(value = "items")
+    private List<SimpleModel> items;
+
+    @JsonProperty(value = "@nextLink")
+    private String nextLink;
+
+    /**
+     * @return the items in the page
+     */
+    public List<SimpleModel> getItems() {
+        return items;
+    }
+
+    /**
+     * @param items the items in the page
+     * @return the updated page
+     */
+    public SimpleModelPage setItems(List<SimpleModel> items) {
+        this.items = items;
+        return this;
+    }
+
+    /**
+     * @return the link to the next page
+     */
+    public String getNextLink() {
+        return nextLink;
+    }
+
+    /**
+     * @param nextLink the link to the next page
+     * @return the updated page
+     */
+    public SimpleModelPage setNextLink(String nextLink) {
+        this.nextLink = nextLink;
+        return this;
+    }
+}
@@ -0,0 +1,7 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * Package containing models used by the azure-core micro-benchmarks.
+ */
+package com.azure.core.perf.models;
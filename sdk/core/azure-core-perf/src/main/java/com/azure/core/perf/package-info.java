@@ -0,0 +1,7 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * Package containing JMH micro-benchmarks for the azure-core HTTP stack.
+ */
+package com.azure.core.perf;
@@ -16,6 +16,7 @@ import com.azure.core.util.UrlBuilder;
 import io.opentelemetry.OpenTelemetry;
 import io.opentelemetry.context.propagation.HttpTextFormat;
 import io.opentelemetry.trace.AttributeValue;
+import io.opentelemetry.trace.DefaultTracer;
 import io.opentelemetry.trace.Span;
 import io.opentelemetry.trace.SpanContext;
 import io.opentelemetry.trace.Tracer;
@@ -57,7 +58,17 @@ public class OpenTelemetryHttpPolicy implements AfterRetryPolicyProvider, HttpPi
 
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        if (TRACER instanceof DefaultTracer) {
+            // No OpenTelemetry SDK is installed, nothing would be recorded or propagated.
+            return next.process();
+        }
+
         Span parentSpan = (Span) context.getData(PARENT_SPAN_KEY).orElse(TRACER.getCurrentSpan());
+        if (OpenTelemetryTracer.isSampledOut(parentSpan)) {
+            // The request span would follow the sampling decision of its parent, skip building and propagating it.
+            return next.process();
+        }
+
         HttpRequest request = context.getHttpRequest();
 
         // Build new child span representing this outgoing request.
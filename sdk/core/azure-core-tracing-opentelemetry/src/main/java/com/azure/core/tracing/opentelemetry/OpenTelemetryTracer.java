@@ -12,6 +12,7 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.tracing.ProcessKind;
 import io.opentelemetry.OpenTelemetry;
 import io.opentelemetry.trace.AttributeValue;
+import io.opentelemetry.trace.DefaultTracer;
 import io.opentelemetry.trace.Span;
 import io.opentelemetry.trace.Span.Builder;
 import io.opentelemetry.trace.SpanContext;
@@ -38,6 +39,17 @@ public class OpenTelemetryTracer implements com.azure.core.util.tracing.Tracer {
 
     private final ClientLogger logger = new ClientLogger(OpenTelemetryTracer.class);
 
+    /**
+     * Returns {@code false} when no OpenTelemetry SDK is installed, in which case OpenTelemetry falls back to a tracer
+     * whose spans are never recorded.
+     *
+     * @return Whether spans started by this tracer may be recorded.
+     */
+    @Override
+    public boolean isEnabled() {
+        return !(TRACER instanceof DefaultTracer);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -46,7 +58,13 @@ public class OpenTelemetryTracer implements com.azure.core.util.tracing.Tracer {
         Objects.requireNonNull(spanName, "'spanName' cannot be null.");
         Objects.requireNonNull(context, "'context' cannot be null.");
 
-        Builder spanBuilder = getSpanBuilder(spanName, context);
+        Span parentSpan = getParentSpan(context);
+        if (isSampledOut(parentSpan)) {
+            // The span would follow the sampling decision of its parent, skip building it.
+            return context;
+        }
+
+        Builder spanBuilder = getSpanBuilder(spanName, parentSpan, context);
         Span span = spanBuilder.startSpan();
         if (span.isRecording()) {
             // TODO (savaity): replace with the AZ_TRACING_NAMESPACE_KEY
@@ -84,7 +102,12 @@ public class OpenTelemetryTracer implements com.azure.core.util.tracing.Tracer {
                 }
                 return context.addData(PARENT_SPAN_KEY, span);
             case MESSAGE:
-                spanBuilder = getSpanBuilder(spanName, context);
+                Span parentSpan = getParentSpan(context);
+                if (isSampledOut(parentSpan)) {
+                    // Without a diagnostic Id in the context the message is sent without trace headers.
+                    return context;
+                }
+                spanBuilder = getSpanBuilder(spanName, parentSpan, context);
                 span = spanBuilder.setSpanKind(Span.Kind.PRODUCER).startSpan();
                 if (span.isRecording()) {
                     span.setAttribute(AZ_NAMESPACE_KEY,
@@ -190,7 +213,7 @@ public class OpenTelemetryTracer implements com.azure.core.util.tracing.Tracer {
 
     @Override
     public Context getSharedSpanBuilder(String spanName, Context context) {
-        return context.addData(SPAN_BUILDER_KEY, getSpanBuilder(spanName, context));
+        return context.addData(SPAN_BUILDER_KEY, getSpanBuilder(spanName, getParentSpan(context), context));
     }
 
     /**
@@ -210,7 +233,7 @@ public class OpenTelemetryTracer implements com.azure.core.util.tracing.Tracer {
         if (spanContext != null) {
             span = startSpanWithRemoteParent(spanName, spanContext);
         } else {
-            Builder spanBuilder = getSpanBuilder(spanName, context);
+            Builder spanBuilder = getSpanBuilder(spanName, getParentSpan(context), context);
             span = spanBuilder.setSpanKind(Span.Kind.CONSUMER).startSpan();
         }
         if (span.isRecording()) {
@@ -273,25 +296,47 @@ public class OpenTelemetryTracer implements com.azure.core.util.tracing.Tracer {
         }
     }
 
+    /**
+     * Returns whether the given span is part of a trace which isn't sampled. Spans of such a trace aren't recorded and
+     * their context doesn't need to be propagated.
+     *
+     * @param span The parent span.
+     *
+     * @return {@code true} if the span has a valid context whose sampled flag isn't set.
+     */
+    static boolean isSampledOut(Span span) {
+        SpanContext spanContext = span.getContext();
+        return spanContext.isValid() && !spanContext.getTraceFlags().isSampled();
+    }
+
+    /**
+     * Returns the parent {@link Span} set in the {@code context}, or the current span if there is none.
+     *
+     * @param context The context containing the span.
+     *
+     * @return The parent {@code Span}.
+     */
+    private Span getParentSpan(Context context) {
+        Span parentSpan = getOrDefault(context, PARENT_SPAN_KEY, null, Span.class);
+        return (parentSpan == null) ? TRACER.getCurrentSpan() : parentSpan;
+    }
+
     /**
      * Returns a {@link Builder} to create and start a new child {@link Span} with parent
      * being the designated {@code Span}.
      *
      * @param spanName The name of the returned Span.
-     * @param context The context containing the span and the span name.
+     * @param parentSpan The parent of the returned Span.
+     * @param context The context containing the span name.
      *
      * @return A {@code Span.Builder} to create and start a new {@code Span}.
      */
-    private Builder getSpanBuilder(String spanName, Context context) {
-        Span parentSpan = getOrDefault(context, PARENT_SPAN_KEY, null, Span.class);
+    private Builder getSpanBuilder(String spanName, Span parentSpan, Context context) {
         String spanNameKey = getOrDefault(context, USER_SPAN_NAME_KEY, null, String.class);
 
         if (spanNameKey == null) {
             spanNameKey = spanName;
         }
-        if (parentSpan == null) {
-            parentSpan = TRACER.getCurrentSpan();
-        }
         return TRACER.spanBuilder(spanNameKey).setParent(parentSpan);
     }
 
@@ -0,0 +1,268 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.credential;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A token cache which refreshes its token in the background ahead of expiry.
+ *
+ * <p>Once the cached token is within the refresh offset of {@link AccessToken#getExpiresAt()}, minus a random jitter
+ * so that many clients don't refresh at the same moment, the next call to {@link #getToken()} starts a refresh and
+ * still returns the cached token. Callers only wait on the token supplier when there is no valid token. At most one
+ * call to the token supplier is in flight at any time, every caller waiting for a token shares it.</p>
+ *
+ * <p>A refresh never starts before half of the token's remaining lifetime has passed, so tokens which live shorter
+ * than the refresh offset aren't refreshed on every call. If a background refresh fails the cached token keeps being
+ * used, and the refresh is retried 30 seconds later or once the token expires, whichever comes first. A call to the
+ * token supplier which hasn't returned a token after 30 seconds fails with a
+ * {@link java.util.concurrent.TimeoutException}.</p>
+ */
+public final class RefreshingTokenCache {
+    /**
+     * The default time before {@link AccessToken#getExpiresAt()} at which the token is refreshed, 3 minutes.
+     */
+    public static final Duration DEFAULT_REFRESH_OFFSET = Duration.ofMinutes(3);
+
+    /**
+     * The default upper bound of the random time the refresh is moved ahead by, 30 seconds.
+     */
+    public static final Duration DEFAULT_REFRESH_JITTER = Duration.ofSeconds(30);
+
+    private static final long REFRESH_RETRY_DELAY_MILLIS = Duration.ofSeconds(30).toMillis();
+    private static final Duration REFRESH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ClientLogger logger = new ClientLogger(RefreshingTokenCache.class);
+
+    private final Supplier<Mono<AccessToken>> tokenSupplier;
+    private final long refreshOffsetMillis;
+    private final long refreshJitterMillis;
+    private final Clock clock;
+
+    private final AtomicReference<Mono<AccessToken>> refreshInFlight = new AtomicReference<>();
+    private volatile CachedToken cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+    private volatile long lastRefreshLatencyNanos;
+
+    /**
+     * Creates a RefreshingTokenCache with the {@link #DEFAULT_REFRESH_OFFSET default refresh offset} and
+     * {@link #DEFAULT_REFRESH_JITTER default refresh jitter}.
+     *
+     * @param tokenSupplier a method to get a new token
+     * @throws NullPointerException If {@code tokenSupplier} is null.
+     */
+    public RefreshingTokenCache(Supplier<Mono<AccessToken>> tokenSupplier) {
+        this(tokenSupplier, DEFAULT_REFRESH_OFFSET, DEFAULT_REFRESH_JITTER);
+    }
+
+    /**
+     * Creates a RefreshingTokenCache.
+     *
+     * @param tokenSupplier a method to get a new token
+     * @param refreshOffset how long before {@link AccessToken#getExpiresAt()} the token is refreshed
+     * @param refreshJitter the upper bound of a random time the refresh is moved ahead by
+     * @throws NullPointerException If {@code tokenSupplier}, {@code refreshOffset} or {@code refreshJitter} is null.
+     * @throws IllegalArgumentException If {@code refreshOffset} or {@code refreshJitter} is negative.
+     */
+    public RefreshingTokenCache(Supplier<Mono<AccessToken>> tokenSupplier, Duration refreshOffset,
+                                Duration refreshJitter) {
+        this(tokenSupplier, refreshOffset, refreshJitter, Clock.systemUTC());
+    }
+
+    /*
+     * Creates a RefreshingTokenCache which reads the time, to check the expiry of the token and when it's refreshed,
+     * from the given clock.
+     */
+    RefreshingTokenCache(Supplier<Mono<AccessToken>> tokenSupplier, Duration refreshOffset, Duration refreshJitter,
+                         Clock clock) {
+        this.tokenSupplier = Objects.requireNonNull(tokenSupplier, "'tokenSupplier' cannot be null.");
+        Objects.requireNonNull(refreshOffset, "'refreshOffset' cannot be null.");
+        Objects.requireNonNull(refreshJitter, "'refreshJitter' cannot be null.");
+        if (refreshOffset.isNegative() || refreshJitter.isNegative()) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'refreshOffset' and 'refreshJitter' cannot be negative."));
+        }
+
+        this.refreshOffsetMillis = refreshOffset.toMillis();
+        this.refreshJitterMillis = refreshJitter.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Asynchronously get a token from either the cache or replenish the cache with a new token.
+     *
+     * @return a Publisher that emits an AccessToken
+     */
+    public Mono<AccessToken> getToken() {
+        return Mono.defer(() -> {
+            AccessToken cached = getCachedToken();
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            missCount.incrementAndGet();
+            return refresh();
+        });
+    }
+
+    /**
+     * Synchronously get a token from either the cache or replenish the cache with a new token. A valid cached token is
+     * returned right away, the calling thread only waits when the token has to be replenished.
+     *
+     * @return the AccessToken, or null if the token supplier completed without one
+     */
+    public AccessToken getTokenSync() {
+        AccessToken cached = getCachedToken();
+        if (cached != null) {
+            return cached;
+        }
+
+        missCount.incrementAndGet();
+        return refresh().block();
+    }
+
+    /**
+     * @return the number of calls to {@link #getToken()} or {@link #getTokenSync()} which were served a valid cached
+     * token.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of calls to {@link #getToken()} or {@link #getTokenSync()} which had to wait for a new
+     * token.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of times a new token was successfully retrieved from the token supplier.
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * @return the number of times the token supplier failed to return a token.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    /**
+     * @return how long the last successful call to the token supplier took, {@link Duration#ZERO} if there was none.
+     */
+    public Duration getLastRefreshLatency() {
+        return Duration.ofNanos(lastRefreshLatencyNanos);
+    }
+
+    /*
+     * Gets the cached token if it's valid, starting a background refresh when it's due, or null.
+     */
+    private AccessToken getCachedToken() {
+        CachedToken cached = cache;
+        if (cached == null || isExpired(cached.token)) {
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        if (clock.millis() >= cached.refreshAt) {
+            refreshInBackground();
+        }
+        return cached.token;
+    }
+
+    /*
+     * Gets the refresh in flight, starting one if there is none.
+     */
+    private Mono<AccessToken> refresh() {
+        while (true) {
+            Mono<AccessToken> inFlight = refreshInFlight.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+
+            Mono<AccessToken> refresh = createRefresh();
+            if (refreshInFlight.compareAndSet(null, refresh)) {
+                return refresh;
+            }
+        }
+    }
+
+    private void refreshInBackground() {
+        refresh().subscribe(ignored -> { }, error -> logger.warning(
+            "Failed to refresh the token ahead of its expiry, the cached token is used until it expires. {}",
+            error.getMessage()));
+    }
+
+    /*
+     * The refresh is cached so every subscriber shares the single call to the token supplier, and it's removed from
+     * refreshInFlight before its subscribers see the outcome, so a caller retrying a failure calls the supplier again.
+     */
+    private Mono<AccessToken> createRefresh() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return tokenSupplier.get()
+                .timeout(REFRESH_TIMEOUT)
+                .doOnNext(token -> {
+                    lastRefreshLatencyNanos = System.nanoTime() - start;
+                    refreshCount.incrementAndGet();
+                    cache = new CachedToken(token, computeRefreshAt(token));
+                });
+        })
+            .doOnError(error -> {
+                refreshFailureCount.incrementAndGet();
+                CachedToken cached = cache;
+                if (cached != null && !isExpired(cached.token)) {
+                    cache = new CachedToken(cached.token, clock.millis() + REFRESH_RETRY_DELAY_MILLIS);
+                }
+            })
+            .doOnTerminate(() -> refreshInFlight.set(null))
+            .cache();
+    }
+
+    /*
+     * As AccessToken.isExpired, with the time read from the clock.
+     */
+    private boolean isExpired(AccessToken token) {
+        return clock.instant().isAfter(token.getExpiresAt().toInstant());
+    }
+
+    private long computeRefreshAt(AccessToken token) {
+        long now = clock.millis();
+        // Clamped, tokens may expire at OffsetDateTime.MAX which overflows epoch milliseconds.
+        long expiresAtSeconds = token.getExpiresAt().toEpochSecond();
+        long expiresAt = expiresAtSeconds >= Long.MAX_VALUE / 4000
+            ? Long.MAX_VALUE / 4
+            : Math.max(0, expiresAtSeconds * 1000);
+        long jitter = refreshJitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(refreshJitterMillis + 1);
+
+        return Math.max(expiresAt - refreshOffsetMillis - jitter, now + (expiresAt - now) / 2);
+    }
+
+    private static final class CachedToken {
+        private final AccessToken token;
+        private final long refreshAt;
+
+        CachedToken(AccessToken token, long refreshAt) {
+            this.token = token;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
@@ -3,25 +3,22 @@
 
 package com.azure.core.credential;
 
-import reactor.core.publisher.FluxSink;
-import reactor.core.publisher.FluxSink.OverflowStrategy;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.ReplayProcessor;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 /**
  * A token cache that supports caching a token and refreshing it.
+ *
+ * <p>The token is only refreshed once it has expired. Use {@link RefreshingTokenCache} to refresh it in the
+ * background ahead of expiry instead.</p>
+ *
+ * @deprecated Use {@link RefreshingTokenCache}.
  */
+@Deprecated
 public class SimpleTokenCache {
-    private static final int REFRESH_TIMEOUT_SECONDS = 30;
-
-    private final AtomicBoolean wip;
-    private AccessToken cache;
-    private final ReplayProcessor<AccessToken> emitterProcessor = ReplayProcessor.create(1);
-    private final FluxSink<AccessToken> sink = emitterProcessor.sink(OverflowStrategy.BUFFER);
-    private final Supplier<Mono<AccessToken>> tokenSupplier;
+    private final RefreshingTokenCache cache;
 
     /**
      * Creates an instance of RefreshableTokenCredential with default scheme "Bearer".
@@ -29,8 +26,7 @@ public class SimpleTokenCache {
      * @param tokenSupplier a method to get a new token
      */
     public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier) {
-        this.wip = new AtomicBoolean(false);
-        this.tokenSupplier = tokenSupplier;
+        this.cache = new RefreshingTokenCache(tokenSupplier, Duration.ZERO, Duration.ZERO);
     }
 
     /**
@@ -38,18 +34,6 @@ public class SimpleTokenCache {
      * @return a Publisher that emits an AccessToken
      */
     public Mono<AccessToken> getToken() {
-        if (cache != null && !cache.isExpired()) {
-            return Mono.just(cache);
-        }
-        return Mono.defer(() -> {
-            if (!wip.getAndSet(true)) {
-                return tokenSupplier.get().doOnNext(ac -> cache = ac)
-                    .doOnNext(sink::next)
-                    .doOnError(sink::error)
-                    .doOnTerminate(() -> wip.set(false));
-            } else {
-                return emitterProcessor.next();
-            }
-        });
+        return cache.getToken();
     }
 }
@@ -0,0 +1,132 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http;
+
+import com.azure.core.exception.UnexpectedLengthException;
+import com.azure.core.util.FluxUtil;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A request body which is a range of a file.
+ *
+ * <p>HTTP clients which support it send the range straight from the file, without reading it into memory. The Netty
+ * client sends it as a {@code FileRegion}, which uses {@code sendfile} on connections without TLS, and the OkHttp
+ * client streams it from the file in chunks. To anything else FileContent is a {@link Flux} which reads the range in
+ * chunks each time it's subscribed to, so it can be retried and passed where any request body is expected. It emits
+ * an {@link UnexpectedLengthException} if the file ends before the range does.</p>
+ *
+ * <p>Operators applied to FileContent return a plain Flux, so policies which wrap the request body lose the ability
+ * to send it from the file.</p>
+ */
+public final class FileContent extends Flux<ByteBuffer> {
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final ClientLogger logger = new ClientLogger(FileContent.class);
+
+    private final Path file;
+    private final long position;
+    private final long length;
+    private final int chunkSize;
+
+    /**
+     * Creates a FileContent for a range of a file, read in 64 KB chunks when it's subscribed to.
+     *
+     * @param file the file.
+     * @param position the position in the file the range starts at.
+     * @param length the number of bytes in the range.
+     * @throws NullPointerException If {@code file} is null.
+     * @throws IllegalArgumentException If {@code position} or {@code length} is negative.
+     */
+    public FileContent(Path file, long position, long length) {
+        this(file, position, length, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a FileContent for a range of a file.
+     *
+     * @param file the file.
+     * @param position the position in the file the range starts at.
+     * @param length the number of bytes in the range.
+     * @param chunkSize the size of the chunks the range is read in when it's subscribed to.
+     * @throws NullPointerException If {@code file} is null.
+     * @throws IllegalArgumentException If {@code position} or {@code length} is negative, or {@code chunkSize} is
+     * less than 1.
+     */
+    public FileContent(Path file, long position, long length, int chunkSize) {
+        this.file = Objects.requireNonNull(file, "'file' cannot be null.");
+        if (position < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'position' cannot be negative."));
+        }
+        if (length < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'length' cannot be negative."));
+        }
+        if (chunkSize < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'chunkSize' must be at least 1."));
+        }
+
+        this.position = position;
+        this.length = length;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return the file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the position in the file the range starts at.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the number of bytes in the range.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return the size of the chunks the range is read in when it's subscribed to.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super ByteBuffer> actual) {
+        long[] bytesRead = new long[1];
+        Flux.using(() -> AsynchronousFileChannel.open(file, StandardOpenOption.READ),
+            channel -> FluxUtil.readFile(channel, chunkSize, position, length),
+            this::close)
+            .doOnNext(buffer -> bytesRead[0] += buffer.remaining())
+            .concatWith(Flux.defer(() -> bytesRead[0] == length
+                ? Flux.empty()
+                : Flux.error(logger.logExceptionAsError(new UnexpectedLengthException(String.format(
+                    "File content emitted %d bytes less than the expected %d bytes, the file is too short.",
+                    bytesRead[0], length), bytesRead[0], length)))))
+            .subscribe(actual);
+    }
+
+    private void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close the file channel.", e);
+        }
+    }
+}
@@ -18,6 +18,32 @@ public interface HttpClient {
      */
     Mono<HttpResponse> send(HttpRequest request);
 
+    /**
+     * Send the provided request synchronously, on the calling thread.
+     * <p>
+     * The default implementation subscribes to {@link #send(HttpRequest)} and waits for its response. Clients backed
+     * by a blocking transport override it to send the request without a reactive chain.
+     *
+     * @param request The HTTP request to send.
+     * @return The response.
+     */
+    default HttpResponse sendSync(HttpRequest request) {
+        return send(request).block();
+    }
+
+    /**
+     * Returns the readiness of the client: a {@link Mono} which completes once the connections the client was
+     * configured to open when it was built are open, or errors if a configured host couldn't be connected to. Services
+     * can wait on it before taking traffic. The warm-up happens once, every subscription gets its outcome.
+     * <p>
+     * The default implementation completes right away, for clients which don't warm up connections.
+     *
+     * @return A {@link Mono} that completes when the client is warmed up.
+     */
+    default Mono<Void> warmUp() {
+        return Mono.empty();
+    }
+
     /**
      * Create default {@link HttpClient} instance.
      *
@@ -5,17 +5,33 @@ package com.azure.core.http;
 
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A collection of headers on an HTTP request or response.
+ *
+ * <p>Header names are case-insensitive. Headers are kept in insertion order in a compact open-addressing table which
+ * hashes and compares names without lower-casing them, so lookups don't allocate.</p>
+ *
+ * <p>This type is safe for use by multiple threads. Iteration is weakly consistent: iterators and streams never throw
+ * {@link java.util.ConcurrentModificationException}, and they return each header at most once, reflecting the headers
+ * as they were when iteration started, possibly with later removals and value changes.</p>
  */
 public class HttpHeaders implements Iterable<HttpHeader> {
-    private final Map<String, HttpHeader> headers = new ConcurrentHashMap<>();
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // Headers in insertion order. Removed headers leave a null entry until the table is next rebuilt. Rebuilding
+    // allocates new arrays rather than compacting these in place, so iterators over the previous arrays stay valid.
+    private HttpHeader[] entries;
+    private int entryCount;
+    private int size;
+
+    // Open-addressing index over entries, each slot holds the entry position plus one, or zero when the slot is free.
+    private int[] slots;
 
     /**
      * Create an empty HttpHeaders instance.
@@ -29,6 +45,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param headers the map of initial headers
      */
     public HttpHeaders(Map<String, String> headers) {
+        allocate(headers.size());
         for (final Map.Entry<String, String> header : headers.entrySet()) {
             this.put(header.getKey(), header.getValue());
         }
@@ -42,6 +59,10 @@ public class HttpHeaders implements Iterable<HttpHeader> {
     public HttpHeaders(Iterable<HttpHeader> headers) {
         this();
 
+        if (headers instanceof HttpHeaders) {
+            allocate(((HttpHeaders) headers).getSize());
+        }
+
         for (final HttpHeader header : headers) {
             this.put(header.getName(), header.getValue());
         }
@@ -52,8 +73,8 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      *
      * @return the number of headers in this collection.
      */
-    public int getSize() {
-        return headers.size();
+    public synchronized int getSize() {
+        return size;
     }
 
     /**
@@ -65,8 +86,25 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param value the value
      * @return The updated HttpHeaders object
      */
-    public HttpHeaders put(String name, String value) {
-        headers.put(formatKey(name), new HttpHeader(name, value));
+    public synchronized HttpHeaders put(String name, String value) {
+        final int hash = hash(name);
+        final int position = find(name, hash);
+        if (position >= 0) {
+            entries[position] = new HttpHeader(name, value);
+            return this;
+        }
+
+        if (entries == null) {
+            allocate(DEFAULT_CAPACITY);
+        } else if (entryCount == entries.length) {
+            // Reclaim removed entries if that frees enough room, otherwise grow.
+            rebuild(size < entries.length / 2 ? entries.length : entries.length * 2);
+        }
+
+        entries[entryCount] = new HttpHeader(name, value);
+        index(hash, entryCount);
+        entryCount++;
+        size++;
         return this;
     }
 
@@ -77,8 +115,9 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param name the name of the header to find.
      * @return the header if found, null otherwise.
      */
-    public HttpHeader get(String name) {
-        return headers.get(formatKey(name));
+    public synchronized HttpHeader get(String name) {
+        final int position = find(name, hash(name));
+        return position < 0 ? null : entries[position];
     }
 
     /**
@@ -88,8 +127,17 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param name the name of the header to remove.
      * @return the header if removed, null otherwise.
      */
-    public HttpHeader remove(String name) {
-        return headers.remove(formatKey(name));
+    public synchronized HttpHeader remove(String name) {
+        final int position = find(name, hash(name));
+        if (position < 0) {
+            return null;
+        }
+
+        // The index slot keeps pointing at the now empty entry, lookups probe past it.
+        final HttpHeader removed = entries[position];
+        entries[position] = null;
+        size--;
+        return removed;
     }
 
     /**
@@ -116,10 +164,6 @@ public class HttpHeaders implements Iterable<HttpHeader> {
         return header == null ? null : header.getValues();
     }
 
-    private String formatKey(final String key) {
-        return key.toLowerCase(Locale.ROOT);
-    }
-
     /**
      * Gets a {@link Map} representation of the HttpHeaders collection.
      *
@@ -127,7 +171,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      */
     public Map<String, String> toMap() {
         final Map<String, String> result = new HashMap<>();
-        for (final HttpHeader header : headers.values()) {
+        for (final HttpHeader header : this) {
             result.put(header.getName(), header.getValue());
         }
         return result;
@@ -138,7 +182,43 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      */
     @Override
     public Iterator<HttpHeader> iterator() {
-        return headers.values().iterator();
+        final HttpHeader[] snapshot;
+        final int snapshotCount;
+        synchronized (this) {
+            snapshot = entries;
+            snapshotCount = entryCount;
+        }
+
+        return new Iterator<HttpHeader>() {
+            private int position = 0;
+            private HttpHeader next;
+
+            @Override
+            public boolean hasNext() {
+                if (next != null) {
+                    return true;
+                }
+
+                // Entries are read under the lock, so headers put by other threads are fully visible.
+                synchronized (HttpHeaders.this) {
+                    while (next == null && position < snapshotCount) {
+                        next = snapshot[position++];
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public HttpHeader next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                final HttpHeader header = next;
+                next = null;
+                return header;
+            }
+        };
     }
 
     /**
@@ -147,7 +227,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return A {@link Stream} of all header values in this instance.
      */
     public Stream<HttpHeader> stream() {
-        return headers.values().stream();
+        return StreamSupport.stream(spliterator(), false);
     }
 
     @Override
@@ -156,4 +236,72 @@ public class HttpHeaders implements Iterable<HttpHeader> {
             .map(header -> header.getName() + "=" + header.getValue())
             .collect(Collectors.joining(", "));
     }
+
+    private int find(String name, int hash) {
+        if (slots == null) {
+            return -1;
+        }
+
+        final int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            final HttpHeader header = entries[slots[slot] - 1];
+            if (header != null && header.getName().equalsIgnoreCase(name)) {
+                return slots[slot] - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    private void index(int hash, int position) {
+        final int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position + 1;
+    }
+
+    private void allocate(int capacity) {
+        final int entriesLength = Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(capacity, 1) - 1) << 1);
+        entries = new HttpHeader[entriesLength];
+        // Keep the index at most half full so probe sequences stay short.
+        slots = new int[entriesLength * 2];
+        entryCount = 0;
+        size = 0;
+    }
+
+    private void rebuild(int capacity) {
+        final HttpHeader[] previous = entries;
+        final int previousCount = entryCount;
+        allocate(capacity);
+
+        for (int i = 0; i < previousCount; i++) {
+            final HttpHeader header = previous[i];
+            if (header != null) {
+                entries[entryCount] = header;
+                index(hash(header.getName()), entryCount);
+                entryCount++;
+                size++;
+            }
+        }
+    }
+
+    /*
+     * Hashes a header name consistently with String.equalsIgnoreCase, without creating a lower-cased copy.
+     */
+    private static int hash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (c >= 0x80) {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            hash = 31 * hash + c;
+        }
+
+        return hash ^ (hash >>> 16);
+    }
 }
@@ -84,6 +84,26 @@ public final class HttpPipeline {
         return this.send(new HttpPipelineCallContext(request, data));
     }
 
+    /**
+     * Wraps the request in a context with additional metadata and sends it through the pipeline synchronously, on the
+     * calling thread.
+     * <p>
+     * Policies which implement {@link HttpPipelinePolicy#processSync(HttpPipelineCallContext,
+     * HttpPipelineNextSyncPolicy)} and clients which implement {@link HttpClient#sendSync(HttpRequest)} run without
+     * building a reactive chain or crossing Reactor schedulers, which suits callers that block a thread per request
+     * such as synchronous clients on virtual threads. Other policies and clients run their asynchronous
+     * implementation and are waited for.
+     *
+     * @param request The HTTP request to send.
+     * @param data Additional metadata to pass along with the request.
+     * @return The response.
+     */
+    public HttpResponse sendSync(HttpRequest request, Context data) {
+        HttpPipelineNextSyncPolicy next = new HttpPipelineNextSyncPolicy(this,
+            new HttpPipelineCallContext(request, data));
+        return next.processSync();
+    }
+
     /**
      * Sends the context (containing an HTTP request) through pipeline.
      *
@@ -4,6 +4,8 @@
 package com.azure.core.http;
 
 import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.http.policy.MetricsPolicy;
+import com.azure.core.util.metrics.MeterProxy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,10 +55,18 @@ public class HttpPipelineBuilder {
      *
      * If HttpClient is not set then the {@link HttpClient#createDefault() default HttpClient} is used.
      *
+     * If a {@link com.azure.core.util.metrics.Meter} is plugged into the SDK and the policies don't include a
+     * {@link MetricsPolicy}, one is added at the start of the pipeline.
+     *
      * @return A HttpPipeline with the options set from the builder.
      */
     public HttpPipeline build() {
-        List<HttpPipelinePolicy> policies = (pipelinePolicies == null) ? new ArrayList<>() : pipelinePolicies;
+        List<HttpPipelinePolicy> policies = (pipelinePolicies == null)
+            ? new ArrayList<>()
+            : new ArrayList<>(pipelinePolicies);
+        if (MeterProxy.getInstance().isEnabled() && policies.stream().noneMatch(MetricsPolicy.class::isInstance)) {
+            policies.add(0, new MetricsPolicy());
+        }
         HttpClient client = (httpClient == null) ? HttpClient.createDefault() : httpClient;
 
         return new HttpPipeline(client, policies);
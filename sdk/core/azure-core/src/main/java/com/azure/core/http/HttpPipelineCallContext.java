@@ -85,4 +85,11 @@ public final class HttpPipelineCallContext {
         this.httpRequest = request;
         return this;
     }
+
+    /*
+     * Creates a context holding the given request and the data of this context.
+     */
+    HttpPipelineCallContext fork(HttpRequest request) {
+        return new HttpPipelineCallContext(request, data);
+    }
 }
@@ -5,6 +5,7 @@ package com.azure.core.http;
 
 import com.azure.core.http.policy.HttpPipelinePolicy;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * A type that invokes next policy in the pipeline.
@@ -12,6 +13,7 @@ import reactor.core.publisher.Mono;
 public class HttpPipelineNextPolicy {
     private final HttpPipeline pipeline;
     private final HttpPipelineCallContext context;
+    private final HttpPipelineNextSyncPolicy syncPolicy;
     private int currentPolicyIndex;
 
     /**
@@ -25,15 +27,39 @@ public class HttpPipelineNextPolicy {
     HttpPipelineNextPolicy(final HttpPipeline pipeline, HttpPipelineCallContext context) {
         this.pipeline = pipeline;
         this.context = context;
+        this.syncPolicy = null;
         this.currentPolicyIndex = -1;
     }
 
+    /**
+     * Package Private ctr.
+     *
+     * Creates HttpPipelineNextPolicy which invokes the next policies of a synchronous send, on the thread subscribing
+     * to the publisher it returns. A policy may subscribe on a Reactor non-blocking thread, for instance after a
+     * delay, where the next policies can't wait on their responses, so they are invoked on a bounded elastic thread
+     * instead.
+     *
+     * @param syncPolicy the synchronous next policy
+     */
+    HttpPipelineNextPolicy(HttpPipelineNextSyncPolicy syncPolicy) {
+        this.pipeline = null;
+        this.context = null;
+        this.syncPolicy = syncPolicy;
+    }
+
     /**
      * Invokes the next {@link HttpPipelinePolicy}.
      *
      * @return A publisher which upon subscription invokes next policy and emits response from the policy.
      */
     public Mono<HttpResponse> process() {
+        if (this.syncPolicy != null) {
+            final HttpPipelineNextSyncPolicy next = this.syncPolicy;
+            return Mono.defer(() -> Schedulers.isInNonBlockingThread()
+                ? Mono.fromCallable(next::processSync).subscribeOn(Schedulers.boundedElastic())
+                : Mono.fromCallable(next::processSync));
+        }
+
         final int size = this.pipeline.getPolicyCount();
         if (this.currentPolicyIndex > size) {
             return Mono.error(new IllegalStateException("There is no more policies to execute."));
@@ -54,8 +80,32 @@ public class HttpPipelineNextPolicy {
      */
     @Override
     public HttpPipelineNextPolicy clone() {
+        if (this.syncPolicy != null) {
+            return new HttpPipelineNextPolicy(this.syncPolicy.clone());
+        }
+
         HttpPipelineNextPolicy cloned = new HttpPipelineNextPolicy(this.pipeline, this.context);
         cloned.currentPolicyIndex = this.currentPolicyIndex;
         return cloned;
     }
+
+    /**
+     * Creates a copy of this instance which invokes the next policies with a call context of its own, holding the
+     * given request and the data of this instance's context.
+     * <p>
+     * Policies read and replace the request of their call context, so a policy which sends concurrent attempts of a
+     * request, such as hedged requests, sends each of them with a fork.
+     *
+     * @param request The request of the forked call context.
+     * @return A copy of this instance with a call context of its own.
+     */
+    public HttpPipelineNextPolicy fork(HttpRequest request) {
+        if (this.syncPolicy != null) {
+            return new HttpPipelineNextPolicy(this.syncPolicy.fork(request));
+        }
+
+        HttpPipelineNextPolicy forked = new HttpPipelineNextPolicy(this.pipeline, this.context.fork(request));
+        forked.currentPolicyIndex = this.currentPolicyIndex;
+        return forked;
+    }
 }
@@ -0,0 +1,110 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http;
+
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
+
+import java.util.Map;
+
+/**
+ * A type that invokes next policy in the pipeline synchronously, on the calling thread.
+ *
+ * @see HttpPipeline#sendSync(HttpRequest, com.azure.core.util.Context)
+ */
+public class HttpPipelineNextSyncPolicy {
+    private final ClientLogger logger = new ClientLogger(HttpPipelineNextSyncPolicy.class);
+
+    private final HttpPipeline pipeline;
+    private final HttpPipelineCallContext context;
+    private int currentPolicyIndex;
+
+    /**
+     * Package Private ctr.
+     *
+     * Creates HttpPipelineNextSyncPolicy.
+     *
+     * @param pipeline the pipeline
+     * @param context the request-response context
+     */
+    HttpPipelineNextSyncPolicy(final HttpPipeline pipeline, HttpPipelineCallContext context) {
+        this.pipeline = pipeline;
+        this.context = context;
+        this.currentPolicyIndex = -1;
+    }
+
+    /**
+     * Invokes the next {@link HttpPipelinePolicy} synchronously, or sends the request with
+     * {@link HttpClient#sendSync(HttpRequest)} after the last policy.
+     *
+     * @return The response from the policy.
+     * @throws IllegalStateException If all policies were already invoked.
+     */
+    public HttpResponse processSync() {
+        final int size = this.pipeline.getPolicyCount();
+        if (this.currentPolicyIndex > size) {
+            throw logger.logExceptionAsError(new IllegalStateException("There is no more policies to execute."));
+        }
+
+        this.currentPolicyIndex++;
+        if (this.currentPolicyIndex == size) {
+            return sendSync();
+        } else {
+            return this.pipeline.getPolicy(this.currentPolicyIndex).processSync(this.context, this);
+        }
+    }
+
+    /*
+     * Sends the request with the HTTP client, which finds the meter of a MetricsPolicy on the calling thread as it
+     * would in the Reactor context of an asynchronous send.
+     */
+    @SuppressWarnings("unchecked")
+    private HttpResponse sendSync() {
+        HttpClient httpClient = this.pipeline.getHttpClient();
+        HttpRequest request = this.context.getHttpRequest();
+        Meter meter = (Meter) this.context.getData(MeterProxy.METER_CONTEXT_KEY).orElse(null);
+        if (meter == null) {
+            return httpClient.sendSync(request);
+        }
+
+        Map<String, String> tags = (Map<String, String>) this.context.getData(MeterProxy.TAGS_CONTEXT_KEY)
+            .orElse(null);
+        return MeterProxy.callWithContext(meter, tags, () -> httpClient.sendSync(request));
+    }
+
+    /**
+     * Creates a {@link HttpPipelineNextPolicy} invoking the next policies of this instance. Its publishers invoke them
+     * synchronously on the subscribing thread, or on a bounded elastic thread when subscribed on a Reactor
+     * non-blocking thread, so a policy without a synchronous implementation can run its asynchronous one within a
+     * synchronous send.
+     *
+     * @return An asynchronous view of this next pipeline policy.
+     */
+    public HttpPipelineNextPolicy toAsync() {
+        return new HttpPipelineNextPolicy(this);
+    }
+
+    /**
+     * Creates a new instance of this instance.
+     *
+     * @return A new instance of this next pipeline policy.
+     */
+    @Override
+    public HttpPipelineNextSyncPolicy clone() {
+        HttpPipelineNextSyncPolicy cloned = new HttpPipelineNextSyncPolicy(this.pipeline, this.context);
+        cloned.currentPolicyIndex = this.currentPolicyIndex;
+        return cloned;
+    }
+
+    /*
+     * Creates a copy of this instance with a call context of its own, see HttpPipelineNextPolicy.fork.
+     */
+    HttpPipelineNextSyncPolicy fork(HttpRequest request) {
+        HttpPipelineNextSyncPolicy forked = new HttpPipelineNextSyncPolicy(this.pipeline, this.context.fork(request));
+        forked.currentPolicyIndex = this.currentPolicyIndex;
+        return forked;
+    }
+}
@@ -188,6 +188,18 @@ public class HttpRequest {
         return setBody(Flux.defer(() -> Flux.just(ByteBuffer.wrap(content))));
     }
 
+    /**
+     * Set the request content to a range of a file, which HTTP clients may send straight from the file.
+     * The Content-Length header will be set based on the length of the range.
+     *
+     * @param content the request content
+     * @return this HttpRequest
+     */
+    public HttpRequest setBody(FileContent content) {
+        headers.put("Content-Length", String.valueOf(content.getLength()));
+        return setBody((Flux<ByteBuffer>) content);
+    }
+
     /**
      * Set request content.
      *
@@ -0,0 +1,294 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.exception.HttpRequestException;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A pipeline policy that retries when a recoverable HTTP error occurs, within the {@link RetryBudget} of its {@link
+ * AdaptiveRetryStrategy}, and rejects requests to hosts whose circuit breaker is open. When hedging is enabled on the
+ * strategy, GET requests which are slower than usual are sent a second time and the first response is used.
+ *
+ * <p>A request is retried if its strategy would retry it, the budget holds a token and the circuit breaker of the host
+ * is closed. Otherwise the last response, or error, is returned as is.</p>
+ *
+ * <p>{@link com.azure.core.http.HttpPipelineBuilder} doesn't add a retry policy of its own, the policy is passed to
+ * {@link com.azure.core.http.HttpPipelineBuilder#policies(HttpPipelinePolicy...)} in place of {@link RetryPolicy}.</p>
+ */
+public class AdaptiveRetryPolicy implements HttpPipelinePolicy {
+    private final ClientLogger logger = new ClientLogger(AdaptiveRetryPolicy.class);
+
+    private final AdaptiveRetryStrategy retryStrategy;
+
+    /**
+     * Creates {@link AdaptiveRetryPolicy} with a default {@link AdaptiveRetryStrategy}.
+     */
+    public AdaptiveRetryPolicy() {
+        this(new AdaptiveRetryStrategy());
+    }
+
+    /**
+     * Creates {@link AdaptiveRetryPolicy} with the provided {@link AdaptiveRetryStrategy}. Pipelines sharing the
+     * strategy share its retry budget and circuit breakers.
+     *
+     * @param retryStrategy The {@link AdaptiveRetryStrategy} used for retries.
+     * @throws NullPointerException When {@code retryStrategy} is {@code null}.
+     */
+    public AdaptiveRetryPolicy(AdaptiveRetryStrategy retryStrategy) {
+        this.retryStrategy = Objects.requireNonNull(retryStrategy, "'retryStrategy' cannot be null.");
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        retryStrategy.getRetryBudget().deposit();
+        return attemptAsync(context, next, context.getHttpRequest(), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retries are sent after sleeping on the calling thread. A hedged GET runs both of its attempts on bounded elastic
+     * threads, and the calling thread waits for the first response.
+     */
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        retryStrategy.getRetryBudget().deposit();
+        final HttpRequest originalHttpRequest = context.getHttpRequest();
+        final CircuitBreaker circuitBreaker = acquireCircuitBreaker(originalHttpRequest);
+
+        int tryCount = 0;
+        while (true) {
+            final HttpResponse httpResponse;
+            try {
+                httpResponse = sendSync(context, next, originalHttpRequest, circuitBreaker);
+            } catch (RuntimeException err) {
+                if (tryCount < retryStrategy.getMaxRetries() && canRetry(circuitBreaker)) {
+                    logger.verbose("[Error Resume] Try count: {}, Error: {}", tryCount, err);
+                    RetryPolicy.sleepBeforeRetry(context, retryStrategy.calculateRetryDelay(tryCount), logger);
+                    tryCount++;
+                    continue;
+                }
+                throw logger.logExceptionAsError(err);
+            }
+
+            if (tryCount < retryStrategy.getMaxRetries() && retryStrategy.shouldRetry(httpResponse)
+                && canRetry(circuitBreaker)) {
+                Duration delayDuration = retryStrategy.calculateRetryDelay(tryCount);
+                logger.verbose("[Retrying] Try count: {}, Delay duration in seconds: {}", tryCount,
+                    delayDuration.getSeconds());
+                // Nothing else reads the response which is retried, its connection is released.
+                httpResponse.close();
+                RetryPolicy.sleepBeforeRetry(context, delayDuration, logger);
+                tryCount++;
+                continue;
+            }
+            return httpResponse;
+        }
+    }
+
+    private Mono<HttpResponse> attemptAsync(final HttpPipelineCallContext context, final HttpPipelineNextPolicy next,
+                                            final HttpRequest originalHttpRequest, final int tryCount) {
+        return Mono.defer(() -> {
+            final CircuitBreaker circuitBreaker = (tryCount == 0)
+                ? acquireCircuitBreaker(originalHttpRequest)
+                : retryStrategy.getCircuitBreaker(originalHttpRequest.getUrl().getHost());
+
+            return sendAsync(context, next, originalHttpRequest, circuitBreaker)
+                .materialize()
+                .flatMap(signal -> onAttempted(context, next, originalHttpRequest, tryCount, circuitBreaker, signal));
+        });
+    }
+
+    private Mono<HttpResponse> onAttempted(HttpPipelineCallContext context, HttpPipelineNextPolicy next,
+        HttpRequest originalHttpRequest, int tryCount, CircuitBreaker circuitBreaker, Signal<HttpResponse> signal) {
+        if (signal.isOnNext()) {
+            HttpResponse httpResponse = signal.get();
+            if (tryCount < retryStrategy.getMaxRetries() && retryStrategy.shouldRetry(httpResponse)
+                && canRetry(circuitBreaker)) {
+                Duration delayDuration = retryStrategy.calculateRetryDelay(tryCount);
+                logger.verbose("[Retrying] Try count: {}, Delay duration in seconds: {}", tryCount,
+                    delayDuration.getSeconds());
+                RetryPolicy.recordRetry(context, delayDuration);
+                return attemptAsync(context, next, originalHttpRequest, tryCount + 1)
+                    .delaySubscription(delayDuration);
+            }
+            return Mono.just(httpResponse);
+        } else if (signal.isOnError()) {
+            Throwable err = signal.getThrowable();
+            if (tryCount < retryStrategy.getMaxRetries() && canRetry(circuitBreaker)) {
+                logger.verbose("[Error Resume] Try count: {}, Error: {}", tryCount, err);
+                Duration delayDuration = retryStrategy.calculateRetryDelay(tryCount);
+                RetryPolicy.recordRetry(context, delayDuration);
+                return attemptAsync(context, next, originalHttpRequest, tryCount + 1)
+                    .delaySubscription(delayDuration);
+            }
+            return Mono.error(err);
+        } else {
+            return Mono.empty();
+        }
+    }
+
+    /*
+     * Gets the circuit breaker of the host of a request, or null if there is none.
+     *
+     * @throws HttpRequestException If the circuit breaker is open.
+     */
+    private CircuitBreaker acquireCircuitBreaker(HttpRequest originalHttpRequest) {
+        final String host = originalHttpRequest.getUrl().getHost();
+        final CircuitBreaker circuitBreaker = retryStrategy.getCircuitBreaker(host);
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+            throw logger.logExceptionAsError(new HttpRequestException(String.format(
+                "The circuit breaker of host %s is open after consecutive failures.", host), originalHttpRequest));
+        }
+        return circuitBreaker;
+    }
+
+    /*
+     * Sends the request, and a hedged copy of GET requests which haven't received a response after the hedging delay
+     * of the host.
+     */
+    private Mono<HttpResponse> sendAsync(HttpPipelineCallContext context, HttpPipelineNextPolicy next,
+        HttpRequest originalHttpRequest, CircuitBreaker circuitBreaker) {
+        LatencyTracker latencyTracker = retryStrategy.getLatencyTracker(originalHttpRequest.getUrl().getHost());
+
+        context.setHttpRequest(originalHttpRequest.copy());
+        Mono<HttpResponse> primary = recordOutcome(next.clone().process(), circuitBreaker, latencyTracker);
+        Duration hedgingDelay = getHedgingDelay(originalHttpRequest, latencyTracker);
+        return (hedgingDelay == null)
+            ? primary
+            : hedge(primary, next, originalHttpRequest, circuitBreaker, latencyTracker, hedgingDelay,
+                Schedulers.parallel());
+    }
+
+    /*
+     * Sends the request synchronously. A GET request which may be hedged is sent as in sendAsync, with both attempts on
+     * bounded elastic threads where they can block, since the calling thread can only wait for one of them.
+     */
+    private HttpResponse sendSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next,
+        HttpRequest originalHttpRequest, CircuitBreaker circuitBreaker) {
+        LatencyTracker latencyTracker = retryStrategy.getLatencyTracker(originalHttpRequest.getUrl().getHost());
+
+        context.setHttpRequest(originalHttpRequest.copy());
+        Duration hedgingDelay = getHedgingDelay(originalHttpRequest, latencyTracker);
+        if (hedgingDelay == null) {
+            long start = System.nanoTime();
+            final HttpResponse httpResponse;
+            try {
+                httpResponse = next.clone().processSync();
+            } catch (RuntimeException err) {
+                onFailure(circuitBreaker);
+                throw logger.logExceptionAsError(err);
+            }
+            onResponse(httpResponse, start, circuitBreaker, latencyTracker);
+            return httpResponse;
+        }
+
+        HttpPipelineNextPolicy asyncNext = next.toAsync();
+        Mono<HttpResponse> primary = recordOutcome(
+            asyncNext.clone().process().subscribeOn(Schedulers.boundedElastic()), circuitBreaker, latencyTracker);
+        return hedge(primary, asyncNext, originalHttpRequest, circuitBreaker, latencyTracker, hedgingDelay,
+            Schedulers.boundedElastic()).block();
+    }
+
+    /*
+     * Gets the delay after which a request is hedged, or null if it isn't hedged.
+     */
+    private Duration getHedgingDelay(HttpRequest originalHttpRequest, LatencyTracker latencyTracker) {
+        if (latencyTracker == null || originalHttpRequest.getHttpMethod() != HttpMethod.GET) {
+            return null;
+        }
+        return retryStrategy.getHedgingDelay(latencyTracker);
+    }
+
+    /*
+     * Races the primary attempt with a hedged attempt sent after the hedging delay, which is waited for on the given
+     * scheduler.
+     */
+    private Mono<HttpResponse> hedge(Mono<HttpResponse> primary, HttpPipelineNextPolicy next,
+        HttpRequest originalHttpRequest, CircuitBreaker circuitBreaker, LatencyTracker latencyTracker,
+        Duration hedgingDelay, Scheduler scheduler) {
+        // The hedged attempt has its own call context, so it doesn't replace the request of the primary attempt. If the
+        // budget refuses it, or it fails, the primary attempt decides the outcome.
+        AtomicBoolean finished = new AtomicBoolean();
+        Mono<HttpResponse> hedged = Mono.delay(hedgingDelay, scheduler)
+            .filter(ignored -> retryStrategy.getRetryBudget().tryWithdraw())
+            .flatMap(ignored -> {
+                logger.verbose("[Hedging] Request to {} after {} ms", originalHttpRequest.getUrl().getHost(),
+                    hedgingDelay.toMillis());
+                return recordOutcome(next.fork(originalHttpRequest.copy()).process(), circuitBreaker,
+                    latencyTracker);
+            })
+            .onErrorResume(err -> Mono.never())
+            .switchIfEmpty(Mono.never());
+
+        return Mono.first(raceable(primary, finished), raceable(hedged, finished));
+    }
+
+    /*
+     * Lets only the attempt which finishes first reach Mono.first. The other attempt never completes, and its response,
+     * which Mono.first would drop without releasing its connection, is closed.
+     */
+    private static Mono<HttpResponse> raceable(Mono<HttpResponse> attempt, AtomicBoolean finished) {
+        return attempt
+            .<HttpResponse>handle((httpResponse, sink) -> {
+                if (finished.compareAndSet(false, true)) {
+                    sink.next(httpResponse);
+                } else {
+                    httpResponse.close();
+                }
+            })
+            .onErrorResume(err -> finished.compareAndSet(false, true) ? Mono.error(err) : Mono.never())
+            .switchIfEmpty(Mono.defer(() -> finished.compareAndSet(false, true) ? Mono.empty() : Mono.never()));
+    }
+
+    private Mono<HttpResponse> recordOutcome(Mono<HttpResponse> attempt, CircuitBreaker circuitBreaker,
+        LatencyTracker latencyTracker) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt
+                .doOnNext(httpResponse -> onResponse(httpResponse, start, circuitBreaker, latencyTracker))
+                .doOnError(err -> onFailure(circuitBreaker));
+        });
+    }
+
+    private void onResponse(HttpResponse httpResponse, long start, CircuitBreaker circuitBreaker,
+        LatencyTracker latencyTracker) {
+        if (retryStrategy.shouldRetry(httpResponse)) {
+            onFailure(circuitBreaker);
+            return;
+        }
+        if (circuitBreaker != null) {
+            circuitBreaker.onSuccess();
+        }
+        if (latencyTracker != null) {
+            latencyTracker.record(System.nanoTime() - start);
+        }
+    }
+
+    private static void onFailure(CircuitBreaker circuitBreaker) {
+        if (circuitBreaker != null) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private boolean canRetry(CircuitBreaker circuitBreaker) {
+        return (circuitBreaker == null || circuitBreaker.getState() == CircuitBreaker.State.CLOSED)
+            && retryStrategy.getRetryBudget().tryWithdraw();
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link RetryStrategy} for {@link AdaptiveRetryPolicy}, which adapts retries to the health of the service rather
+ * than retrying each request independently.
+ *
+ * <p>Retries are spent from a {@link RetryBudget} shared by the requests of the strategy, so during an outage they add
+ * a bounded ratio to the load instead of multiplying it. A circuit breaker per host rejects requests once the host
+ * fails a number of consecutive attempts, until it had time to recover, after which a single request probes it.
+ * Optionally GET requests are hedged: when a host hasn't responded after a percentile of its recent latencies, a second
+ * attempt is sent and the first response is used.</p>
+ *
+ * <p>The number of retries, their delays and the responses which are retried are those of the strategy it wraps,
+ * {@link ExponentialBackoff} by default. The strategy holds the state of the budget, circuit breakers and latencies,
+ * so a client shares one instance between its pipelines. With a {@link RetryPolicy} it retries as the strategy it
+ * wraps does.</p>
+ */
+public class AdaptiveRetryStrategy implements RetryStrategy {
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final ClientLogger logger = new ClientLogger(AdaptiveRetryStrategy.class);
+
+    private final RetryStrategy retryStrategy;
+    private final RetryBudget retryBudget;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+    private volatile int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private volatile Duration openDuration = DEFAULT_OPEN_DURATION;
+    private volatile double hedgingPercentile;
+    private volatile Duration minHedgingDelay;
+
+    /**
+     * Creates a strategy retrying with {@link ExponentialBackoff}, within a default {@link RetryBudget}. The circuit
+     * breakers open after 5 consecutive failures for 30 seconds, and requests aren't hedged.
+     */
+    public AdaptiveRetryStrategy() {
+        this(new ExponentialBackoff(), new RetryBudget());
+    }
+
+    /**
+     * Creates a strategy retrying with the given strategy, within the given budget. The circuit breakers open after 5
+     * consecutive failures for 30 seconds, and requests aren't hedged.
+     *
+     * @param retryStrategy The strategy deciding the number of retries, their delays and the responses retried.
+     * @param retryBudget The budget of the retries and hedged attempts.
+     * @throws NullPointerException If {@code retryStrategy} or {@code retryBudget} is null.
+     */
+    public AdaptiveRetryStrategy(RetryStrategy retryStrategy, RetryBudget retryBudget) {
+        this.retryStrategy = Objects.requireNonNull(retryStrategy, "'retryStrategy' cannot be null.");
+        this.retryBudget = Objects.requireNonNull(retryBudget, "'retryBudget' cannot be null.");
+    }
+
+    /**
+     * Sets when the circuit breaker of a host opens and how long it stays open.
+     *
+     * @param failureThreshold The number of consecutive failed attempts which opens the circuit breaker of a host,
+     * 0 disables the circuit breakers. An attempt fails when it errors or its response would be retried.
+     * @param openDuration How long the circuit breaker rejects requests before letting a trial request through.
+     * @return The updated AdaptiveRetryStrategy object.
+     * @throws NullPointerException If {@code openDuration} is null.
+     * @throws IllegalArgumentException If {@code failureThreshold} or {@code openDuration} is negative.
+     */
+    public AdaptiveRetryStrategy setCircuitBreaker(int failureThreshold, Duration openDuration) {
+        Objects.requireNonNull(openDuration, "'openDuration' cannot be null.");
+        if (failureThreshold < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'failureThreshold' cannot be negative."));
+        }
+        if (openDuration.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'openDuration' cannot be negative."));
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        circuitBreakers.clear();
+        return this;
+    }
+
+    /**
+     * Enables hedging of GET requests. A GET request which hasn't received a response after the given percentile of the
+     * latencies of the latest successful requests to the host, or the minimum delay if it's longer, is sent again if
+     * the {@link RetryBudget} allows it. The first response is used and the other attempt is cancelled. Requests are
+     * hedged once enough latencies of the host were recorded.
+     *
+     * @param latencyPercentile The percentile of the latencies after which a request is hedged, between 0 and 1
+     * exclusive, such as 0.95.
+     * @param minDelay The minimum delay after which a request is hedged.
+     * @return The updated AdaptiveRetryStrategy object.
+     * @throws NullPointerException If {@code minDelay} is null.
+     * @throws IllegalArgumentException If {@code latencyPercentile} isn't between 0 and 1 exclusive or {@code
+     * minDelay} is negative.
+     */
+    public AdaptiveRetryStrategy setHedging(double latencyPercentile, Duration minDelay) {
+        Objects.requireNonNull(minDelay, "'minDelay' cannot be null.");
+        if (!(latencyPercentile > 0 && latencyPercentile < 1)) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'latencyPercentile' must be between 0 and 1 exclusive."));
+        }
+        if (minDelay.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'minDelay' cannot be negative."));
+        }
+
+        this.hedgingPercentile = latencyPercentile;
+        this.minHedgingDelay = minDelay;
+        latencyTrackers.clear();
+        return this;
+    }
+
+    /**
+     * @return The budget of the retries and hedged attempts.
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    @Override
+    public int getMaxRetries() {
+        return retryStrategy.getMaxRetries();
+    }
+
+    @Override
+    public Duration calculateRetryDelay(int retryAttempts) {
+        return retryStrategy.calculateRetryDelay(retryAttempts);
+    }
+
+    @Override
+    public boolean shouldRetry(HttpResponse httpResponse) {
+        return retryStrategy.shouldRetry(httpResponse);
+    }
+
+    /*
+     * The circuit breaker of the host, or null if circuit breakers are disabled.
+     */
+    CircuitBreaker getCircuitBreaker(String host) {
+        int threshold = failureThreshold;
+        if (threshold == 0) {
+            return null;
+        }
+
+        Duration duration = openDuration;
+        return circuitBreakers.computeIfAbsent(host, ignored -> new CircuitBreaker(threshold, duration));
+    }
+
+    /*
+     * The latencies of the host, or null if hedging is disabled.
+     */
+    LatencyTracker getLatencyTracker(String host) {
+        double percentile = hedgingPercentile;
+        if (percentile == 0) {
+            return null;
+        }
+
+        return latencyTrackers.computeIfAbsent(host, ignored -> new LatencyTracker(percentile));
+    }
+
+    /*
+     * The delay after which a request to the host is hedged, or null if it isn't hedged yet.
+     */
+    Duration getHedgingDelay(LatencyTracker latencyTracker) {
+        long percentileNanos = latencyTracker.getPercentileNanos();
+        if (percentileNanos < 0) {
+            return null;
+        }
+
+        Duration delay = Duration.ofNanos(percentileNanos);
+        return (delay.compareTo(minHedgingDelay) < 0) ? minHedgingDelay : delay;
+    }
+}
@@ -5,6 +5,7 @@ package com.azure.core.http.policy;
 
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import reactor.core.publisher.Mono;
 
@@ -29,4 +30,10 @@ public class AddDatePolicy implements HttpPipelinePolicy {
             return next.process();
         });
     }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        context.getHttpRequest().getHeaders().put("Date", format.format(OffsetDateTime.now()));
+        return next.processSync();
+    }
 }
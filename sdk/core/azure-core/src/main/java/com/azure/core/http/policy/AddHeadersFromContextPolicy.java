@@ -7,6 +7,7 @@ import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.util.Context;
 import com.azure.core.http.HttpRequest;
@@ -44,6 +45,17 @@ public class AddHeadersFromContextPolicy implements HttpPipelinePolicy {
 
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        addHeadersFromContext(context);
+        return next.process();
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        addHeadersFromContext(context);
+        return next.processSync();
+    }
+
+    private static void addHeadersFromContext(HttpPipelineCallContext context) {
         context.getData(AZURE_REQUEST_HTTP_HEADERS_KEY).ifPresent(headers -> {
             if (headers instanceof HttpHeaders) {
                 HttpHeaders customHttpHeaders = (HttpHeaders) headers;
@@ -55,7 +67,5 @@ public class AddHeadersFromContextPolicy implements HttpPipelinePolicy {
                 }
             }
         });
-        return next.process();
-
     }
 }
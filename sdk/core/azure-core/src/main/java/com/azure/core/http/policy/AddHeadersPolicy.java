@@ -7,6 +7,7 @@ import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import reactor.core.publisher.Mono;
 
@@ -32,4 +33,12 @@ public class AddHeadersPolicy implements HttpPipelinePolicy {
         }
         return next.process();
     }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        for (HttpHeader header : headers) {
+            context.getHttpRequest().setHeader(header.getName(), header.getValue());
+        }
+        return next.processSync();
+    }
 }
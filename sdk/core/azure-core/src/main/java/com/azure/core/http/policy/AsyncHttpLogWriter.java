@@ -0,0 +1,78 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Formats and writes the log messages of asynchronous {@link HttpLoggingPolicy HttpLoggingPolicies} on a daemon
+ * thread, so request threads only capture what is logged.
+ *
+ * <p>Pending messages are held in a bounded queue. When it's full new messages are dropped rather than blocking the
+ * request thread, and the number dropped is logged before the next message which is written.</p>
+ */
+final class AsyncHttpLogWriter {
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final AsyncHttpLogWriter INSTANCE = new AsyncHttpLogWriter(QUEUE_CAPACITY);
+
+    private final ClientLogger logger = new ClientLogger(AsyncHttpLogWriter.class);
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong dropped = new AtomicLong();
+
+    AsyncHttpLogWriter(int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), AsyncHttpLogWriter::newThread,
+            (task, executor) -> dropped.incrementAndGet());
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "azure-http-logging");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    static AsyncHttpLogWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /*
+     * Queues the task which formats and writes a log message, or drops it if the queue is full.
+     */
+    void write(Runnable task) {
+        executor.execute(() -> {
+            long droppedCount = dropped.getAndSet(0);
+            if (droppedCount > 0) {
+                logger.warning("{} HTTP log message(s) were dropped because logging fell behind.", droppedCount);
+            }
+
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warning("Failed to write an HTTP log message.", e);
+            }
+        });
+    }
+
+    /*
+     * Waits until the messages queued so far are written. Returns false if that didn't happen within the timeout.
+     */
+    boolean flush(Duration timeout) throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        try {
+            executor.execute(written::countDown);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        return written.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
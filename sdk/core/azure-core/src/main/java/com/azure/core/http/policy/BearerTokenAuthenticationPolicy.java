@@ -3,27 +3,36 @@
 
 package com.azure.core.http.policy;
 
-import com.azure.core.credential.SimpleTokenCache;
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.RefreshingTokenCache;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.metrics.Meter;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
  * The pipeline policy that applies a token credential to an HTTP request
  * with "Bearer" scheme.
+ *
+ * <p>Tokens are cached in a {@link RefreshingTokenCache}, which refreshes them in the background before they expire,
+ * so requests only wait on the credential for the first token or when a token was allowed to expire.</p>
  */
 public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER = "Bearer";
 
+    private final ClientLogger logger = new ClientLogger(BearerTokenAuthenticationPolicy.class);
     private final TokenCredential credential;
     private final String[] scopes;
-    private final SimpleTokenCache cache;
+    private final RefreshingTokenCache cache;
 
     /**
      * Creates BearerTokenAuthenticationPolicy.
@@ -32,12 +41,27 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
      * @param scopes the scopes of authentication the credential should get token for
      */
     public BearerTokenAuthenticationPolicy(TokenCredential credential, String... scopes) {
+        this(credential, RefreshingTokenCache.DEFAULT_REFRESH_OFFSET, RefreshingTokenCache.DEFAULT_REFRESH_JITTER,
+            scopes);
+    }
+
+    /**
+     * Creates BearerTokenAuthenticationPolicy which refreshes tokens at a custom time before they expire.
+     *
+     * @param credential the token credential to authenticate the request
+     * @param refreshOffset how long before the token expires it's refreshed in the background
+     * @param refreshJitter the upper bound of a random time the refresh is moved ahead by
+     * @param scopes the scopes of authentication the credential should get token for
+     */
+    public BearerTokenAuthenticationPolicy(TokenCredential credential, Duration refreshOffset,
+                                           Duration refreshJitter, String... scopes) {
         Objects.requireNonNull(credential);
         Objects.requireNonNull(scopes);
         assert scopes.length > 0;
         this.credential = credential;
         this.scopes = scopes;
-        this.cache = new SimpleTokenCache(() -> credential.getToken(new TokenRequestContext().addScopes(scopes)));
+        this.cache = new RefreshingTokenCache(() -> credential.getToken(new TokenRequestContext().addScopes(scopes)),
+            refreshOffset, refreshJitter);
     }
 
     @Override
@@ -45,10 +69,25 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
         if ("http".equals(context.getHttpRequest().getUrl().getProtocol())) {
             return Mono.error(new RuntimeException("token credentials require a URL using the HTTPS protocol scheme"));
         }
-        return cache.getToken()
+        return MetricsPolicy.time(context, Meter.AUTH_TOKEN_DURATION, cache.getToken())
             .flatMap(token -> {
                 context.getHttpRequest().getHeaders().put(AUTHORIZATION_HEADER, BEARER + " " + token.getToken());
                 return next.process();
             });
     }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        if ("http".equals(context.getHttpRequest().getUrl().getProtocol())) {
+            throw logger.logExceptionAsError(
+                new RuntimeException("token credentials require a URL using the HTTPS protocol scheme"));
+        }
+        AccessToken token = MetricsPolicy.timeSync(context, Meter.AUTH_TOKEN_DURATION, cache::getTokenSync);
+        if (token == null) {
+            // Like the asynchronous path, which completes empty when the credential returns no token.
+            return null;
+        }
+        context.getHttpRequest().getHeaders().put(AUTHORIZATION_HEADER, BEARER + " " + token.getToken());
+        return next.processSync();
+    }
 }
@@ -0,0 +1,124 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The start of a request or response body, captured for logging while the body is sent or read.
+ *
+ * <p>At most a fixed number of bytes are kept, later bytes are only counted. A body is emitted by one subscriber at a
+ * time, so the capture isn't synchronized; it's published to the logging thread when the body ends.</p>
+ */
+final class CapturedBody {
+    private final int capacity;
+    private final Charset charset;
+    private byte[] bytes;
+    private int captured;
+    private long length;
+
+    private String text;
+    private int decoded;
+
+    /*
+     * Creates a capture of at most maxBytes, or of the declared length of the body if it's smaller, of a body encoded
+     * with the given charset.
+     */
+    CapturedBody(int maxBytes, long contentLength, Charset charset) {
+        this.capacity = (contentLength > 0) ? (int) Math.min(maxBytes, contentLength) : maxBytes;
+        this.charset = charset;
+    }
+
+    /*
+     * Gets the charset declared in a Content-Type, or UTF-8 if none is declared or the declared one isn't supported.
+     */
+    static Charset getCharset(String contentType) {
+        if (contentType == null) {
+            return StandardCharsets.UTF_8;
+        }
+
+        String[] parts = contentType.split(";");
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(parameter.substring(8).replace("\"", "").trim());
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+
+        return StandardCharsets.UTF_8;
+    }
+
+    void capture(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        if (bytes == null && remaining > 0) {
+            bytes = new byte[capacity];
+        }
+
+        int count = Math.min(remaining, capacity - captured);
+        if (count > 0) {
+            ByteBuffer source = buffer.duplicate();
+            source.get(bytes, captured, count);
+            captured += count;
+        }
+        length += remaining;
+    }
+
+    /*
+     * The number of bytes the body had, including the bytes which weren't captured.
+     */
+    long getLength() {
+        return length;
+    }
+
+    /*
+     * The number of bytes the text was decoded from, which excludes the bytes of a character cut off by truncation.
+     */
+    int getCapturedLength() {
+        getText();
+        return decoded;
+    }
+
+    boolean isTruncated() {
+        return length > captured;
+    }
+
+    /*
+     * Decodes the capture once the body ended. A truncated capture ends on the last whole character, rather than with a
+     * replacement character for the bytes of a character it cut off.
+     */
+    String getText() {
+        if (text != null) {
+            return text;
+        }
+        if (bytes == null) {
+            text = "";
+            return text;
+        }
+
+        CharsetDecoder decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer input = ByteBuffer.wrap(bytes, 0, captured);
+        CharBuffer output = CharBuffer.allocate((int) Math.ceil(captured * (double) decoder.maxCharsPerByte()) + 1);
+        boolean endOfInput = !isTruncated();
+        decoder.decode(input, output, endOfInput);
+        if (endOfInput) {
+            decoder.flush(output);
+        }
+
+        decoded = input.position();
+        output.flip();
+        text = output.toString();
+        return text;
+    }
+}
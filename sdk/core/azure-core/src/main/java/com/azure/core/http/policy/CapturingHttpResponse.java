@@ -0,0 +1,88 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.FluxUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * HTTP response which captures the start of its body for logging while the body is read, instead of buffering it.
+ *
+ * <p>The first time the body is read it's captured, and the capture is handed to a callback when the body completes,
+ * fails or is cancelled.</p>
+ */
+final class CapturingHttpResponse extends HttpResponse {
+    private final HttpResponse innerHttpResponse;
+    private final int maxBodyLogSize;
+    private final long contentLength;
+    private final Consumer<CapturedBody> onBodyEnd;
+    private final AtomicBoolean captured = new AtomicBoolean();
+
+    CapturingHttpResponse(HttpResponse innerHttpResponse, int maxBodyLogSize, long contentLength,
+        Consumer<CapturedBody> onBodyEnd) {
+        super(innerHttpResponse.getRequest());
+        this.innerHttpResponse = innerHttpResponse;
+        this.maxBodyLogSize = maxBodyLogSize;
+        this.contentLength = contentLength;
+        this.onBodyEnd = onBodyEnd;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return innerHttpResponse.getStatusCode();
+    }
+
+    @Override
+    public String getHeaderValue(String name) {
+        return innerHttpResponse.getHeaderValue(name);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return innerHttpResponse.getHeaders();
+    }
+
+    @Override
+    public Flux<ByteBuffer> getBody() {
+        return Flux.defer(() -> {
+            if (!captured.compareAndSet(false, true)) {
+                return innerHttpResponse.getBody();
+            }
+
+            CapturedBody body = new CapturedBody(maxBodyLogSize, contentLength,
+                CapturedBody.getCharset(getHeaderValue("Content-Type")));
+            return innerHttpResponse.getBody()
+                .doOnNext(body::capture)
+                .doFinally(ignored -> onBodyEnd.accept(body));
+        });
+    }
+
+    @Override
+    public Mono<byte[]> getBodyAsByteArray() {
+        return FluxUtil.collectBytesInByteBufferStream(getBody());
+    }
+
+    @Override
+    public Mono<String> getBodyAsString() {
+        return getBodyAsString(CapturedBody.getCharset(getHeaderValue("Content-Type")));
+    }
+
+    @Override
+    public Mono<String> getBodyAsString(Charset charset) {
+        return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
+    }
+
+    @Override
+    public void close() {
+        innerHttpResponse.close();
+    }
+}
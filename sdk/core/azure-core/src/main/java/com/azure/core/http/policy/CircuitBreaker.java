@@ -0,0 +1,73 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import java.time.Duration;
+
+/**
+ * The circuit breaker of a host. It opens after a number of consecutive failed attempts, rejecting requests until the
+ * open duration has passed. Then it's half open and lets a single trial request through, which closes it if it
+ * succeeds and opens it again if it fails.
+ */
+final class CircuitBreaker {
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    // Guarded by this.
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long trialStartedAt;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /*
+     * Whether a request can be sent. A trial request whose outcome wasn't recorded, because it was cancelled, is
+     * replaced by another one after the open duration.
+     */
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialStartedAt = now;
+                return true;
+            default:
+                if (now - trialStartedAt < openNanos) {
+                    return false;
+                }
+                trialStartedAt = now;
+                return true;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
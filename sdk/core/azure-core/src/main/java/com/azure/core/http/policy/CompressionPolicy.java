@@ -0,0 +1,190 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * The pipeline policy that asks services for gzip or deflate encoded responses and decodes their bodies while they're
+ * read, and optionally gzip encodes large request bodies.
+ *
+ * <p>The Accept-Encoding header is only added to requests which don't have one, and only the responses of those
+ * requests are decoded: a caller setting its own Accept-Encoding header gets the response body as it was sent. Decoded
+ * responses don't have the Content-Encoding and Content-Length headers of the encoded body.</p>
+ *
+ * <p>Request bodies are only encoded when a compression threshold is set, for services which accept gzip encoded
+ * requests. A body is encoded when its Content-Length is at least the threshold and it isn't already encoded. Encoded
+ * bodies are sent without a Content-Length, so the policy must come before the policies signing the request.</p>
+ */
+public class CompressionPolicy implements HttpPipelinePolicy {
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final String ACCEPTED_ENCODINGS = GZIP + ", " + DEFLATE;
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final ClientLogger logger = new ClientLogger(CompressionPolicy.class);
+
+    private final long requestCompressionThreshold;
+
+    /**
+     * Creates a policy which decodes responses and doesn't encode requests.
+     */
+    public CompressionPolicy() {
+        this.requestCompressionThreshold = -1;
+    }
+
+    /**
+     * Creates a policy which decodes responses and gzip encodes the request bodies of at least the given size.
+     *
+     * @param requestCompressionThreshold The minimum Content-Length of an encoded request body.
+     * @throws IllegalArgumentException If {@code requestCompressionThreshold} is negative.
+     */
+    public CompressionPolicy(long requestCompressionThreshold) {
+        if (requestCompressionThreshold < 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'requestCompressionThreshold' cannot be negative."));
+        }
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        boolean decodeResponse = prepareRequest(context.getHttpRequest());
+        return decodeResponse ? next.process().map(this::decodeResponse) : next.process();
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        boolean decodeResponse = prepareRequest(context.getHttpRequest());
+        return decodeResponse ? decodeResponse(next.processSync()) : next.processSync();
+    }
+
+    /*
+     * Encodes the body of the request if it's large enough, and asks for an encoded response unless the request has
+     * its own Accept-Encoding. Returns whether the response is decoded.
+     */
+    private boolean prepareRequest(HttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        if (requestCompressionThreshold >= 0 && request.getBody() != null && headers.getValue(CONTENT_ENCODING) == null
+            && getContentLength(headers) >= requestCompressionThreshold) {
+            headers.remove(CONTENT_LENGTH);
+            headers.put(CONTENT_ENCODING, GZIP);
+            request.setBody(gzip(request.getBody()));
+        }
+
+        if (headers.getValue(ACCEPT_ENCODING) != null) {
+            return false;
+        }
+        headers.put(ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+        return true;
+    }
+
+    private HttpResponse decodeResponse(HttpResponse response) {
+        String contentEncoding = response.getHeaderValue(CONTENT_ENCODING);
+        if (contentEncoding == null) {
+            return response;
+        }
+
+        switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case GZIP:
+            case "x-gzip":
+                return new DecompressingHttpResponse(response, true);
+            case DEFLATE:
+                return new DecompressingHttpResponse(response, false);
+            default:
+                return response;
+        }
+    }
+
+    private static long getContentLength(HttpHeaders headers) {
+        String contentLength = headers.getValue(CONTENT_LENGTH);
+        if (contentLength == null) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException ignored) {
+            return -1;
+        }
+    }
+
+    /*
+     * Gzip encodes the body while it's read. Each read of the body encodes it with its own Deflater, which is released
+     * when the body completes, fails or is cancelled, so that retries resend the whole body.
+     */
+    private static Flux<ByteBuffer> gzip(Flux<ByteBuffer> body) {
+        return Flux.defer(() -> {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            CRC32 crc = new CRC32();
+            long[] size = new long[1];
+
+            // Header of a gzip member without optional fields, modification time or flags.
+            Mono<ByteBuffer> header = Mono.fromCallable(() ->
+                ByteBuffer.wrap(new byte[] {0x1F, (byte) 0x8B, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xFF}));
+
+            Flux<ByteBuffer> deflated = body.concatMapIterable(buffer -> {
+                byte[] input = new byte[buffer.remaining()];
+                buffer.duplicate().get(input);
+                crc.update(input);
+                size[0] += input.length;
+                deflater.setInput(input);
+                return deflate(deflater, false);
+            });
+
+            Flux<ByteBuffer> trailer = Flux.defer(() -> {
+                deflater.finish();
+                List<ByteBuffer> end = deflate(deflater, true);
+                ByteBuffer crcAndSize = ByteBuffer.allocate(8);
+                writeInt(crcAndSize, (int) crc.getValue());
+                writeInt(crcAndSize, (int) size[0]);
+                crcAndSize.flip();
+                end.add(crcAndSize);
+                return Flux.fromIterable(end);
+            });
+
+            return header.concatWith(deflated).concatWith(trailer).doFinally(ignored -> deflater.end());
+        });
+    }
+
+    /*
+     * Drains the output of the deflater, until it needs more input or, once it's finishing, until its stream ends.
+     */
+    private static List<ByteBuffer> deflate(Deflater deflater, boolean finishing) {
+        List<ByteBuffer> deflated = new ArrayList<>();
+        byte[] output = new byte[CHUNK_SIZE];
+        while (!deflater.finished()) {
+            int count = deflater.deflate(output);
+            if (count > 0) {
+                deflated.add(ByteBuffer.wrap(Arrays.copyOf(output, count)));
+            } else if (!finishing && deflater.needsInput()) {
+                break;
+            }
+        }
+        return deflated;
+    }
+
+    private static void writeInt(ByteBuffer buffer, int value) {
+        buffer.put((byte) value).put((byte) (value >>> 8)).put((byte) (value >>> 16)).put((byte) (value >>> 24));
+    }
+}
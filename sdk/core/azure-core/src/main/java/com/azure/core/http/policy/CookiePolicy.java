@@ -6,6 +6,7 @@ package com.azure.core.http.policy;
 import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.util.logging.ClientLogger;
 import reactor.core.Exceptions;
@@ -33,26 +34,11 @@ public class CookiePolicy implements HttpPipelinePolicy {
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
         try {
             final URI uri = context.getHttpRequest().getUrl().toURI();
-
-            Map<String, List<String>> cookieHeaders = new HashMap<>();
-            for (HttpHeader header : context.getHttpRequest().getHeaders()) {
-                cookieHeaders.put(header.getName(), Arrays.asList(context.getHttpRequest().getHeaders()
-                    .getValues(header.getName())));
-            }
-
-            Map<String, List<String>> requestCookies = cookies.get(uri, cookieHeaders);
-            for (Map.Entry<String, List<String>> entry : requestCookies.entrySet()) {
-                context.getHttpRequest().getHeaders().put(entry.getKey(), String.join(",", entry.getValue()));
-            }
+            addRequestCookies(uri, context);
 
             return next.process().map(httpResponse -> {
-                Map<String, List<String>> responseHeaders = new HashMap<>();
-                for (HttpHeader header : httpResponse.getHeaders()) {
-                    responseHeaders.put(header.getName(), Collections.singletonList(header.getValue()));
-                }
-
                 try {
-                    cookies.put(uri, responseHeaders);
+                    storeResponseCookies(uri, httpResponse);
                 } catch (IOException e) {
                     throw logger.logExceptionAsError(Exceptions.propagate(e));
                 }
@@ -62,4 +48,40 @@ public class CookiePolicy implements HttpPipelinePolicy {
             return Mono.error(e);
         }
     }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        try {
+            final URI uri = context.getHttpRequest().getUrl().toURI();
+            addRequestCookies(uri, context);
+
+            HttpResponse httpResponse = next.processSync();
+            storeResponseCookies(uri, httpResponse);
+            return httpResponse;
+        } catch (URISyntaxException | IOException e) {
+            throw logger.logExceptionAsError(Exceptions.propagate(e));
+        }
+    }
+
+    private void addRequestCookies(URI uri, HttpPipelineCallContext context) throws IOException {
+        Map<String, List<String>> cookieHeaders = new HashMap<>();
+        for (HttpHeader header : context.getHttpRequest().getHeaders()) {
+            cookieHeaders.put(header.getName(), Arrays.asList(context.getHttpRequest().getHeaders()
+                .getValues(header.getName())));
+        }
+
+        Map<String, List<String>> requestCookies = cookies.get(uri, cookieHeaders);
+        for (Map.Entry<String, List<String>> entry : requestCookies.entrySet()) {
+            context.getHttpRequest().getHeaders().put(entry.getKey(), String.join(",", entry.getValue()));
+        }
+    }
+
+    private void storeResponseCookies(URI uri, HttpResponse httpResponse) throws IOException {
+        Map<String, List<String>> responseHeaders = new HashMap<>();
+        for (HttpHeader header : httpResponse.getHeaders()) {
+            responseHeaders.put(header.getName(), Collections.singletonList(header.getValue()));
+        }
+
+        cookies.put(uri, responseHeaders);
+    }
 }
@@ -0,0 +1,302 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.FluxUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * HTTP response whose gzip or deflate encoded body is decoded while it's read, instead of buffering it.
+ *
+ * <p>Each read of the body decodes it with its own {@link Inflater}, which is released when the body completes, fails
+ * or is cancelled. The Content-Encoding and Content-Length headers, which describe the encoded body, are removed.</p>
+ */
+final class DecompressingHttpResponse extends HttpResponse {
+    private static final int OUTPUT_CHUNK_SIZE = 8 * 1024;
+
+    private final HttpResponse innerHttpResponse;
+    private final boolean gzip;
+    private final HttpHeaders headers;
+
+    DecompressingHttpResponse(HttpResponse innerHttpResponse, boolean gzip) {
+        super(innerHttpResponse.getRequest());
+        this.innerHttpResponse = innerHttpResponse;
+        this.gzip = gzip;
+        this.headers = new HttpHeaders(innerHttpResponse.getHeaders());
+        this.headers.remove("Content-Encoding");
+        this.headers.remove("Content-Length");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return innerHttpResponse.getStatusCode();
+    }
+
+    @Override
+    public String getHeaderValue(String name) {
+        return headers.getValue(name);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Flux<ByteBuffer> getBody() {
+        return Flux.defer(() -> {
+            Decoder decoder = new Decoder(gzip);
+            return innerHttpResponse.getBody()
+                .concatMapIterable(decoder::decode)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.finish())))
+                .doFinally(ignored -> decoder.end());
+        });
+    }
+
+    @Override
+    public Mono<byte[]> getBodyAsByteArray() {
+        return FluxUtil.collectBytesInByteBufferStream(getBody());
+    }
+
+    @Override
+    public Mono<String> getBodyAsString() {
+        return getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Mono<String> getBodyAsString(Charset charset) {
+        return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
+    }
+
+    @Override
+    public void close() {
+        innerHttpResponse.close();
+    }
+
+    /*
+     * Decodes a gzip or deflate stream a buffer at a time. Gzip headers are parsed a byte at a time, as they may span
+     * buffers, and the trailer is checked against the CRC and size of the decoded data. A deflate stream is zlib
+     * wrapped as HTTP requires, but raw deflate streams, which some servers send instead, are accepted too.
+     */
+    private static final class Decoder {
+        private static final int FHCRC = 0x02;
+        private static final int FEXTRA = 0x04;
+        private static final int FNAME = 0x08;
+        private static final int FCOMMENT = 0x10;
+
+        private final boolean gzip;
+        private final CRC32 crc = new CRC32();
+        private final byte[] pending = new byte[10];
+        private Inflater inflater;
+        private State state;
+        private int pendingCount;
+        private int flags;
+        private int skip;
+        private long decodedSize;
+        private boolean started;
+
+        Decoder(boolean gzip) {
+            this.gzip = gzip;
+            this.state = gzip ? State.HEADER : State.ZLIB_DETECT;
+        }
+
+        List<ByteBuffer> decode(ByteBuffer buffer) {
+            if (!buffer.hasRemaining()) {
+                return Collections.emptyList();
+            }
+            started = true;
+
+            byte[] input = new byte[buffer.remaining()];
+            buffer.duplicate().get(input);
+
+            List<ByteBuffer> decoded = new ArrayList<>();
+            int offset = 0;
+            while (offset < input.length) {
+                switch (state) {
+                    case HEADER:
+                    case EXTRA_LENGTH:
+                    case TRAILER:
+                    case ZLIB_DETECT:
+                        offset = fill(input, offset);
+                        break;
+                    case SKIP:
+                        int skipped = Math.min(skip, input.length - offset);
+                        skip -= skipped;
+                        offset += skipped;
+                        if (skip == 0) {
+                            nextHeaderField();
+                        }
+                        break;
+                    case ZERO_TERMINATED:
+                        if (input[offset++] == 0) {
+                            nextHeaderField();
+                        }
+                        break;
+                    case BODY:
+                        offset = inflate(input, offset, decoded);
+                        break;
+                    default:
+                        throw error("Unexpected data after the end of the compressed response body.");
+                }
+            }
+
+            return decoded;
+        }
+
+        List<ByteBuffer> finish() {
+            List<ByteBuffer> decoded = new ArrayList<>();
+            if (state == State.BODY && !inflater.finished()) {
+                // Without a wrapper the inflater may only see the end of the stream once given a byte past it.
+                inflate(new byte[1], 0, decoded);
+            }
+
+            if (started && state != State.DONE) {
+                throw error("Unexpected end of the compressed response body.");
+            }
+            return decoded;
+        }
+
+        void end() {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+
+        /*
+         * Fills the fixed size part being read: the gzip header, extra field length or trailer, or the start of a
+         * deflate stream.
+         */
+        private int fill(byte[] input, int offset) {
+            int size = (state == State.HEADER) ? 10 : ((state == State.TRAILER) ? 8 : 2);
+            int count = Math.min(size - pendingCount, input.length - offset);
+            System.arraycopy(input, offset, pending, pendingCount, count);
+            pendingCount += count;
+            if (pendingCount < size) {
+                return offset + count;
+            }
+            pendingCount = 0;
+
+            if (state == State.HEADER) {
+                if ((pending[0] & 0xFF) != 0x1F || (pending[1] & 0xFF) != 0x8B || pending[2] != 8) {
+                    throw error("The response body isn't in the gzip format.");
+                }
+                flags = pending[3] & 0xFF;
+                nextHeaderField();
+                return offset + count;
+            } else if (state == State.EXTRA_LENGTH) {
+                skip = (pending[0] & 0xFF) | ((pending[1] & 0xFF) << 8);
+                if (skip > 0) {
+                    state = State.SKIP;
+                } else {
+                    nextHeaderField();
+                }
+                return offset + count;
+            } else if (state == State.TRAILER) {
+                if (readInt(0) != (int) crc.getValue() || readInt(4) != (int) decodedSize) {
+                    throw error("The gzip trailer of the response body doesn't match its content.");
+                }
+                state = State.DONE;
+                return offset + count;
+            }
+
+            // A zlib header has the deflate method and a check making its first two bytes a multiple of 31.
+            int header = ((pending[0] & 0xFF) << 8) | (pending[1] & 0xFF);
+            inflater = new Inflater(!((pending[0] & 0x0F) == 8 && header % 31 == 0));
+            state = State.BODY;
+            inflater.setInput(pending, 0, 2);
+            return offset + count;
+        }
+
+        /*
+         * Moves to the next optional field of the gzip header which is present, or to the body.
+         */
+        private void nextHeaderField() {
+            if ((flags & FEXTRA) != 0) {
+                flags &= ~FEXTRA;
+                state = State.EXTRA_LENGTH;
+                return;
+            }
+            if ((flags & FNAME) != 0) {
+                flags &= ~FNAME;
+                state = State.ZERO_TERMINATED;
+                return;
+            }
+            if ((flags & FCOMMENT) != 0) {
+                flags &= ~FCOMMENT;
+                state = State.ZERO_TERMINATED;
+                return;
+            }
+            if ((flags & FHCRC) != 0) {
+                flags &= ~FHCRC;
+                skip = 2;
+                state = State.SKIP;
+                return;
+            }
+
+            inflater = new Inflater(true);
+            state = State.BODY;
+        }
+
+        private int inflate(byte[] input, int offset, List<ByteBuffer> decoded) {
+            if (inflater.needsInput()) {
+                inflater.setInput(input, offset, input.length - offset);
+                offset = input.length;
+            }
+
+            try {
+                while (!inflater.finished()) {
+                    byte[] output = new byte[OUTPUT_CHUNK_SIZE];
+                    int count = inflater.inflate(output);
+                    if (count > 0) {
+                        if (gzip) {
+                            crc.update(output, 0, count);
+                        }
+                        decodedSize += count;
+                        decoded.add(ByteBuffer.wrap(Arrays.copyOf(output, count)));
+                    } else if (!inflater.finished() && inflater.needsInput()) {
+                        return offset;
+                    } else if (inflater.needsDictionary()) {
+                        throw error("The deflate stream of the response body requires a preset dictionary.");
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw error("The response body isn't a valid deflate stream: " + e.getMessage());
+            }
+
+            // The bytes of the buffer after the end of the deflate stream are the gzip trailer.
+            int remaining = inflater.getRemaining();
+            state = gzip ? State.TRAILER : State.DONE;
+            return offset - remaining;
+        }
+
+        private int readInt(int index) {
+            return (pending[index] & 0xFF) | ((pending[index + 1] & 0xFF) << 8) | ((pending[index + 2] & 0xFF) << 16)
+                | ((pending[index + 3] & 0xFF) << 24);
+        }
+
+        private static UncheckedIOException error(String message) {
+            return new UncheckedIOException(new ZipException(message));
+        }
+    }
+
+    private enum State {
+        HEADER, EXTRA_LENGTH, SKIP, ZERO_TERMINATED, ZLIB_DETECT, BODY, TRAILER, DONE
+    }
+}
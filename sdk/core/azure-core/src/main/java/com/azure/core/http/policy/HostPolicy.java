@@ -5,6 +5,7 @@ package com.azure.core.http.policy;
 
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.util.UrlBuilder;
 
@@ -44,4 +45,18 @@ public class HostPolicy implements HttpPipelinePolicy {
         }
         return result;
     }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        logger.info("Setting host to {}", host);
+
+        final UrlBuilder urlBuilder = UrlBuilder.parse(context.getHttpRequest().getUrl());
+        try {
+            context.getHttpRequest().setUrl(urlBuilder.setHost(host).toUrl());
+        } catch (MalformedURLException e) {
+            throw logger.logExceptionAsError(new RuntimeException(String.format("Host URL '%s' is invalid.",
+                host), e));
+        }
+        return next.processSync();
+    }
 }
@@ -20,9 +20,13 @@ public class HttpLogOptions {
     private HttpLogDetailLevel logLevel;
     private Set<String> allowedHeaderNames;
     private Set<String> allowedQueryParamNames;
+    private double samplingRate;
+    private boolean asynchronous;
+    private int maxBodyLogSize;
     private final ClientLogger logger = new ClientLogger(HttpLogOptions.class);
 
     private static final int MAX_APPLICATION_ID_LENGTH = 24;
+    private static final int DEFAULT_MAX_BODY_LOG_SIZE = 16 * 1024;
     private static final List<String> DEFAULT_HEADERS_WHITELIST = Arrays.asList(
         "x-ms-client-request-id",
         "x-ms-return-client-request-id",
@@ -56,6 +60,9 @@ public class HttpLogOptions {
         allowedHeaderNames = new HashSet<>(DEFAULT_HEADERS_WHITELIST);
         allowedQueryParamNames = new HashSet<>();
         applicationId = null;
+        samplingRate = 1.0;
+        asynchronous = false;
+        maxBodyLogSize = DEFAULT_MAX_BODY_LOG_SIZE;
     }
 
     /**
@@ -183,4 +190,80 @@ public class HttpLogOptions {
         }
         return this;
     }
+
+    /**
+     * Gets the fraction of requests which are logged.
+     *
+     * @return The sampling rate, between 0 and 1.
+     */
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * Sets the fraction of requests which are logged, each request is logged with this probability.
+     *
+     * <p>The default sampling rate of 1 logs every request.</p>
+     *
+     * @param samplingRate The sampling rate, between 0 and 1.
+     * @return The updated HttpLogOptions object.
+     * @throws IllegalArgumentException If {@code samplingRate} isn't between 0 and 1.
+     */
+    public HttpLogOptions setSamplingRate(final double samplingRate) {
+        if (!(samplingRate >= 0 && samplingRate <= 1)) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'samplingRate' must be between 0 and 1."));
+        }
+        this.samplingRate = samplingRate;
+        return this;
+    }
+
+    /**
+     * Gets whether log messages are formatted and written on a background thread.
+     *
+     * @return Whether logging is asynchronous.
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Sets whether log messages are formatted and written on a background thread.
+     *
+     * <p>Asynchronous logging doesn't buffer response bodies. It captures at most {@link #getMaxBodyLogSize()} bytes
+     * of a body while it's read and logs the captured bytes when the body ends, so the bodies of large downloads are
+     * logged truncated rather than skipped. Response bodies are logged in a message of their own, which isn't written
+     * if the body isn't read. When the background thread falls behind, messages are dropped and the number dropped is
+     * logged as a warning.</p>
+     *
+     * @param asynchronous Whether logging is asynchronous.
+     * @return The updated HttpLogOptions object.
+     */
+    public HttpLogOptions setAsynchronous(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of bytes of a body captured by asynchronous logging.
+     *
+     * @return The maximum number of bytes logged per body.
+     */
+    public int getMaxBodyLogSize() {
+        return maxBodyLogSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of a body captured by asynchronous logging, 16 KB by default.
+     *
+     * @param maxBodyLogSize The maximum number of bytes logged per body.
+     * @return The updated HttpLogOptions object.
+     * @throws IllegalArgumentException If {@code maxBodyLogSize} is negative.
+     */
+    public HttpLogOptions setMaxBodyLogSize(final int maxBodyLogSize) {
+        if (maxBodyLogSize < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxBodyLogSize' cannot be negative."));
+        }
+        this.maxBodyLogSize = maxBodyLogSize;
+        return this;
+    }
 }
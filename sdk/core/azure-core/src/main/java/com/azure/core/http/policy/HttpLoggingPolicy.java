@@ -4,8 +4,10 @@
 package com.azure.core.http.policy;
 
 import com.azure.core.http.ContentType;
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
 import com.azure.core.http.HttpRequest;
@@ -16,19 +18,27 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.logging.LogLevel;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.ByteArrayOutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * The pipeline policy that handles logging of HTTP requests and responses.
+ *
+ * <p>Requests are logged with the probability set by {@link HttpLogOptions#setSamplingRate(double)}. With
+ * {@link HttpLogOptions#setAsynchronous(boolean) asynchronous} logging the request thread only captures what is
+ * logged, and the messages are formatted and written on a background thread.</p>
  */
 public class HttpLoggingPolicy implements HttpPipelinePolicy {
     private static final ObjectMapper PRETTY_PRINTER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
@@ -39,6 +49,10 @@ public class HttpLoggingPolicy implements HttpPipelinePolicy {
     private final Set<String> allowedHeaderNames;
     private final Set<String> allowedQueryParameterNames;
     private final boolean prettyPrintJson;
+    private final double samplingRate;
+    private final boolean asynchronous;
+    private final int maxBodyLogSize;
+    private final AsyncHttpLogWriter writer = AsyncHttpLogWriter.getInstance();
 
     /**
      * Creates an HttpLoggingPolicy with the given log configurations.
@@ -63,6 +77,9 @@ public class HttpLoggingPolicy implements HttpPipelinePolicy {
             this.httpLogDetailLevel = HttpLogDetailLevel.NONE;
             this.allowedHeaderNames = Collections.emptySet();
             this.allowedQueryParameterNames = Collections.emptySet();
+            this.samplingRate = 1;
+            this.asynchronous = false;
+            this.maxBodyLogSize = MAX_BODY_LOG_SIZE;
         } else {
             this.httpLogDetailLevel = httpLogOptions.getLogLevel();
             this.allowedHeaderNames = httpLogOptions.getAllowedHeaderNames()
@@ -73,6 +90,9 @@ public class HttpLoggingPolicy implements HttpPipelinePolicy {
                 .stream()
                 .map(queryParamName -> queryParamName.toLowerCase(Locale.ROOT))
                 .collect(Collectors.toSet());
+            this.samplingRate = httpLogOptions.getSamplingRate();
+            this.asynchronous = httpLogOptions.isAsynchronous();
+            this.maxBodyLogSize = httpLogOptions.getMaxBodyLogSize();
         }
     }
 
@@ -83,7 +103,16 @@ public class HttpLoggingPolicy implements HttpPipelinePolicy {
             return next.process();
         }
 
+        // The request isn't sampled, skip logging.
+        if (samplingRate < 1 && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return next.process();
+        }
+
         final ClientLogger logger = new ClientLogger((String) context.getData("caller-method").orElse(""));
+        if (asynchronous) {
+            return processAsynchronously(logger, context, next);
+        }
+
         final long startNs = System.nanoTime();
 
         return logRequest(logger, context.getHttpRequest())
@@ -243,6 +272,213 @@ public class HttpLoggingPolicy implements HttpPipelinePolicy {
         }
     }
 
+    /*
+     * Captures what is logged of the request and response, and hands formatting and writing the log messages to the
+     * background writer.
+     */
+    private Mono<HttpResponse> processAsynchronously(ClientLogger logger, HttpPipelineCallContext context,
+        HttpPipelineNextPolicy next) {
+        if (!logger.canLogAtLevel(LogLevel.INFORMATIONAL)) {
+            return next.process();
+        }
+
+        final long startNs = System.nanoTime();
+        captureRequest(logger, context.getHttpRequest());
+        return next.process()
+            .map(response -> captureResponse(logger, response, startNs))
+            .doOnError(throwable -> writer.write(() -> logger.warning("<-- HTTP FAILED: ", throwable)));
+    }
+
+    /*
+     * Writes the request log message, once its body was sent if the body is logged.
+     *
+     * @param logger Logger used to log the request.
+     * @param request HTTP request being sent to Azure.
+     */
+    private void captureRequest(ClientLogger logger, HttpRequest request) {
+        final HttpMethod method = request.getHttpMethod();
+        final URL url = request.getUrl();
+        final HttpHeaders headers = snapshotHeaders(request.getHeaders());
+        final Flux<ByteBuffer> body = request.getBody();
+
+        if (!httpLogDetailLevel.shouldLogBody()) {
+            writer.write(() -> logger.info(formatRequest(logger, method, url, headers).toString()));
+            return;
+        }
+
+        if (body == null) {
+            writer.write(() -> logger.info(formatRequest(logger, method, url, headers)
+                .append("(empty body)")
+                .append(System.lineSeparator())
+                .append("--> END ")
+                .append(method)
+                .append(System.lineSeparator())
+                .toString()));
+            return;
+        }
+
+        String contentType = headers.getValue("Content-Type");
+        long contentLength = getContentLength(logger, headers);
+
+        // Logging a file's content would stop HTTP clients sending it from the file.
+        if (body instanceof FileContent || !shouldCapturedBodyBeLogged(contentType, contentLength)) {
+            writer.write(() -> logger.info(formatRequest(logger, method, url, headers)
+                .append(contentLength)
+                .append("-byte body: (content not logged)")
+                .append(System.lineSeparator())
+                .append("--> END ")
+                .append(method)
+                .append(System.lineSeparator())
+                .toString()));
+            return;
+        }
+
+        // Only the first subscription is captured, retries send the body again.
+        AtomicBoolean capturing = new AtomicBoolean();
+        request.setBody(Flux.defer(() -> {
+            if (!capturing.compareAndSet(false, true)) {
+                return body;
+            }
+
+            CapturedBody capturedBody = new CapturedBody(maxBodyLogSize, contentLength,
+                CapturedBody.getCharset(contentType));
+            return body.doOnNext(capturedBody::capture)
+                .doFinally(ignored -> writer.write(() -> logger.info(formatRequest(logger, method, url, headers)
+                    .append(formatCapturedBody(logger, contentType, capturedBody))
+                    .append(System.lineSeparator())
+                    .append("--> END ")
+                    .append(method)
+                    .append(System.lineSeparator())
+                    .toString())));
+        }));
+    }
+
+    /*
+     * Copies headers which are logged, as they're formatted later on the logging thread and policies may change them
+     * in the meantime.
+     */
+    private HttpHeaders snapshotHeaders(HttpHeaders headers) {
+        return httpLogDetailLevel.shouldLogHeaders() ? new HttpHeaders(headers) : headers;
+    }
+
+    private StringBuilder formatRequest(ClientLogger logger, HttpMethod method, URL url, HttpHeaders headers) {
+        StringBuilder requestLogMessage = new StringBuilder();
+        if (httpLogDetailLevel.shouldLogUrl()) {
+            requestLogMessage.append("--> ")
+                .append(method)
+                .append(" ")
+                .append(getRedactedUrl(url))
+                .append(System.lineSeparator());
+        }
+
+        addHeadersToLogMessage(logger, headers, requestLogMessage);
+        return requestLogMessage;
+    }
+
+    /*
+     * Writes the response log message, and returns a response which writes the body log message once the body was
+     * read if the body is logged.
+     *
+     * @param logger Logger used to log the response.
+     * @param response HTTP response returned from Azure.
+     * @param startNs Nanosecond representation of when the request was sent.
+     * @return The HTTP response to return.
+     */
+    private HttpResponse captureResponse(ClientLogger logger, HttpResponse response, long startNs) {
+        final long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+        final int statusCode = response.getStatusCode();
+        final URL url = response.getRequest().getUrl();
+        final HttpHeaders headers = snapshotHeaders(response.getHeaders());
+
+        if (!httpLogDetailLevel.shouldLogBody()) {
+            writer.write(() -> logger.info(formatResponse(logger, statusCode, url, tookMs, headers)
+                .append("<-- END HTTP")
+                .toString()));
+            return response;
+        }
+
+        String contentType = headers.getValue("Content-Type");
+        long contentLength = getContentLength(logger, headers);
+        if (!shouldCapturedBodyBeLogged(contentType, contentLength)) {
+            writer.write(() -> logger.info(formatResponse(logger, statusCode, url, tookMs, headers)
+                .append("(body content not logged)")
+                .append(System.lineSeparator())
+                .append("<-- END HTTP")
+                .toString()));
+            return response;
+        }
+
+        writer.write(() -> logger.info(formatResponse(logger, statusCode, url, tookMs, headers)
+            .append("(body logged when read)")
+            .append(System.lineSeparator())
+            .append("<-- END HTTP")
+            .toString()));
+        return new CapturingHttpResponse(response, maxBodyLogSize, contentLength,
+            capturedBody -> writer.write(() -> {
+                StringBuilder bodyLogMessage = new StringBuilder("<-- BODY ")
+                    .append(statusCode)
+                    .append(" ");
+                if (httpLogDetailLevel.shouldLogUrl()) {
+                    bodyLogMessage.append(getRedactedUrl(url));
+                }
+
+                logger.info(bodyLogMessage.append(System.lineSeparator())
+                    .append("Response ")
+                    .append(formatCapturedBody(logger, contentType, capturedBody))
+                    .append(System.lineSeparator())
+                    .append("<-- END HTTP")
+                    .toString());
+            }));
+    }
+
+    private StringBuilder formatResponse(ClientLogger logger, int statusCode, URL url, long tookMs,
+        HttpHeaders headers) {
+        String contentLengthString = headers.getValue("Content-Length");
+        String bodySize = (CoreUtils.isNullOrEmpty(contentLengthString))
+            ? "unknown-length body"
+            : contentLengthString + "-byte body";
+
+        StringBuilder responseLogMessage = new StringBuilder();
+        if (httpLogDetailLevel.shouldLogUrl()) {
+            responseLogMessage.append("<-- ")
+                .append(statusCode)
+                .append(" ")
+                .append(getRedactedUrl(url))
+                .append(" (")
+                .append(tookMs)
+                .append(" ms, ")
+                .append(bodySize)
+                .append(")")
+                .append(System.lineSeparator());
+        }
+
+        addHeadersToLogMessage(logger, headers, responseLogMessage);
+        return responseLogMessage;
+    }
+
+    /*
+     * Formats a captured body, noting how much of it was captured if it was truncated. Truncated bodies aren't pretty
+     * printed as they aren't valid JSON.
+     */
+    private String formatCapturedBody(ClientLogger logger, String contentType, CapturedBody capturedBody) {
+        StringBuilder sb = new StringBuilder()
+            .append(capturedBody.getLength())
+            .append("-byte body");
+        if (capturedBody.isTruncated()) {
+            return sb.append(" (first ")
+                .append(capturedBody.getCapturedLength())
+                .append(" bytes logged):")
+                .append(System.lineSeparator())
+                .append(capturedBody.getText())
+                .toString();
+        }
+
+        return sb.append(":")
+            .append(System.lineSeparator())
+            .append(prettyPrintIfNeeded(logger, contentType, capturedBody.getText()))
+            .toString();
+    }
+
     private <T> Mono<T> logAndReturn(ClientLogger logger, StringBuilder logMessageBuilder, T data) {
         logger.info(logMessageBuilder.toString());
         return Mono.justOrEmpty(data);
@@ -368,6 +604,21 @@ public class HttpLoggingPolicy implements HttpPipelinePolicy {
         return contentLength;
     }
 
+    /*
+     * Determines if the request or response body should be captured for asynchronous logging.
+     *
+     * <p>Unlike synchronous logging, bodies of any size are logged, truncated to the maximum body log size.</p>
+     *
+     * @param contentTypeHeader Content-Type header value.
+     * @param contentLength Content-Length header represented as a numeric.
+     * @return A flag indicating if the request or response body should be logged.
+     */
+    private boolean shouldCapturedBodyBeLogged(String contentTypeHeader, long contentLength) {
+        return !ContentType.APPLICATION_OCTET_STREAM.equalsIgnoreCase(contentTypeHeader)
+            && contentLength != 0
+            && maxBodyLogSize > 0;
+    }
+
     /*
      * Determines if the request or response body should be logged.
      *
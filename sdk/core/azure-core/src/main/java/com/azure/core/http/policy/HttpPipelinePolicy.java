@@ -6,6 +6,7 @@ package com.azure.core.http.policy;
 import com.azure.core.http.HttpPipeline;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import reactor.core.publisher.Mono;
 
@@ -24,4 +25,21 @@ public interface HttpPipelinePolicy {
      * @return A publisher that initiates the request upon subscription and emits a response on completion.
      */
     Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next);
+
+    /**
+     * Process provided request context and invokes the next policy synchronously, on the calling thread.
+     * <p>
+     * The default implementation runs {@link #process(HttpPipelineCallContext, HttpPipelineNextPolicy)} and waits for
+     * its response. The next policies are invoked synchronously when the publisher is subscribed, on the subscribing
+     * thread unless the policy moved to a Reactor non-blocking thread, as it does when it delays, in which case they
+     * run on a bounded elastic thread. Policies override this method to avoid assembling their reactive chain and
+     * switching threads.
+     *
+     * @param context request context
+     * @param next The next policy to invoke.
+     * @return The response.
+     */
+    default HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        return process(context, next.toAsync()).block();
+    }
 }
@@ -0,0 +1,49 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the latencies of the latest successful attempts to a host, to compute the delay after which a request is
+ * hedged. The percentile is recomputed from the samples every few records rather than on every request.
+ */
+final class LatencyTracker {
+    private static final int SAMPLES = 128;
+    private static final int MIN_SAMPLES = 16;
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final double percentile;
+
+    // Guarded by this.
+    private final long[] samples = new long[SAMPLES];
+    private int count;
+    private int next;
+    private int recordsSinceComputed;
+    private long percentileNanos = -1;
+
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % SAMPLES;
+        count = Math.min(count + 1, SAMPLES);
+
+        if (count >= MIN_SAMPLES && (percentileNanos < 0 || ++recordsSinceComputed >= RECOMPUTE_INTERVAL)) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+            recordsSinceComputed = 0;
+        }
+    }
+
+    /*
+     * The latency percentile in nanoseconds, or -1 until enough attempts were recorded.
+     */
+    synchronized long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
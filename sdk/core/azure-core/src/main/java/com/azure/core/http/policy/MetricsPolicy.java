@@ -0,0 +1,166 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The pipeline policy that reports the duration, number in progress and body sizes of HTTP operations to a
+ * {@link Meter}, tagged with the service and client method of the operation.
+ *
+ * <p>The policy makes the meter and tags available to the policies and HTTP client after it, which report the retries,
+ * time spent waiting for tokens and the duration of each try. {@link com.azure.core.http.HttpPipelineBuilder} adds
+ * the policy at the start of the pipeline when a meter is plugged into the SDK.</p>
+ *
+ * @see MeterProxy
+ */
+public class MetricsPolicy implements HttpPipelinePolicy {
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String ERROR_STATUS = "error";
+
+    private final Meter meter;
+
+    /**
+     * Creates a MetricsPolicy which reports to the meters plugged into the SDK.
+     */
+    public MetricsPolicy() {
+        this(MeterProxy.getInstance());
+    }
+
+    /**
+     * Creates a MetricsPolicy which reports to the given meter.
+     *
+     * @param meter the meter to report to.
+     * @throws NullPointerException If {@code meter} is null.
+     */
+    public MetricsPolicy(Meter meter) {
+        this.meter = Objects.requireNonNull(meter, "'meter' cannot be null.");
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        Map<String, String> tags = createTags(context);
+        context.setData(MeterProxy.METER_CONTEXT_KEY, meter);
+        context.setData(MeterProxy.TAGS_CONTEXT_KEY, tags);
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            meter.addUpDownCounter(Meter.HTTP_REQUESTS_ACTIVE, 1, tags);
+            long requestBytes = getContentLength(context.getHttpRequest().getHeaders());
+            if (requestBytes >= 0) {
+                meter.recordValue(Meter.HTTP_REQUEST_BYTES, requestBytes, tags);
+            }
+
+            return next.process()
+                .doOnSuccess(response -> {
+                    String status = response == null ? ERROR_STATUS : String.valueOf(response.getStatusCode());
+                    recordDuration(start, tags, status);
+                    long responseBytes = response == null ? -1 : getContentLength(response.getHeaders());
+                    if (responseBytes >= 0) {
+                        meter.recordValue(Meter.HTTP_RESPONSE_BYTES, responseBytes, tags);
+                    }
+                })
+                .doOnError(error -> recordDuration(start, tags, ERROR_STATUS))
+                .doFinally(ignored -> meter.addUpDownCounter(Meter.HTTP_REQUESTS_ACTIVE, -1, tags))
+                .subscriberContext(reactorContext -> reactorContext.put(MeterProxy.METER_CONTEXT_KEY, meter)
+                    .put(MeterProxy.TAGS_CONTEXT_KEY, tags));
+        });
+    }
+
+    private void recordDuration(long start, Map<String, String> tags, String status) {
+        Map<String, String> statusTags = new HashMap<>(tags);
+        statusTags.put(Meter.STATUS_TAG, status);
+        meter.recordDuration(Meter.HTTP_REQUEST_DURATION, Duration.ofNanos(System.nanoTime() - start), statusTags);
+    }
+
+    /*
+     * Gets the meter set by a MetricsPolicy earlier in the pipeline, or null if there is none.
+     */
+    static Meter getMeter(HttpPipelineCallContext context) {
+        return (Meter) context.getData(MeterProxy.METER_CONTEXT_KEY).orElse(null);
+    }
+
+    /*
+     * Gets the tags set by a MetricsPolicy earlier in the pipeline.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, String> getTags(HttpPipelineCallContext context) {
+        return (Map<String, String>) context.getData(MeterProxy.TAGS_CONTEXT_KEY).orElseGet(() -> createTags(context));
+    }
+
+    /*
+     * Times a Mono from subscription until it completes or fails, if a MetricsPolicy is earlier in the pipeline.
+     */
+    static <T> Mono<T> time(HttpPipelineCallContext context, String name, Mono<T> mono) {
+        Meter meter = getMeter(context);
+        if (meter == null) {
+            return mono;
+        }
+
+        Map<String, String> tags = getTags(context);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono.doOnEach(signal -> {
+                if (signal.isOnComplete() || signal.isOnError()) {
+                    meter.recordDuration(name, Duration.ofNanos(System.nanoTime() - start), tags);
+                }
+            });
+        });
+    }
+
+    /*
+     * Times a synchronous call until it returns or throws, if a MetricsPolicy is earlier in the pipeline.
+     */
+    static <T> T timeSync(HttpPipelineCallContext context, String name, Supplier<T> call) {
+        Meter meter = getMeter(context);
+        if (meter == null) {
+            return call.get();
+        }
+
+        Map<String, String> tags = getTags(context);
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            meter.recordDuration(name, Duration.ofNanos(System.nanoTime() - start), tags);
+        }
+    }
+
+    private static Map<String, String> createTags(HttpPipelineCallContext context) {
+        HttpRequest request = context.getHttpRequest();
+        Map<String, String> tags = new HashMap<>();
+        tags.put(Meter.SERVICE_TAG, context.getData(Meter.SERVICE_NAME_KEY).map(String::valueOf)
+            .orElseGet(() -> request.getUrl().getHost()));
+        tags.put(Meter.METHOD_TAG, context.getData(Meter.METHOD_NAME_KEY).map(String::valueOf)
+            .orElseGet(() -> request.getHttpMethod().toString()));
+        return Collections.unmodifiableMap(tags);
+    }
+
+    private static long getContentLength(HttpHeaders headers) {
+        String contentLength = headers.getValue(CONTENT_LENGTH);
+        if (contentLength == null) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException ignored) {
+            return -1;
+        }
+    }
+}
@@ -5,6 +5,7 @@ package com.azure.core.http.policy;
 
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.util.UrlBuilder;
@@ -47,4 +48,20 @@ public class PortPolicy implements HttpPipelinePolicy {
         }
         return next.process();
     }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        final UrlBuilder urlBuilder = UrlBuilder.parse(context.getHttpRequest().getUrl());
+        if (overwrite || urlBuilder.getPort() == null) {
+            logger.info("Changing port to {}", port);
+
+            try {
+                context.getHttpRequest().setUrl(urlBuilder.setPort(port).toUrl());
+            } catch (MalformedURLException e) {
+                throw logger.logExceptionAsError(new RuntimeException(
+                    String.format("Failed to set the HTTP request port to %d.", port), e));
+            }
+        }
+        return next.processSync();
+    }
 }
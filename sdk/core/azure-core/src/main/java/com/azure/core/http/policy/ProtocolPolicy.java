@@ -5,6 +5,7 @@ package com.azure.core.http.policy;
 
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.util.UrlBuilder;
 import com.azure.core.util.logging.ClientLogger;
@@ -46,4 +47,20 @@ public class ProtocolPolicy implements HttpPipelinePolicy {
         }
         return next.process();
     }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        final UrlBuilder urlBuilder = UrlBuilder.parse(context.getHttpRequest().getUrl());
+        if (overwrite || urlBuilder.getScheme() == null) {
+            logger.info("Setting protocol to {}", protocol);
+
+            try {
+                context.getHttpRequest().setUrl(urlBuilder.setScheme(protocol).toUrl());
+            } catch (MalformedURLException e) {
+                throw logger.logExceptionAsError(new RuntimeException(
+                    String.format("Failed to set the HTTP request protocol to %s.", protocol), e));
+            }
+        }
+        return next.processSync();
+    }
 }
@@ -5,6 +5,7 @@ package com.azure.core.http.policy;
 
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpHeader;
@@ -44,11 +45,21 @@ public class RequestIdPolicy implements HttpPipelinePolicy {
 
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        setRequestId(context);
+        return next.process();
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        setRequestId(context);
+        return next.processSync();
+    }
+
+    private void setRequestId(HttpPipelineCallContext context) {
         String requestId = context.getHttpRequest().getHeaders().getValue(requestIdHeaderName);
         if (requestId == null) {
             context.getHttpRequest().getHeaders().put(requestIdHeaderName, UUID.randomUUID().toString());
         }
-        return next.process();
     }
 }
 
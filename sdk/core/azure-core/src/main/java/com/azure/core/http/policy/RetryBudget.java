@@ -0,0 +1,87 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket which caps the retries of a client to a ratio of its requests.
+ *
+ * <p>Every request deposits {@code retryRatio} tokens in the bucket, up to its capacity, and every retry or hedged
+ * attempt withdraws a token. Attempts are refused while the bucket holds less than a token, so during an outage
+ * retries add at most the ratio to the load on the service, plus a burst of up to the capacity. The bucket starts full,
+ * so clients sending few requests can still retry them.</p>
+ */
+public final class RetryBudget {
+    private static final double DEFAULT_RETRY_RATIO = 0.1;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // Tokens are counted in thousandths so fractional deposits can be added atomically.
+    private static final long TOKEN = 1000;
+
+    private final ClientLogger logger = new ClientLogger(RetryBudget.class);
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * Creates a budget allowing retries of 10% of the requests, in bursts of up to 10 retries.
+     */
+    public RetryBudget() {
+        this(DEFAULT_RETRY_RATIO, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param retryRatio The number of retries allowed per request, between 0 and 1.
+     * @param capacity The maximum number of tokens the budget holds, which is the largest burst of retries it allows.
+     * @throws IllegalArgumentException If {@code retryRatio} isn't between 0 and 1 or {@code capacity} is negative.
+     */
+    public RetryBudget(double retryRatio, int capacity) {
+        if (!(retryRatio >= 0 && retryRatio <= 1)) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'retryRatio' must be between 0 and 1."));
+        }
+        if (capacity < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'capacity' cannot be negative."));
+        }
+
+        this.deposit = Math.round(retryRatio * TOKEN);
+        this.capacity = capacity * TOKEN;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Deposits the retry ratio in the budget for a request.
+     */
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, added) -> Math.min(capacity, current + added));
+    }
+
+    /**
+     * Withdraws a token from the budget for a retry.
+     *
+     * @return Whether the budget held a token, if not the retry isn't allowed.
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * @return The number of tokens in the budget.
+     */
+    public double getBalance() {
+        return (double) balance.get() / TOKEN;
+    }
+}
@@ -5,12 +5,15 @@ package com.azure.core.http.policy;
 
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.Objects;
 import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.metrics.Meter;
 import reactor.core.publisher.Mono;
 
 import static com.azure.core.util.CoreUtils.isNullOrEmpty;
@@ -102,6 +105,7 @@ public class RetryPolicy implements HttpPipelinePolicy {
                     final Duration delayDuration = determineDelayDuration(httpResponse, tryCount);
                     logger.verbose("[Retrying] Try count: {}, Delay duration in seconds: {}", tryCount,
                         delayDuration.getSeconds());
+                    recordRetry(context, delayDuration);
                     return attemptAsync(context, next, originalHttpRequest, tryCount + 1)
                         .delaySubscription(delayDuration);
                 } else {
@@ -112,8 +116,10 @@ public class RetryPolicy implements HttpPipelinePolicy {
                 int maxRetries = retryStrategy.getMaxRetries();
                 if (tryCount < maxRetries) {
                     logger.verbose("[Error Resume] Try count: {}, Error: {}", tryCount, err);
+                    final Duration delayDuration = retryStrategy.calculateRetryDelay(tryCount);
+                    recordRetry(context, delayDuration);
                     return attemptAsync(context, next, originalHttpRequest, tryCount + 1)
-                        .delaySubscription(retryStrategy.calculateRetryDelay(tryCount));
+                        .delaySubscription(delayDuration);
                 } else {
                     return Mono.error(new RuntimeException(
                         String.format("Max retries %d times exceeded. Error Details: %s", maxRetries, err.getMessage()),
@@ -122,6 +128,64 @@ public class RetryPolicy implements HttpPipelinePolicy {
             });
     }
 
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        final HttpRequest originalHttpRequest = context.getHttpRequest();
+        int tryCount = 0;
+        while (true) {
+            context.setHttpRequest(originalHttpRequest.copy());
+            final HttpResponse httpResponse;
+            try {
+                httpResponse = next.clone().processSync();
+            } catch (RuntimeException err) {
+                int maxRetries = retryStrategy.getMaxRetries();
+                if (tryCount >= maxRetries) {
+                    throw logger.logExceptionAsError(new RuntimeException(
+                        String.format("Max retries %d times exceeded. Error Details: %s", maxRetries, err.getMessage()),
+                        err));
+                }
+                logger.verbose("[Error Resume] Try count: {}, Error: {}", tryCount, err);
+                sleepBeforeRetry(context, retryStrategy.calculateRetryDelay(tryCount), logger);
+                tryCount++;
+                continue;
+            }
+
+            if (!shouldRetry(httpResponse, tryCount)) {
+                return httpResponse;
+            }
+            final Duration delayDuration = determineDelayDuration(httpResponse, tryCount);
+            logger.verbose("[Retrying] Try count: {}, Delay duration in seconds: {}", tryCount,
+                delayDuration.getSeconds());
+            sleepBeforeRetry(context, delayDuration, logger);
+            tryCount++;
+        }
+    }
+
+    /*
+     * Blocks the calling thread for the delay before a retry of a synchronous send.
+     */
+    static void sleepBeforeRetry(HttpPipelineCallContext context, Duration delayDuration, ClientLogger logger) {
+        recordRetry(context, delayDuration);
+        try {
+            Thread.sleep(delayDuration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw logger.logExceptionAsError(new RuntimeException("Interrupted while waiting to retry.", e));
+        }
+    }
+
+    /*
+     * Reports the retry and its delay if a MetricsPolicy is earlier in the pipeline.
+     */
+    static void recordRetry(HttpPipelineCallContext context, Duration delayDuration) {
+        Meter meter = MetricsPolicy.getMeter(context);
+        if (meter != null) {
+            Map<String, String> tags = MetricsPolicy.getTags(context);
+            meter.incrementCounter(Meter.HTTP_RETRIES, 1, tags);
+            meter.recordDuration(Meter.HTTP_RETRY_DELAY, delayDuration, tags);
+        }
+    }
+
     private boolean shouldRetry(HttpResponse response, int tryCount) {
         return tryCount < retryStrategy.getMaxRetries()
             && retryStrategy.shouldRetry(response);
@@ -80,6 +80,10 @@ public class PagedFlux<T> extends PagedFluxBase<T, PagedResponse<T>> {
         super(provider, ignored);
     }
 
+    private PagedFlux(Supplier<PageRetriever<String, PagedResponse<T>>> provider, int pagePrefetch) {
+        super(provider, pagePrefetch);
+    }
+
     /**
      * Creates an instance of {@link PagedFlux} backed by a Page Retriever Supplier (provider).
      * When invoked provider should return {@link PageRetriever}. The provider will be called for each
@@ -105,6 +109,19 @@ public class PagedFlux<T> extends PagedFluxBase<T, PagedResponse<T>> {
         return new PagedFlux<>(provider, true);
     }
 
+    /**
+     * Creates a PagedFlux of the same pages which retrieves up to {@code pagePrefetch} pages ahead of the Subscriber's
+     * requests, so the next pages are already in flight while the current one is processed. Pages are still retrieved
+     * one after another, as each needs the continuation token of the previous one.
+     *
+     * @param pagePrefetch The number of pages to retrieve ahead, 0 to retrieve pages only when requested.
+     * @return A PagedFlux retrieving pages ahead of the Subscriber.
+     * @throws IllegalArgumentException If {@code pagePrefetch} is negative.
+     */
+    public PagedFlux<T> prefetchPages(int pagePrefetch) {
+        return new PagedFlux<>(getPageRetrieverProvider(), pagePrefetch);
+    }
+
     /**
      * Maps this PagedFlux instance of T to a PagedFlux instance of type S as per the provided mapper
      * function.
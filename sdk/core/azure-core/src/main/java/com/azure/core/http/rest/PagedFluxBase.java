@@ -85,6 +85,18 @@ public class PagedFluxBase<T, P extends PagedResponse<T>> extends ContinuablePag
         super(provider);
     }
 
+    /**
+     * PACKAGE INTERNAL CONSTRUCTOR, exists only to support the PRIVATE PagedFlux.ctr(Supplier, int) use case.
+     *
+     * Create PagedFlux backed by Page Retriever Function Supplier, which retrieves pages ahead of the Subscriber.
+     *
+     * @param provider the Page Retrieval Provider
+     * @param pagePrefetch the number of pages to retrieve ahead of the Subscriber's requests
+     */
+    PagedFluxBase(Supplier<PageRetriever<String, P>> provider, int pagePrefetch) {
+        super(provider, null, pagePrefetch);
+    }
+
     /**
      * Creates a Flux of {@link PagedResponse} starting from the first page.
      *
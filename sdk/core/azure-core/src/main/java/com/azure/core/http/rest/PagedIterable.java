@@ -40,6 +40,19 @@ public class PagedIterable<T> extends PagedIterableBase<T, PagedResponse<T>> {
         this.pagedFlux = pagedFlux;
     }
 
+    /**
+     * Creates a PagedIterable of the same pages which retrieves up to {@code pagePrefetch} pages ahead of the
+     * iteration, so retrieving the next pages overlaps with processing the current one.
+     *
+     * @param pagePrefetch The number of pages to retrieve ahead, 0 to retrieve pages only when iterated.
+     * @return A PagedIterable retrieving pages ahead of the iteration.
+     * @throws IllegalArgumentException If {@code pagePrefetch} is negative.
+     * @see PagedFlux#prefetchPages(int)
+     */
+    public PagedIterable<T> prefetchPages(int pagePrefetch) {
+        return new PagedIterable<>(pagedFlux.prefetchPages(pagePrefetch));
+    }
+
     /**
      * Maps this PagedIterable instance of T to a PagedIterable instance of type S as per the provided mapper function.
      *
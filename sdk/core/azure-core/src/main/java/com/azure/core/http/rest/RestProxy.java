@@ -7,7 +7,7 @@ import com.azure.core.implementation.http.UnexpectedExceptionInformation;
 import com.azure.core.util.Base64Url;
 import com.azure.core.annotation.ResumeOperation;
 import com.azure.core.exception.HttpResponseException;
-import com.azure.core.http.HttpHeader;
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpPipeline;
 import com.azure.core.http.HttpRequest;
@@ -25,6 +25,8 @@ import com.azure.core.implementation.serializer.HttpResponseDecoder.HttpDecodedR
 import com.azure.core.util.serializer.SerializerAdapter;
 import com.azure.core.util.serializer.SerializerEncoding;
 import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
 import com.azure.core.util.tracing.TracerProxy;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.CoreUtils;
@@ -105,6 +107,18 @@ public final class RestProxy implements InvocationHandler {
         return httpPipeline.send(request, contextData);
     }
 
+    /*
+     * The result of a synchronous method is waited for on the calling thread, so the pipeline is run on that thread
+     * with HttpPipeline.sendSync when the returned Mono is blocked on, rather than through a reactive chain.
+     */
+    private Mono<HttpResponse> sendSync(HttpRequest request, Context contextData) {
+        return Mono.fromCallable(() -> httpPipeline.sendSync(request, contextData));
+    }
+
+    private static boolean isReactive(Type returnType) {
+        return TypeUtil.isTypeOrSubTypeOf(returnType, Mono.class) || TypeUtil.isTypeOrSubTypeOf(returnType, Flux.class);
+    }
+
     @Override
     public Object invoke(Object proxy, final Method method, Object[] args) {
         try {
@@ -132,12 +146,18 @@ public final class RestProxy implements InvocationHandler {
                 Context context =
                     methodParser.setContext(args).addData("caller-method", methodParser.getFullyQualifiedMethodName());
                 context = startTracingSpan(method, context);
+                if (MeterProxy.getInstance().isEnabled()) {
+                    context = context.addData(Meter.SERVICE_NAME_KEY, interfaceParser.getServiceName())
+                        .addData(Meter.METHOD_NAME_KEY, method.getName());
+                }
 
                 if (request.getBody() != null) {
                     request.setBody(validateLength(request));
                 }
 
-                final Mono<HttpResponse> asyncResponse = send(request, context);
+                final Mono<HttpResponse> asyncResponse = isReactive(methodParser.getReturnType())
+                    ? send(request, context)
+                    : sendSync(request, context);
 
                 Mono<HttpDecodedResponse> asyncDecodedResponse = this.decoder.decode(asyncResponse, methodParser);
 
@@ -155,6 +175,12 @@ public final class RestProxy implements InvocationHandler {
             return Flux.empty();
         }
 
+        // FileContent checks its own length, and wrapping it would stop HTTP clients sending it from the file.
+        if (bbFlux instanceof FileContent && String.valueOf(((FileContent) bbFlux).getLength())
+            .equals(request.getHeaders().getValue("Content-Length"))) {
+            return bbFlux;
+        }
+
         return Flux.defer(() -> {
             Long expectedLength = Long.valueOf(request.getHeaders().getValue("Content-Length"));
             final long[] currentTotalLength = new long[1];
@@ -196,6 +222,10 @@ public final class RestProxy implements InvocationHandler {
      * @return The updated context containing the span context.
      */
     private Context startTracingSpan(Method method, Context context) {
+        if (!TracerProxy.isTracingEnabled()) {
+            return context;
+        }
+
         String spanName = String.format("%s.%s", interfaceParser.getServiceName(), method.getName());
         context = TracerProxy.setSpanName(spanName, context);
         return TracerProxy.start(spanName, context);
@@ -216,17 +246,12 @@ public final class RestProxy implements InvocationHandler {
         // This definitely happens in paging scenarios. In that case, just use the full URL and
         // ignore the Host annotation.
         final String path = methodParser.setPath(args);
-        final UrlBuilder pathUrlBuilder = UrlBuilder.parse(path);
-        if (pathUrlBuilder.getScheme() != null) {
+        final UrlBuilder pathUrlBuilder = (path != null && path.contains("://")) ? UrlBuilder.parse(path) : null;
+        if (pathUrlBuilder != null && pathUrlBuilder.getScheme() != null) {
             urlBuilder = pathUrlBuilder;
         } else {
             urlBuilder = new UrlBuilder();
-
-            final String scheme = methodParser.setScheme(args);
-            urlBuilder.setScheme(scheme);
-
-            final String host = methodParser.setHost(args);
-            urlBuilder.setHost(host);
+            methodParser.setSchemeAndHost(args, urlBuilder);
 
             // Set the path after host, concatenating the path
             // segment in the host.
@@ -240,18 +265,14 @@ public final class RestProxy implements InvocationHandler {
             }
         }
 
-        for (final EncodedParameter queryParameter : methodParser.setEncodedQueryParameters(args)) {
-            urlBuilder.setQueryParameter(queryParameter.getName(), queryParameter.getEncodedValue());
-        }
+        methodParser.setEncodedQueryParameters(args, urlBuilder);
 
         final URL url = urlBuilder.toUrl();
         final HttpRequest request = configRequest(new HttpRequest(methodParser.getHttpMethod(), url),
             methodParser, args);
 
         // Headers from Swagger method arguments always take precedence over inferred headers from body types
-        for (final HttpHeader header : methodParser.setHeaders(args)) {
-            request.setHeader(header.getName(), header.getValue());
-        }
+        methodParser.setHeaders(args, request.getHeaders());
 
         return request;
     }
@@ -286,25 +307,21 @@ public final class RestProxy implements InvocationHandler {
             request.getHeaders().put("Content-Length", "0");
         } else {
             String contentType = methodParser.getBodyContentType();
+            final boolean isJson;
             if (contentType == null || contentType.isEmpty()) {
                 if (bodyContentObject instanceof byte[] || bodyContentObject instanceof String) {
                     contentType = ContentType.APPLICATION_OCTET_STREAM;
+                    isJson = false;
                 } else {
                     contentType = ContentType.APPLICATION_JSON;
+                    isJson = true;
                 }
+            } else {
+                isJson = methodParser.isJsonBodyContentType();
             }
 
             request.getHeaders().put("Content-Type", contentType);
 
-            boolean isJson = false;
-            final String[] contentTypeParts = contentType.split(";");
-            for (String contentTypePart : contentTypeParts) {
-                if (contentTypePart.trim().equalsIgnoreCase(ContentType.APPLICATION_JSON)) {
-                    isJson = true;
-                    break;
-                }
-            }
-
             if (isJson) {
                 final String bodyContentString = serializer.serialize(bodyContentObject, SerializerEncoding.JSON);
                 request.setBody(bodyContentString);
@@ -534,10 +551,12 @@ public final class RestProxy implements InvocationHandler {
      */
     private Object handleRestReturnType(Mono<HttpDecodedResponse> asyncHttpDecodedResponse,
                 final SwaggerMethodParser methodParser, final Type returnType, Context context) {
-        final Mono<HttpDecodedResponse> asyncExpectedResponse =
-            ensureExpectedStatus(asyncHttpDecodedResponse, methodParser)
+        Mono<HttpDecodedResponse> asyncExpectedResponse = ensureExpectedStatus(asyncHttpDecodedResponse, methodParser);
+        if (TracerProxy.isTracingEnabled()) {
+            asyncExpectedResponse = asyncExpectedResponse
                 .doOnEach(RestProxy::endTracingSpan)
                 .subscriberContext(reactor.util.context.Context.of("TRACING_CONTEXT", context));
+        }
 
         final Object result;
         if (TypeUtil.isTypeOrSubTypeOf(returnType, Mono.class)) {
@@ -0,0 +1,131 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A host or path template from a Swagger method, split once into literal text and the placeholders bound to
+ * {@link Substitution Substitutions}. Applying method arguments is then a single append pass over the pre-computed
+ * segments instead of a {@link String#replace(CharSequence, CharSequence)} per substitution.
+ */
+class SubstitutionTemplate {
+    private final String template;
+    // literals has one more entry than placeholders, literal[i] precedes placeholder[i].
+    private final String[] literals;
+    private final String[] placeholders;
+    private final Substitution[] substitutions;
+
+    /**
+     * Create a SubstitutionTemplate.
+     *
+     * @param template the template containing {name} placeholders.
+     * @param substitutions the substitutions declared by the Swagger method for this template.
+     */
+    SubstitutionTemplate(String template, List<Substitution> substitutions) {
+        this.template = template;
+
+        final List<String> literals = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+        final List<Substitution> boundSubstitutions = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (template != null && index < template.length()) {
+            final int open = template.indexOf('{', index);
+            final int close = (open < 0) ? -1 : template.indexOf('}', open + 1);
+            if (close < 0) {
+                literal.append(template, index, template.length());
+                break;
+            }
+
+            literal.append(template, index, open);
+            final String placeholder = template.substring(open, close + 1);
+            final Substitution substitution = findSubstitution(placeholder.substring(1, placeholder.length() - 1),
+                substitutions);
+            if (substitution == null) {
+                // Nothing will ever replace this placeholder, keep it as literal text.
+                literal.append(placeholder);
+            } else {
+                literals.add(literal.toString());
+                placeholders.add(placeholder);
+                boundSubstitutions.add(substitution);
+                literal = new StringBuilder();
+            }
+
+            index = close + 1;
+        }
+        literals.add(literal.toString());
+
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        this.substitutions = boundSubstitutions.toArray(new Substitution[0]);
+    }
+
+    /**
+     * Whether the template has no placeholders bound to a substitution, in which case {@link #apply} always returns
+     * the same value.
+     *
+     * @return true if the template is a constant.
+     */
+    boolean isConstant() {
+        return substitutions.length == 0;
+    }
+
+    /**
+     * Get the template this was created from.
+     *
+     * @return the raw template.
+     */
+    String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Replace the placeholders in the template with the matching method arguments.
+     *
+     * @param methodArguments the arguments passed to the Swagger method.
+     * @param serializer converts a method argument into its String representation.
+     * @param escaper the escaper applied to substitution values that should be encoded.
+     * @return the template with its placeholders replaced.
+     */
+    String apply(Object[] methodArguments, Function<Object, String> serializer, PercentEscaper escaper) {
+        if (methodArguments == null || substitutions.length == 0) {
+            return template;
+        }
+
+        final StringBuilder result = new StringBuilder(template.length() + 16 * substitutions.length);
+        for (int i = 0; i < substitutions.length; i++) {
+            result.append(literals[i]);
+
+            final Substitution substitution = substitutions[i];
+            final int parameterIndex = substitution.getMethodParameterIndex();
+            if (parameterIndex < 0 || parameterIndex >= methodArguments.length) {
+                result.append(placeholders[i]);
+                continue;
+            }
+
+            // if a parameter is null, we treat it as empty string. This is
+            // assuming no {...} will be allowed otherwise in a path template
+            final String value = serializer.apply(methodArguments[parameterIndex]);
+            if (value != null && !value.isEmpty()) {
+                result.append((substitution.shouldEncode() && escaper != null) ? escaper.escape(value) : value);
+            }
+        }
+
+        return result.append(literals[substitutions.length]).toString();
+    }
+
+    private static Substitution findSubstitution(String name, List<Substitution> substitutions) {
+        for (Substitution substitution : substitutions) {
+            if (substitution.getUrlParameterName().equals(name)) {
+                return substitution;
+            }
+        }
+
+        return null;
+    }
+}
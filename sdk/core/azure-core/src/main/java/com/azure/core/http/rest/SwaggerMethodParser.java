@@ -33,6 +33,7 @@ import com.azure.core.http.ContentType;
 import com.azure.core.implementation.serializer.HttpResponseDecodeData;
 import com.azure.core.util.serializer.SerializerAdapter;
 import com.azure.core.util.CoreUtils;
+import com.azure.core.util.UrlBuilder;
 import com.azure.core.implementation.TypeUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -54,7 +55,6 @@ import java.util.stream.Collectors;
  */
 class SwaggerMethodParser implements HttpResponseDecodeData {
     private final SerializerAdapter serializer;
-    private final String rawHost;
     private final String fullyQualifiedMethodName;
     private final HttpMethod httpMethod;
     private final String relativePath;
@@ -71,6 +71,12 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
     private final Type returnType;
     private final Type returnValueWireType;
     private final UnexpectedResponseExceptionType[] unexpectedResponseExceptionTypes;
+    private final int contextParameterIndex;
+    private final boolean isJsonBodyContentType;
+    private final SubstitutionTemplate hostTemplate;
+    private final SubstitutionTemplate pathTemplate;
+    private final String constantScheme;
+    private final String constantHost;
     private Map<Integer, UnexpectedExceptionInformation> exceptionMapping;
     private UnexpectedExceptionInformation defaultException;
 
@@ -83,7 +89,6 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
      */
     SwaggerMethodParser(Method swaggerMethod, String rawHost) {
         this.serializer = JacksonAdapter.createDefaultSerializerAdapter();
-        this.rawHost = rawHost;
 
         final Class<?> swaggerInterface = swaggerMethod.getDeclaringClass();
 
@@ -167,6 +172,15 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         Integer bodyContentMethodParameterIndex = null;
         String bodyContentType = null;
         Type bodyJavaType = null;
+        int contextParameterIndex = -1;
+
+        final Class<?>[] parameterTypes = swaggerMethod.getParameterTypes();
+        for (int parameterIndex = 0; parameterIndex < parameterTypes.length; ++parameterIndex) {
+            if (Context.class.isAssignableFrom(parameterTypes[parameterIndex])) {
+                contextParameterIndex = parameterIndex;
+                break;
+            }
+        }
 
         final Annotation[][] allParametersAnnotations = swaggerMethod.getParameterAnnotations();
         for (int parameterIndex = 0; parameterIndex < allParametersAnnotations.length; ++parameterIndex) {
@@ -206,6 +220,19 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         this.bodyContentMethodParameterIndex = bodyContentMethodParameterIndex;
         this.bodyContentType = bodyContentType;
         this.bodyJavaType = bodyJavaType;
+        this.contextParameterIndex = contextParameterIndex;
+        this.isJsonBodyContentType = isJsonContentType(bodyContentType);
+
+        // Compile the host and path once so that creating a request only has to fill in the method arguments.
+        this.hostTemplate = new SubstitutionTemplate(rawHost, hostSubstitutions);
+        this.pathTemplate = new SubstitutionTemplate(relativePath, pathSubstitutions);
+        if (hostTemplate.isConstant()) {
+            this.constantScheme = schemeOf(rawHost);
+            this.constantHost = hostOf(rawHost);
+        } else {
+            this.constantScheme = null;
+            this.constantHost = null;
+        }
     }
 
     /**
@@ -245,10 +272,7 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the final host to use for HTTP requests for this Swagger method.
      */
     public String setScheme(Object[] swaggerMethodArguments) {
-        final String substitutedHost =
-            applySubstitutions(rawHost, hostSubstitutions, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER);
-        final String[] substitutedHostParts = substitutedHost.split("://");
-        return substitutedHostParts.length < 1 ? null : substitutedHostParts[0];
+        return hostTemplate.isConstant() ? constantScheme : schemeOf(substituteHost(swaggerMethodArguments));
     }
 
     /**
@@ -258,10 +282,24 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the final host to use for HTTP requests for this Swagger method
      */
     public String setHost(Object[] swaggerMethodArguments) {
-        final String substitutedHost =
-            applySubstitutions(rawHost, hostSubstitutions, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER);
-        final String[] substitutedHostParts = substitutedHost.split("://");
-        return substitutedHostParts.length < 2 ? substitutedHost : substitutedHost.split("://")[1];
+        return hostTemplate.isConstant() ? constantHost : hostOf(substituteHost(swaggerMethodArguments));
+    }
+
+    /**
+     * Sets the scheme and host to use for HTTP requests for this Swagger method, substituting the host only once.
+     *
+     * @param swaggerMethodArguments the arguments to use for scheme/host substitutions.
+     * @param urlBuilder the builder of the request URL.
+     */
+    public void setSchemeAndHost(Object[] swaggerMethodArguments, UrlBuilder urlBuilder) {
+        if (hostTemplate.isConstant()) {
+            urlBuilder.setScheme(constantScheme);
+            urlBuilder.setHost(constantHost);
+        } else {
+            final String substitutedHost = substituteHost(swaggerMethodArguments);
+            urlBuilder.setScheme(schemeOf(substitutedHost));
+            urlBuilder.setHost(hostOf(substitutedHost));
+        }
     }
 
     /**
@@ -271,7 +309,7 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the path value with its placeholders replaced by the matching substitutions
      */
     public String setPath(Object[] methodArguments) {
-        return applySubstitutions(relativePath, pathSubstitutions, methodArguments, UrlEscapers.PATH_ESCAPER);
+        return pathTemplate.apply(methodArguments, this::serialize, UrlEscapers.PATH_ESCAPER);
     }
 
     /**
@@ -285,6 +323,31 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         return encodeParameters(swaggerMethodArguments, querySubstitutions);
     }
 
+    /**
+     * Sets the encoded query parameters based on the provided method arguments on the request URL.
+     *
+     * @param swaggerMethodArguments the arguments that will be used to create the query parameters' values
+     * @param urlBuilder the builder of the request URL
+     */
+    public void setEncodedQueryParameters(Object[] swaggerMethodArguments, UrlBuilder urlBuilder) {
+        if (swaggerMethodArguments == null) {
+            return;
+        }
+
+        for (Substitution substitution : querySubstitutions) {
+            final int parameterIndex = substitution.getMethodParameterIndex();
+            if (0 <= parameterIndex && parameterIndex < swaggerMethodArguments.length) {
+                String parameterValue = serialize(swaggerMethodArguments[parameterIndex]);
+                if (parameterValue != null) {
+                    if (substitution.shouldEncode()) {
+                        parameterValue = UrlEscapers.QUERY_ESCAPER.escape(parameterValue);
+                    }
+                    urlBuilder.setQueryParameter(substitution.getUrlParameterName(), parameterValue);
+                }
+            }
+        }
+    }
+
     /**
      * Get the encoded form parameters that have been added to this value based on the provided
      * method arguments.
@@ -326,9 +389,24 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return An Iterable with the headers.
      */
     public Iterable<HttpHeader> setHeaders(Object[] swaggerMethodArguments) {
-        final HttpHeaders result = new HttpHeaders(headers);
+        final HttpHeaders result = new HttpHeaders();
+        setHeaders(swaggerMethodArguments, result);
+        return result;
+    }
+
+    /**
+     * Sets the headers that have been added to this value based on the provided method arguments on the request
+     * headers, without creating an intermediate collection.
+     *
+     * @param swaggerMethodArguments The arguments that will be used to create the headers' values.
+     * @param result The request headers.
+     */
+    public void setHeaders(Object[] swaggerMethodArguments, HttpHeaders result) {
+        for (HttpHeader header : headers) {
+            result.put(header.getName(), header.getValue());
+        }
 
-        if (headerSubstitutions != null) {
+        if (swaggerMethodArguments != null) {
             for (Substitution headerSubstitution : headerSubstitutions) {
                 final int parameterIndex = headerSubstitution.getMethodParameterIndex();
                 if (0 <= parameterIndex && parameterIndex < swaggerMethodArguments.length) {
@@ -354,7 +432,6 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
                 }
             }
         }
-        return result;
     }
 
     /**
@@ -364,7 +441,12 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the context, or {@link Context#NONE} if no context was provided
      */
     public Context setContext(Object[] swaggerMethodArguments) {
-        Context context = CoreUtils.findFirstOfType(swaggerMethodArguments, Context.class);
+        Context context = null;
+        if (swaggerMethodArguments != null
+            && 0 <= contextParameterIndex
+            && contextParameterIndex < swaggerMethodArguments.length) {
+            context = (Context) swaggerMethodArguments[contextParameterIndex];
+        }
 
         return (context != null) ? context : Context.NONE;
     }
@@ -463,6 +545,15 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         return bodyContentType;
     }
 
+    /**
+     * Checks whether the declared Content-Type of the body of this Swagger method is JSON.
+     *
+     * @return true if the declared body Content-Type is JSON, false otherwise or if no Content-Type is declared
+     */
+    public boolean isJsonBodyContentType() {
+        return isJsonBodyContentType;
+    }
+
     /**
      * Get the return type for the method that this object describes.
      *
@@ -549,33 +640,38 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         return result;
     }
 
-    private String applySubstitutions(String originalValue, Iterable<Substitution> substitutions,
-                                      Object[] methodArguments, PercentEscaper escaper) {
-        String result = originalValue;
+    private String substituteHost(Object[] swaggerMethodArguments) {
+        return hostTemplate.apply(swaggerMethodArguments, this::serialize, UrlEscapers.PATH_ESCAPER);
+    }
 
-        if (methodArguments != null) {
-            for (Substitution substitution : substitutions) {
-                final int substitutionParameterIndex = substitution.getMethodParameterIndex();
-                if (0 <= substitutionParameterIndex && substitutionParameterIndex < methodArguments.length) {
-                    final Object methodArgument = methodArguments[substitutionParameterIndex];
+    private static String schemeOf(String substitutedHost) {
+        final String[] substitutedHostParts = substitutedHost.split("://");
+        return substitutedHostParts.length < 1 ? null : substitutedHostParts[0];
+    }
 
-                    String substitutionValue = serialize(methodArgument);
-                    if (substitutionValue != null
-                        && !substitutionValue.isEmpty()
-                        && substitution.shouldEncode() && escaper != null) {
-                        substitutionValue = escaper.escape(substitutionValue);
-                    }
-                    // if a parameter is null, we treat it as empty string. This is
-                    // assuming no {...} will be allowed otherwise in a path template
-                    if (substitutionValue == null) {
-                        substitutionValue = "";
-                    }
-                    result = result.replace("{" + substitution.getUrlParameterName() + "}", substitutionValue);
-                }
+    private static String hostOf(String substitutedHost) {
+        final String[] substitutedHostParts = substitutedHost.split("://");
+        return substitutedHostParts.length < 2 ? substitutedHost : substitutedHostParts[1];
+    }
+
+    /**
+     * Checks whether a Content-Type, possibly with parameters such as a charset, is JSON.
+     *
+     * @param contentType the Content-Type
+     * @return true if the Content-Type is JSON
+     */
+    static boolean isJsonContentType(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return false;
+        }
+
+        for (String contentTypePart : contentType.split(";")) {
+            if (contentTypePart.trim().equalsIgnoreCase(ContentType.APPLICATION_JSON)) {
+                return true;
             }
         }
 
-        return result;
+        return false;
     }
 
     private Map<Integer, UnexpectedExceptionInformation> processUnexpectedResponseExceptionTypes() {
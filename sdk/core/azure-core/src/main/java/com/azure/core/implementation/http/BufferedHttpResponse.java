@@ -28,12 +28,31 @@ public final class BufferedHttpResponse extends HttpResponse {
     public BufferedHttpResponse(HttpResponse innerHttpResponse) {
         super(innerHttpResponse.getRequest());
         this.innerHttpResponse = innerHttpResponse;
-        this.cachedBody = FluxUtil.collectBytesInByteBufferStream(innerHttpResponse.getBody())
+        this.cachedBody = FluxUtil.collectBytesInByteBufferStream(innerHttpResponse.getBody(),
+            getContentLength(innerHttpResponse))
             .map(ByteBuffer::wrap)
             .flux()
             .cache();
     }
 
+    /*
+     * Gets the Content-Length of the response, so its body is collected straight into an array of the right size, or
+     * -1 if it's missing, invalid or too large for an array.
+     */
+    private static int getContentLength(HttpResponse response) {
+        String contentLength = response.getHeaderValue("Content-Length");
+        if (contentLength == null) {
+            return -1;
+        }
+
+        try {
+            long length = Long.parseLong(contentLength.trim());
+            return (length < 0 || length > Integer.MAX_VALUE) ? -1 : (int) length;
+        } catch (NumberFormatException ignored) {
+            return -1;
+        }
+    }
+
     @Override
     public int getStatusCode() {
         return innerHttpResponse.getStatusCode();
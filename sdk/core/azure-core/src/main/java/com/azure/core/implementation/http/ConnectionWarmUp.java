@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.http;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Opens connections of an {@link HttpClient} ahead of its first requests, by sending concurrent HEAD requests to each
+ * host. Each of them resolves the host, connects and negotiates TLS, which seeds the DNS and TLS session caches, and
+ * leaves an idle connection in the pool once its response is read.
+ */
+public final class ConnectionWarmUp {
+    private final ClientLogger logger = new ClientLogger(ConnectionWarmUp.class);
+
+    private final List<URL> urls;
+    private final int connectionsPerHost;
+
+    /**
+     * Creates a warm-up.
+     *
+     * @param urls The URLs of the hosts to connect to.
+     * @param connectionsPerHost The number of connections opened to each host.
+     * @throws NullPointerException If {@code urls} is null.
+     * @throws IllegalArgumentException If a URL is malformed or {@code connectionsPerHost} is less than 1.
+     */
+    public ConnectionWarmUp(Collection<String> urls, int connectionsPerHost) {
+        Objects.requireNonNull(urls, "'urls' cannot be null.");
+        if (connectionsPerHost < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'connectionsPerHost' must be at least 1."));
+        }
+
+        List<URL> parsedUrls = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            try {
+                parsedUrls.add(new URL(url));
+            } catch (MalformedURLException e) {
+                throw logger.logExceptionAsError(new IllegalArgumentException("'" + url + "' isn't a valid URL.", e));
+            }
+        }
+        this.urls = parsedUrls;
+        this.connectionsPerHost = connectionsPerHost;
+    }
+
+    /**
+     * @return Whether there are no hosts to connect to.
+     */
+    public boolean isEmpty() {
+        return urls.isEmpty();
+    }
+
+    /**
+     * Starts warming up the client.
+     *
+     * @param httpClient The client to warm up.
+     * @return A cached Mono which completes once at least one connection to every host was opened, or errors with the
+     * failure of a host none of the requests got a response from.
+     */
+    public Mono<Void> start(HttpClient httpClient) {
+        Mono<Void> warmUp = Flux.fromIterable(urls)
+            .flatMap(url -> Flux.range(0, connectionsPerHost)
+                .flatMap(ignored -> connect(httpClient, url), connectionsPerHost)
+                .reduce(Boolean::logicalOr)
+                .flatMap(connected -> connected ? Mono.<Void>empty() : Mono.error(logger.logExceptionAsWarning(
+                    new IllegalStateException("Failed to open a connection to " + url + " while warming up.")))))
+            .then()
+            .cache();
+
+        warmUp.subscribe(ignored -> { }, ignored -> { });
+        return warmUp;
+    }
+
+    private Mono<Boolean> connect(HttpClient httpClient, URL url) {
+        return httpClient.send(new HttpRequest(HttpMethod.HEAD, url))
+            .flatMap(response -> response.getBody().then(Mono.just(true)))
+            .onErrorResume(error -> {
+                logger.verbose("Warm-up request to {} failed: {}", url, error.getMessage());
+                return Mono.just(false);
+            });
+    }
+}
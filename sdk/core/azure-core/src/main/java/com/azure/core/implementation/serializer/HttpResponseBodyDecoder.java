@@ -11,6 +11,7 @@ import com.azure.core.http.rest.Page;
 import com.azure.core.http.rest.Response;
 import com.azure.core.http.rest.ResponseBase;
 import com.azure.core.http.rest.SimpleResponse;
+import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
 import com.azure.core.util.serializer.SerializerEncoding;
 import com.azure.core.util.Base64Url;
@@ -25,6 +26,7 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -79,17 +81,28 @@ final class HttpResponseBodyDecoder {
             } else if (!isReturnTypeDecodable(decodeData)) {
                 return Mono.empty();
             } else {
+                final Type resultType = extractEntityTypeFromReturnType(decodeData);
+                final Type wireType = decodeData.getReturnValueWireType();
+                final SerializerEncoding encoding = SerializerEncoding.fromHeaders(httpResponse.getHeaders());
+                if (body == null && isStreamable(httpResponse, serializer, encoding)) {
+                    // Parse the body as it arrives rather than aggregating it into a String first.
+                    return StreamingJsonDeserializer.deserialize(httpResponse.getBody(), getCharset(httpResponse),
+                        ((JacksonAdapter) serializer).serializer(), constructDeserializedType(resultType, wireType))
+                        .map(wireResponse -> convertDeserializedBody(wireResponse, resultType, wireType))
+                        .onErrorMap(MalformedValueException.class,
+                            e -> new HttpResponseException("HTTP response has a malformed body.", httpResponse, e))
+                        .onErrorMap(IOException.class,
+                            e -> new HttpResponseException("Deserialization Failed.", httpResponse, e));
+                }
+
                 Mono<String> bodyMono = body == null
                     ? httpResponse.getBodyAsString()
                     : Mono.just(body);
                 return bodyMono
                     .flatMap(bodyString -> {
                         try {
-                            final Object decodedSuccessEntity = deserializeBody(bodyString,
-                                extractEntityTypeFromReturnType(decodeData),
-                                decodeData.getReturnValueWireType(),
-                                serializer,
-                                SerializerEncoding.fromHeaders(httpResponse.getHeaders()));
+                            final Object decodedSuccessEntity = deserializeBody(bodyString, resultType, wireType,
+                                serializer, encoding);
                             return decodedSuccessEntity == null ? Mono.empty() : Mono.just(decodedSuccessEntity);
                         } catch (MalformedValueException e) {
                             return Mono.error(new HttpResponseException("HTTP response has a malformed body.",
@@ -172,18 +185,87 @@ final class HttpResponseBodyDecoder {
      */
     private static Object deserializeBody(String value, Type resultType, Type wireType, SerializerAdapter serializer,
                                           SerializerEncoding encoding) throws IOException {
+        final Object wireResponse = serializer.deserialize(value, constructDeserializedType(resultType, wireType),
+            encoding);
+
+        return convertDeserializedBody(wireResponse, resultType, wireType);
+    }
+
+    /**
+     * Get the type the response body is deserialized into before it is converted to {@param resultType}.
+     *
+     * @param resultType the return type of the java proxy method
+     * @param wireType value of optional {@link ReturnValueWireType} annotation present in java proxy method
+     * @return the {@code java.lang.reflect.Type} to deserialize the response body into
+     */
+    private static Type constructDeserializedType(Type resultType, Type wireType) {
         if (wireType == null) {
-            return serializer.deserialize(value, resultType, encoding);
+            return resultType;
         } else if (TypeUtil.isTypeOrSubTypeOf(wireType, Page.class)) {
-            return deserializePage(value, resultType, wireType, serializer, encoding);
+            return constructPageType(resultType, wireType);
         } else {
-            final Type wireResponseType = constructWireResponseType(resultType, wireType);
-            final Object wireResponse = serializer.deserialize(value, wireResponseType, encoding);
+            return constructWireResponseType(resultType, wireType);
+        }
+    }
 
+    /**
+     * Converts a response body deserialized into the type from {@code constructDeserializedType(args)} to
+     * {@param resultType}.
+     *
+     * @param wireResponse the deserialized response body
+     * @param resultType the return type of the java proxy method
+     * @param wireType value of optional {@link ReturnValueWireType} annotation present in java proxy method
+     * @return converted object
+     */
+    private static Object convertDeserializedBody(Object wireResponse, Type resultType, Type wireType) {
+        if (wireType == null || TypeUtil.isTypeOrSubTypeOf(wireType, Page.class)) {
+            return wireResponse;
+        } else {
             return convertToResultType(wireResponse, resultType, wireType);
         }
     }
 
+    /**
+     * Checks whether the body of a response can be deserialized as it arrives, which is the case for JSON bodies
+     * deserialized by a {@link JacksonAdapter}, in a charset this JVM supports if one is declared.
+     */
+    private static boolean isStreamable(HttpResponse httpResponse, SerializerAdapter serializer,
+                                        SerializerEncoding encoding) {
+        if (encoding != SerializerEncoding.JSON || !(serializer instanceof JacksonAdapter)) {
+            return false;
+        }
+
+        try {
+            getCharset(httpResponse);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the charset declared in the Content-Type of a response.
+     *
+     * @return the declared charset, or null if there is none.
+     * @throws IllegalArgumentException If the charset isn't supported.
+     */
+    private static Charset getCharset(HttpResponse httpResponse) {
+        final String contentType = httpResponse.getHeaders().getValue("Content-Type");
+        if (contentType == null) {
+            return null;
+        }
+
+        final String[] parts = contentType.split(";");
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "charset=", 0, 8)) {
+                return Charset.forName(parameter.substring(8).replace("\"", "").trim());
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Given:
      * (1). the {@code java.lang.reflect.Type} (resultType) of java proxy method return value
@@ -236,31 +318,23 @@ final class HttpResponseBodyDecoder {
     }
 
     /**
-     * Deserializes a response body as a Page&lt;T&gt; given that {@param wireType} is either:
+     * Constructs the type a response body is deserialized into as a Page&lt;T&gt; given that {@param wireType} is
+     * either:
      * 1. A type that implements the interface
      * 2. Is of {@link Page}
      *
-     * @param value The string to deserialize
      * @param resultType The type T, of the page contents.
      * @param wireType The {@link Type} that either is, or implements {@link Page}
-     * @param serializer The serializer used to deserialize the value.
-     * @param encoding Encoding used to deserialize string
-     * @return An object representing an instance of {@param wireType}
-     * @throws IOException if the serializer is unable to deserialize the value.
+     * @return The {@link Type} to deserialize an instance of {@param wireType} from
      */
-    private static Object deserializePage(String value, Type resultType, Type wireType, SerializerAdapter serializer,
-                                          SerializerEncoding encoding) throws IOException {
-        final Type wireResponseType;
-
+    private static Type constructPageType(Type resultType, Type wireType) {
         if (wireType == Page.class) {
             // If the type is the 'Page' interface [i.e. `@ReturnValueWireType(Page.class)`], we will use the
             // 'ItemPage' class instead.
-            wireResponseType = TypeUtil.createParameterizedType(ItemPage.class, resultType);
+            return TypeUtil.createParameterizedType(ItemPage.class, resultType);
         } else {
-            wireResponseType = wireType;
+            return wireType;
         }
-
-        return serializer.deserialize(value, wireResponseType, encoding);
     }
 
     /**
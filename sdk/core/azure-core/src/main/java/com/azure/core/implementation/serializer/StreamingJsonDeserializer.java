@@ -0,0 +1,187 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Deserializes a JSON body as its {@link ByteBuffer ByteBuffers} arrive.
+ *
+ * <p>The requested type is bound with the given {@link ObjectMapper}, which keeps any modules registered on it, such as
+ * flattening, in effect, from an {@link InputStream} over the body. Only a few buffers are requested ahead of the
+ * parser, so the body is never held whole, neither as a byte array, a String nor a buffer of tokens. As binding pulls
+ * from the stream it runs on a bounded elastic thread, where it may wait for the next buffer.</p>
+ *
+ * <p>Without a declared charset the encoding is detected by Jackson, as UTF-8, UTF-16 or UTF-32 with or without a
+ * byte order mark. A declared charset other than those is decoded by an {@link InputStreamReader}.</p>
+ */
+final class StreamingJsonDeserializer {
+    private static final int PREFETCH = 8;
+
+    private StreamingJsonDeserializer() {
+    }
+
+    /**
+     * Deserializes the JSON body into an instance of {@code type}.
+     *
+     * @param body the JSON body.
+     * @param charset the charset declared for the body, or null if it should be detected.
+     * @param mapper the mapper used to parse the body and bind it to {@code type}.
+     * @param type the type to deserialize.
+     * @return a publisher that emits the deserialized object, or completes empty if the body has no content. A body
+     *     that isn't valid JSON is signalled as {@link MalformedValueException}, other deserialization failures as
+     *     {@link IOException}.
+     */
+    static Mono<Object> deserialize(Flux<ByteBuffer> body, Charset charset, ObjectMapper mapper, Type type) {
+        return Mono.using(BodyInputStream::new,
+            stream -> Mono.fromCallable(() -> {
+                body.subscribe(stream);
+                return read(stream, charset, mapper, type);
+            }).subscribeOn(Schedulers.boundedElastic()),
+            BodyInputStream::close)
+            .onErrorMap(JsonParseException.class, ex -> new MalformedValueException(ex.getMessage(), ex));
+    }
+
+    private static Object read(BodyInputStream stream, Charset charset, ObjectMapper mapper, Type type)
+        throws IOException {
+        try (JsonParser parser = isDetected(charset)
+            ? mapper.getFactory().createParser(stream)
+            : mapper.getFactory().createParser(new InputStreamReader(stream, charset))) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return mapper.readValue(parser, mapper.getTypeFactory().constructType(type));
+        }
+    }
+
+    /*
+     * Jackson detects the Unicode encodings from the first bytes of the body, and skips their byte order mark.
+     */
+    private static boolean isDetected(Charset charset) {
+        return charset == null || charset.name().startsWith("UTF-8") || charset.name().startsWith("UTF-16")
+            || charset.name().startsWith("UTF-32");
+    }
+
+    /*
+     * An InputStream over the buffers of a body. Each buffer is copied as it arrives, since the buffers of some
+     * clients are only valid until onNext returns, and another is requested as the stream moves to the next one.
+     */
+    private static final class BodyInputStream extends InputStream implements CoreSubscriber<ByteBuffer> {
+        private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+        private final LinkedBlockingQueue<ByteBuffer> buffers = new LinkedBlockingQueue<>();
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean closed;
+        private ByteBuffer current;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            if (closed) {
+                s.cancel();
+            } else {
+                s.request(PREFETCH);
+            }
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+            copy.put(buffer.duplicate()).flip();
+            buffers.offer(copy);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            buffers.offer(END);
+        }
+
+        @Override
+        public void onComplete() {
+            buffers.offer(END);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return (read(single, 0, 1) < 0) ? -1 : (single[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            while (current == null || !current.hasRemaining()) {
+                if (current == END) {
+                    return -1;
+                }
+                current = take();
+            }
+
+            int count = Math.min(len, current.remaining());
+            current.get(b, off, count);
+            return count;
+        }
+
+        private ByteBuffer take() throws IOException {
+            final ByteBuffer next;
+            try {
+                next = buffers.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the response body.");
+            }
+
+            if (next == END) {
+                // The end stays queued, so reads after it, or after its error, don't wait.
+                buffers.offer(END);
+                Throwable throwable = error;
+                if (throwable instanceof IOException) {
+                    throw (IOException) throwable;
+                } else if (throwable instanceof RuntimeException) {
+                    throw (RuntimeException) throwable;
+                } else if (throwable != null) {
+                    throw new IOException(throwable);
+                }
+            } else {
+                subscription.request(1);
+            }
+            return next;
+        }
+
+        /*
+         * Cancels the body, and ends the stream of a read which is still waiting for it.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+            buffers.clear();
+            buffers.offer(END);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Collects the content of ByteBuffers into a byte array. With a size hint the bytes go straight into an array of that
+ * size, otherwise, or once the hint is exceeded, they go into buffers from a pool which grow by doubling.
+ *
+ * <p>The array is allocated on the first write, so responses to HEAD requests, which have a Content-Length but no
+ * body, don't allocate it.</p>
+ */
+final class ByteBufferCollector {
+    private static final byte[] EMPTY = new byte[0];
+    private static final int INITIAL_POOLED_SIZE = 4 * 1024;
+
+    private final ByteBufferPool pool;
+    private final int sizeHint;
+    private byte[] array;
+    private ByteBuffer pooled;
+    private int size;
+
+    ByteBufferCollector(int sizeHint, ByteBufferPool pool) {
+        this.pool = pool;
+        this.sizeHint = sizeHint;
+    }
+
+    ByteBufferCollector write(ByteBuffer byteBuffer) {
+        int length = byteBuffer.remaining();
+        if (length == 0) {
+            return this;
+        }
+
+        if (size == 0 && sizeHint >= length) {
+            array = new byte[sizeHint];
+        }
+
+        if (pooled == null && array != null && array.length - size >= length) {
+            byteBuffer.duplicate().get(array, size, length);
+        } else {
+            ensurePooledCapacity(length);
+            pooled.put(byteBuffer.duplicate());
+        }
+        size += length;
+        return this;
+    }
+
+    byte[] toByteArray() {
+        if (pooled != null) {
+            byte[] bytes = new byte[size];
+            ByteBuffer content = pooled.duplicate();
+            content.flip();
+            content.get(bytes);
+            return bytes;
+        } else if (array == null) {
+            return EMPTY;
+        } else {
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+    }
+
+    void release() {
+        pool.release(pooled);
+        pooled = null;
+        array = null;
+    }
+
+    private void ensurePooledCapacity(int length) {
+        // Past 2 GB required overflows and the put fails, as a byte array can't hold the content anyway.
+        int required = size + length;
+        if (pooled == null) {
+            pooled = pool.acquire(Math.max(required, INITIAL_POOLED_SIZE));
+            pooled.limit(pooled.capacity());
+            if (array != null) {
+                pooled.put(array, 0, size);
+                array = null;
+            }
+        } else if (pooled.remaining() < length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(required, 2L * pooled.capacity()));
+            ByteBuffer grown = pool.acquire(capacity);
+            grown.limit(grown.capacity());
+            pooled.flip();
+            grown.put(pooled);
+            pool.release(pooled);
+            pooled = grown;
+        }
+    }
+}
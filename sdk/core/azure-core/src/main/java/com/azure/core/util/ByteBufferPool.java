@@ -0,0 +1,192 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of reusable {@link ByteBuffer ByteBuffers}, so code that repeatedly needs large temporary buffers doesn't
+ * allocate a new one every time.
+ *
+ * <p>Buffers are pooled in power of two size classes from 4 KB to 8 MB. {@link #acquire(int)} returns a buffer of the
+ * smallest size class that fits the requested size, with its limit set to the requested size. Larger buffers are
+ * allocated on demand and aren't pooled. Released buffers are kept until the pool retains its maximum number of
+ * bytes, after which they are left to the garbage collector.</p>
+ *
+ * <p>A buffer must not be used after it's released, and must be released at most once. Pools created with leak
+ * detection track every buffer they hand out, reject buffers released twice or not acquired from them, and report the
+ * buffers which were never released through {@link #checkLeaks()}. Leak detection records a stack trace per acquired
+ * buffer and is meant for tests.</p>
+ */
+public final class ByteBufferPool {
+    /**
+     * The default maximum number of bytes retained by a pool, 32 MB.
+     */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 32L * 1024 * 1024;
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 12;
+    private static final int MAX_SIZE_CLASS_SHIFT = 23;
+    private static final int MAX_POOLED_SIZE = 1 << MAX_SIZE_CLASS_SHIFT;
+
+    private static final ByteBufferPool DEFAULT = new ByteBufferPool();
+
+    private final ClientLogger logger = new ClientLogger(ByteBufferPool.class);
+
+    private final boolean direct;
+    private final long maxRetainedBytes;
+    private final List<Queue<ByteBuffer>> sizeClasses;
+    private final AtomicLong retainedBytes = new AtomicLong();
+
+    // Acquisition sites of the buffers handed out, only tracked with leak detection.
+    private final Map<ByteBuffer, Throwable> outstanding;
+
+    /**
+     * Creates a pool of heap buffers retaining at most {@link #DEFAULT_MAX_RETAINED_BYTES} bytes, without leak
+     * detection.
+     */
+    public ByteBufferPool() {
+        this(false, DEFAULT_MAX_RETAINED_BYTES, false);
+    }
+
+    /**
+     * Creates a pool of buffers.
+     *
+     * @param direct whether the pool hands out direct buffers rather than heap buffers.
+     * @param maxRetainedBytes the maximum number of bytes of released buffers the pool keeps for reuse.
+     * @param leakDetection whether the pool tracks the buffers it hands out.
+     * @throws IllegalArgumentException If {@code maxRetainedBytes} is negative.
+     */
+    public ByteBufferPool(boolean direct, long maxRetainedBytes, boolean leakDetection) {
+        if (maxRetainedBytes < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxRetainedBytes' cannot be negative."));
+        }
+
+        this.direct = direct;
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.sizeClasses = new ArrayList<>(MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1);
+        for (int i = MIN_SIZE_CLASS_SHIFT; i <= MAX_SIZE_CLASS_SHIFT; i++) {
+            sizeClasses.add(new ConcurrentLinkedQueue<>());
+        }
+        this.outstanding = leakDetection ? Collections.synchronizedMap(new IdentityHashMap<>()) : null;
+    }
+
+    /**
+     * @return the pool of heap buffers shared by azure-core.
+     */
+    public static ByteBufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return whether the pool hands out direct buffers.
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Gets a buffer with at least the given capacity, its position set to zero and its limit set to {@code size}.
+     *
+     * @param size the number of bytes needed.
+     * @return a buffer from the pool, or a newly allocated one if there is no pooled buffer of the size.
+     * @throws IllegalArgumentException If {@code size} is negative.
+     */
+    public ByteBuffer acquire(int size) {
+        if (size < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'size' cannot be negative."));
+        }
+
+        ByteBuffer buffer;
+        if (size > MAX_POOLED_SIZE) {
+            buffer = allocate(size);
+        } else {
+            int sizeClass = sizeClass(size);
+            buffer = sizeClasses.get(sizeClass).poll();
+            if (buffer == null) {
+                buffer = allocate(1 << (sizeClass + MIN_SIZE_CLASS_SHIFT));
+            } else {
+                retainedBytes.addAndGet(-buffer.capacity());
+            }
+        }
+
+        if (outstanding != null) {
+            outstanding.put(buffer, new Throwable("Buffer of " + size + " bytes acquired here."));
+        }
+
+        buffer.clear().limit(size);
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer acquired from the pool, it must not be used afterwards.
+     *
+     * @param buffer the buffer to release, ignored if null.
+     * @throws IllegalStateException If the pool has leak detection and the buffer was already released or wasn't
+     * acquired from the pool.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+
+        if (outstanding != null && outstanding.remove(buffer) == null) {
+            throw logger.logExceptionAsError(new IllegalStateException(
+                "The buffer was already released, or wasn't acquired from this pool."));
+        }
+
+        int capacity = buffer.capacity();
+        if (capacity > MAX_POOLED_SIZE || Integer.bitCount(capacity) != 1
+            || capacity < (1 << MIN_SIZE_CLASS_SHIFT) || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+
+        if (retainedBytes.addAndGet(capacity) > maxRetainedBytes) {
+            retainedBytes.addAndGet(-capacity);
+            return;
+        }
+        sizeClasses.get(sizeClass(capacity)).offer(buffer);
+    }
+
+    /**
+     * Checks that every buffer acquired from a pool with leak detection was released. Does nothing for pools without
+     * leak detection.
+     *
+     * @throws IllegalStateException If buffers weren't released, caused by the acquisition of one of them.
+     */
+    public void checkLeaks() {
+        if (outstanding == null) {
+            return;
+        }
+
+        synchronized (outstanding) {
+            if (!outstanding.isEmpty()) {
+                throw logger.logExceptionAsError(new IllegalStateException(outstanding.size()
+                    + " buffer(s) acquired from the pool weren't released.", outstanding.values().iterator().next()));
+            }
+        }
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private static int sizeClass(int size) {
+        if (size <= (1 << MIN_SIZE_CLASS_SHIFT)) {
+            return 0;
+        }
+
+        // The exponent of the smallest power of two that holds size.
+        return (32 - Integer.numberOfLeadingZeros(size - 1)) - MIN_SIZE_CLASS_SHIFT;
+    }
+}
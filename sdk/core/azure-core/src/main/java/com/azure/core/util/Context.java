@@ -18,6 +18,10 @@ import java.util.Optional;
  * <p>
  * Each context object is immutable. The {@link #addData(Object, Object)} method creates a new
  * {@code Context} object that refers to its parent, forming a linked list.
+ * <p>
+ * Lookups in long chains don't walk the whole list. Once a lookup has walked past a small number of contexts it builds
+ * an index of the key-value pairs of the chain, kept by the context it was called on and used by the lookups in it and
+ * in the contexts added to it.
  */
 @Immutable
 public class Context {
@@ -30,9 +34,21 @@ public class Context {
      */
     public static final Context NONE = new Context(null, null, null);
 
+    /*
+     * The number of contexts a lookup walks before indexing the chain.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
     private final Context parent;
     private final Object key;
     private final Object value;
+    private final int depth;
+
+    /*
+     * The key-value pairs of this context and its ancestors, built by the first lookup needing it and never modified
+     * once published. Keys and values alternate, keys are placed by open addressing with linear probing.
+     */
+    private volatile Object[] index;
 
     /**
      * Constructs a new {@link Context} object.
@@ -49,12 +65,14 @@ public class Context {
         this.parent = null;
         this.key = Objects.requireNonNull(key, "'key' cannot be null.");
         this.value = value;
+        this.depth = 1;
     }
 
     private Context(Context parent, Object key, Object value) {
         this.parent = parent;
         this.key = key;
         this.value = value;
+        this.depth = (parent == null) ? 1 : parent.depth + 1;
     }
 
     /**
@@ -121,12 +139,28 @@ public class Context {
         if (key == null) {
             throw logger.logExceptionAsError(new IllegalArgumentException("key cannot be null"));
         }
-        for (Context c = this; c != null; c = c.parent) {
+
+        Context c = this;
+        for (int walked = 0; c != null && walked < INDEX_THRESHOLD; c = c.parent, walked++) {
+            Object[] table = c.index;
+            if (table != null) {
+                return lookup(table, key);
+            }
             if (key.equals(c.key)) {
                 return Optional.of(c.value);
             }
         }
-        return Optional.empty();
+
+        if (c == null) {
+            return Optional.empty();
+        }
+
+        Object[] table = index;
+        if (table == null) {
+            table = buildIndex();
+            index = table;
+        }
+        return lookup(table, key);
     }
 
     /**
@@ -142,6 +176,67 @@ public class Context {
         return getValuesHelper(new HashMap<>());
     }
 
+    /*
+     * Indexes the key-value pairs of the chain, the most recently added value of a key wins. The walk stops at the
+     * first indexed ancestor, whose index is merged instead.
+     */
+    private Object[] buildIndex() {
+        // At most half full, so probing always reaches an empty slot.
+        int capacity = Integer.highestOneBit(depth) << 2;
+        Object[] table = new Object[capacity << 1];
+
+        for (Context c = this; c != null; c = c.parent) {
+            Object[] ancestorIndex = c.index;
+            if (ancestorIndex != null) {
+                for (int i = 0; i < ancestorIndex.length; i += 2) {
+                    if (ancestorIndex[i] != null) {
+                        insert(table, ancestorIndex[i], ancestorIndex[i + 1]);
+                    }
+                }
+                break;
+            }
+            if (c.key != null) {
+                insert(table, c.key, c.value);
+            }
+        }
+        return table;
+    }
+
+    private static void insert(Object[] table, Object key, Object value) {
+        int mask = (table.length >>> 1) - 1;
+        for (int slot = home(key, mask); ; slot = (slot + 1) & mask) {
+            Object existing = table[slot << 1];
+            if (existing == null) {
+                table[slot << 1] = key;
+                table[(slot << 1) + 1] = value;
+                return;
+            }
+            if (key.equals(existing)) {
+                return;
+            }
+        }
+    }
+
+    private static Optional<Object> lookup(Object[] table, Object key) {
+        int mask = (table.length >>> 1) - 1;
+        for (int slot = home(key, mask); ; slot = (slot + 1) & mask) {
+            Object existing = table[slot << 1];
+            if (existing == null) {
+                return Optional.empty();
+            }
+            if (key.equals(existing)) {
+                return Optional.of(table[(slot << 1) + 1]);
+            }
+        }
+    }
+
+    /*
+     * Fibonacci hashing, keys such as "key-1", "key-2" have sequential hash codes which would otherwise cluster.
+     */
+    private static int home(Object key, int mask) {
+        return (key.hashCode() * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(mask);
+    }
+
     private Map<Object, Object> getValuesHelper(Map<Object, Object> values) {
         values.putIfAbsent(key, value);
 
@@ -15,7 +15,6 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Operators;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
@@ -23,6 +22,7 @@ import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Function;
@@ -55,17 +55,29 @@ public final class FluxUtil {
      * @return A Mono which emits the concatenation of all the ByteBuffer instances given by the source Flux.
      */
     public static Mono<byte[]> collectBytesInByteBufferStream(Flux<ByteBuffer> stream) {
-        return stream
-            .collect(ByteArrayOutputStream::new, FluxUtil::accept)
-            .map(ByteArrayOutputStream::toByteArray);
+        return collectBytesInByteBufferStream(stream, -1);
     }
 
-    private static void accept(ByteArrayOutputStream byteOutputStream, ByteBuffer byteBuffer) {
-        try {
-            byteOutputStream.write(byteBufferToArray(byteBuffer));
-        } catch (IOException e) {
-            throw new RuntimeException("Error occurred writing ByteBuffer to ByteArrayOutputStream.", e);
-        }
+    /**
+     * Collects ByteBuffer emitted by a Flux into a byte array, sized up front for the expected number of bytes.
+     *
+     * <p>When the stream emits exactly {@code sizeHint} bytes they are copied once, into the returned array.
+     * Otherwise they are collected in buffers from the {@link ByteBufferPool#getDefault() default pool}, which are
+     * returned to the pool once the array is created. The emitted ByteBuffers are left unchanged.</p>
+     *
+     * @param stream A stream which emits ByteBuffer instances.
+     * @param sizeHint The number of bytes the stream is expected to emit, such as the Content-Length of a response,
+     * or a negative number if it isn't known.
+     * @return A Mono which emits the concatenation of all the ByteBuffer instances given by the source Flux.
+     */
+    public static Mono<byte[]> collectBytesInByteBufferStream(Flux<ByteBuffer> stream, int sizeHint) {
+        return collectBytesInByteBufferStream(stream, sizeHint, ByteBufferPool.getDefault());
+    }
+
+    static Mono<byte[]> collectBytesInByteBufferStream(Flux<ByteBuffer> stream, int sizeHint, ByteBufferPool pool) {
+        return Mono.using(() -> new ByteBufferCollector(sizeHint, pool),
+            collector -> stream.reduce(collector, ByteBufferCollector::write).map(ByteBufferCollector::toByteArray),
+            ByteBufferCollector::release);
     }
 
     /**
@@ -223,6 +235,24 @@ public final class FluxUtil {
      * @return a Mono which performs the write operation when subscribed
      */
     public static Mono<Void> writeFile(Flux<ByteBuffer> content, AsynchronousFileChannel outFile, long position) {
+        return writeFile(content, outFile, position, null);
+    }
+
+    /**
+     * Writes the bytes emitted by a Flux to an AsynchronousFileChannel starting at the given position in the file,
+     * releasing each ByteBuffer to the pool once it has been written.
+     *
+     * <p>Paired with {@link #readFile(AsynchronousFileChannel, int, long, long, ByteBufferPool)} this copies files
+     * without allocating a buffer per chunk.</p>
+     *
+     * @param content the Flux content, emitting buffers acquired from {@code pool}
+     * @param outFile the file channel
+     * @param position the position in the file to begin writing
+     * @param pool the pool the written buffers are released to, or null to leave them to the garbage collector
+     * @return a Mono which performs the write operation when subscribed
+     */
+    public static Mono<Void> writeFile(Flux<ByteBuffer> content, AsynchronousFileChannel outFile, long position,
+                                       ByteBufferPool pool) {
         return Mono.create(emitter -> content.subscribe(new Subscriber<ByteBuffer>() {
             // volatile ensures that writes to these fields by one thread will be immediately visible to other threads.
             // An I/O pool thread will write to isWriting and read isCompleted,
@@ -241,13 +271,16 @@ public final class FluxUtil {
             @Override
             public void onNext(ByteBuffer bytes) {
                 isWriting = true;
-                outFile.write(bytes, pos, null, onWriteCompleted);
+                outFile.write(bytes, pos, bytes, onWriteCompleted);
             }
 
 
-            CompletionHandler<Integer, Object> onWriteCompleted = new CompletionHandler<Integer, Object>() {
+            CompletionHandler<Integer, ByteBuffer> onWriteCompleted = new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
-                public void completed(Integer bytesWritten, Object attachment) {
+                public void completed(Integer bytesWritten, ByteBuffer attachment) {
+                    if (pool != null) {
+                        pool.release(attachment);
+                    }
                     isWriting = false;
                     if (isCompleted) {
                         emitter.success();
@@ -258,7 +291,10 @@ public final class FluxUtil {
                 }
 
                 @Override
-                public void failed(Throwable exc, Object attachment) {
+                public void failed(Throwable exc, ByteBuffer attachment) {
+                    if (pool != null) {
+                        pool.release(attachment);
+                    }
                     subscription.cancel();
                     emitter.error(exc);
                 }
@@ -292,7 +328,28 @@ public final class FluxUtil {
      */
     public static Flux<ByteBuffer> readFile(AsynchronousFileChannel fileChannel, int chunkSize, long offset,
                                             long length) {
-        return new FileReadFlux(fileChannel, chunkSize, offset, length);
+        return new FileReadFlux(fileChannel, chunkSize, offset, length, null);
+    }
+
+    /**
+     * Creates a {@link Flux} from an {@link AsynchronousFileChannel} which reads part of a file into chunks of the
+     * given size, read into buffers acquired from the pool.
+     *
+     * <p>Each emitted ByteBuffer is owned by the subscriber, which should release it to the pool once it's done with
+     * it, for example by writing it with {@link #writeFile(Flux, AsynchronousFileChannel, long, ByteBufferPool)}.
+     * Buffers which are never released are left to the garbage collector.</p>
+     *
+     * @param fileChannel The file channel.
+     * @param chunkSize the size of file chunks to read.
+     * @param offset The offset in the file to begin reading.
+     * @param length The number of bytes to read from the file.
+     * @param pool The pool the chunks are read into.
+     * @return the Flux.
+     */
+    public static Flux<ByteBuffer> readFile(AsynchronousFileChannel fileChannel, int chunkSize, long offset,
+                                            long length, ByteBufferPool pool) {
+        return new FileReadFlux(fileChannel, chunkSize, offset, length, Objects.requireNonNull(pool,
+            "'pool' cannot be null."));
     }
 
     /**
@@ -329,18 +386,21 @@ public final class FluxUtil {
         private final int chunkSize;
         private final long offset;
         private final long length;
+        private final ByteBufferPool pool;
 
-        FileReadFlux(AsynchronousFileChannel fileChannel, int chunkSize, long offset, long length) {
+        FileReadFlux(AsynchronousFileChannel fileChannel, int chunkSize, long offset, long length,
+                     ByteBufferPool pool) {
             this.fileChannel = fileChannel;
             this.chunkSize = chunkSize;
             this.offset = offset;
             this.length = length;
+            this.pool = pool;
         }
 
         @Override
         public void subscribe(CoreSubscriber<? super ByteBuffer> actual) {
             FileReadSubscription subscription =
-                new FileReadSubscription(actual, fileChannel, chunkSize, offset, length);
+                new FileReadSubscription(actual, fileChannel, chunkSize, offset, length, pool);
             actual.onSubscribe(subscription);
         }
 
@@ -355,6 +415,7 @@ public final class FluxUtil {
             private final int chunkSize;
             private final long offset;
             private final long length;
+            private final ByteBufferPool pool;
             //
             private volatile boolean done;
             private Throwable error;
@@ -372,13 +433,14 @@ public final class FluxUtil {
             //
 
             FileReadSubscription(Subscriber<? super ByteBuffer> subscriber, AsynchronousFileChannel fileChannel,
-                                 int chunkSize, long offset, long length) {
+                                 int chunkSize, long offset, long length, ByteBufferPool pool) {
                 this.subscriber = subscriber;
                 //
                 this.fileChannel = fileChannel;
                 this.chunkSize = chunkSize;
                 this.offset = offset;
                 this.length = length;
+                this.pool = pool;
                 //
                 this.position = NOT_SET;
             }
@@ -406,6 +468,7 @@ public final class FluxUtil {
             public void completed(Integer bytesRead, ByteBuffer buffer) {
                 if (!cancelled) {
                     if (bytesRead == -1) {
+                        release(buffer);
                         done = true;
                     } else {
                         // use local variable to perform fewer volatile reads
@@ -422,11 +485,14 @@ public final class FluxUtil {
                         }
                     }
                     drain();
+                } else {
+                    release(buffer);
                 }
             }
 
             @Override
             public void failed(Throwable exc, ByteBuffer attachment) {
+                release(attachment);
                 if (!cancelled) {
                     // must set error before setting done to true
                     // so that is visible in drain loop
@@ -493,10 +559,17 @@ public final class FluxUtil {
             private void doRead() {
                 // use local variable to limit volatile reads
                 long pos = position;
-                ByteBuffer innerBuf = ByteBuffer.allocate(Math.min(chunkSize, maxRequired(pos)));
+                int size = Math.min(chunkSize, maxRequired(pos));
+                ByteBuffer innerBuf = pool == null ? ByteBuffer.allocate(size) : pool.acquire(size);
                 fileChannel.read(innerBuf, pos, innerBuf, this);
             }
 
+            private void release(ByteBuffer buffer) {
+                if (pool != null) {
+                    pool.release(buffer);
+                }
+            }
+
             private int maxRequired(long pos) {
                 long maxRequired = offset + length - pos;
                 if (maxRequired <= 0) {
@@ -0,0 +1,127 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+import com.azure.core.util.Context;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Contract that all meters must implement to be pluggable into the SDK.
+ *
+ * <p>Meters are loaded with {@link java.util.ServiceLoader} and are called on the threads which send requests, so
+ * implementations must be thread-safe and shouldn't block. The tag maps passed to a meter must not be modified.</p>
+ *
+ * @see MeterProxy
+ */
+public interface Meter {
+    /**
+     * Key for {@link Context} which indicates that the context contains the name of the service the call is made to.
+     */
+    String SERVICE_NAME_KEY = "az.metrics.service";
+
+    /**
+     * Key for {@link Context} which indicates that the context contains the name of the client method which made the
+     * call.
+     */
+    String METHOD_NAME_KEY = "az.metrics.method";
+
+    /**
+     * Tag holding the name of the service, or the host of the request when the service name is unknown.
+     */
+    String SERVICE_TAG = "service";
+
+    /**
+     * Tag holding the name of the client method, or the HTTP method of the request when the client method is unknown.
+     */
+    String METHOD_TAG = "method";
+
+    /**
+     * Tag holding the status code of the response, or {@code error} when no response was received.
+     */
+    String STATUS_TAG = "status";
+
+    /**
+     * Tag holding the name of the HTTP client which sent the request.
+     */
+    String CLIENT_TAG = "client";
+
+    /**
+     * Duration of an HTTP operation from the start of the pipeline to the response, including retries.
+     */
+    String HTTP_REQUEST_DURATION = "azure.core.http.request.duration";
+
+    /**
+     * Number of HTTP operations in progress in the pipeline.
+     */
+    String HTTP_REQUESTS_ACTIVE = "azure.core.http.requests.active";
+
+    /**
+     * Size of request bodies in bytes, as declared by their Content-Length.
+     */
+    String HTTP_REQUEST_BYTES = "azure.core.http.request.bytes";
+
+    /**
+     * Size of response bodies in bytes, as declared by their Content-Length.
+     */
+    String HTTP_RESPONSE_BYTES = "azure.core.http.response.bytes";
+
+    /**
+     * Number of HTTP requests which were retried.
+     */
+    String HTTP_RETRIES = "azure.core.http.retries";
+
+    /**
+     * Time spent waiting between tries of an HTTP request.
+     */
+    String HTTP_RETRY_DELAY = "azure.core.http.retry.delay";
+
+    /**
+     * Time an HTTP client took from sending a request to receiving the response headers, for one try. Tagged with the
+     * HTTP client and the status of the response.
+     */
+    String HTTP_CLIENT_DURATION = "azure.core.http.client.duration";
+
+    /**
+     * Time a request waited for an access token.
+     */
+    String AUTH_TOKEN_DURATION = "azure.core.auth.token.duration";
+
+    /**
+     * Records a duration in a timer.
+     *
+     * @param name Name of the timer.
+     * @param duration The duration.
+     * @param tags Tags of the measurement.
+     */
+    void recordDuration(String name, Duration duration, Map<String, String> tags);
+
+    /**
+     * Records a value in a distribution, such as the size of a body.
+     *
+     * @param name Name of the distribution.
+     * @param value The value.
+     * @param tags Tags of the measurement.
+     */
+    void recordValue(String name, long value, Map<String, String> tags);
+
+    /**
+     * Increments a monotonic counter.
+     *
+     * @param name Name of the counter.
+     * @param amount The amount to add, which isn't negative.
+     * @param tags Tags of the measurement.
+     */
+    void incrementCounter(String name, long amount, Map<String, String> tags);
+
+    /**
+     * Adds to a counter which goes up and down, such as a number of operations in progress.
+     *
+     * @param name Name of the counter.
+     * @param delta The amount to add, which may be negative.
+     * @param tags Tags of the measurement.
+     */
+    void addUpDownCounter(String name, long delta, Map<String, String> tags);
+}
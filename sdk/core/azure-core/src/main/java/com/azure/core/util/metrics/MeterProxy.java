@@ -0,0 +1,230 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * This class provides a means for all client libraries to report metrics to every {@link Meter meter} plugged into
+ * the SDK.
+ *
+ * <p>The {@link com.azure.core.http.policy.MetricsPolicy} makes the meter and the tags of the operation it measures
+ * available to the rest of the pipeline under {@link #METER_CONTEXT_KEY} and {@link #TAGS_CONTEXT_KEY}, in the
+ * {@link com.azure.core.http.HttpPipelineCallContext} for policies and in the Reactor context for HTTP clients.
+ * During a synchronous send, HTTP clients find them on the calling thread with
+ * {@link #timeSync(String, Map, Supplier, Function)}.</p>
+ *
+ * @see Meter
+ */
+public final class MeterProxy implements Meter {
+    /**
+     * Key under which the {@link Meter} measuring an operation is stored in the pipeline and Reactor contexts.
+     */
+    public static final String METER_CONTEXT_KEY = "azure-metrics-meter";
+
+    /**
+     * Key under which the tags of an operation are stored in the pipeline and Reactor contexts.
+     */
+    public static final String TAGS_CONTEXT_KEY = "azure-metrics-tags";
+
+    private static final String ERROR_STATUS = "error";
+    private static final MeterProxy INSTANCE;
+    static {
+        ServiceLoader<Meter> serviceLoader = ServiceLoader.load(Meter.class);
+        List<Meter> meters = new ArrayList<>();
+        for (Meter meter : serviceLoader) {
+            meters.add(meter);
+        }
+        INSTANCE = new MeterProxy(Collections.unmodifiableList(meters));
+    }
+
+    private static final ThreadLocal<SyncContext> SYNC_CONTEXT = new ThreadLocal<>();
+
+    private final List<Meter> meters;
+
+    private MeterProxy(List<Meter> meters) {
+        this.meters = meters;
+    }
+
+    /**
+     * @return the meter which reports to every meter plugged into the SDK.
+     */
+    public static MeterProxy getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return whether any meter is plugged into the SDK.
+     */
+    public boolean isEnabled() {
+        return !meters.isEmpty();
+    }
+
+    @Override
+    public void recordDuration(String name, Duration duration, Map<String, String> tags) {
+        for (Meter meter : meters) {
+            meter.recordDuration(name, duration, tags);
+        }
+    }
+
+    @Override
+    public void recordValue(String name, long value, Map<String, String> tags) {
+        for (Meter meter : meters) {
+            meter.recordValue(name, value, tags);
+        }
+    }
+
+    @Override
+    public void incrementCounter(String name, long amount, Map<String, String> tags) {
+        for (Meter meter : meters) {
+            meter.incrementCounter(name, amount, tags);
+        }
+    }
+
+    @Override
+    public void addUpDownCounter(String name, long delta, Map<String, String> tags) {
+        for (Meter meter : meters) {
+            meter.addUpDownCounter(name, delta, tags);
+        }
+    }
+
+    /**
+     * Times a {@link Mono} from subscription until it completes or fails, using the meter and tags found in the
+     * Reactor context. The Mono is returned as is when the Reactor context contains no meter.
+     *
+     * @param name Name of the timer.
+     * @param additionalTags Tags added to the tags found in the Reactor context.
+     * @param mono The Mono to time.
+     * @param <T> Type of the value emitted by the Mono.
+     * @return The timed Mono.
+     */
+    public static <T> Mono<T> time(String name, Map<String, String> additionalTags, Mono<T> mono) {
+        return time(name, additionalTags, mono, null);
+    }
+
+    /**
+     * Times a {@link Mono} from subscription until it completes or fails, using the meter and tags found in the
+     * Reactor context, and tags the duration with the {@link Meter#STATUS_TAG status} of the emitted value, or
+     * {@code error} when the Mono fails. The Mono is returned as is when the Reactor context contains no meter.
+     *
+     * @param name Name of the timer.
+     * @param additionalTags Tags added to the tags found in the Reactor context.
+     * @param mono The Mono to time.
+     * @param statusMapper Gets the status of the emitted value, such as the status code of a response.
+     * @param <T> Type of the value emitted by the Mono.
+     * @return The timed Mono.
+     */
+    public static <T> Mono<T> time(String name, Map<String, String> additionalTags, Mono<T> mono,
+        Function<? super T, String> statusMapper) {
+        return Mono.subscriberContext().flatMap(context -> {
+            Meter meter = context.getOrDefault(METER_CONTEXT_KEY, null);
+            if (meter == null) {
+                return mono;
+            }
+
+            Map<String, String> contextTags = context.getOrDefault(TAGS_CONTEXT_KEY, Collections.emptyMap());
+            Map<String, String> tags = new HashMap<>(contextTags);
+            tags.putAll(additionalTags);
+            long start = System.nanoTime();
+            if (statusMapper == null) {
+                return mono.doOnEach(signal -> {
+                    if (signal.isOnComplete() || signal.isOnError()) {
+                        meter.recordDuration(name, Duration.ofNanos(System.nanoTime() - start), tags);
+                    }
+                });
+            }
+
+            return mono.doOnEach(signal -> {
+                if (signal.isOnNext() || signal.isOnError()) {
+                    tags.put(Meter.STATUS_TAG, signal.isOnNext() ? statusMapper.apply(signal.get()) : ERROR_STATUS);
+                    meter.recordDuration(name, Duration.ofNanos(System.nanoTime() - start), tags);
+                }
+            });
+        });
+    }
+
+    /**
+     * Runs a synchronous call with the given meter and tags available to {@link #timeSync(String, Map, Supplier,
+     * Function)} on the calling thread, as they are available in the Reactor context to {@link #time(String, Map,
+     * Mono, Function)}. The synchronous send of the pipeline calls the HTTP client with it.
+     *
+     * @param meter The meter measuring the operation.
+     * @param tags The tags of the operation.
+     * @param call The call.
+     * @param <T> Type of the value returned by the call.
+     * @return The value returned by the call.
+     */
+    public static <T> T callWithContext(Meter meter, Map<String, String> tags, Supplier<T> call) {
+        SyncContext previous = SYNC_CONTEXT.get();
+        SYNC_CONTEXT.set(new SyncContext(meter, tags));
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                SYNC_CONTEXT.remove();
+            } else {
+                SYNC_CONTEXT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Times a synchronous call until it returns or throws, using the meter and tags of the
+     * {@link #callWithContext(Meter, Map, Supplier) enclosing call} on the calling thread, and tags the duration with
+     * the {@link Meter#STATUS_TAG status} of the returned value, or {@code error} when the call throws. The call is
+     * only run when there is no enclosing call with a meter.
+     *
+     * @param name Name of the timer.
+     * @param additionalTags Tags added to the tags of the enclosing call.
+     * @param call The call to time.
+     * @param statusMapper Gets the status of the returned value, such as the status code of a response, or null to
+     * leave the duration without a status.
+     * @param <T> Type of the value returned by the call.
+     * @return The value returned by the call.
+     */
+    public static <T> T timeSync(String name, Map<String, String> additionalTags, Supplier<T> call,
+        Function<? super T, String> statusMapper) {
+        SyncContext context = SYNC_CONTEXT.get();
+        if (context == null) {
+            return call.get();
+        }
+
+        Map<String, String> tags = new HashMap<>(context.tags);
+        tags.putAll(additionalTags);
+        long start = System.nanoTime();
+        String status = ERROR_STATUS;
+        try {
+            T value = call.get();
+            if (statusMapper != null) {
+                status = statusMapper.apply(value);
+            }
+            return value;
+        } finally {
+            if (statusMapper != null) {
+                tags.put(Meter.STATUS_TAG, status);
+            }
+            context.meter.recordDuration(name, Duration.ofNanos(System.nanoTime() - start), tags);
+        }
+    }
+
+    private static final class SyncContext {
+        private final Meter meter;
+        private final Map<String, String> tags;
+
+        SyncContext(Meter meter, Map<String, String> tags) {
+            this.meter = meter;
+            this.tags = (tags == null) ? Collections.emptyMap() : tags;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -27,6 +28,11 @@ import java.util.function.Supplier;
  * invocation. The final completion signal will be send to the Subscriber when the last Page emitted by
  * the Flux returned by the Page Retriever has {@code null} continuation token.
  *
+ * <p>By default a page is retrieved when the Subscriber requests it, so the Subscriber waits a round trip between
+ * pages. When a page prefetch is configured, up to that many pages are retrieved ahead of the Subscriber's requests,
+ * each as soon as the continuation token of the previous one is known, so retrieving pages overlaps with processing
+ * them. Cancelling the subscription cancels the pages in flight and discards the pages retrieved ahead.</p>
+ *
  * <p><strong>Extending PagedFluxCore for Custom Continuation Token support</strong></p>
  * {@codesnippet com.azure.core.util.paging.pagedfluxcore.continuationtoken}
  *
@@ -41,6 +47,7 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
     extends ContinuablePagedFlux<C, T, P> {
     private final Supplier<PageRetriever<C, P>> pageRetrieverProvider;
     private final Integer defaultPageSize;
+    private final int pagePrefetch;
 
     /**
      * Creates an instance of {@link ContinuablePagedFluxCore}.
@@ -51,6 +58,7 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
         this.pageRetrieverProvider = Objects.requireNonNull(pageRetrieverProvider,
             "'pageRetrieverProvider' function cannot be null.");
         this.defaultPageSize = null;
+        this.pagePrefetch = 0;
     }
 
     /**
@@ -67,6 +75,30 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
             throw new IllegalArgumentException("pageSize > 0 required but provided: " + pageSize);
         }
         this.defaultPageSize = pageSize;
+        this.pagePrefetch = 0;
+    }
+
+    /**
+     * Creates an instance of {@link ContinuablePagedFluxCore} which retrieves pages ahead of the Subscriber.
+     *
+     * @param pageRetrieverProvider a provider that returns {@link PageRetriever}.
+     * @param pageSize the preferred page size, {@code null} if unspecified
+     * @param pagePrefetch the number of pages to retrieve ahead of the Subscriber's requests, 0 to retrieve pages
+     * only when requested
+     * @throws IllegalArgumentException if pageSize is not greater than zero or pagePrefetch is negative
+     */
+    protected ContinuablePagedFluxCore(Supplier<PageRetriever<C, P>> pageRetrieverProvider, Integer pageSize,
+        int pagePrefetch) {
+        this.pageRetrieverProvider = Objects.requireNonNull(pageRetrieverProvider,
+            "'pageRetrieverProvider' function cannot be null.");
+        if (pageSize != null && pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize > 0 required but provided: " + pageSize);
+        }
+        if (pagePrefetch < 0) {
+            throw new IllegalArgumentException("pagePrefetch >= 0 required but provided: " + pagePrefetch);
+        }
+        this.defaultPageSize = pageSize;
+        this.pagePrefetch = pagePrefetch;
     }
 
     /**
@@ -78,9 +110,27 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
         return this.defaultPageSize;
     }
 
+    /**
+     * Get the number of pages this {@link ContinuablePagedFluxCore} retrieves ahead of the Subscriber's requests.
+     *
+     * @return the page prefetch configured, 0 if pages are retrieved only when requested.
+     */
+    public int getPagePrefetch() {
+        return this.pagePrefetch;
+    }
+
+    /**
+     * Get the provider of the {@link PageRetriever} backing this {@link ContinuablePagedFluxCore}.
+     *
+     * @return the Page Retriever provider.
+     */
+    protected Supplier<PageRetriever<C, P>> getPageRetrieverProvider() {
+        return this.pageRetrieverProvider;
+    }
+
     @Override
     public Flux<P> byPage() {
-        return byPage(this.pageRetrieverProvider, null, this.defaultPageSize);
+        return byPage(this.pageRetrieverProvider, null, this.defaultPageSize, this.pagePrefetch);
     }
 
     @Override
@@ -88,7 +138,7 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
         if (continuationToken == null) {
             return Flux.empty();
         }
-        return byPage(this.pageRetrieverProvider, continuationToken, this.defaultPageSize);
+        return byPage(this.pageRetrieverProvider, continuationToken, this.defaultPageSize, this.pagePrefetch);
     }
 
     @Override
@@ -97,7 +147,7 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
             return Flux.error(new IllegalArgumentException("preferredPageSize > 0 required but provided: "
                 + preferredPageSize));
         }
-        return byPage(this.pageRetrieverProvider, null, preferredPageSize);
+        return byPage(this.pageRetrieverProvider, null, preferredPageSize, this.pagePrefetch);
     }
 
     @Override
@@ -109,7 +159,7 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
         if (continuationToken == null) {
             return Flux.empty();
         }
-        return byPage(this.pageRetrieverProvider, continuationToken, preferredPageSize);
+        return byPage(this.pageRetrieverProvider, continuationToken, preferredPageSize, this.pagePrefetch);
     }
 
     /**
@@ -121,14 +171,20 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
      */
     @Override
     public void subscribe(CoreSubscriber<? super T> coreSubscriber) {
-        byPage(this.pageRetrieverProvider, null, this.defaultPageSize)
-            .flatMap(page -> {
+        Flux<P> pages = byPage(this.pageRetrieverProvider, null, this.defaultPageSize, this.pagePrefetch);
+        if (this.pagePrefetch > 0) {
+            // The pages are already retrieved ahead, take them one at a time so the prefetch bounds the pages held.
+            pages.concatMapIterable(ContinuablePagedFluxCore::getElements, 1)
+                .subscribe(coreSubscriber);
+        } else {
+            pages.flatMap(page -> {
                 IterableStream<T> iterableStream = page.getElements();
                 return iterableStream == null
                     ? Flux.empty()
                     : Flux.fromIterable(page.getElements());
             })
-            .subscribe(coreSubscriber);
+                .subscribe(coreSubscriber);
+        }
     }
 
     /**
@@ -138,6 +194,7 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
      * @param provider the provider that when called returns Page Retriever Function
      * @param continuationToken the token to identify the pages to be retrieved
      * @param pageSize the preferred page size
+     * @param pagePrefetch the number of pages to retrieve ahead of the Subscriber's requests
      *
      * @param <C> the type of Continuation token
      * @param <T> The type of items in a {@link ContinuablePage}
@@ -146,12 +203,20 @@ public abstract class ContinuablePagedFluxCore<C, T, P extends ContinuablePage<C
      */
     private static <C, T, P extends ContinuablePage<C, T>>
         Flux<P> byPage(Supplier<PageRetriever<C, P>> provider,
-                   C continuationToken, Integer pageSize) {
-        return Flux.defer(() -> {
+                   C continuationToken, Integer pageSize, int pagePrefetch) {
+        Flux<P> pages = Flux.defer(() -> {
             final PageRetriever<C, P> pageRetriever = provider.get();
             final ContinuationState<C> state = new ContinuationState<>(continuationToken);
             return concatFluxOfPage(state, pageRetriever, pageSize);
         });
+        // Requests pagePrefetch pages upfront, then one more for each page emitted, so as many pages stay in flight
+        // or buffered ahead of the Subscriber.
+        return pagePrefetch > 0 ? pages.limitRate(pagePrefetch, 1) : pages;
+    }
+
+    private static <T> Iterable<T> getElements(ContinuablePage<?, T> page) {
+        IterableStream<T> iterableStream = page.getElements();
+        return iterableStream == null ? Collections.emptyList() : iterableStream;
     }
 
     /**
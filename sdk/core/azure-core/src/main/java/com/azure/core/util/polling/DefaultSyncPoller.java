@@ -33,6 +33,8 @@ final class DefaultSyncPoller<T, U> implements SyncPoller<T, U> {
     private final PollResponse<T> activationResponse;
     private volatile PollingContext<T> terminalPollContext;
     private final PollingContext<T> pollingContext = new PollingContext<>();
+    private final PollingScheduler pollingScheduler;
+    private final String pollingEndpoint;
 
     /**
      * Creates DefaultSyncPoller.
@@ -57,6 +59,27 @@ final class DefaultSyncPoller<T, U> implements SyncPoller<T, U> {
                              Function<PollingContext<T>, Mono<PollResponse<T>>> pollOperation,
                              BiFunction<PollingContext<T>, PollResponse<T>, Mono<T>> cancelOperation,
                              Function<PollingContext<T>, Mono<U>> fetchResultOperation) {
+        this(pollInterval, syncActivationOperation, pollOperation, cancelOperation, fetchResultOperation, null, null);
+    }
+
+    /**
+     * Creates DefaultSyncPoller waiting between polls on a shared scheduler.
+     *
+     * @param pollInterval the polling interval.
+     * @param syncActivationOperation the operation to synchronously activate (start) the long running operation.
+     * @param pollOperation the operation to poll the current state of long running operation.
+     * @param cancelOperation the operation to cancel the long running operation.
+     * @param fetchResultOperation the operation to retrieve final result of the long running operation.
+     * @param pollingScheduler the scheduler of the waits between polls, or null to wait on a timer of the poller.
+     * @param pollingEndpoint the endpoint the scheduler groups polls by, required if a scheduler is given.
+     */
+    DefaultSyncPoller(Duration pollInterval,
+                             Function<PollingContext<T>, PollResponse<T>> syncActivationOperation,
+                             Function<PollingContext<T>, Mono<PollResponse<T>>> pollOperation,
+                             BiFunction<PollingContext<T>, PollResponse<T>, Mono<T>> cancelOperation,
+                             Function<PollingContext<T>, Mono<U>> fetchResultOperation,
+                             PollingScheduler pollingScheduler,
+                             String pollingEndpoint) {
         Objects.requireNonNull(pollInterval, "'pollInterval' cannot be null.");
         if (pollInterval.compareTo(Duration.ZERO) <= 0) {
             throw logger.logExceptionAsWarning(new IllegalArgumentException(
@@ -68,6 +91,8 @@ final class DefaultSyncPoller<T, U> implements SyncPoller<T, U> {
         this.cancelOperation = Objects.requireNonNull(cancelOperation, "'cancelOperation' cannot be null.");
         this.fetchResultOperation = Objects.requireNonNull(fetchResultOperation,
             "'fetchResultOperation' cannot be null.");
+        this.pollingScheduler = pollingScheduler;
+        this.pollingEndpoint = pollingEndpoint;
         this.activationResponse = syncActivationOperation.apply(this.pollingContext);
         //
         this.pollingContext.setOnetimeActivationResponse(this.activationResponse);
@@ -230,7 +255,8 @@ final class DefaultSyncPoller<T, U> implements SyncPoller<T, U> {
             // Do polling
             // set|read to|from context as needed, reactor guarantee thread-safety of cxt object.
             cxt -> Mono.defer(() -> pollOperation.apply(cxt))
-                    .delaySubscription(getDelay(cxt.getLatestResponse()))
+                    .delaySubscription(Mono.defer(() -> PollerFlux.delay(this.pollingScheduler, this.pollingEndpoint,
+                        getDelay(cxt.getLatestResponse()))))
                     .switchIfEmpty(Mono.error(new IllegalStateException("PollOperation returned Mono.empty().")))
                     .repeat()
                     .takeUntil(currentPollResponse -> currentPollResponse.getStatus().isComplete())
@@ -49,6 +49,8 @@ public final class PollerFlux<T, U> extends Flux<AsyncPollResponse<T, U>> {
     private final Function<PollingContext<T>, Mono<U>> fetchResultOperation;
     private final Mono<Boolean> oneTimeActivationMono;
     private final Function<PollingContext<T>, PollResponse<T>> syncActivationOperation;
+    private volatile PollingScheduler pollingScheduler;
+    private volatile String pollingEndpoint;
 
     /**
      * Creates PollerFlux.
@@ -178,6 +180,22 @@ public final class PollerFlux<T, U> extends Flux<AsyncPollResponse<T, U>> {
             .subscribe(actual);
     }
 
+    /**
+     * Waits between polls on the given shared scheduler, instead of a timer of this poller. The polls of pollers
+     * sharing a scheduler and an endpoint are grouped and rate limited together. Subscriptions made after the call, and
+     * the synchronous pollers it returns, use the scheduler.
+     *
+     * @param pollingScheduler the scheduler of the waits between polls.
+     * @param endpoint the service endpoint polled by the long running operation, such as its host.
+     * @return the updated PollerFlux.
+     * @throws NullPointerException if {@code pollingScheduler} or {@code endpoint} is null.
+     */
+    public PollerFlux<T, U> setPollingScheduler(PollingScheduler pollingScheduler, String endpoint) {
+        this.pollingEndpoint = Objects.requireNonNull(endpoint, "'endpoint' cannot be null.");
+        this.pollingScheduler = Objects.requireNonNull(pollingScheduler, "'pollingScheduler' cannot be null.");
+        return this;
+    }
+
     /**
      * @return a synchronous blocking poller.
      */
@@ -186,7 +204,9 @@ public final class PollerFlux<T, U> extends Flux<AsyncPollResponse<T, U>> {
                 this.syncActivationOperation,
                 this.pollOperation,
                 this.cancelOperation,
-                this.fetchResultOperation);
+                this.fetchResultOperation,
+                this.pollingScheduler,
+                this.pollingEndpoint);
     }
 
     /**
@@ -195,13 +215,15 @@ public final class PollerFlux<T, U> extends Flux<AsyncPollResponse<T, U>> {
      * @return a Flux that emits polling event.
      */
     private Flux<AsyncPollResponse<T, U>> pollingLoop() {
+        final PollingScheduler scheduler = this.pollingScheduler;
+        final String endpoint = this.pollingEndpoint;
         return Flux.using(
             // Create a Polling Context per subscription
             () -> this.rootContext.copy(),
             // Do polling
             // set|read to|from context as needed, reactor guarantee thread-safety of cxt object.
             cxt -> Mono.defer(() -> this.pollOperation.apply(cxt))
-                .delaySubscription(getDelay(cxt.getLatestResponse()))
+                .delaySubscription(Mono.defer(() -> delay(scheduler, endpoint, getDelay(cxt.getLatestResponse()))))
                 .switchIfEmpty(Mono.error(new IllegalStateException("PollOperation returned Mono.empty().")))
                 .repeat()
                 .takeUntil(currentPollResponse -> currentPollResponse.getStatus().isComplete())
@@ -221,6 +243,18 @@ public final class PollerFlux<T, U> extends Flux<AsyncPollResponse<T, U>> {
             cxt -> { });
     }
 
+    /**
+     * Wait before the next poll attempt, on the polling scheduler if one is set.
+     *
+     * @param scheduler the polling scheduler or null
+     * @param endpoint the endpoint the scheduler groups polls by
+     * @param delay the duration to wait
+     * @return a Mono completing after the wait
+     */
+    static Mono<?> delay(PollingScheduler scheduler, String endpoint, Duration delay) {
+        return (scheduler == null) ? Mono.delay(delay) : scheduler.delay(endpoint, delay);
+    }
+
     /**
      * Get the duration to wait before making next poll attempt.
      *
@@ -0,0 +1,225 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduler of the waits between the polls of long running operations, which can be shared by any number of
+ * {@link PollerFlux} and {@link SyncPoller}. Rather than each poller arming its own timer, the waits of all the
+ * pollers are held by a single hierarchical timing wheel driven by one thread, which keeps the cost of a poller
+ * constant however many operations are in progress.
+ *
+ * <p>The wheel advances by ticks. Polls due within the same tick are released together, grouped by the service
+ * endpoint they target, and a poll is never released before its wait has passed, so the Retry-After durations returned
+ * by the service are honored. Optionally the polls of each endpoint are rate limited: polls beyond the limit are
+ * deferred to the next free slot of the endpoint rather than sent.</p>
+ *
+ * <p>Pollers use the scheduler once it's set with {@link PollerFlux#setPollingScheduler(PollingScheduler, String)}.
+ * The thread of the scheduler only runs while polls are pending.</p>
+ */
+public final class PollingScheduler {
+    private static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(50);
+    private static final int DEFAULT_WHEEL_SIZE = 256;
+    private static final Duration MAX_DELAY = Duration.ofNanos(Long.MAX_VALUE / 4);
+    private static final PollingScheduler DEFAULT = new PollingScheduler();
+
+    private final ClientLogger logger = new ClientLogger(PollingScheduler.class);
+
+    private final long tickNanos;
+    private final int wheelSize;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // Guarded by this.
+    private final Map<String, Long> endpointSlots = new HashMap<>();
+    private TimingWheel<PendingPoll> wheel;
+    private ScheduledFuture<?> ticker;
+    private int pendingPolls;
+
+    /**
+     * Creates a scheduler with a tick of 50 milliseconds which doesn't rate limit polls.
+     */
+    public PollingScheduler() {
+        this(DEFAULT_TICK_DURATION, 0);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param tickDuration The granularity of the waits, a poll is released at most one tick after its wait.
+     * @param maxPollsPerSecond The maximum number of polls per second released for an endpoint, 0 for no limit. Up to
+     * a second worth of polls is released at once.
+     * @throws NullPointerException If {@code tickDuration} is null.
+     * @throws IllegalArgumentException If {@code tickDuration} isn't positive or {@code maxPollsPerSecond} is
+     * negative.
+     */
+    public PollingScheduler(Duration tickDuration, int maxPollsPerSecond) {
+        this(tickDuration, maxPollsPerSecond, DEFAULT_WHEEL_SIZE);
+    }
+
+    PollingScheduler(Duration tickDuration, int maxPollsPerSecond, int wheelSize) {
+        Objects.requireNonNull(tickDuration, "'tickDuration' cannot be null.");
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'tickDuration' must be positive."));
+        }
+        if (maxPollsPerSecond < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxPollsPerSecond' cannot be negative."));
+        }
+
+        this.tickNanos = tickDuration.toNanos();
+        this.wheelSize = wheelSize;
+        this.emissionIntervalNanos = (maxPollsPerSecond == 0) ? 0 : TimeUnit.SECONDS.toNanos(1) / maxPollsPerSecond;
+        this.burstToleranceNanos = (maxPollsPerSecond == 0) ? 0 : emissionIntervalNanos * (maxPollsPerSecond - 1);
+        this.executor = new ScheduledThreadPoolExecutor(1, PollingScheduler::newThread);
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "azure-polling-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * @return The scheduler shared by the pollers of the process, with a tick of 50 milliseconds and no rate limit.
+     */
+    public static PollingScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a Mono which completes once the given wait has passed and the endpoint can be polled. It completes on a
+     * thread of the {@link Schedulers#parallel() parallel} scheduler, and cancelling it removes the wait.
+     *
+     * @param endpoint The service endpoint which is polled after the wait, used to group and rate limit polls.
+     * @param delay The minimum wait, a negative or zero wait completes on the next tick.
+     * @return A Mono completing when the endpoint can be polled.
+     * @throws NullPointerException If {@code endpoint} or {@code delay} is null.
+     */
+    public Mono<Void> delay(String endpoint, Duration delay) {
+        Objects.requireNonNull(endpoint, "'endpoint' cannot be null.");
+        Objects.requireNonNull(delay, "'delay' cannot be null.");
+
+        return Mono.<Void>create(sink -> {
+            long delayNanos = delay.isNegative() ? 0 : ((delay.compareTo(MAX_DELAY) > 0) ? MAX_DELAY : delay).toNanos();
+            TimingWheel.Timer<PendingPoll> timer = new TimingWheel.Timer<>(new PendingPoll(endpoint, sink),
+                System.nanoTime() + delayNanos);
+            sink.onCancel(timer::cancel);
+            schedule(timer);
+        }).publishOn(Schedulers.parallel());
+    }
+
+    private synchronized void schedule(TimingWheel.Timer<PendingPoll> timer) {
+        if (wheel == null) {
+            wheel = new TimingWheel<>(tickNanos, wheelSize, System.nanoTime());
+        }
+
+        // A timer due in a past tick is released by the next tick.
+        if (!wheel.add(timer)) {
+            timer.setDeadlineNanos(System.nanoTime());
+            wheel.add(timer);
+        }
+        pendingPolls++;
+
+        if (ticker == null) {
+            ticker = executor.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void tick() {
+        List<TimingWheel.Timer<PendingPoll>> expired = new ArrayList<>();
+        List<PendingPoll> released = new ArrayList<>();
+
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            wheel.advance(now, expired);
+
+            // Group the polls by endpoint, the order the timers expired in is kept within an endpoint.
+            Map<String, List<TimingWheel.Timer<PendingPoll>>> byEndpoint = new HashMap<>();
+            for (TimingWheel.Timer<PendingPoll> timer : expired) {
+                if (timer.isCancelled()) {
+                    pendingPolls--;
+                    continue;
+                }
+                byEndpoint.computeIfAbsent(timer.getValue().endpoint, ignored -> new ArrayList<>()).add(timer);
+            }
+
+            for (List<TimingWheel.Timer<PendingPoll>> timers : byEndpoint.values()) {
+                for (TimingWheel.Timer<PendingPoll> timer : timers) {
+                    long slot = reserveSlot(timer.getValue(), now);
+                    if (slot <= now) {
+                        pendingPolls--;
+                        released.add(timer.getValue());
+                    } else {
+                        timer.setDeadlineNanos(slot);
+                        wheel.add(timer);
+                    }
+                }
+            }
+
+            if (pendingPolls == 0) {
+                ticker.cancel(false);
+                ticker = null;
+                wheel = null;
+                endpointSlots.values().removeIf(slot -> slot <= now);
+            }
+        }
+
+        for (PendingPoll poll : released) {
+            poll.sink.success();
+        }
+    }
+
+    /*
+     * Reserves the slot of the poll within the rate limit of its endpoint, with the generic cell rate algorithm: the
+     * endpoint's next slot moves by the emission interval for each poll, and a poll can go as long as that slot is
+     * within the burst tolerance of now. A deferred poll keeps its reservation when it expires again.
+     */
+    private long reserveSlot(PendingPoll poll, long now) {
+        if (emissionIntervalNanos == 0 || poll.reserved) {
+            return now;
+        }
+
+        Long nextSlot = endpointSlots.get(poll.endpoint);
+        long start = (nextSlot == null) ? now : Math.max(nextSlot, now);
+        endpointSlots.put(poll.endpoint, start + emissionIntervalNanos);
+        poll.reserved = true;
+        return Math.max(now, start - burstToleranceNanos);
+    }
+
+    /*
+     * A wait of a poller for the next poll of an endpoint.
+     */
+    private static final class PendingPoll {
+        private final String endpoint;
+        private final MonoSink<Void> sink;
+        private boolean reserved;
+
+        PendingPoll(String endpoint, MonoSink<Void> sink) {
+            this.endpoint = endpoint;
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * INTERNAL PACKAGE PRIVATE CLASS
+ *
+ * A hierarchical timing wheel holding timers by deadline. Each level has a fixed number of buckets and every bucket
+ * spans one tick of the level; the tick of a level is the whole span of the level below it. Adding or cancelling a
+ * timer is constant time whatever the number of timers, and advancing the clock only visits the buckets whose tick
+ * has passed, moving the timers of an upper level bucket down a level once the clock reaches its span.
+ *
+ * <p>A timer is released once the tick containing its deadline has fully passed, so it never fires before its
+ * deadline and at most one tick after it. Cancelled timers are released too, at the latest when they would have been
+ * due, so the owner of the wheel can count them out. The wheel isn't thread safe, {@link PollingScheduler} guards
+ * it.</p>
+ *
+ * @param <T> The type of the timers.
+ */
+final class TimingWheel<T> {
+    private final long tickNanos;
+    private final int wheelSize;
+    private final long intervalNanos;
+    private final ArrayDeque<Timer<T>>[] buckets;
+
+    // The start of the tick whose bucket is drained next, a multiple of tickNanos.
+    private long currentTime;
+    private TimingWheel<T> overflowWheel;
+
+    /**
+     * Creates the lowest level of a wheel.
+     *
+     * @param tickNanos The span of a bucket in nanoseconds.
+     * @param wheelSize The number of buckets of each level.
+     * @param startNanos The current time in nanoseconds.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimingWheel(long tickNanos, int wheelSize, long startNanos) {
+        this.tickNanos = tickNanos;
+        this.wheelSize = wheelSize;
+        // The top level spans the rest of the clock rather than overflowing it.
+        this.intervalNanos = (tickNanos > Long.MAX_VALUE / wheelSize) ? Long.MAX_VALUE : tickNanos * wheelSize;
+        this.buckets = new ArrayDeque[wheelSize];
+        this.currentTime = Math.floorDiv(startNanos, tickNanos) * tickNanos;
+    }
+
+    /**
+     * Adds the timer to the wheel.
+     *
+     * @param timer The timer.
+     * @return {@code false} if the deadline of the timer is in a tick which already passed, in which case it's due.
+     */
+    boolean add(Timer<T> timer) {
+        long deadline = timer.getDeadlineNanos();
+        if (deadline < currentTime) {
+            return false;
+        }
+
+        if (deadline - currentTime < intervalNanos) {
+            int index = (int) Math.floorMod(Math.floorDiv(deadline, tickNanos), (long) wheelSize);
+            ArrayDeque<Timer<T>> bucket = buckets[index];
+            if (bucket == null) {
+                bucket = new ArrayDeque<>();
+                buckets[index] = bucket;
+            }
+            bucket.add(timer);
+        } else {
+            if (overflowWheel == null) {
+                overflowWheel = new TimingWheel<>(intervalNanos, wheelSize, currentTime);
+            }
+            overflowWheel.add(timer);
+        }
+        return true;
+    }
+
+    /**
+     * Advances the clock of the lowest level, collecting the timers of the ticks which passed.
+     *
+     * @param nowNanos The current time in nanoseconds.
+     * @param expired The list the due timers are added to.
+     */
+    void advance(long nowNanos, List<Timer<T>> expired) {
+        while (currentTime + tickNanos <= nowNanos) {
+            drain(bucketOf(currentTime), expired);
+            currentTime += tickNanos;
+            if (overflowWheel != null) {
+                overflowWheel.cascade(currentTime, this, expired);
+            }
+        }
+    }
+
+    /*
+     * Called when the clock of the level below reaches lowerTime. When a tick of this level starts, the timers of its
+     * bucket are moved to the level below, which spans exactly that tick.
+     */
+    private void cascade(long lowerTime, TimingWheel<T> lower, List<Timer<T>> expired) {
+        if (lowerTime < currentTime + tickNanos) {
+            return;
+        }
+
+        currentTime = Math.floorDiv(lowerTime, tickNanos) * tickNanos;
+        if (overflowWheel != null) {
+            overflowWheel.cascade(currentTime, this, expired);
+        }
+
+        ArrayDeque<Timer<T>> bucket = bucketOf(currentTime);
+        if (bucket == null) {
+            return;
+        }
+
+        Timer<T> timer;
+        while ((timer = bucket.poll()) != null) {
+            // Cancelled timers are released right away, their owner discards them.
+            if (timer.isCancelled() || !lower.add(timer)) {
+                expired.add(timer);
+            }
+        }
+    }
+
+    private ArrayDeque<Timer<T>> bucketOf(long time) {
+        return buckets[(int) Math.floorMod(Math.floorDiv(time, tickNanos), (long) wheelSize)];
+    }
+
+    private static <T> void drain(ArrayDeque<Timer<T>> bucket, List<Timer<T>> expired) {
+        if (bucket == null) {
+            return;
+        }
+
+        expired.addAll(bucket);
+        bucket.clear();
+    }
+
+    /**
+     * A timer of the wheel.
+     *
+     * @param <T> The type of the value of the timer.
+     */
+    static final class Timer<T> {
+        private final T value;
+        private volatile long deadlineNanos;
+        private volatile boolean cancelled;
+
+        Timer(T value, long deadlineNanos) {
+            this.value = value;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        long getDeadlineNanos() {
+            return deadlineNanos;
+        }
+
+        void setDeadlineNanos(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
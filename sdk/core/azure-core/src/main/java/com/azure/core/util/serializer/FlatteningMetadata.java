@@ -0,0 +1,162 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.serializer;
+
+import com.azure.core.implementation.TypeUtil;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The flattened properties of a {@link com.azure.core.annotation.JsonFlatten} class, computed once per class and
+ * shared by every mapper.
+ *
+ * <p>A property is flattened when its {@link JsonProperty} name contains a '.' that isn't escaped with a backslash,
+ * e.g. {@code "properties.name"} is read from and written to {@code {"properties":{"name":...}}}. The properties are
+ * kept as a tree of wire names, children in declaration order, so the JSON can be matched against it token by
+ * token.</p>
+ */
+final class FlatteningMetadata {
+    private static final Map<Class<?>, FlatteningMetadata> CACHE = new ConcurrentHashMap<>();
+    private static final Pattern UNESCAPED_DOT = Pattern.compile("((?<!\\\\))\\.");
+
+    private final PathNode root = new PathNode();
+    private final List<String> properties = new ArrayList<>();
+    private final Set<String> propertySet = new HashSet<>();
+
+    private FlatteningMetadata(Class<?> clazz) {
+        for (Class<?> c : TypeUtil.getAllClasses(clazz)) {
+            // Ignore checks for Object type.
+            if (c.isAssignableFrom(Object.class)) {
+                continue;
+            }
+            for (Field field : c.getDeclaredFields()) {
+                JsonProperty property = field.getAnnotation(JsonProperty.class);
+                if (property == null) {
+                    continue;
+                }
+
+                String[] path = splitPath(property.value());
+                if (path != null) {
+                    root.add(path, property.value(), properties.size());
+                    properties.add(property.value());
+                    propertySet.add(property.value());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the flattening metadata of a class.
+     *
+     * @param clazz the class annotated with {@link com.azure.core.annotation.JsonFlatten}.
+     * @return the flattening metadata of the class.
+     */
+    static FlatteningMetadata get(Class<?> clazz) {
+        return CACHE.computeIfAbsent(clazz, FlatteningMetadata::new);
+    }
+
+    /**
+     * Splits a property name into the object names it's nested under on the wire followed by its own name, with
+     * escaped dots unescaped.
+     *
+     * @param name the property name.
+     * @return the wire path of the property, or null if the name has no dots and is written as is.
+     */
+    static String[] splitPath(String name) {
+        if (name == null || name.indexOf('.') < 0 || name.startsWith(".") || name.endsWith(".")) {
+            return null;
+        }
+
+        String[] path = UNESCAPED_DOT.split(name);
+        for (int i = 0; i < path.length; i++) {
+            path[i] = path[i].replace("\\.", ".");
+        }
+        return path;
+    }
+
+    /**
+     * @return the root of the flattened property tree.
+     */
+    PathNode getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the names of the flattened properties.
+     */
+    List<String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Checks whether a name is the name of a flattened property.
+     *
+     * @param name the name.
+     * @return true if a flattened property has the name, false otherwise.
+     */
+    boolean isProperty(String name) {
+        return propertySet.contains(name);
+    }
+
+    /**
+     * A wire name in the flattened property tree.
+     */
+    static final class PathNode {
+        private Map<String, PathNode> children;
+        private String property;
+        private int index;
+
+        /**
+         * Gets the node for a nested wire name.
+         *
+         * @param name the wire name.
+         * @return the child node, or null if no flattened property is nested under the name.
+         */
+        PathNode getChild(String name) {
+            return children == null ? null : children.get(name);
+        }
+
+        /**
+         * @return whether flattened properties are nested under this node.
+         */
+        boolean hasChildren() {
+            return children != null;
+        }
+
+        /**
+         * @return the name of the property this node is the wire location of, or null if there is none.
+         */
+        String getProperty() {
+            return property;
+        }
+
+        /**
+         * @return the position of the property in {@link #getProperties()}, if this node has one.
+         */
+        int getIndex() {
+            return index;
+        }
+
+        private void add(String[] path, String propertyName, int propertyIndex) {
+            PathNode node = this;
+            for (String name : path) {
+                if (node.children == null) {
+                    node.children = new LinkedHashMap<>();
+                }
+                node = node.children.computeIfAbsent(name, ignored -> new PathNode());
+            }
+            node.property = propertyName;
+            node.index = propertyIndex;
+        }
+    }
+}
@@ -72,19 +72,32 @@ public class JacksonAdapter implements SerializerAdapter {
      * Creates a new JacksonAdapter instance with default mapper settings.
      */
     public JacksonAdapter() {
+        this(false);
+    }
+
+    /**
+     * Creates a new JacksonAdapter instance with default mapper settings.
+     *
+     * <p>By default types annotated with {@link com.azure.core.annotation.JsonFlatten} are flattened by converting
+     * them to and from a {@code JsonNode} tree. When {@code streamingFlattening} is true their wrapped properties are
+     * instead mapped while the JSON tokens are read and written, using property metadata computed once per type,
+     * which avoids creating the tree for every model. In that mode only the properties of the annotated types are
+     * unwrapped, map keys containing dots are written unchanged and in the map's own order.</p>
+     *
+     * @param streamingFlattening whether to flatten {@link com.azure.core.annotation.JsonFlatten} types without
+     * an intermediate {@code JsonNode} tree.
+     */
+    public JacksonAdapter(boolean streamingFlattening) {
         simpleMapper = initializeObjectMapper(new ObjectMapper());
         xmlMapper = initializeObjectMapper(new XmlMapper());
         xmlMapper.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
         xmlMapper.setDefaultUseWrapper(false);
-        ObjectMapper flatteningMapper = initializeObjectMapper(new ObjectMapper())
-            .registerModule(FlatteningSerializer.getModule(simpleMapper()))
-            .registerModule(FlatteningDeserializer.getModule(simpleMapper()));
-        mapper = initializeObjectMapper(new ObjectMapper())
+        ObjectMapper flatteningMapper = registerFlatteningModules(initializeObjectMapper(new ObjectMapper()),
+            streamingFlattening);
+        mapper = registerFlatteningModules(initializeObjectMapper(new ObjectMapper())
             // Order matters: must register in reverse order of hierarchy
             .registerModule(AdditionalPropertiesSerializer.getModule(flatteningMapper))
-            .registerModule(AdditionalPropertiesDeserializer.getModule(flatteningMapper))
-            .registerModule(FlatteningSerializer.getModule(simpleMapper()))
-            .registerModule(FlatteningDeserializer.getModule(simpleMapper()));
+            .registerModule(AdditionalPropertiesDeserializer.getModule(flatteningMapper)), streamingFlattening);
         headerMapper = simpleMapper
             .copy()
             .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
@@ -274,6 +287,18 @@ public class JacksonAdapter implements SerializerAdapter {
         return mapper;
     }
 
+    private ObjectMapper registerFlatteningModules(ObjectMapper mapper, boolean streamingFlattening) {
+        if (streamingFlattening) {
+            return mapper
+                .registerModule(StreamingFlatteningSerializer.getModule())
+                .registerModule(StreamingFlatteningDeserializer.getModule());
+        } else {
+            return mapper
+                .registerModule(FlatteningSerializer.getModule(simpleMapper()))
+                .registerModule(FlatteningDeserializer.getModule(simpleMapper()));
+        }
+    }
+
     private JavaType createJavaType(Type type) {
         JavaType result;
         if (type == null) {
@@ -0,0 +1,164 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.serializer;
+
+import com.azure.core.annotation.JsonFlatten;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Custom deserializer for complex types with wrapped properties which works on the JSON tokens rather than on a
+ * {@code JsonNode} tree. For example, a property with annotation @JsonProperty(value = "properties.name") will be
+ * mapped to a top level "name" property in the POJO model.
+ *
+ * <p>The object's tokens are copied once into a {@link TokenBuffer} with the wrapped properties renamed to their
+ * flattened names, which is then read by the default deserializer of the type.</p>
+ */
+final class StreamingFlatteningDeserializer extends StdDeserializer<Object> implements ResolvableDeserializer {
+    private static final long serialVersionUID = 3591409328596380214L;
+
+    /**
+     * The default deserializer for the current type.
+     */
+    private final JsonDeserializer<?> defaultDeserializer;
+
+    private final transient FlatteningMetadata metadata;
+
+    /**
+     * Creates an instance of StreamingFlatteningDeserializer.
+     * @param vc handled type
+     * @param defaultDeserializer the default JSON deserializer
+     */
+    StreamingFlatteningDeserializer(Class<?> vc, JsonDeserializer<?> defaultDeserializer) {
+        super(vc);
+        this.defaultDeserializer = defaultDeserializer;
+        this.metadata = FlatteningMetadata.get(vc);
+    }
+
+    /**
+     * Gets a module wrapping this deserializer as an adapter for the Jackson
+     * ObjectMapper.
+     *
+     * @return a simple module to be plugged onto Jackson ObjectMapper.
+     */
+    static SimpleModule getModule() {
+        SimpleModule module = new SimpleModule();
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                if (beanDesc.getBeanClass().getAnnotation(JsonFlatten.class) != null) {
+                    return new StreamingFlatteningDeserializer(beanDesc.getBeanClass(), deserializer);
+                }
+                return deserializer;
+            }
+        });
+        return module;
+    }
+
+    @Override
+    public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return defaultDeserializer.deserialize(jp, ctxt);
+        }
+
+        TokenBuffer buffer = new TokenBuffer(jp, ctxt);
+        List<String> properties = metadata.getProperties();
+        boolean[] found = new boolean[properties.size()];
+        buffer.writeStartObject();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String name = jp.getCurrentName();
+            jp.nextToken();
+
+            FlatteningMetadata.PathNode node = metadata.getRoot().getChild(name);
+            if (node == null && metadata.isProperty(name)) {
+                // A field named like a flattened property, the unwrapped value takes precedence.
+                jp.skipChildren();
+            } else if (node == null) {
+                buffer.writeFieldName(name);
+                buffer.copyCurrentStructure(jp);
+            } else {
+                copyFlattened(jp, node, buffer, found);
+            }
+        }
+
+        // Wrapped properties that aren't in the payload are deserialized as null.
+        for (int i = 0; i < found.length; i++) {
+            if (!found[i]) {
+                buffer.writeFieldName(properties.get(i));
+                buffer.writeNull();
+            }
+        }
+        buffer.writeEndObject();
+
+        JsonParser parser = buffer.asParser(jp);
+        parser.nextToken();
+        return defaultDeserializer.deserialize(parser, ctxt);
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        ((ResolvableDeserializer) defaultDeserializer).resolve(ctxt);
+    }
+
+    /*
+     * Copies the value the parser is positioned on, and the values of any flattened properties nested in it, under
+     * their flattened names.
+     */
+    private static void copyFlattened(JsonParser jp, FlatteningMetadata.PathNode node, TokenBuffer buffer,
+                                      boolean[] found) throws IOException {
+        if (node.getProperty() != null && node.hasChildren()) {
+            // The value is both a property and the parent of other properties, it has to be read twice.
+            TokenBuffer value = new TokenBuffer(jp);
+            value.copyCurrentStructure(jp);
+            buffer.writeFieldName(node.getProperty());
+            buffer.append(value);
+            found[node.getIndex()] = true;
+
+            JsonParser valueParser = value.asParser(jp);
+            valueParser.nextToken();
+            copyNested(valueParser, node, buffer, found);
+        } else if (node.getProperty() != null) {
+            buffer.writeFieldName(node.getProperty());
+            buffer.copyCurrentStructure(jp);
+            found[node.getIndex()] = true;
+        } else {
+            copyNested(jp, node, buffer, found);
+        }
+    }
+
+    private static void copyNested(JsonParser jp, FlatteningMetadata.PathNode node, TokenBuffer buffer,
+                                   boolean[] found) throws IOException {
+        if (jp.currentToken() != JsonToken.START_OBJECT) {
+            jp.skipChildren();
+            return;
+        }
+
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            FlatteningMetadata.PathNode child = node.getChild(jp.getCurrentName());
+            jp.nextToken();
+            if (child == null) {
+                jp.skipChildren();
+            } else {
+                copyFlattened(jp, child, buffer, found);
+            }
+        }
+    }
+}
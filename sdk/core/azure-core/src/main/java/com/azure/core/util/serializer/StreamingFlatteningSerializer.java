@@ -0,0 +1,324 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.serializer;
+
+import com.azure.core.annotation.JsonFlatten;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Custom serializer for types with wrapped properties which writes the JSON tokens directly rather than building a
+ * {@code JsonNode} tree. For example, a property with annotation @JsonProperty(value = "properties.name") will be
+ * mapped from a top level "name" property in the POJO model to {'properties' : { 'name' : 'my_name' }} in the
+ * serialized payload.
+ *
+ * <p>The properties of the default bean serializer are arranged once into a tree of the objects they're nested under,
+ * and each wrapped property is written through a copy of its property writer renamed to its innermost name. Only the
+ * properties of {@link JsonFlatten} classes are unwrapped, map keys are written as they are.</p>
+ *
+ * <p>As with {@link FlatteningSerializer}, a property written to the same name as an object enclosing wrapped
+ * properties, e.g. {@code "properties"} next to {@code "properties.name"}, has its fields merged into that object.</p>
+ */
+final class StreamingFlatteningSerializer extends StdSerializer<Object> implements ResolvableSerializer {
+    private static final long serialVersionUID = -3853214683437315376L;
+
+    /**
+     * The default serializer for the current type.
+     */
+    private final JsonSerializer<Object> defaultSerializer;
+
+    /*
+     * The tree of properties, children in declaration order. Created once the default serializer is resolved, as
+     * resolving it may replace its property writers.
+     */
+    private transient volatile Group properties;
+
+    /**
+     * Creates an instance of StreamingFlatteningSerializer.
+     * @param vc handled type
+     * @param defaultSerializer the default JSON serializer, a {@link BeanSerializerBase}
+     */
+    @SuppressWarnings("unchecked")
+    StreamingFlatteningSerializer(Class<?> vc, JsonSerializer<?> defaultSerializer) {
+        super(vc, false);
+        this.defaultSerializer = (JsonSerializer<Object>) defaultSerializer;
+    }
+
+    /**
+     * Gets a module wrapping this serializer as an adapter for the Jackson
+     * ObjectMapper.
+     *
+     * @return a simple module to be plugged onto Jackson ObjectMapper.
+     */
+    static SimpleModule getModule() {
+        SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (beanDesc.getBeanClass().getAnnotation(JsonFlatten.class) != null
+                    && serializer instanceof BeanSerializerBase) {
+                    return new StreamingFlatteningSerializer(beanDesc.getBeanClass(), serializer);
+                }
+                return serializer;
+            }
+        });
+        return module;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            jgen.writeNull();
+            return;
+        }
+
+        jgen.writeStartObject(value);
+        writeProperties(value, jgen, provider);
+        jgen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(gen,
+            typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties(value, gen, provider);
+        typeSerializer.writeTypeSuffix(gen, typeId);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        ((ResolvableSerializer) defaultSerializer).resolve(provider);
+        arrangeProperties(provider);
+    }
+
+    private void writeProperties(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (properties == null) {
+            arrangeProperties(provider);
+        }
+
+        try {
+            writeGroup(value, gen, provider, properties, new ArrayDeque<>());
+        } catch (Exception ex) {
+            wrapAndThrow(provider, ex, value, null);
+        }
+    }
+
+    /*
+     * Writes the properties of a group. The objects enclosing the group are only written once a property in it is, so
+     * a group whose properties are all suppressed doesn't leave an empty object behind.
+     */
+    private static boolean writeGroup(Object value, JsonGenerator gen, SerializerProvider provider, Group group,
+                                      Deque<String> pendingObjects) throws Exception {
+        boolean started = false;
+        if (group.merged != null) {
+            started = writeMergedFields(value, gen, provider, group, pendingObjects);
+        }
+
+        for (Object child : group.children.values()) {
+            if (child instanceof Group) {
+                Group childGroup = (Group) child;
+                pendingObjects.addLast(childGroup.name);
+                if (writeGroup(value, gen, provider, childGroup, pendingObjects)) {
+                    started = true;
+                    gen.writeEndObject();
+                } else {
+                    pendingObjects.removeLast();
+                }
+            } else if (pendingObjects.isEmpty()) {
+                ((BeanPropertyWriter) child).serializeAsField(value, gen, provider);
+                started = true;
+            } else {
+                // Whether the writer suppresses its value, as null, empty or default, is only known once it writes
+                // its name, so the enclosing objects are written then.
+                ((BeanPropertyWriter) child).serializeAsField(value, new PendingObjectsGenerator(gen, pendingObjects),
+                    provider);
+                started = pendingObjects.isEmpty();
+            }
+        }
+        return started;
+    }
+
+    /*
+     * Writes the fields of the object value of the property merged into a group, except those the group writes
+     * itself, as the wrapped properties replace them in FlatteningSerializer.
+     */
+    private static boolean writeMergedFields(Object value, JsonGenerator gen, SerializerProvider provider, Group group,
+                                             Deque<String> pendingObjects) throws Exception {
+        TokenBuffer buffer = new TokenBuffer(gen.getCodec(), false);
+        buffer.writeStartObject();
+        group.merged.serializeAsField(value, buffer, provider);
+        buffer.writeEndObject();
+
+        JsonNode mergedValue;
+        try (JsonParser parser = buffer.asParser(gen.getCodec())) {
+            mergedValue = parser.readValueAsTree();
+        }
+        Iterator<JsonNode> values = mergedValue.elements();
+        if (!values.hasNext()) {
+            return false;
+        }
+
+        JsonNode fields = values.next();
+        if (fields.isNull()) {
+            return false;
+        } else if (!(fields instanceof ObjectNode)) {
+            provider.reportMappingProblem("Property '%s' isn't an object and can't enclose wrapped properties.",
+                group.merged.getName());
+        }
+
+        PendingObjectsGenerator.writePendingObjects(gen, pendingObjects);
+        Iterator<Map.Entry<String, JsonNode>> iterator = fields.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            if (!group.children.containsKey(field.getKey())) {
+                gen.writeFieldName(field.getKey());
+                gen.writeTree(field.getValue());
+            }
+        }
+        return true;
+    }
+
+    private synchronized void arrangeProperties(SerializerProvider provider) throws JsonMappingException {
+        if (properties != null) {
+            return;
+        }
+
+        Group root = new Group(null);
+        Iterator<PropertyWriter> writers = defaultSerializer.properties();
+        while (writers.hasNext()) {
+            BeanPropertyWriter writer = (BeanPropertyWriter) writers.next();
+            String property = writer.getName();
+            String[] path = FlatteningMetadata.splitPath(property);
+            if (path == null) {
+                path = new String[] { property };
+            } else {
+                writer = writer.rename(new LeafName(path[path.length - 1]));
+            }
+
+            Group group = root;
+            for (int i = 0; i < path.length - 1; i++) {
+                Object child = group.children.get(path[i]);
+                if (child instanceof Group) {
+                    group = (Group) child;
+                    continue;
+                }
+
+                Group childGroup = new Group(path[i]);
+                childGroup.merged = (BeanPropertyWriter) child;
+                group.children.put(path[i], childGroup);
+                group = childGroup;
+            }
+
+            String name = path[path.length - 1];
+            Object child = group.children.get(name);
+            if (child == null) {
+                group.children.put(name, writer);
+            } else if (child instanceof Group && ((Group) child).merged == null) {
+                ((Group) child).merged = writer;
+            } else {
+                provider.reportBadDefinition(handledType(), String.format(
+                    "Property '%s' of %s is written to the same name as another property.", property,
+                    handledType().getName()));
+            }
+        }
+
+        properties = root;
+    }
+
+    /*
+     * An object on the wire enclosing wrapped properties, children are either nested groups or property writers. The
+     * object value of a property written to the name of the group is merged into it.
+     */
+    private static final class Group {
+        private final String name;
+        private final Map<String, Object> children = new LinkedHashMap<>();
+        private BeanPropertyWriter merged;
+
+        Group(String name) {
+            this.name = name;
+        }
+    }
+
+    /*
+     * Writes the objects enclosing a property before its name, if the property writer writes it.
+     */
+    private static final class PendingObjectsGenerator extends JsonGeneratorDelegate {
+        private final Deque<String> pendingObjects;
+
+        PendingObjectsGenerator(JsonGenerator gen, Deque<String> pendingObjects) {
+            super(gen, true);
+            this.pendingObjects = pendingObjects;
+        }
+
+        @Override
+        public void writeFieldName(String name) throws IOException {
+            writePendingObjects(delegate, pendingObjects);
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeFieldName(SerializableString name) throws IOException {
+            writePendingObjects(delegate, pendingObjects);
+            super.writeFieldName(name);
+        }
+
+        static void writePendingObjects(JsonGenerator gen, Deque<String> pendingObjects) throws IOException {
+            while (!pendingObjects.isEmpty()) {
+                gen.writeFieldName(pendingObjects.pollFirst());
+                gen.writeStartObject();
+            }
+        }
+    }
+
+    /*
+     * Renames a wrapped property writer to the innermost name on its path.
+     */
+    private static final class LeafName extends NameTransformer {
+        private final String name;
+
+        LeafName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String transform(String name) {
+            return this.name;
+        }
+
+        @Override
+        public String reverse(String transformed) {
+            return null;
+        }
+    }
+}
@@ -233,4 +233,15 @@ public interface Tracer {
         // no-op
         return Context.NONE;
     }
+
+    /**
+     * Returns whether the tracer records spans. A tracer which isn't backed by a tracing implementation, or whose
+     * implementation drops every span, returns {@code false} so callers can skip creating spans and propagating their
+     * context altogether.
+     *
+     * @return {@code true} if spans started by the tracer may be recorded, {@code false} otherwise.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
 }
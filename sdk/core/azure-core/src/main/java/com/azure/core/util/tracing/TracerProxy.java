@@ -31,6 +31,22 @@ public final class TracerProxy {
         // no-op
     }
 
+    /**
+     * Returns whether any {@link Tracer tracer} plugged into the SDK records spans. When none does, callers can skip
+     * naming and starting spans, and the bookkeeping that ends them, as every call would be a no-op.
+     *
+     * @return {@code true} if a plugged in tracer is enabled, {@code false} otherwise.
+     */
+    public static boolean isTracingEnabled() {
+        for (Tracer tracer : TRACERS) {
+            if (tracer.isEnabled()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * A new tracing span is created for each {@link Tracer tracer} plugged into the SDK.
      *
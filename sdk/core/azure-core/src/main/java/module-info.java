@@ -23,11 +23,15 @@ module com.azure.core {
     exports com.azure.core.http.rest;
     exports com.azure.core.util;
     exports com.azure.core.util.logging;
+    exports com.azure.core.util.metrics;
     exports com.azure.core.util.paging;
     exports com.azure.core.util.polling;
     exports com.azure.core.util.serializer;
     exports com.azure.core.util.tracing;
 
+    // implementation shared with the HTTP client modules
+    exports com.azure.core.implementation.http to com.azure.http.netty, com.azure.core.http.okhttp;
+
     // exporting some packages specifically for Jackson
     opens com.azure.core.http to com.fasterxml.jackson.databind;
     opens com.azure.core.util to com.fasterxml.jackson.databind;
@@ -40,6 +44,7 @@ module com.azure.core {
 
     // service provider interfaces
     uses com.azure.core.util.tracing.Tracer;
+    uses com.azure.core.util.metrics.Meter;
     uses com.azure.core.http.HttpClientProvider;
     uses com.azure.core.http.policy.BeforeRetryPolicyProvider;
     uses com.azure.core.http.policy.AfterRetryPolicyProvider;
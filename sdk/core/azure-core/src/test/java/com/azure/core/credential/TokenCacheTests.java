@@ -7,12 +7,21 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -79,6 +88,135 @@ public class TokenCacheTests {
         Assertions.assertTrue(refreshes.get() <= 11);
     }
 
+    @Test
+    public void refreshingCacheFetchesOnceForConcurrentMisses() {
+        AtomicInteger fetches = new AtomicInteger();
+        RefreshingTokenCache cache = new RefreshingTokenCache(() -> {
+            fetches.incrementAndGet();
+            return remoteGetTokenAsync(500);
+        });
+
+        List<String> tokens = Flux.range(1, 10)
+            .flatMap(i -> cache.getToken().subscribeOn(Schedulers.parallel()))
+            .map(AccessToken::getToken)
+            .collectList()
+            .block();
+
+        Assertions.assertEquals(1, fetches.get());
+        Assertions.assertEquals(10, tokens.size());
+        Assertions.assertEquals(1, new HashSet<>(tokens).size());
+        Assertions.assertEquals(10, cache.getMissCount());
+        Assertions.assertEquals(1, cache.getRefreshCount());
+        Assertions.assertTrue(cache.getLastRefreshLatency().toMillis() >= 500);
+    }
+
+    @Test
+    public void refreshingCacheServesCachedTokenWhileRefreshing() {
+        TestClock clock = new TestClock();
+        AtomicInteger fetches = new AtomicInteger();
+        MonoProcessor<AccessToken> refresh = MonoProcessor.create();
+        RefreshingTokenCache cache = new RefreshingTokenCache(() -> fetches.incrementAndGet() == 1
+            ? Mono.just(new AccessToken("1", clock.expiresIn(2000)))
+            : refresh,
+            Duration.ofMillis(1500), Duration.ZERO, clock);
+
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+
+        // Past the refresh time, the cached token is returned without waiting on the refresh.
+        clock.advance(1100);
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+        Assertions.assertEquals(2, fetches.get());
+
+        refresh.onNext(new AccessToken("2", clock.expiresIn(2000)));
+        Assertions.assertEquals("2", cache.getToken().block().getToken());
+        Assertions.assertEquals(2, fetches.get());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(3, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getRefreshCount());
+    }
+
+    @Test
+    public void refreshingCacheKeepsTokenWhenBackgroundRefreshFails() {
+        TestClock clock = new TestClock();
+        AtomicInteger fetches = new AtomicInteger();
+        RefreshingTokenCache cache = new RefreshingTokenCache(() -> fetches.incrementAndGet() == 1
+            ? Mono.just(new AccessToken("1", clock.expiresIn(60000)))
+            : Mono.error(new IllegalStateException("unavailable")),
+            Duration.ofMillis(50000), Duration.ZERO, clock);
+
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+
+        clock.advance(30000);
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+
+        // The failed refresh isn't retried on every call, only 30 seconds later.
+        Assertions.assertEquals(2, fetches.get());
+        Assertions.assertEquals(1, cache.getRefreshFailureCount());
+
+        clock.advance(29000);
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+        Assertions.assertEquals(2, fetches.get());
+
+        clock.advance(1000);
+        Assertions.assertEquals("1", cache.getToken().block().getToken());
+        Assertions.assertEquals(3, fetches.get());
+        Assertions.assertEquals(2, cache.getRefreshFailureCount());
+    }
+
+    @Test
+    public void refreshingCacheTimesOutTokenSupplier() {
+        AtomicInteger fetches = new AtomicInteger();
+        StepVerifier.withVirtualTime(() -> new RefreshingTokenCache(() -> fetches.incrementAndGet() == 1
+                ? Mono.never()
+                : Mono.just(new Token("2"))).getToken())
+            .expectSubscription()
+            .expectNoEvent(Duration.ofSeconds(29))
+            .thenAwait(Duration.ofSeconds(1))
+            .verifyError(TimeoutException.class);
+    }
+
+    @Test
+    public void refreshingCacheCallsSupplierAgainAfterTimeout() {
+        AtomicInteger fetches = new AtomicInteger();
+        StepVerifier.withVirtualTime(() -> {
+            RefreshingTokenCache cache = new RefreshingTokenCache(() -> fetches.incrementAndGet() == 1
+                ? Mono.never()
+                : Mono.just(new Token("2")));
+            return cache.getToken().onErrorResume(TimeoutException.class, ignored -> cache.getToken())
+                .map(AccessToken::getToken);
+        })
+            .expectSubscription()
+            .thenAwait(Duration.ofSeconds(30))
+            .expectNext("2")
+            .verifyComplete();
+        Assertions.assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void refreshingCacheRetriesFailedFetch() {
+        AtomicInteger fetches = new AtomicInteger();
+        RefreshingTokenCache cache = new RefreshingTokenCache(() -> fetches.incrementAndGet() == 1
+            ? Mono.error(new IllegalStateException("unavailable"))
+            : Mono.just(new Token("2")));
+
+        StepVerifier.create(cache.getToken())
+            .verifyErrorMessage("unavailable");
+
+        StepVerifier.create(cache.getToken().map(AccessToken::getToken))
+            .expectNext("2")
+            .verifyComplete();
+    }
+
+    @Test
+    public void refreshingCacheRejectsNegativeDurations() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new RefreshingTokenCache(() -> remoteGetTokenAsync(0), Duration.ofSeconds(-1), Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new RefreshingTokenCache(() -> remoteGetTokenAsync(0), Duration.ZERO, Duration.ofSeconds(-1)));
+    }
+
     private Mono<AccessToken> remoteGetTokenAsync(long delayInMillis) {
         return Mono.delay(Duration.ofMillis(delayInMillis))
             .map(l -> new Token(Integer.toString(RANDOM.nextInt(100))));
@@ -95,6 +233,40 @@ public class TokenCacheTests {
             .map(l -> new Token(Integer.toString(RANDOM.nextInt(100))));
     }
 
+    /*
+     * A clock which only moves when the test advances it.
+     */
+    private static final class TestClock extends Clock {
+        private volatile Instant now = Instant.now();
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        /*
+         * Gets the expiry to create an AccessToken with for it to expire after the given time, as AccessToken moves
+         * its expiry 2 minutes earlier.
+         */
+        OffsetDateTime expiresIn(long millis) {
+            return OffsetDateTime.ofInstant(now.plusMillis(millis).plus(Duration.ofMinutes(2)), ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
     private static class Token extends AccessToken {
         private String token;
         private OffsetDateTime expiry;
@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http;
+
+import com.azure.core.exception.UnexpectedLengthException;
+import com.azure.core.util.FluxUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileContentTests {
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        content = new byte[10000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 7);
+        }
+        file = Files.createTempFile("file-content", ".bin");
+        Files.write(file, content);
+    }
+
+    @AfterEach
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void readsTheRangeEachTimeItIsSubscribedTo() {
+        FileContent fileContent = new FileContent(file, 100, 5000, 1024);
+        byte[] expected = Arrays.copyOfRange(content, 100, 5100);
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(FluxUtil.collectBytesInByteBufferStream(fileContent))
+                .assertNext(bytes -> assertArrayEquals(expected, bytes))
+                .verifyComplete();
+        }
+    }
+
+    @Test
+    public void errorsWhenTheFileIsTooShort() {
+        StepVerifier.create(new FileContent(file, 5000, 6000))
+            .thenConsumeWhile(ignored -> true)
+            .verifyError(UnexpectedLengthException.class);
+    }
+
+    @Test
+    public void setBodySetsContentLength() {
+        HttpRequest request = new HttpRequest(HttpMethod.PUT, "http://localhost")
+            .setBody(new FileContent(file, 0, content.length));
+
+        assertEquals(String.valueOf(content.length), request.getHeaders().getValue("Content-Length"));
+        assertEquals(FileContent.class, request.getBody().getClass());
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(NullPointerException.class, () -> new FileContent(null, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FileContent(file, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FileContent(file, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> new FileContent(file, 0, 0, 0));
+    }
+}
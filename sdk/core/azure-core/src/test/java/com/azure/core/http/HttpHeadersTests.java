@@ -5,8 +5,25 @@ package com.azure.core.http;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class HttpHeadersTests {
     @Test
@@ -41,4 +58,153 @@ public class HttpHeadersTests {
 
         assertEquals("key1=value1, key2=value2, key3=value3", headers.toString());
     }
+
+    @Test
+    public void lookupsAreCaseInsensitive() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.put("Content-Type", "application/json");
+
+        assertEquals("application/json", headers.getValue("content-type"));
+        assertEquals("application/json", headers.getValue("CONTENT-TYPE"));
+        assertEquals("Content-Type", headers.get("cOnTeNt-TyPe").getName());
+        assertEquals(1, headers.getSize());
+    }
+
+    @Test
+    public void removeKeepsRemainingHeadersInOrder() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.put("key1", "value1");
+        headers.put("key2", "value2");
+        headers.put("key3", "value3");
+
+        assertEquals("value2", headers.remove("KEY2").getValue());
+        assertNull(headers.remove("key2"));
+        assertNull(headers.getValue("key2"));
+        assertEquals(2, headers.getSize());
+        assertEquals("key1=value1, key3=value3", headers.toString());
+
+        headers.put("key2", "value4");
+        assertEquals("key1=value1, key3=value3, key2=value4", headers.toString());
+    }
+
+    @Test
+    public void growsPastInitialCapacity() {
+        final HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < 100; i++) {
+            headers.put("header" + i, "value" + i);
+        }
+
+        // Remove and re-add to exercise rebuilding the table with removed entries.
+        for (int i = 0; i < 100; i += 2) {
+            headers.remove("HEADER" + i);
+        }
+        for (int i = 100; i < 150; i++) {
+            headers.put("header" + i, "value" + i);
+        }
+
+        assertEquals(100, headers.getSize());
+        for (int i = 0; i < 150; i++) {
+            if (i < 100 && i % 2 == 0) {
+                assertNull(headers.get("header" + i));
+            } else {
+                assertEquals("value" + i, headers.getValue("Header" + i));
+            }
+        }
+
+        final List<String> names = new ArrayList<>();
+        headers.forEach(header -> names.add(header.getName()));
+        assertEquals(headers.stream().map(HttpHeader::getName).collect(Collectors.toList()), names);
+        assertEquals("header1", names.get(0));
+        assertEquals("header149", names.get(names.size() - 1));
+    }
+
+    @Test
+    public void iteratingEmptyHeaders() {
+        final Iterator<HttpHeader> iterator = new HttpHeaders().iterator();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(0, new HttpHeaders().stream().count());
+        assertNull(new HttpHeaders().remove("a"));
+    }
+
+    @Test
+    public void modifyingDuringIteration() {
+        final HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < 8; i++) {
+            headers.put("header" + i, "value" + i);
+        }
+
+        final List<String> names = new ArrayList<>();
+        for (final HttpHeader header : headers) {
+            names.add(header.getName());
+            if ("header1".equals(header.getName())) {
+                // Removing a header not yet returned skips it, changing one updates it, and growing the table while
+                // iterating neither repeats nor skips the remaining headers.
+                headers.remove("header2");
+                headers.put("HEADER3", "changed");
+                for (int i = 8; i < 40; i++) {
+                    headers.put("header" + i, "value" + i);
+                }
+            }
+        }
+
+        assertEquals(Arrays.asList("header0", "header1", "HEADER3", "header4", "header5", "header6", "header7"), names);
+        assertEquals(39, headers.getSize());
+
+        // Removing every header while iterating, as done when copying and clearing headers.
+        for (final HttpHeader header : headers) {
+            headers.remove(header.getName());
+        }
+        assertEquals(0, headers.getSize());
+        assertFalse(headers.iterator().hasNext());
+    }
+
+    @Test
+    public void concurrentModificationAndIteration() throws Exception {
+        final HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < 16; i++) {
+            headers.put("stable" + i, "value" + i);
+        }
+
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                for (int round = 0; round < 2000; round++) {
+                    for (int i = 0; i < 20; i++) {
+                        headers.put("transient" + i, "value" + round);
+                    }
+                    for (int i = 0; i < 20; i++) {
+                        headers.remove("transient" + i);
+                    }
+                }
+                done.set(true);
+            });
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        final Set<String> seen = new HashSet<>();
+                        for (final HttpHeader header : headers) {
+                            assertTrue(seen.add(header.getName()), "Header returned twice: " + header.getName());
+                        }
+                        for (int i = 0; i < 16; i++) {
+                            assertTrue(seen.contains("stable" + i));
+                            assertEquals("value" + i, headers.getValue("STABLE" + i));
+                        }
+                    }
+                }));
+            }
+
+            writer.get(60, TimeUnit.SECONDS);
+            for (final Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(16, headers.getSize());
+    }
 }
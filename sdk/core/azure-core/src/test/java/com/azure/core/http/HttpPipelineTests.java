@@ -3,17 +3,29 @@
 
 package com.azure.core.http;
 
+import com.azure.core.credential.AccessToken;
 import com.azure.core.http.clients.NoOpHttpClient;
+import com.azure.core.http.policy.BearerTokenAuthenticationPolicy;
+import com.azure.core.http.policy.CookiePolicy;
+import com.azure.core.http.policy.FixedDelay;
+import com.azure.core.http.policy.HostPolicy;
 import com.azure.core.http.policy.PortPolicy;
 import com.azure.core.http.policy.ProtocolPolicy;
 import com.azure.core.http.policy.RequestIdPolicy;
 import com.azure.core.http.policy.RetryPolicy;
 import com.azure.core.http.policy.UserAgentPolicy;
+import com.azure.core.util.Context;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -146,4 +158,93 @@ public class HttpPipelineTests {
         assertNotNull(response);
         assertEquals(200, response.getStatusCode());
     }
+
+    @Test
+    public void sendSyncRunsOnCallingThread() throws MalformedURLException {
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new ArrayList<>();
+        final int[] attempts = new int[1];
+        final HttpPipeline httpPipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public HttpResponse sendSync(HttpRequest request) {
+                    threads.add(Thread.currentThread());
+                    assertNotNull(request.getHeaders().getValue("x-ms-client-request-id"));
+                    assertEquals("my-user-agent", request.getHeaders().getValue("User-Agent"));
+                    assertEquals("async", request.getHeaders().getValue("x-policy"));
+                    return new MockHttpResponse(request, (attempts[0]++ == 0) ? 503 : 200);
+                }
+            })
+            .policies(new UserAgentPolicy("my-user-agent"), new RequestIdPolicy(),
+                new RetryPolicy(new FixedDelay(3, Duration.ofMillis(1))),
+                // A policy without a synchronous implementation runs its asynchronous one.
+                (context, next) -> {
+                    context.getHttpRequest().setHeader("x-policy", "async");
+                    return next.process();
+                })
+            .build();
+
+        final HttpResponse response = httpPipeline.sendSync(new HttpRequest(HttpMethod.GET,
+            new URL("http://my.site.com/1")), Context.NONE);
+        assertEquals(200, response.getStatusCode());
+        assertEquals(Arrays.asList(caller, caller), threads);
+    }
+
+    @Test
+    public void sendSyncRunsPoliciesWithoutReactor() throws MalformedURLException {
+        final List<String> cookies = new ArrayList<>();
+        final HttpPipeline httpPipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public HttpResponse sendSync(HttpRequest request) {
+                    // The policies ran their synchronous implementation, no publisher was subscribed to.
+                    assertFalse(Arrays.stream(new Throwable().getStackTrace())
+                        .anyMatch(frame -> frame.getClassName().startsWith("reactor.")));
+                    assertEquals("https://other.site.com:8443/1", request.getUrl().toString());
+                    cookies.add(request.getHeaders().getValue("Cookie"));
+                    return new MockHttpResponse(request, 200, new HttpHeaders().put("Set-Cookie", "session=1"));
+                }
+            })
+            .policies(new UserAgentPolicy(), new RetryPolicy(), new CookiePolicy(),
+                new HostPolicy("other.site.com"), new PortPolicy(8443, true), new ProtocolPolicy("https", true))
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            final HttpResponse response = httpPipeline.sendSync(new HttpRequest(HttpMethod.GET,
+                new URL("http://my.site.com/1")), Context.NONE);
+            assertEquals(200, response.getStatusCode());
+        }
+        assertEquals(Arrays.asList("", "session=1"), cookies);
+    }
+
+    @Test
+    public void sendSyncRunsPoliciesAfterAPolicyWhichDelays() throws MalformedURLException {
+        final List<Thread> threads = new ArrayList<>();
+        final int[] attempts = new int[1];
+        final HttpPipeline httpPipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public HttpResponse sendSync(HttpRequest request) {
+                    threads.add(Thread.currentThread());
+                    assertEquals("Bearer token", request.getHeaders().getValue("Authorization"));
+                    return new MockHttpResponse(request, (attempts[0]++ == 0) ? 503 : 200);
+                }
+            })
+            .policies(
+                // Retries after a delay, so the retry subscribes on a Reactor non-blocking thread.
+                (context, next) -> next.clone().process().flatMap(response -> response.getStatusCode() == 503
+                    ? next.clone().process().delaySubscription(Duration.ofMillis(1))
+                    : Mono.just(response)),
+                new RequestIdPolicy(),
+                new BearerTokenAuthenticationPolicy(request -> Mono.delay(Duration.ofMillis(1))
+                    .map(ignored -> new AccessToken("token", OffsetDateTime.now().plusHours(1))), "scope"))
+            .build();
+
+        final HttpResponse response = httpPipeline.sendSync(new HttpRequest(HttpMethod.GET,
+            new URL("https://my.site.com/1")), Context.NONE);
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, threads.size());
+        // The policies after the delay waited on a thread which can block.
+        assertFalse(Schedulers.isNonBlockingThread(threads.get(1)));
+    }
 }
@@ -0,0 +1,273 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.exception.HttpRequestException;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.http.clients.NoOpHttpClient;
+import com.azure.core.util.Context;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class AdaptiveRetryPolicyTests {
+
+    @Test
+    public void retryBudgetCapsRetries() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy(new FixedDelay(3, Duration.ZERO),
+            new RetryBudget(0, 2)).setCircuitBreaker(0, Duration.ZERO);
+        HttpPipeline pipeline = pipeline(strategy, request -> {
+            sent.incrementAndGet();
+            return Mono.just(new MockHttpResponse(request, 503));
+        });
+
+        // The first request spends the 2 tokens of the budget, the second isn't retried.
+        Assertions.assertEquals(503, pipeline.send(get()).block().getStatusCode());
+        Assertions.assertEquals(3, sent.get());
+        Assertions.assertEquals(503, pipeline.send(get()).block().getStatusCode());
+        Assertions.assertEquals(4, sent.get());
+    }
+
+    @Test
+    public void circuitBreakerOpensAndRecovers() throws Exception {
+        AtomicInteger status = new AtomicInteger(500);
+        AtomicInteger sent = new AtomicInteger();
+        AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy(new FixedDelay(0, Duration.ZERO),
+            new RetryBudget()).setCircuitBreaker(2, Duration.ofMillis(200));
+        HttpPipeline pipeline = pipeline(strategy, request -> {
+            sent.incrementAndGet();
+            return Mono.just(new MockHttpResponse(request, status.get()));
+        });
+
+        pipeline.send(get()).block();
+        pipeline.send(get()).block();
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, strategy.getCircuitBreaker("localhost").getState());
+        Assertions.assertThrows(HttpRequestException.class, () -> pipeline.send(get()).block());
+        Assertions.assertEquals(2, sent.get());
+
+        Thread.sleep(300);
+        status.set(200);
+        Assertions.assertEquals(200, pipeline.send(get()).block().getStatusCode());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, strategy.getCircuitBreaker("localhost").getState());
+    }
+
+    @Test
+    public void slowGetIsHedged() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy()
+            .setHedging(0.9, Duration.ofMillis(50));
+        HttpPipeline pipeline = pipeline(strategy, request -> {
+            // After the latencies are recorded, the first attempt hangs and the hedged attempt answers.
+            Mono<HttpResponse> response = Mono.just(new MockHttpResponse(request, 200));
+            return (sent.incrementAndGet() == 17) ? response.delayElement(Duration.ofSeconds(30)) : response;
+        });
+
+        for (int i = 0; i < 16; i++) {
+            pipeline.send(get()).block();
+        }
+
+        Assertions.assertEquals(200, pipeline.send(get()).block(Duration.ofSeconds(5)).getStatusCode());
+        Assertions.assertEquals(18, sent.get());
+    }
+
+    @Test
+    public void losingHedgedResponseIsClosed() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        List<LateResponse> lateResponses = new CopyOnWriteArrayList<>();
+        AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy()
+            .setHedging(0.9, Duration.ofMillis(50));
+        HttpPipeline pipeline = pipeline(strategy, request -> {
+            // After the latencies are recorded, the responses of both attempts are held back.
+            if (sent.incrementAndGet() <= 16) {
+                return Mono.just(new MockHttpResponse(request, 200));
+            }
+            LateResponse lateResponse = new LateResponse(new ClosableResponse(request));
+            lateResponses.add(lateResponse);
+            return lateResponse;
+        });
+
+        for (int i = 0; i < 16; i++) {
+            pipeline.send(get()).block();
+        }
+
+        CompletableFuture<HttpResponse> result = pipeline.send(get()).toFuture();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (lateResponses.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(2, lateResponses.size());
+
+        // Both attempts complete, the hedged attempt first.
+        lateResponses.get(1).complete();
+        lateResponses.get(0).complete();
+
+        HttpResponse response = result.get(5, TimeUnit.SECONDS);
+        Assertions.assertSame(lateResponses.get(1).response, response);
+        Assertions.assertFalse(lateResponses.get(1).response.closed);
+        Assertions.assertTrue(lateResponses.get(0).response.closed);
+    }
+
+    @Test
+    public void postIsNotHedged() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy()
+            .setHedging(0.9, Duration.ofMillis(10));
+        HttpPipeline pipeline = pipeline(strategy, request -> {
+            Mono<HttpResponse> response = Mono.just(new MockHttpResponse(request, 200));
+            return (sent.incrementAndGet() > 16) ? response.delayElement(Duration.ofMillis(200)) : response;
+        });
+
+        for (int i = 0; i < 16; i++) {
+            pipeline.send(get()).block();
+        }
+
+        HttpRequest post = new HttpRequest(HttpMethod.POST, new URL("http://localhost/"));
+        Assertions.assertEquals(200, pipeline.send(post).block().getStatusCode());
+        Assertions.assertEquals(17, sent.get());
+    }
+
+    @Test
+    public void sendSyncRetriesOnTheCallingThread() throws Exception {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy(new FixedDelay(3, Duration.ofMillis(10)),
+            new RetryBudget());
+        HttpPipeline pipeline = syncPipeline(strategy, request -> {
+            threads.add(Thread.currentThread());
+            return new MockHttpResponse(request, (threads.size() < 3) ? 503 : 200);
+        });
+
+        Assertions.assertEquals(200, pipeline.sendSync(get(), Context.NONE).getStatusCode());
+        Assertions.assertEquals(3, threads.size());
+        threads.forEach(thread -> Assertions.assertSame(Thread.currentThread(), thread));
+    }
+
+    @Test
+    public void slowGetIsHedgedThroughSendSync() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        AdaptiveRetryStrategy strategy = new AdaptiveRetryStrategy()
+            .setHedging(0.9, Duration.ofMillis(50));
+        HttpPipeline pipeline = syncPipeline(strategy, request -> {
+            // After the latencies are recorded, the first attempt blocks and the hedged attempt answers.
+            int attempt = sent.incrementAndGet();
+            if (attempt > 16) {
+                threads.add(Thread.currentThread());
+            }
+            if (attempt == 17) {
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new MockHttpResponse(request, 200);
+        });
+
+        for (int i = 0; i < 16; i++) {
+            pipeline.sendSync(get(), Context.NONE);
+        }
+
+        try {
+            CompletableFuture<HttpResponse> result = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return pipeline.sendSync(get(), Context.NONE);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Assertions.assertEquals(200, result.get(5, TimeUnit.SECONDS).getStatusCode());
+            Assertions.assertEquals(18, sent.get());
+            threads.forEach(thread -> Assertions.assertFalse(Schedulers.isNonBlockingThread(thread)));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static HttpPipeline pipeline(AdaptiveRetryStrategy strategy,
+        Function<HttpRequest, Mono<HttpResponse>> send) {
+        return new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    return send.apply(request);
+                }
+            })
+            .policies(new AdaptiveRetryPolicy(strategy))
+            .build();
+    }
+
+    private static HttpPipeline syncPipeline(AdaptiveRetryStrategy strategy,
+        Function<HttpRequest, HttpResponse> sendSync) {
+        return new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public HttpResponse sendSync(HttpRequest request) {
+                    return sendSync.apply(request);
+                }
+            })
+            .policies(new AdaptiveRetryPolicy(strategy))
+            .build();
+    }
+
+    private static HttpRequest get() throws Exception {
+        return new HttpRequest(HttpMethod.GET, new URL("http://localhost/"));
+    }
+
+    private static final class ClosableResponse extends MockHttpResponse {
+        private volatile boolean closed;
+
+        ClosableResponse(HttpRequest request) {
+            super(request, 200);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /*
+     * A response emitted when the test completes it, even if its request was cancelled, as when the response of a
+     * cancelled request was already received.
+     */
+    private static final class LateResponse extends Mono<HttpResponse> {
+        private final ClosableResponse response;
+        private volatile CoreSubscriber<? super HttpResponse> subscriber;
+
+        LateResponse(ClosableResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void subscribe(CoreSubscriber<? super HttpResponse> actual) {
+            actual.onSubscribe(Operators.emptySubscription());
+            subscriber = actual;
+        }
+
+        void complete() {
+            subscriber.onNext(response);
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.http.clients.NoOpHttpClient;
+import com.azure.core.util.FluxUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class CompressionPolicyTests {
+    private static final byte[] CONTENT = createContent();
+
+    @Test
+    public void gzipResponseIsDecoded() throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(encoded)) {
+            gzip.write(CONTENT);
+        }
+
+        // Small buffers split the gzip header and trailer.
+        HttpResponse response = send(new CompressionPolicy(), "gzip", encoded.toByteArray(), 3);
+        Assertions.assertNull(response.getHeaderValue("Content-Encoding"));
+        Assertions.assertNull(response.getHeaderValue("Content-Length"));
+        Assertions.assertArrayEquals(CONTENT, response.getBodyAsByteArray().block());
+    }
+
+    @Test
+    public void gzipResponseWithOptionalHeaderFieldsIsDecoded() {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        // FHCRC, FEXTRA, FNAME and FCOMMENT.
+        encoded.write(new byte[] {0x1F, (byte) 0x8B, 8, 0x1E, 0, 0, 0, 0, 0, (byte) 0xFF}, 0, 10);
+        encoded.write(new byte[] {3, 0, 'a', 'b', 'c'}, 0, 5);
+        encoded.write(new byte[] {'n', 'a', 'm', 'e', 0}, 0, 5);
+        encoded.write(new byte[] {'c', 'o', 'm', 'm', 'e', 'n', 't', 0}, 0, 8);
+        encoded.write(new byte[] {0, 0}, 0, 2);
+        byte[] deflated = rawDeflate(CONTENT);
+        encoded.write(deflated, 0, deflated.length);
+        CRC32 crc = new CRC32();
+        crc.update(CONTENT);
+        encoded.write(littleEndian((int) crc.getValue()), 0, 4);
+        encoded.write(littleEndian(CONTENT.length), 0, 4);
+
+        HttpResponse response = send(new CompressionPolicy(), "gzip", encoded.toByteArray(), 1);
+        Assertions.assertArrayEquals(CONTENT, response.getBodyAsByteArray().block());
+    }
+
+    @Test
+    public void deflateResponseIsDecoded() throws IOException {
+        ByteArrayOutputStream zlib = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(zlib)) {
+            deflater.write(CONTENT);
+        }
+
+        HttpResponse response = send(new CompressionPolicy(), "deflate", zlib.toByteArray(), 1024);
+        Assertions.assertArrayEquals(CONTENT, response.getBodyAsByteArray().block());
+
+        // Some servers send raw deflate streams.
+        response = send(new CompressionPolicy(), "deflate", rawDeflate(CONTENT), 1);
+        Assertions.assertArrayEquals(CONTENT, response.getBodyAsByteArray().block());
+    }
+
+    @Test
+    public void truncatedResponseFails() throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(encoded)) {
+            gzip.write(CONTENT);
+        }
+        byte[] truncated = Arrays.copyOf(encoded.toByteArray(), encoded.size() - 4);
+
+        StepVerifier.create(send(new CompressionPolicy(), "gzip", truncated, 512).getBodyAsByteArray())
+            .verifyError(UncheckedIOException.class);
+    }
+
+    @Test
+    public void responseIsNotDecodedWhenRequestHasAcceptEncoding() throws IOException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(encoded)) {
+            gzip.write(CONTENT);
+        }
+
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    Assertions.assertEquals("gzip", request.getHeaders().getValue("Accept-Encoding"));
+                    return Mono.just(new MockHttpResponse(request, 200,
+                        new HttpHeaders().put("Content-Encoding", "gzip"), encoded.toByteArray()));
+                }
+            })
+            .policies(new CompressionPolicy())
+            .build();
+
+        HttpRequest request = new HttpRequest(HttpMethod.GET, "http://localhost/");
+        request.setHeader("Accept-Encoding", "gzip");
+        HttpResponse response = pipeline.send(request).block();
+        Assertions.assertEquals("gzip", response.getHeaderValue("Content-Encoding"));
+        Assertions.assertArrayEquals(encoded.toByteArray(), response.getBodyAsByteArray().block());
+    }
+
+    @Test
+    public void largeRequestBodyIsEncoded() throws IOException {
+        AtomicReference<HttpRequest> sent = new AtomicReference<>();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    sent.set(request);
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new CompressionPolicy(1024))
+            .build();
+
+        HttpRequest request = new HttpRequest(HttpMethod.PUT, "http://localhost/");
+        request.setBody(CONTENT);
+        pipeline.send(request).block();
+
+        Assertions.assertEquals("gzip", sent.get().getHeaders().getValue("Content-Encoding"));
+        Assertions.assertNull(sent.get().getHeaders().getValue("Content-Length"));
+        byte[] encoded = FluxUtil.collectBytesInByteBufferStream(sent.get().getBody()).block();
+        Assertions.assertTrue(encoded.length < CONTENT.length);
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int count;
+            while ((count = gzip.read(buffer)) != -1) {
+                decoded.write(buffer, 0, count);
+            }
+            Assertions.assertArrayEquals(CONTENT, decoded.toByteArray());
+        }
+
+        // Bodies below the threshold are sent as they are.
+        HttpRequest small = new HttpRequest(HttpMethod.PUT, "http://localhost/");
+        small.setBody("small");
+        pipeline.send(small).block();
+        Assertions.assertNull(sent.get().getHeaders().getValue("Content-Encoding"));
+        Assertions.assertEquals("5", sent.get().getHeaders().getValue("Content-Length"));
+    }
+
+    private static HttpResponse send(CompressionPolicy policy, String contentEncoding, byte[] body, int chunkSize) {
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    Assertions.assertEquals("gzip, deflate", request.getHeaders().getValue("Accept-Encoding"));
+                    HttpHeaders headers = new HttpHeaders()
+                        .put("Content-Encoding", contentEncoding)
+                        .put("Content-Length", String.valueOf(body.length));
+                    return Mono.just(new MockHttpResponse(request, 200, headers, body) {
+                        @Override
+                        public Flux<ByteBuffer> getBody() {
+                            List<ByteBuffer> chunks = new ArrayList<>();
+                            for (int i = 0; i < body.length; i += chunkSize) {
+                                chunks.add(ByteBuffer.wrap(body, i, Math.min(chunkSize, body.length - i)));
+                            }
+                            return Flux.fromIterable(chunks);
+                        }
+                    });
+                }
+            })
+            .policies(policy)
+            .build();
+
+        return pipeline.send(new HttpRequest(HttpMethod.GET, "http://localhost/")).block();
+    }
+
+    private static byte[] rawDeflate(byte[] content) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(content);
+        deflater.finish();
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            int count = deflater.deflate(buffer);
+            deflated.write(buffer, 0, count);
+        }
+        deflater.end();
+        return deflated.toByteArray();
+    }
+
+    private static byte[] littleEndian(int value) {
+        return new byte[] {(byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24)};
+    }
+
+    private static byte[] createContent() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append("{\"key\":\"setting-").append(i).append("\",\"value\":\"").append(i * 31).append("\"},");
+        }
+        return content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
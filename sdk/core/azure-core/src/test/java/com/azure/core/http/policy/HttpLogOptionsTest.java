@@ -26,4 +26,18 @@ public class HttpLogOptionsTest {
         String expected = "AzCopy/10.0.4-Preview";
         assertEquals(expected, new HttpLogOptions().setApplicationId(expected).getApplicationId());
     }
+
+    @Test
+    public void testSamplingRateMustBeAFraction() {
+        assertThrows(IllegalArgumentException.class, () -> new HttpLogOptions().setSamplingRate(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new HttpLogOptions().setSamplingRate(1.1));
+        assertThrows(IllegalArgumentException.class, () -> new HttpLogOptions().setSamplingRate(Double.NaN));
+        assertEquals(0.25, new HttpLogOptions().setSamplingRate(0.25).getSamplingRate());
+    }
+
+    @Test
+    public void testMaxBodyLogSizeCannotBeNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new HttpLogOptions().setMaxBodyLogSize(-1));
+        assertEquals(16 * 1024, new HttpLogOptions().getMaxBodyLogSize());
+    }
 }
@@ -18,6 +18,7 @@ import com.azure.core.util.FluxUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -27,11 +28,14 @@ import reactor.test.StepVerifier;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -51,7 +55,7 @@ public class HttpLoggingPolicyTests {
     private ByteArrayOutputStream logCaptureStream;
 
     @BeforeEach
-    public void prepareForTest() {
+    public void prepareForTest() throws UnsupportedEncodingException {
         // Set the log level to information for the test.
         originalLogLevel = System.getProperty(Configuration.PROPERTY_AZURE_LOG_LEVEL);
         System.setProperty(Configuration.PROPERTY_AZURE_LOG_LEVEL, "2");
@@ -66,7 +70,7 @@ public class HttpLoggingPolicyTests {
         // Override System.err as that is where SLF4J will log by default.
         originalErr = System.out;
         logCaptureStream = new ByteArrayOutputStream();
-        System.setOut(new PrintStream(logCaptureStream));
+        System.setOut(new PrintStream(logCaptureStream, true, StandardCharsets.UTF_8.name()));
     }
 
     @AfterEach
@@ -184,6 +188,177 @@ public class HttpLoggingPolicyTests {
         Assertions.assertTrue(logString.contains(new String(data, StandardCharsets.UTF_8)));
     }
 
+    /**
+     * Tests that asynchronous logging captures the request body without consuming it, and logs it once it was sent.
+     */
+    @ParameterizedTest(name = "[{index}] {displayName}")
+    @MethodSource("validateLoggingDoesNotConsumeSupplier")
+    public void validateAsyncLoggingDoesNotConsumeRequest(Flux<ByteBuffer> stream, byte[] data, int contentLength)
+        throws Exception {
+        URL requestUrl = new URL("https://test.com");
+        HttpHeaders requestHeaders = new HttpHeaders()
+            .put("Content-Type", ContentType.APPLICATION_JSON)
+            .put("Content-Length", Integer.toString(contentLength));
+
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(new HttpLoggingPolicy(new HttpLogOptions()
+                .setLogLevel(HttpLogDetailLevel.BODY)
+                .setAsynchronous(true)))
+            .httpClient(request -> FluxUtil.collectBytesInByteBufferStream(request.getBody())
+                .doOnSuccess(bytes -> assertArrayEquals(data, bytes))
+                .then(Mono.empty()))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.POST, requestUrl, requestHeaders, stream),
+            CONTEXT))
+            .verifyComplete();
+
+        Assertions.assertTrue(AsyncHttpLogWriter.getInstance().flush(Duration.ofSeconds(10)));
+        String logString = new String(logCaptureStream.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(logString.contains(new String(data, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests that asynchronous logging captures the response body while it's read, and logs it once it was read.
+     */
+    @ParameterizedTest(name = "[{index}] {displayName}")
+    @MethodSource("validateLoggingDoesNotConsumeSupplier")
+    public void validateAsyncLoggingDoesNotConsumeResponse(Flux<ByteBuffer> stream, byte[] data, int contentLength)
+        throws Exception {
+        HttpRequest request = new HttpRequest(HttpMethod.GET, "https://test.com");
+        HttpHeaders responseHeaders = new HttpHeaders()
+            .put("Content-Type", ContentType.APPLICATION_JSON)
+            .put("Content-Length", Integer.toString(contentLength));
+
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(new HttpLoggingPolicy(new HttpLogOptions()
+                .setLogLevel(HttpLogDetailLevel.BODY)
+                .setAsynchronous(true)))
+            .httpClient(ignored -> Mono.just(new MockHttpResponse(ignored, responseHeaders, stream)))
+            .build();
+
+        StepVerifier.create(pipeline.send(request, CONTEXT))
+            .assertNext(response -> StepVerifier.create(FluxUtil.collectBytesInByteBufferStream(response.getBody()))
+                .assertNext(bytes -> assertArrayEquals(data, bytes))
+                .verifyComplete())
+            .verifyComplete();
+
+        Assertions.assertTrue(AsyncHttpLogWriter.getInstance().flush(Duration.ofSeconds(10)));
+        String logString = new String(logCaptureStream.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(logString.contains(new String(data, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests that asynchronous logging logs the start of bodies larger than the maximum body log size.
+     */
+    @Test
+    public void asyncLoggingTruncatesLargeBodies() throws Exception {
+        byte[] data = new byte[64 * 1024];
+        Arrays.fill(data, (byte) 'a');
+        data[0] = 'b';
+        HttpHeaders responseHeaders = new HttpHeaders()
+            .put("Content-Type", ContentType.APPLICATION_JSON)
+            .put("Content-Length", Integer.toString(data.length));
+
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(new HttpLoggingPolicy(new HttpLogOptions()
+                .setLogLevel(HttpLogDetailLevel.BODY)
+                .setAsynchronous(true)
+                .setMaxBodyLogSize(10)))
+            .httpClient(request -> Mono.just(new MockHttpResponse(request, responseHeaders,
+                Flux.just(ByteBuffer.wrap(data, 0, 4), ByteBuffer.wrap(data, 4, data.length - 4)))))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, "https://test.com"), CONTEXT)
+            .flatMap(HttpResponse::getBodyAsByteArray))
+            .assertNext(bytes -> assertArrayEquals(data, bytes))
+            .verifyComplete();
+
+        Assertions.assertTrue(AsyncHttpLogWriter.getInstance().flush(Duration.ofSeconds(10)));
+        String logString = new String(logCaptureStream.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(logString.contains(data.length + "-byte body (first 10 bytes logged):"));
+        Assertions.assertTrue(logString.contains("baaaaaaaaa"));
+        Assertions.assertFalse(logString.contains("baaaaaaaaaa"));
+    }
+
+    /**
+     * Tests that asynchronous logging cuts a truncated body after the last whole character it captured.
+     */
+    @Test
+    public void asyncLoggingTruncatesBodiesOnACharacterBoundary() throws Exception {
+        byte[] data = "aaaaaaaaa\u00e9aaaaaaaaaa".getBytes(StandardCharsets.UTF_8);
+        HttpHeaders responseHeaders = new HttpHeaders()
+            .put("Content-Type", "text/plain; charset=utf-8")
+            .put("Content-Length", Integer.toString(data.length));
+
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(new HttpLoggingPolicy(new HttpLogOptions()
+                .setLogLevel(HttpLogDetailLevel.BODY)
+                .setAsynchronous(true)
+                .setMaxBodyLogSize(10)))
+            .httpClient(request -> Mono.just(new MockHttpResponse(request, responseHeaders,
+                Flux.just(ByteBuffer.wrap(data)))))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, "https://test.com"), CONTEXT)
+            .flatMap(HttpResponse::getBodyAsByteArray))
+            .assertNext(bytes -> assertArrayEquals(data, bytes))
+            .verifyComplete();
+
+        Assertions.assertTrue(AsyncHttpLogWriter.getInstance().flush(Duration.ofSeconds(10)));
+        String logString = new String(logCaptureStream.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(logString.contains(data.length + "-byte body (first 9 bytes logged):"));
+        Assertions.assertFalse(logString.contains("\ufffd"));
+    }
+
+    /**
+     * Tests that a response captured for asynchronous logging decodes its body with the charset it declares.
+     */
+    @Test
+    public void asyncLoggingDecodesBodiesWithTheDeclaredCharset() throws Exception {
+        String text = "caf\u00e9";
+        byte[] data = text.getBytes(StandardCharsets.ISO_8859_1);
+        HttpHeaders responseHeaders = new HttpHeaders()
+            .put("Content-Type", "text/plain; charset=ISO-8859-1")
+            .put("Content-Length", Integer.toString(data.length));
+
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(new HttpLoggingPolicy(new HttpLogOptions()
+                .setLogLevel(HttpLogDetailLevel.BODY)
+                .setAsynchronous(true)))
+            .httpClient(request -> Mono.just(new MockHttpResponse(request, responseHeaders,
+                Flux.just(ByteBuffer.wrap(data)))))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, "https://test.com"), CONTEXT)
+            .flatMap(HttpResponse::getBodyAsString))
+            .expectNext(text)
+            .verifyComplete();
+
+        Assertions.assertTrue(AsyncHttpLogWriter.getInstance().flush(Duration.ofSeconds(10)));
+        String logString = new String(logCaptureStream.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(logString.contains(text));
+    }
+
+    /**
+     * Tests that requests which aren't sampled aren't logged.
+     */
+    @Test
+    public void unsampledRequestsAreNotLogged() {
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(new HttpLoggingPolicy(new HttpLogOptions()
+                .setLogLevel(HttpLogDetailLevel.BASIC)
+                .setSamplingRate(0)))
+            .httpClient(new NoOpHttpClient())
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.POST, "https://localhost"), CONTEXT))
+            .verifyComplete();
+
+        String logString = new String(logCaptureStream.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertFalse(logString.contains("--> POST"));
+    }
+
     private static Stream<Arguments> validateLoggingDoesNotConsumeSupplier() {
         byte[] data = "this is a test".getBytes(StandardCharsets.UTF_8);
         byte[] repeatingData = new byte[data.length * 3];
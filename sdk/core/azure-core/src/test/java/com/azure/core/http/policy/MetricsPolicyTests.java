@@ -0,0 +1,174 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.http.clients.NoOpHttpClient;
+import com.azure.core.util.Context;
+import com.azure.core.util.metrics.Meter;
+import com.azure.core.util.metrics.MeterProxy;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsPolicyTests {
+    @Test
+    public void reportsOperationRetriesTokensAndTries() throws Exception {
+        RecordingMeter meter = new RecordingMeter();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                private final int[] codes = new int[]{503, 200};
+                private int count = 0;
+
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    HttpHeaders headers = new HttpHeaders().put("Content-Length", "42");
+                    return MeterProxy.time(Meter.HTTP_CLIENT_DURATION,
+                        Collections.singletonMap(Meter.CLIENT_TAG, "test"),
+                        Mono.just(new MockHttpResponse(request, codes[count++], headers)));
+                }
+            })
+            .policies(new MetricsPolicy(meter),
+                new RetryPolicy(new FixedDelay(3, Duration.ofMillis(0))),
+                new BearerTokenAuthenticationPolicy(request ->
+                    Mono.just(new AccessToken("token", OffsetDateTime.now().plusHours(1))), "scope"))
+            .build();
+
+        HttpRequest request = new HttpRequest(HttpMethod.PUT, new URL("https://localhost/"))
+            .setHeader("Content-Length", "5");
+        Context context = new Context(Meter.SERVICE_NAME_KEY, "Blobs").addData(Meter.METHOD_NAME_KEY, "upload");
+
+        StepVerifier.create(pipeline.send(request, context))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+
+        List<Record> durations = meter.get(Meter.HTTP_REQUEST_DURATION);
+        assertEquals(1, durations.size());
+        assertEquals("Blobs", durations.get(0).tags.get(Meter.SERVICE_TAG));
+        assertEquals("upload", durations.get(0).tags.get(Meter.METHOD_TAG));
+        assertEquals("200", durations.get(0).tags.get(Meter.STATUS_TAG));
+
+        assertEquals(1, meter.get(Meter.HTTP_RETRIES).size());
+        assertEquals(1, meter.get(Meter.HTTP_RETRY_DELAY).size());
+        assertEquals(2, meter.get(Meter.AUTH_TOKEN_DURATION).size());
+        assertEquals(5, meter.get(Meter.HTTP_REQUEST_BYTES).get(0).value);
+        assertEquals(42, meter.get(Meter.HTTP_RESPONSE_BYTES).get(0).value);
+
+        List<Record> tries = meter.get(Meter.HTTP_CLIENT_DURATION);
+        assertEquals(2, tries.size());
+        for (Record record : tries) {
+            assertEquals("Blobs", record.tags.get(Meter.SERVICE_TAG));
+            assertEquals("test", record.tags.get(Meter.CLIENT_TAG));
+        }
+
+        assertEquals(0, meter.get(Meter.HTTP_REQUESTS_ACTIVE).stream().mapToLong(record -> record.value).sum());
+    }
+
+    @Test
+    public void failedOperationsAreTaggedWithHostAndHttpMethod() throws Exception {
+        RecordingMeter meter = new RecordingMeter();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    return Mono.error(new IOException("Connection reset."));
+                }
+            })
+            .policies(new MetricsPolicy(meter))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))))
+            .verifyError(IOException.class);
+
+        List<Record> durations = meter.get(Meter.HTTP_REQUEST_DURATION);
+        assertEquals(1, durations.size());
+        assertEquals("localhost", durations.get(0).tags.get(Meter.SERVICE_TAG));
+        assertEquals("GET", durations.get(0).tags.get(Meter.METHOD_TAG));
+        assertEquals("error", durations.get(0).tags.get(Meter.STATUS_TAG));
+        assertTrue(meter.get(Meter.HTTP_REQUEST_BYTES).isEmpty());
+        assertEquals(0, meter.get(Meter.HTTP_REQUESTS_ACTIVE).stream().mapToLong(record -> record.value).sum());
+    }
+
+    @Test
+    public void httpClientsAreNotTimedWithoutMetricsPolicy() throws Exception {
+        RecordingMeter meter = new RecordingMeter();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    return MeterProxy.time(Meter.HTTP_CLIENT_DURATION, Collections.emptyMap(),
+                        Mono.just(new MockHttpResponse(request, 200)));
+                }
+            })
+            .policies(new RetryPolicy())
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))))
+            .assertNext(response -> assertEquals(200, response.getStatusCode()))
+            .verifyComplete();
+        assertTrue(meter.records.isEmpty());
+    }
+
+    private static final class Record {
+        private final String name;
+        private final long value;
+        private final Map<String, String> tags;
+
+        Record(String name, long value, Map<String, String> tags) {
+            this.name = name;
+            this.value = value;
+            this.tags = tags;
+        }
+    }
+
+    private static final class RecordingMeter implements Meter {
+        private final List<Record> records = Collections.synchronizedList(new ArrayList<>());
+
+        List<Record> get(String name) {
+            synchronized (records) {
+                return records.stream().filter(record -> record.name.equals(name)).collect(Collectors.toList());
+            }
+        }
+
+        @Override
+        public void recordDuration(String name, Duration duration, Map<String, String> tags) {
+            records.add(new Record(name, duration.toNanos(), tags));
+        }
+
+        @Override
+        public void recordValue(String name, long value, Map<String, String> tags) {
+            records.add(new Record(name, value, tags));
+        }
+
+        @Override
+        public void incrementCounter(String name, long amount, Map<String, String> tags) {
+            records.add(new Record(name, amount, tags));
+        }
+
+        @Override
+        public void addUpDownCounter(String name, long delta, Map<String, String> tags) {
+            records.add(new Record(name, delta, tags));
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.azure.core.http.HttpRequest;
 import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -221,6 +222,55 @@ public class PagedFluxTest {
         assertTrue(completed);
     }
 
+    @Test
+    public void testPagedFluxPrefetchPages() throws MalformedURLException {
+        AtomicInteger retrieved = new AtomicInteger();
+        PagedFlux<Integer> pagedFlux = getCountingIntegerPagedFlux(5, retrieved).prefetchPages(2);
+
+        // The page requested and the 2 following ones are retrieved before the subscriber requests them.
+        StepVerifier.create(pagedFlux.byPage(), 1)
+            .expectNext(pagedResponses.get(0))
+            .then(() -> assertEquals(3, retrieved.get()))
+            .thenRequest(1)
+            .expectNext(pagedResponses.get(1))
+            .then(() -> assertEquals(4, retrieved.get()))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNext(pagedResponses.get(2), pagedResponses.get(3), pagedResponses.get(4))
+            .verifyComplete();
+        assertEquals(5, retrieved.get());
+    }
+
+    @Test
+    public void testPagedFluxPrefetchPagesSubscribeToItems() throws MalformedURLException {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5).prefetchPages(2);
+        StepVerifier.create(pagedFlux)
+            .expectNext(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14)
+            .verifyComplete();
+        assertEquals(2, pagedFlux.getPagePrefetch());
+    }
+
+    @Test
+    public void testPagedFluxPrefetchPagesCancel() throws MalformedURLException {
+        AtomicInteger retrieved = new AtomicInteger();
+        PagedFlux<Integer> pagedFlux = getCountingIntegerPagedFlux(5, retrieved).prefetchPages(2);
+
+        StepVerifier.create(pagedFlux.byPage(), 1)
+            .expectNext(pagedResponses.get(0))
+            .thenCancel()
+            .verify();
+        // No page is retrieved past the prefetch once the subscription is cancelled.
+        assertTrue(retrieved.get() <= 3);
+    }
+
+    private PagedFlux<Integer> getCountingIntegerPagedFlux(int noOfPages, AtomicInteger retrieved)
+        throws MalformedURLException {
+        getIntegerPagedFlux(noOfPages);
+        return new PagedFlux<>(() -> Mono.just(pagedResponses.get(0))
+            .doOnNext(page -> retrieved.incrementAndGet()),
+            continuationToken -> getNextPage(continuationToken, pagedResponses)
+                .doOnNext(page -> retrieved.incrementAndGet()));
+    }
+
     private PagedFlux<Integer> getIntegerPagedFlux(int noOfPages) throws MalformedURLException {
         HttpHeaders httpHeaders = new HttpHeaders().put("header1", "value1")
             .put("header2", "value2");
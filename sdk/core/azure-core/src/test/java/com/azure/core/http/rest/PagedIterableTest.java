@@ -13,7 +13,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -173,6 +175,27 @@ public class PagedIterableTest {
         assertEquals(0, pagedFlux.getNextPageRetrievals());
     }
 
+    @Test
+    public void iterateByPageWithPrefetch() {
+        createPagedResponse(5);
+        AtomicInteger retrieved = new AtomicInteger();
+        PagedIterable<Integer> pagedIterable = new PagedIterable<>(new PagedFlux<>(() -> Mono.just(pagedResponses.get(0))
+            .doOnNext(page -> retrieved.incrementAndGet()),
+            continuationToken -> getNextPage(continuationToken, pagedResponses)
+                .doOnNext(page -> retrieved.incrementAndGet()))).prefetchPages(2);
+
+        Iterator<PagedResponse<Integer>> pages = pagedIterable.iterableByPage().iterator();
+        assertEquals(pagedResponses.get(0), pages.next());
+        // The iterator requests the next page, and the 2 pages following it are retrieved ahead.
+        assertEquals(4, retrieved.get());
+
+        List<PagedResponse<Integer>> remaining = new ArrayList<>();
+        pages.forEachRemaining(remaining::add);
+        assertEquals(pagedResponses.subList(1, 5), remaining);
+        assertEquals(Stream.iterate(0, i -> i + 1).limit(15).collect(Collectors.toList()),
+            pagedIterable.stream().collect(Collectors.toList()));
+    }
+
     private PagedFlux<Integer> getIntegerPagedFlux(int numberOfPages) {
         createPagedResponse(numberOfPages);
 
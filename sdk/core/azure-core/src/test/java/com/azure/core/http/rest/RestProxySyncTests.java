@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.Host;
+import com.azure.core.annotation.ServiceInterface;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.http.clients.NoOpHttpClient;
+import com.azure.core.http.policy.RetryPolicy;
+import com.azure.core.http.policy.UserAgentPolicy;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RestProxySyncTests {
+    @Host("http://localhost")
+    @ServiceInterface(name = "SyncService")
+    interface SyncService {
+        @Get("value")
+        @ExpectedResponses({200})
+        String getValue();
+
+        @Get("value")
+        @ExpectedResponses({200})
+        Mono<String> getValueAsync();
+    }
+
+    private final List<String> sends = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final SyncService service = RestProxy.create(SyncService.class, new HttpPipelineBuilder()
+        .httpClient(new NoOpHttpClient() {
+            @Override
+            public Mono<HttpResponse> send(HttpRequest request) {
+                sends.add("send");
+                return Mono.just(response(request));
+            }
+
+            @Override
+            public HttpResponse sendSync(HttpRequest request) {
+                sends.add("sendSync");
+                threads.add(Thread.currentThread());
+                return response(request);
+            }
+        })
+        .policies(new UserAgentPolicy(), new RetryPolicy())
+        .build());
+
+    @Test
+    public void synchronousMethodUsesSendSync() {
+        assertEquals("hello", service.getValue());
+        assertEquals(Collections.singletonList("sendSync"), sends);
+        assertEquals(Collections.singletonList(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void asynchronousMethodUsesSend() {
+        assertEquals("hello", service.getValueAsync().block());
+        assertEquals(Collections.singletonList("send"), sends);
+    }
+
+    private static HttpResponse response(HttpRequest request) {
+        return new MockHttpResponse(request, 200, new HttpHeaders().put("Content-Type", "application/json"),
+            "\"hello\"".getBytes(StandardCharsets.UTF_8));
+    }
+}
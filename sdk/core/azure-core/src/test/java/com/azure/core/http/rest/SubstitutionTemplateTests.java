@@ -0,0 +1,58 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SubstitutionTemplateTests {
+    private static final Function<Object, String> SERIALIZER = value -> value == null ? null : value.toString();
+
+    @Test
+    public void constantTemplate() {
+        final SubstitutionTemplate template = new SubstitutionTemplate("https://raw.host.com",
+            Collections.singletonList(new Substitution("account", 0, true)));
+        assertTrue(template.isConstant());
+        assertEquals("https://raw.host.com", template.apply(new Object[] {"a"}, SERIALIZER, UrlEscapers.PATH_ESCAPER));
+    }
+
+    @Test
+    public void substitutesAndEncodes() {
+        final SubstitutionTemplate template = new SubstitutionTemplate("{container}/{blob}", Arrays.asList(
+            new Substitution("container", 0, false),
+            new Substitution("blob", 1, true)));
+        assertFalse(template.isConstant());
+        assertEquals("c/my%20blob", template.apply(new Object[] {"c", "my blob"}, SERIALIZER,
+            UrlEscapers.PATH_ESCAPER));
+    }
+
+    @Test
+    public void nullValueBecomesEmpty() {
+        final SubstitutionTemplate template = new SubstitutionTemplate("a/{b}/c",
+            Collections.singletonList(new Substitution("b", 0, true)));
+        assertEquals("a//c", template.apply(new Object[] {null}, SERIALIZER, UrlEscapers.PATH_ESCAPER));
+    }
+
+    @Test
+    public void unboundAndOutOfRangePlaceholdersAreKept() {
+        final SubstitutionTemplate template = new SubstitutionTemplate("{a}/{unbound}/{b}", Arrays.asList(
+            new Substitution("a", 0, true),
+            new Substitution("b", 5, true)));
+        assertEquals("x/{unbound}/{b}", template.apply(new Object[] {"x"}, SERIALIZER, UrlEscapers.PATH_ESCAPER));
+    }
+
+    @Test
+    public void nullArgumentsReturnTemplate() {
+        final SubstitutionTemplate template = new SubstitutionTemplate("{a}/b",
+            Collections.singletonList(new Substitution("a", 0, true)));
+        assertEquals("{a}/b", template.apply(null, SERIALIZER, UrlEscapers.PATH_ESCAPER));
+    }
+}
@@ -6,11 +6,20 @@ package com.azure.core.http.rest;
 import com.azure.core.MyOtherRestException;
 import com.azure.core.MyRestException;
 import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HeaderParam;
+import com.azure.core.annotation.Headers;
+import com.azure.core.annotation.HostParam;
 import com.azure.core.annotation.Patch;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.QueryParam;
 import com.azure.core.annotation.UnexpectedResponseExceptionType;
 import com.azure.core.implementation.entities.HttpBinJSON;
 import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpMethod;
+import com.azure.core.util.Context;
+import com.azure.core.util.UrlBuilder;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -18,6 +27,7 @@ import java.lang.reflect.Method;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SwaggerMethodParserTests {
@@ -207,4 +217,43 @@ public class SwaggerMethodParserTests {
         assertEquals("https", methodParser.setScheme(null));
         assertEquals("raw.host.com", methodParser.setHost(null));
     }
+
+    interface TestInterface9 {
+        @Get("{container}/{blob}")
+        @Headers({"x-ms-version: 2019-07-07"})
+        void testMethod9(@HostParam("url") String url, @PathParam("container") String container,
+            @PathParam("blob") String blob, @QueryParam("comp") String comp,
+            @HeaderParam("x-ms-version") String version, Context context);
+    }
+
+    @Test
+    public void withHostPathQueryHeaderAndContextParameters() {
+        final Method testMethod9 = TestInterface9.class.getDeclaredMethods()[0];
+        final SwaggerMethodParser methodParser = new SwaggerMethodParser(testMethod9, "{url}");
+        final Context context = new Context("key", "value");
+        final Object[] arguments = {"https://account.blob.core.windows.net", "c", "my blob", "block", null, context};
+
+        final UrlBuilder urlBuilder = new UrlBuilder();
+        methodParser.setSchemeAndHost(arguments, urlBuilder);
+        assertEquals("https", urlBuilder.getScheme());
+        assertEquals("account.blob.core.windows.net", urlBuilder.getHost());
+        assertEquals("https", methodParser.setScheme(arguments));
+        assertEquals("account.blob.core.windows.net", methodParser.setHost(arguments));
+        assertEquals("c/my%20blob", methodParser.setPath(arguments));
+
+        methodParser.setEncodedQueryParameters(arguments, urlBuilder);
+        assertEquals("block", urlBuilder.getQuery().get("comp"));
+
+        final HttpHeaders headers = new HttpHeaders();
+        methodParser.setHeaders(arguments, headers);
+        assertEquals("2019-07-07", headers.getValue("x-ms-version"));
+
+        arguments[4] = "2020-02-10";
+        methodParser.setHeaders(arguments, headers);
+        assertEquals("2020-02-10", headers.getValue("x-ms-version"));
+
+        assertSame(context, methodParser.setContext(arguments));
+        arguments[5] = null;
+        assertSame(Context.NONE, methodParser.setContext(arguments));
+    }
 }
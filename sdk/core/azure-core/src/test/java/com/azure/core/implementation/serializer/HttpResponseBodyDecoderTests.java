@@ -0,0 +1,122 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.util.serializer.JacksonAdapter;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpResponseBodyDecoderTests {
+    private static final HttpResponseDecodeData MAP_DECODE_DATA = () -> Map.class;
+
+    @Test
+    public void jsonBodyIsStreamed() throws Exception {
+        TrackingResponse response = response("application/json; charset=utf-8",
+            "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(HttpResponseBodyDecoder.decode(null, response, new JacksonAdapter(), MAP_DECODE_DATA))
+            .assertNext(value -> assertEquals("value", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+        assertTrue(response.streamed.get());
+        assertFalse(response.readAsString.get());
+    }
+
+    @Test
+    public void bodyWithByteOrderMarkAndNoCharsetIsStreamed() throws Exception {
+        TrackingResponse response = response("application/json",
+            "\uFEFF{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_16BE));
+
+        StepVerifier.create(HttpResponseBodyDecoder.decode(null, response, new JacksonAdapter(), MAP_DECODE_DATA))
+            .assertNext(value -> assertEquals("value", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+        assertTrue(response.streamed.get());
+    }
+
+    @Test
+    public void declaredCharsetIsStreamed() throws Exception {
+        TrackingResponse response = response("application/json; charset=\"ISO-8859-1\"",
+            "{\"key\":\"v\u00e4lue\"}".getBytes(StandardCharsets.ISO_8859_1));
+
+        StepVerifier.create(HttpResponseBodyDecoder.decode(null, response, new JacksonAdapter(), MAP_DECODE_DATA))
+            .assertNext(value -> assertEquals("v\u00e4lue", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+        assertTrue(response.streamed.get());
+    }
+
+    @Test
+    public void unsupportedCharsetIsReadAsString() throws Exception {
+        TrackingResponse response = response("application/json; charset=x-unknown",
+            "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(HttpResponseBodyDecoder.decode(null, response, new JacksonAdapter(), MAP_DECODE_DATA))
+            .assertNext(value -> assertEquals("value", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+        assertFalse(response.streamed.get());
+        assertTrue(response.readAsString.get());
+    }
+
+    @Test
+    public void xmlBodyIsReadAsString() throws Exception {
+        TrackingResponse response = response("application/xml",
+            "<Value><key>value</key></Value>".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(HttpResponseBodyDecoder.decode(null, response, new JacksonAdapter(), MAP_DECODE_DATA))
+            .assertNext(value -> assertEquals("value", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+        assertFalse(response.streamed.get());
+        assertTrue(response.readAsString.get());
+    }
+
+    private static TrackingResponse response(String contentType, byte[] body) throws Exception {
+        HttpRequest request = new HttpRequest(HttpMethod.GET, new URL("http://localhost/"));
+        return new TrackingResponse(request, new HttpHeaders().put("Content-Type", contentType), body);
+    }
+
+    /*
+     * Records whether the body was read as it arrives or as a String.
+     */
+    private static final class TrackingResponse extends MockHttpResponse {
+        private final AtomicBoolean streamed = new AtomicBoolean();
+        private final AtomicBoolean readAsString = new AtomicBoolean();
+
+        TrackingResponse(HttpRequest request, HttpHeaders headers, byte[] body) {
+            super(request, 200, headers, body);
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            streamed.set(true);
+            return super.getBody();
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            readAsString.set(true);
+            return super.getBodyAsString();
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            readAsString.set(true);
+            return super.getBodyAsString(charset);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer;
+
+import com.azure.core.implementation.TypeUtil;
+import com.azure.core.util.serializer.Foo;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StreamingJsonDeserializerTests {
+    private static final ObjectMapper MAPPER = new JacksonAdapter().serializer();
+
+    @Test
+    public void deserializeAcrossBufferBoundaries() {
+        String json = "{\"$type\":\"foo\",\"properties\":{\"bar\":\"hello world\","
+            + "\"props\":{\"baz\":[\"one\",\"two\"],\"q\":{\"qux\":{\"a\":\"b\"}}}},\"props\":{\"empty\":12345}}";
+
+        // Split into 3 byte chunks so tokens straddle buffers.
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(chunked(json, 3, false), null, MAPPER,
+            Foo.class))
+            .assertNext(value -> {
+                Foo foo = (Foo) value;
+                assertEquals("hello world", foo.bar());
+                assertEquals(Arrays.asList("one", "two"), foo.baz());
+                assertEquals("b", foo.qux().get("a"));
+                assertEquals(12345, (int) foo.empty());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    public void deserializeFromDirectBuffers() {
+        Type type = TypeUtil.createParameterizedType(List.class, Integer.class);
+
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(chunked("[1, 22, 333, 4444]", 2, true), null,
+            MAPPER, type))
+            .assertNext(value -> assertEquals(Arrays.asList(1, 22, 333, 4444), value))
+            .verifyComplete();
+    }
+
+    @Test
+    public void deserializeWithByteOrderMark() {
+        byte[] json = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] withBom = new byte[json.length + 3];
+        withBom[0] = (byte) 0xEF;
+        withBom[1] = (byte) 0xBB;
+        withBom[2] = (byte) 0xBF;
+        System.arraycopy(json, 0, withBom, 3, json.length);
+
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(Flux.just(ByteBuffer.wrap(withBom)), null, MAPPER,
+            Map.class))
+            .assertNext(value -> assertEquals("value", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+    }
+
+    @Test
+    public void deserializeUtf16WithByteOrderMark() {
+        byte[] json = "\uFEFF{\"key\":\"v\u00e4lue\"}".getBytes(StandardCharsets.UTF_16LE);
+
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(Flux.just(ByteBuffer.wrap(json)), null, MAPPER,
+            Map.class))
+            .assertNext(value -> assertEquals("v\u00e4lue", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+    }
+
+    @Test
+    public void deserializeWithDeclaredCharset() {
+        byte[] json = "{\"key\":\"v\u00e4lue\"}".getBytes(StandardCharsets.ISO_8859_1);
+
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(Flux.just(ByteBuffer.wrap(json)),
+            StandardCharsets.ISO_8859_1, MAPPER, Map.class))
+            .assertNext(value -> assertEquals("v\u00e4lue", ((Map<?, ?>) value).get("key")))
+            .verifyComplete();
+    }
+
+    @Test
+    public void emptyBodyCompletesEmpty() {
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(Flux.empty(), null, MAPPER, Map.class))
+            .verifyComplete();
+
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(Flux.just(ByteBuffer.allocate(0)), null, MAPPER,
+            Map.class))
+            .verifyComplete();
+    }
+
+    @Test
+    public void malformedBodyErrors() {
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(chunked("{\"key\":value}", 4, false), null,
+            MAPPER, Map.class))
+            .verifyError(MalformedValueException.class);
+    }
+
+    @Test
+    public void bodyErrorIsPropagated() {
+        Flux<ByteBuffer> body = chunked("{\"key\":", 4, false).concatWith(Flux.error(new IOException("reset")));
+
+        StepVerifier.create(StreamingJsonDeserializer.deserialize(body, null, MAPPER, Map.class))
+            .verifyErrorMessage("reset");
+    }
+
+    private static Flux<ByteBuffer> chunked(String value, int chunkSize, boolean direct) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - i);
+            ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+            buffer.put(bytes, i, length).flip();
+            buffers.add(buffer);
+        }
+
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ByteBufferPoolTests {
+    @Test
+    public void buffersAreRoundedUpToSizeClasses() {
+        ByteBufferPool pool = new ByteBufferPool();
+
+        assertBuffer(pool.acquire(0), 0, 4096);
+        assertBuffer(pool.acquire(1), 1, 4096);
+        assertBuffer(pool.acquire(4096), 4096, 4096);
+        assertBuffer(pool.acquire(4097), 4097, 8192);
+        assertBuffer(pool.acquire(8 * 1024 * 1024), 8 * 1024 * 1024, 8 * 1024 * 1024);
+
+        // Past the largest size class buffers are allocated to size.
+        assertBuffer(pool.acquire(8 * 1024 * 1024 + 1), 8 * 1024 * 1024 + 1, 8 * 1024 * 1024 + 1);
+    }
+
+    @Test
+    public void releasedBuffersAreReused() {
+        ByteBufferPool pool = new ByteBufferPool();
+        ByteBuffer buffer = pool.acquire(10000);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+
+        ByteBuffer reused = pool.acquire(9000);
+        assertSame(buffer, reused);
+        assertBuffer(reused, 9000, 16384);
+
+        // A different size class doesn't reuse it.
+        pool.release(reused);
+        assertNotSame(buffer, pool.acquire(20000));
+    }
+
+    @Test
+    public void directPool() {
+        ByteBufferPool pool = new ByteBufferPool(true, ByteBufferPool.DEFAULT_MAX_RETAINED_BYTES, false);
+        ByteBuffer buffer = pool.acquire(100);
+        assertTrue(buffer.isDirect());
+
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(100));
+
+        // Heap buffers aren't pooled by a direct pool.
+        pool.release(ByteBuffer.allocate(4096));
+        assertTrue(pool.acquire(4096).isDirect());
+    }
+
+    @Test
+    public void retainedBytesAreBounded() {
+        ByteBufferPool pool = new ByteBufferPool(false, 8192, false);
+        ByteBuffer first = pool.acquire(4096);
+        ByteBuffer second = pool.acquire(4096);
+        ByteBuffer third = pool.acquire(4096);
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        assertSame(first, pool.acquire(4096));
+        assertSame(second, pool.acquire(4096));
+        assertNotSame(third, pool.acquire(4096));
+    }
+
+    @Test
+    public void leakDetection() {
+        ByteBufferPool pool = new ByteBufferPool(false, ByteBufferPool.DEFAULT_MAX_RETAINED_BYTES, true);
+        ByteBuffer buffer = pool.acquire(100);
+        ByteBuffer leaked = pool.acquire(100);
+
+        pool.release(buffer);
+        assertThrows(IllegalStateException.class, () -> pool.release(buffer));
+        assertThrows(IllegalStateException.class, () -> pool.release(ByteBuffer.allocate(4096)));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, pool::checkLeaks);
+        assertTrue(error.getMessage().startsWith("1 buffer(s)"));
+
+        pool.release(leaked);
+        pool.checkLeaks();
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(false, -1, false));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool().acquire(-1));
+    }
+
+    private static void assertBuffer(ByteBuffer buffer, int limit, int capacity) {
+        assertEquals(0, buffer.position());
+        assertEquals(limit, buffer.limit());
+        assertEquals(capacity, buffer.capacity());
+    }
+}
@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ContextTests {
+    @Test
+    public void mostRecentlyAddedValueWins() {
+        Context context = new Context("key", "first").addData("other", "value").addData("key", "second");
+
+        assertEquals(Optional.of("second"), context.getData("key"));
+        assertEquals(Optional.of("value"), context.getData("other"));
+        assertFalse(context.getData("missing").isPresent());
+    }
+
+    @Test
+    public void lookupsInDeepChains() {
+        Context context = new Context("base", -1);
+        Map<Object, Object> expected = new HashMap<>();
+        expected.put("base", -1);
+        for (int i = 0; i < 100; i++) {
+            // Every third key is added again, overwriting an older value.
+            Object key = (i % 3 == 0) ? "key-" + (i / 3) : "key-" + i;
+            context = context.addData(key, i);
+            expected.put(key, i);
+
+            for (Map.Entry<Object, Object> entry : expected.entrySet()) {
+                assertEquals(Optional.of(entry.getValue()), context.getData(entry.getKey()));
+            }
+            assertFalse(context.getData("missing").isPresent());
+        }
+
+        assertEquals(expected, context.getValues());
+    }
+
+    @Test
+    public void addingToAnIndexedContextLeavesItUnchanged() {
+        Context parent = Context.NONE;
+        for (int i = 0; i < 20; i++) {
+            parent = parent.addData("key-" + i, i);
+        }
+        assertEquals(Optional.of(0), parent.getData("key-0"));
+
+        Context child = parent.addData("key-0", "child").addData("child-key", "child");
+
+        assertEquals(Optional.of("child"), child.getData("key-0"));
+        assertEquals(Optional.of("child"), child.getData("child-key"));
+        assertEquals(Optional.of(19), child.getData("key-19"));
+        assertEquals(Optional.of(0), parent.getData("key-0"));
+        assertFalse(parent.getData("child-key").isPresent());
+    }
+
+    @Test
+    public void keysUseEquality() {
+        Context context = Context.NONE;
+        for (int i = 0; i < 20; i++) {
+            context = context.addData(new String("key-" + i), i);
+        }
+
+        assertEquals(Optional.of(3), context.getData("key-3"));
+    }
+
+    @Test
+    public void nullKeysAreRejected() {
+        assertThrows(NullPointerException.class, () -> new Context(null, "value"));
+        assertThrows(IllegalArgumentException.class, () -> Context.NONE.addData(null, "value"));
+        assertThrows(IllegalArgumentException.class, () -> Context.NONE.getData(null));
+    }
+}
@@ -145,6 +145,70 @@ public class FluxUtilTest {
         }
     }
 
+    @Test
+    public void collectBytesWithAndWithoutSizeHint() {
+        byte[] content = new byte[100000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        for (int sizeHint : new int[] {-1, 0, 10, content.length, content.length + 10}) {
+            ByteBufferPool pool = new ByteBufferPool(false, ByteBufferPool.DEFAULT_MAX_RETAINED_BYTES, true);
+            List<ByteBuffer> chunks = new ArrayList<>();
+            for (int offset = 0; offset < content.length; offset += 3000) {
+                chunks.add(ByteBuffer.wrap(content, offset, Math.min(3000, content.length - offset)));
+            }
+
+            StepVerifier.create(FluxUtil.collectBytesInByteBufferStream(Flux.fromIterable(chunks), sizeHint, pool))
+                .assertNext(bytes -> assertTrue(Arrays.equals(content, bytes)))
+                .verifyComplete();
+
+            // The collected buffers are left unchanged.
+            assertEquals(0, chunks.get(0).position());
+            pool.checkLeaks();
+        }
+    }
+
+    @Test
+    public void collectBytesReleasesBuffersOnError() {
+        ByteBufferPool pool = new ByteBufferPool(false, ByteBufferPool.DEFAULT_MAX_RETAINED_BYTES, true);
+        Flux<ByteBuffer> stream = Flux.just(ByteBuffer.wrap(new byte[10000]))
+            .concatWith(Flux.error(new IllegalStateException("boom")));
+
+        StepVerifier.create(FluxUtil.collectBytesInByteBufferStream(stream, -1, pool))
+            .verifyErrorMessage("boom");
+        pool.checkLeaks();
+    }
+
+    @Test
+    public void collectBytesOfEmptyStream() {
+        StepVerifier.create(FluxUtil.collectBytesInByteBufferStream(Flux.empty(), 100))
+            .assertNext(bytes -> assertEquals(0, bytes.length))
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyFileWithPooledBuffers() throws Exception {
+        byte[] content = new byte[300000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        File source = createFileIfNotExist("target/pooledSource");
+        Files.write(source.toPath(), content);
+        File destination = createFileIfNotExist("target/pooledDestination");
+        Files.write(destination.toPath(), new byte[0]);
+
+        ByteBufferPool pool = new ByteBufferPool(false, ByteBufferPool.DEFAULT_MAX_RETAINED_BYTES, true);
+        try (AsynchronousFileChannel in = AsynchronousFileChannel.open(source.toPath(), StandardOpenOption.READ);
+             AsynchronousFileChannel out = AsynchronousFileChannel.open(destination.toPath(),
+                 StandardOpenOption.WRITE)) {
+            FluxUtil.writeFile(FluxUtil.readFile(in, 64 * 1024, 0, content.length, pool), out, 0, pool).block();
+        }
+
+        assertTrue(Arrays.equals(content, Files.readAllBytes(destination.toPath())));
+        pool.checkLeaks();
+    }
+
     public Flux<ByteBuffer> mockReturnType() {
         return Flux.just(ByteBuffer.wrap(new byte[0]));
     }
@@ -0,0 +1,117 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PollingSchedulerTests {
+    private static final long TICK = 10;
+
+    @Test
+    public void timersAreReleasedInTheTickAfterTheirDeadline() {
+        // 4 buckets per level: the levels span 40, 160 and 640 ticks.
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, 4, 0);
+        long[] deadlines = {0, 5, 15, 39, 40, 41, 159, 160, 400, 6395, 6400};
+        for (long deadline : deadlines) {
+            Assertions.assertTrue(wheel.add(new TimingWheel.Timer<>(deadline, deadline)));
+        }
+
+        List<Long> released = new ArrayList<>();
+        for (long now = TICK; now <= 6500; now += TICK) {
+            List<TimingWheel.Timer<Long>> expired = new ArrayList<>();
+            wheel.advance(now, expired);
+            for (TimingWheel.Timer<Long> timer : expired) {
+                long deadline = timer.getValue();
+                Assertions.assertTrue(deadline < now && now <= deadline + TICK,
+                    "Timer due at " + deadline + " released at " + now);
+                released.add(deadline);
+            }
+        }
+
+        Assertions.assertEquals(deadlines.length, released.size());
+    }
+
+    @Test
+    public void cancelledTimersAreReleasedAsCancelled() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 4, 0);
+        TimingWheel.Timer<String> timer = new TimingWheel.Timer<>("cancelled", 1000);
+        wheel.add(timer);
+        timer.cancel();
+
+        List<TimingWheel.Timer<String>> expired = new ArrayList<>();
+        wheel.advance(2000, expired);
+        Assertions.assertEquals(1, expired.size());
+        Assertions.assertTrue(expired.get(0).isCancelled());
+    }
+
+    @Test
+    public void delayIsNotShortened() {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), 0, 4);
+        for (long delayMillis : new long[] {0, 25, 90, 300}) {
+            long start = System.nanoTime();
+            scheduler.delay("endpoint", Duration.ofMillis(delayMillis)).block(Duration.ofSeconds(5));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assertions.assertTrue(elapsedMillis >= delayMillis, "Waited " + elapsedMillis + " for " + delayMillis);
+        }
+    }
+
+    @Test
+    public void pollsOfAnEndpointAreRateLimited() {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), 5);
+        AtomicInteger released = new AtomicInteger();
+
+        long start = System.nanoTime();
+        Flux.range(0, 7)
+            .flatMap(i -> scheduler.delay("limited", Duration.ZERO).doOnSuccess(ignored -> released.incrementAndGet()))
+            .blockLast(Duration.ofSeconds(5));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // A burst of 5 polls goes right away, then one every 200 ms.
+        Assertions.assertEquals(7, released.get());
+        Assertions.assertTrue(elapsedMillis >= 400, "Released 7 polls in " + elapsedMillis + " ms");
+
+        // Other endpoints have their own limit.
+        start = System.nanoTime();
+        scheduler.delay("other", Duration.ZERO).block(Duration.ofSeconds(5));
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 200);
+    }
+
+    @Test
+    public void pollersWaitOnScheduler() {
+        AtomicInteger polls = new AtomicInteger();
+        // The Retry-After of the responses is honored rather than the 10 seconds poll interval.
+        PollerFlux<String, String> pollerFlux = PollerFlux.<String, String>create(Duration.ofSeconds(10),
+            context -> Mono.just(new PollResponse<>(LongRunningOperationStatus.NOT_STARTED, "activated",
+                Duration.ofMillis(20))),
+            context -> {
+                LongRunningOperationStatus status = (polls.incrementAndGet() % 3 == 0)
+                    ? LongRunningOperationStatus.SUCCESSFULLY_COMPLETED
+                    : LongRunningOperationStatus.IN_PROGRESS;
+                return Mono.just(new PollResponse<>(status, "poll", Duration.ofMillis(20)));
+            },
+            (context, response) -> Mono.empty(),
+            context -> Mono.just("result"))
+            .setPollingScheduler(new PollingScheduler(Duration.ofMillis(10), 0), "endpoint");
+
+        StepVerifier.create(pollerFlux)
+            .expectNextCount(2)
+            .expectNextMatches(response -> response.getStatus() == LongRunningOperationStatus.SUCCESSFULLY_COMPLETED)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        PollResponse<String> response = pollerFlux.getSyncPoller().waitForCompletion(Duration.ofSeconds(5));
+        Assertions.assertEquals(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED, response.getStatus());
+        Assertions.assertEquals(6, polls.get());
+    }
+}
@@ -3,6 +3,7 @@
 
 package com.azure.core.util.serializer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -72,4 +73,26 @@ public class AdditionalPropertiesSerializerTests {
         Assertions.assertEquals("barbar", deserialized.additionalProperties().get("properties.bar"));
         Assertions.assertTrue(deserialized instanceof FooChild);
     }
+
+    @Test
+    public void canRoundTripAdditionalPropertiesWithStreamingFlattening() throws Exception {
+        Foo foo = new FooChild();
+        foo.bar("hello.world");
+        foo.additionalProperties(new HashMap<>());
+        foo.additionalProperties().put("bar", "baz");
+        foo.additionalProperties().put("a.b", "c.d");
+        foo.additionalProperties().put("properties.bar", "barbar");
+
+        JacksonAdapter adapter = new JacksonAdapter(true);
+        String serialized = adapter.serialize(foo, SerializerEncoding.JSON);
+        ObjectMapper mapper = new ObjectMapper();
+        Assertions.assertEquals(mapper.readTree("{\"$type\":\"foochild\",\"properties\":{\"bar\":\"hello.world\"},\"bar\":\"baz\",\"a.b\":\"c.d\",\"properties.bar\":\"barbar\"}"), mapper.readTree(serialized));
+
+        Foo deserialized = adapter.deserialize(serialized, Foo.class, SerializerEncoding.JSON);
+        Assertions.assertTrue(deserialized instanceof FooChild);
+        Assertions.assertEquals("hello.world", deserialized.bar());
+        Assertions.assertEquals("baz", deserialized.additionalProperties().get("bar"));
+        Assertions.assertEquals("c.d", deserialized.additionalProperties().get("a.b"));
+        Assertions.assertEquals("barbar", deserialized.additionalProperties().get("properties.bar"));
+    }
 }
@@ -4,12 +4,16 @@
 package com.azure.core.util.serializer;
 
 import com.azure.core.annotation.JsonFlatten;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class FlatteningSerializerTests {
@@ -51,6 +55,177 @@ public class FlatteningSerializerTests {
         Assertions.assertEquals("{\"teacher\":{\"students\":{\"af.B/D\":{},\"af.B/C\":{}}},\"tags\":{\"foo.aa\":\"bar\",\"x.y\":\"zz\"},\"properties\":{\"name\":\"school1\"}}", serialized);
     }
 
+    @Test
+    public void canFlattenWithStreamingFlattening() throws Exception {
+        Foo foo = new Foo();
+        foo.bar("hello.world");
+        foo.baz(new ArrayList<>());
+        foo.baz().add("hello");
+        foo.baz().add("hello.world");
+        foo.qux(new HashMap<>());
+        foo.qux().put("hello", "world");
+        foo.qux().put("a.b", "c.d");
+        foo.qux().put("bar.a", "ttyy");
+        foo.qux().put("bar.b", "uuzz");
+        foo.moreProps("hello");
+
+        JacksonAdapter adapter = new JacksonAdapter(true);
+
+        // serialization
+        String serialized = adapter.serialize(foo, SerializerEncoding.JSON);
+        assertJsonEquals("{\"$type\":\"foo\",\"properties\":{\"bar\":\"hello.world\",\"props\":{\"baz\":[\"hello\",\"hello.world\"],\"q\":{\"qux\":{\"hello\":\"world\",\"a.b\":\"c.d\",\"bar.b\":\"uuzz\",\"bar.a\":\"ttyy\"}}},\"more.props\":\"hello\"}}", serialized);
+        Assertions.assertTrue(serialized.startsWith("{\"$type\":\"foo\",\"properties\":{\"bar\":\"hello.world\",\"props\":{"));
+
+        // the model's map keys are left untouched
+        Assertions.assertEquals("c.d", foo.qux().get("a.b"));
+
+        // deserialization
+        Foo deserialized = adapter.deserialize(serialized, Foo.class, SerializerEncoding.JSON);
+        Assertions.assertEquals("hello.world", deserialized.bar());
+        Assertions.assertArrayEquals(new String[]{"hello", "hello.world"}, deserialized.baz().toArray());
+        Assertions.assertNotNull(deserialized.qux());
+        Assertions.assertEquals("world", deserialized.qux().get("hello"));
+        Assertions.assertEquals("c.d", deserialized.qux().get("a.b"));
+        Assertions.assertEquals("ttyy", deserialized.qux().get("bar.a"));
+        Assertions.assertEquals("uuzz", deserialized.qux().get("bar.b"));
+        Assertions.assertEquals("hello", deserialized.moreProps());
+    }
+
+    @Test
+    public void streamingFlatteningMatchesTreeFlattening() throws Exception {
+        String treeSerialized = new JacksonAdapter().serialize(prepareSchoolModel(), SerializerEncoding.JSON);
+        String streamingSerialized = new JacksonAdapter(true).serialize(prepareSchoolModel(), SerializerEncoding.JSON);
+
+        assertJsonEquals(treeSerialized, streamingSerialized);
+    }
+
+    @Test
+    public void streamingFlatteningOmitsEmptyWrappers() throws Exception {
+        Foo foo = new Foo();
+        foo.empty(1);
+
+        JacksonAdapter adapter = new JacksonAdapter(true);
+        String serialized = adapter.serialize(foo, SerializerEncoding.JSON);
+        Assertions.assertEquals("{\"$type\":\"foo\",\"props\":{\"empty\":1}}", serialized);
+
+        Foo deserialized = adapter.deserialize(serialized, Foo.class, SerializerEncoding.JSON);
+        Assertions.assertEquals(1, (int) deserialized.empty());
+        Assertions.assertNull(deserialized.bar());
+        Assertions.assertNull(deserialized.baz());
+    }
+
+    @Test
+    public void streamingFlatteningDeserializesSubtypesAndSkipsUnknownProperties() throws Exception {
+        String wireValue = "{\"properties\":{\"unknown\":{\"bar\":\"nested\"},\"bar\":\"hello\","
+            + "\"props\":[1, 2]},\"$type\":\"foochild\",\"props\":{\"empty\":2}}";
+
+        Foo deserialized = new JacksonAdapter(true).deserialize(wireValue, Foo.class, SerializerEncoding.JSON);
+        Assertions.assertTrue(deserialized instanceof FooChild);
+        Assertions.assertEquals("hello", deserialized.bar());
+        Assertions.assertNull(deserialized.baz());
+        Assertions.assertNull(deserialized.qux());
+        Assertions.assertEquals(2, (int) deserialized.empty());
+    }
+
+    @Test
+    public void streamingFlatteningMergesAPropertyWhoseNameIsAWrappedPrefix() throws Exception {
+        PrefixModel model = new PrefixModel();
+        model.b = new HashMap<>();
+        model.b.put("x", "y");
+        model.c = "z";
+
+        String serialized = new JacksonAdapter(true).serialize(model, SerializerEncoding.JSON);
+        Assertions.assertEquals("{\"a\":{\"b\":{\"x\":\"y\",\"c\":\"z\"}}}", serialized);
+
+        // Without a value to merge into, the wrapped property is written on its own.
+        model.b = null;
+        Assertions.assertEquals("{\"a\":{\"b\":{\"c\":\"z\"}}}",
+            new JacksonAdapter(true).serialize(model, SerializerEncoding.JSON));
+    }
+
+    @Test
+    public void streamingFlatteningRejectsAPrefixPropertyWhichIsntAnObject() {
+        ScalarPrefixModel model = new ScalarPrefixModel();
+        model.b = "y";
+        model.c = "z";
+
+        Assertions.assertThrows(JsonMappingException.class,
+            () -> new JacksonAdapter(true).serialize(model, SerializerEncoding.JSON));
+    }
+
+    @Test
+    public void streamingFlatteningWritesASharedRootOnce() throws Exception {
+        SharedRootModel model = new SharedRootModel();
+        model.properties = new HashMap<>();
+        model.properties.put("kind", "school");
+        model.properties.put("name", "replaced");
+        model.name = "school1";
+
+        String serialized = new JacksonAdapter(true).serialize(model, SerializerEncoding.JSON);
+        Assertions.assertEquals("{\"id\":\"1\",\"properties\":{\"kind\":\"school\",\"name\":\"school1\"}}",
+            serialized);
+        assertJsonEquals(new JacksonAdapter().serialize(model, SerializerEncoding.JSON), serialized);
+    }
+
+    @Test
+    public void streamingFlatteningOmitsWrappersOfSuppressedProperties() throws Exception {
+        SuppressedModel model = new SuppressedModel();
+        model.tags = new ArrayList<>();
+        model.description = "";
+
+        Assertions.assertEquals("{}", new JacksonAdapter(true).serialize(model, SerializerEncoding.JSON));
+
+        model.tags.add("tag");
+        Assertions.assertEquals("{\"properties\":{\"nested\":{\"tags\":[\"tag\"]}}}",
+            new JacksonAdapter(true).serialize(model, SerializerEncoding.JSON));
+    }
+
+    private static void assertJsonEquals(String expected, String actual) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Assertions.assertEquals(mapper.readTree(expected), mapper.readTree(actual));
+    }
+
+    @JsonFlatten
+    private static class PrefixModel {
+        @JsonProperty(value = "a.b")
+        private Map<String, String> b;
+
+        @JsonProperty(value = "a.b.c")
+        private String c;
+    }
+
+    @JsonFlatten
+    private static class ScalarPrefixModel {
+        @JsonProperty(value = "a.b")
+        private String b;
+
+        @JsonProperty(value = "a.b.c")
+        private String c;
+    }
+
+    @JsonFlatten
+    private static class SharedRootModel {
+        @JsonProperty(value = "id")
+        private String id = "1";
+
+        @JsonProperty(value = "properties")
+        private Map<String, String> properties;
+
+        @JsonProperty(value = "properties.name")
+        private String name;
+    }
+
+    @JsonFlatten
+    private static class SuppressedModel {
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        @JsonProperty(value = "properties.nested.tags")
+        private List<String> tags;
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        @JsonProperty(value = "properties.description")
+        private String description;
+    }
+
     @JsonFlatten
     private class School {
         @JsonProperty(value = "teacher")
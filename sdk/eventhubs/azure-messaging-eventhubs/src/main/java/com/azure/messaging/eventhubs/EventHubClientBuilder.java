@@ -23,7 +23,6 @@ import com.azure.core.exception.AzureException;
 import com.azure.core.util.Configuration;
 import com.azure.core.util.CoreUtils;
 import com.azure.core.util.logging.ClientLogger;
-import com.azure.core.util.tracing.Tracer;
 import com.azure.messaging.eventhubs.implementation.ClientConstants;
 import com.azure.messaging.eventhubs.implementation.EventHubAmqpConnection;
 import com.azure.messaging.eventhubs.implementation.EventHubConnectionProcessor;
@@ -39,7 +38,6 @@ import java.net.Proxy;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 /**
  * This class provides a fluent builder API to aid the instantiation of {@link EventHubProducerAsyncClient},
@@ -490,7 +488,7 @@ public class EventHubClientBuilder {
                 : buildConnectionProcessor(messageSerializer);
         }
 
-        final TracerProvider tracerProvider = new TracerProvider(ServiceLoader.load(Tracer.class));
+        final TracerProvider tracerProvider = TracerProvider.fromServiceLoader();
 
         return new EventHubAsyncClient(processor, tracerProvider, messageSerializer, scheduler, isSharedConnection,
             this::onClientClose);
@@ -7,6 +7,7 @@ import com.azure.core.annotation.Immutable;
 import com.azure.core.credential.AccessToken;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
+import com.azure.identity.implementation.AccessTokenCache;
 import com.azure.identity.implementation.IdentityClient;
 import com.azure.identity.implementation.IdentityClientBuilder;
 import com.azure.identity.implementation.IdentityClientOptions;
@@ -17,6 +18,8 @@ import java.util.Objects;
 /**
  * An AAD credential that acquires a token with a client certificate for an AAD application.
  *
+ * <p>Tokens are cached per scopes, and shared by every client using the credential.</p>
+ *
  * <p><strong>Sample: Construct a simple ClientCertificateCredential</strong></p>
  * {@codesnippet com.azure.identity.credential.clientcertificatecredential.construct}
  *
@@ -28,6 +31,7 @@ public class ClientCertificateCredential implements TokenCredential {
     private final String clientCertificate;
     private final String clientCertificatePassword;
     private final IdentityClient identityClient;
+    private final AccessTokenCache tokenCache = new AccessTokenCache();
 
     /**
      * Creates a ClientSecretCredential with default identity client options.
@@ -52,6 +56,10 @@ public class ClientCertificateCredential implements TokenCredential {
 
     @Override
     public Mono<AccessToken> getToken(TokenRequestContext request) {
+        return tokenCache.getToken(request, this::authenticate);
+    }
+
+    private Mono<AccessToken> authenticate(TokenRequestContext request) {
         if (clientCertificatePassword != null) {
             return identityClient.authenticateWithPfxCertificate(clientCertificate, clientCertificatePassword, request);
         } else {
@@ -7,6 +7,7 @@ import com.azure.core.annotation.Immutable;
 import com.azure.core.credential.AccessToken;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
+import com.azure.identity.implementation.AccessTokenCache;
 import com.azure.identity.implementation.IdentityClient;
 import com.azure.identity.implementation.IdentityClientBuilder;
 import com.azure.identity.implementation.IdentityClientOptions;
@@ -17,6 +18,8 @@ import java.util.Objects;
 /**
  * An AAD credential that acquires a token with a client secret for an AAD application.
  *
+ * <p>Tokens are cached per scopes, and shared by every client using the credential.</p>
+ *
  * <p><strong>Sample: Construct a simple ClientSecretCredential</strong></p>
  * {@codesnippet com.azure.identity.credential.clientsecretcredential.construct}
  *
@@ -28,6 +31,7 @@ public class ClientSecretCredential implements TokenCredential {
     /* The client secret value. */
     private final String clientSecret;
     private final IdentityClient identityClient;
+    private final AccessTokenCache tokenCache = new AccessTokenCache();
 
     /**
      * Creates a ClientSecretCredential with the given identity client options.
@@ -51,6 +55,7 @@ public class ClientSecretCredential implements TokenCredential {
 
     @Override
     public Mono<AccessToken> getToken(TokenRequestContext request) {
-        return identityClient.authenticateWithClientSecret(clientSecret, request);
+        return tokenCache.getToken(request,
+            context -> identityClient.authenticateWithClientSecret(clientSecret, context));
     }
 }
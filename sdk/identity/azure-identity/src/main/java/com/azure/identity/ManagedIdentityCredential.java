@@ -8,6 +8,7 @@ import com.azure.core.credential.AccessToken;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
 import com.azure.core.util.Configuration;
+import com.azure.identity.implementation.AccessTokenCache;
 import com.azure.identity.implementation.IdentityClient;
 import com.azure.identity.implementation.IdentityClientBuilder;
 import com.azure.identity.implementation.IdentityClientOptions;
@@ -15,11 +16,14 @@ import reactor.core.publisher.Mono;
 
 /**
  * The base class for Managed Service Identity token based credentials.
+ *
+ * <p>Tokens are cached per scopes, and shared by every client using the credential.</p>
  */
 @Immutable
 public final class ManagedIdentityCredential implements TokenCredential {
     private final AppServiceMsiCredential appServiceMSICredential;
     private final VirtualMachineMsiCredential virtualMachineMSICredential;
+    private final AccessTokenCache tokenCache = new AccessTokenCache();
 
     /**
      * Creates an instance of the ManagedIdentityCredential.
@@ -53,6 +57,10 @@ public final class ManagedIdentityCredential implements TokenCredential {
 
     @Override
     public Mono<AccessToken> getToken(TokenRequestContext request) {
+        return tokenCache.getToken(request, this::authenticate);
+    }
+
+    private Mono<AccessToken> authenticate(TokenRequestContext request) {
         return (appServiceMSICredential != null
             ? appServiceMSICredential.authenticate(request)
             : virtualMachineMSICredential.authenticate(request));
@@ -0,0 +1,175 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.identity.implementation;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenRequestContext;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the access tokens of one credential, keyed by the requested scopes.
+ *
+ * <p>Clients for different services which share a credential, and clients for the same service, reuse each other's
+ * tokens instead of each going to Azure Active Directory or the managed identity endpoint. At most one token request
+ * is in flight per scopes, every caller waiting for a token shares it. Once the cache is full the least recently
+ * used entry is evicted.</p>
+ *
+ * <p>A cached token is only handed out until its refresh time, 5 minutes before it expires but not before half of its
+ * lifetime has passed; after that callers wait for a new token. That is never later than the refresh time of a
+ * {@link com.azure.core.credential.RefreshingTokenCache} with the default refresh offset and jitter, as used by
+ * {@link com.azure.core.http.policy.BearerTokenAuthenticationPolicy}, so a policy refreshing its token always gets
+ * a new one rather than the token it already has.</p>
+ */
+public final class AccessTokenCache {
+    /**
+     * The default maximum number of entries in the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 32;
+
+    static final Duration REFRESH_OFFSET = Duration.ofMinutes(5);
+    private static final long REFRESH_RETRY_DELAY_MILLIS = Duration.ofSeconds(30).toMillis();
+
+    private final ClientLogger logger = new ClientLogger(AccessTokenCache.class);
+    private final Map<List<String>, CacheEntry> entries;
+
+    /**
+     * Creates an AccessTokenCache with the {@link #DEFAULT_MAX_SIZE default maximum size}.
+     */
+    public AccessTokenCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates an AccessTokenCache.
+     *
+     * @param maxSize the maximum number of entries in the cache.
+     * @throws IllegalArgumentException If {@code maxSize} is less than 1.
+     */
+    public AccessTokenCache(int maxSize) {
+        if (maxSize < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxSize' must be at least 1."));
+        }
+
+        this.entries = new LinkedHashMap<List<String>, CacheEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets a token from the cache, using the token supplier to get a new token if there is no cached token before its
+     * refresh time.
+     *
+     * @param request the details of the token request.
+     * @param tokenSupplier gets a new token for the request.
+     * @return a Publisher that emits an AccessToken
+     */
+    public Mono<AccessToken> getToken(TokenRequestContext request,
+                                      Function<TokenRequestContext, Mono<AccessToken>> tokenSupplier) {
+        Objects.requireNonNull(request, "'request' cannot be null.");
+        Objects.requireNonNull(tokenSupplier, "'tokenSupplier' cannot be null.");
+
+        return Mono.defer(() -> {
+            // The scopes are sorted so the same scopes in a different order share a token.
+            List<String> scopes = new ArrayList<>(request.getScopes());
+            Collections.sort(scopes);
+
+            CacheEntry entry;
+            synchronized (entries) {
+                entry = entries.computeIfAbsent(scopes, ignored -> new CacheEntry());
+            }
+
+            return entry.getToken(() -> tokenSupplier.apply(request));
+        });
+    }
+
+    /**
+     * @return the number of entries in the cache.
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class CacheEntry {
+        private final AtomicReference<Mono<AccessToken>> requestInFlight = new AtomicReference<>();
+        private volatile CachedToken cache;
+
+        Mono<AccessToken> getToken(Supplier<Mono<AccessToken>> tokenSupplier) {
+            CachedToken cached = cache;
+            if (cached != null && System.currentTimeMillis() < cached.refreshAt && !cached.token.isExpired()) {
+                return Mono.just(cached.token);
+            }
+
+            while (true) {
+                Mono<AccessToken> inFlight = requestInFlight.get();
+                if (inFlight != null) {
+                    return inFlight;
+                }
+
+                // Cached so every waiting caller shares the single request, failures aren't kept.
+                Mono<AccessToken> request = Mono.defer(tokenSupplier)
+                    .doOnNext(token -> cache = new CachedToken(token, computeRefreshAt(token)))
+                    .onErrorResume(this::useCachedToken)
+                    .doFinally(ignored -> requestInFlight.set(null))
+                    .cache();
+                if (requestInFlight.compareAndSet(null, request)) {
+                    return request;
+                }
+            }
+        }
+
+        /*
+         * A token which hasn't expired yet is better than an error, the request is retried 30 seconds later or once
+         * the token expires, whichever comes first.
+         */
+        private Mono<AccessToken> useCachedToken(Throwable error) {
+            CachedToken cached = cache;
+            if (cached == null || cached.token.isExpired()) {
+                return Mono.error(error);
+            }
+
+            cache = new CachedToken(cached.token, System.currentTimeMillis() + REFRESH_RETRY_DELAY_MILLIS);
+            return Mono.just(cached.token);
+        }
+
+        private static long computeRefreshAt(AccessToken token) {
+            long now = System.currentTimeMillis();
+            // Clamped, tokens may expire at OffsetDateTime.MAX which overflows epoch milliseconds.
+            long expiresAtSeconds = token.getExpiresAt().toEpochSecond();
+            long expiresAt = expiresAtSeconds >= Long.MAX_VALUE / 4000
+                ? Long.MAX_VALUE / 4
+                : Math.max(0, expiresAtSeconds * 1000);
+
+            return Math.max(expiresAt - REFRESH_OFFSET.toMillis(), now + (expiresAt - now) / 2);
+        }
+    }
+
+    private static final class CachedToken {
+        private final AccessToken token;
+        private final long refreshAt;
+
+        CachedToken(AccessToken token, long refreshAt) {
+            this.token = token;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.identity.implementation;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.RefreshingTokenCache;
+import com.azure.core.credential.TokenRequestContext;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class AccessTokenCacheTests {
+    // AccessToken expires its tokens 2 minutes early, these are valid for 3 seconds.
+    private static final Duration SHORT_LIFETIME = Duration.ofMinutes(2).plusSeconds(3);
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final Function<TokenRequestContext, Mono<AccessToken>> tokenSupplier = tokenSupplier(Duration.ofHours(1));
+
+    @Test
+    public void sharesTokensForSameScopes() {
+        AccessTokenCache cache = new AccessTokenCache(10);
+
+        StepVerifier.create(cache.getToken(new TokenRequestContext().addScopes("a", "b"), tokenSupplier)
+            .map(AccessToken::getToken))
+            .expectNext("a b1")
+            .verifyComplete();
+
+        // Scope order doesn't matter.
+        StepVerifier.create(cache.getToken(new TokenRequestContext().addScopes("b", "a"), tokenSupplier)
+            .map(AccessToken::getToken))
+            .expectNext("a b1")
+            .verifyComplete();
+
+        Assert.assertEquals(1, fetches.get());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void separatesScopes() {
+        AccessTokenCache cache = new AccessTokenCache(10);
+
+        cache.getToken(new TokenRequestContext().addScopes("a"), tokenSupplier).block();
+        cache.getToken(new TokenRequestContext().addScopes("b"), tokenSupplier).block();
+        cache.getToken(new TokenRequestContext().addScopes("a", "b"), tokenSupplier).block();
+
+        Assert.assertEquals(3, fetches.get());
+        Assert.assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void concurrentRequestsFetchOnce() {
+        AccessTokenCache cache = new AccessTokenCache(10);
+
+        Flux.range(0, 20)
+            .flatMap(i -> cache.getToken(new TokenRequestContext().addScopes("a"), tokenSupplier)
+                .subscribeOn(Schedulers.parallel()))
+            .blockLast();
+
+        Assert.assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        AccessTokenCache cache = new AccessTokenCache(2);
+        TokenRequestContext a = new TokenRequestContext().addScopes("a");
+        TokenRequestContext b = new TokenRequestContext().addScopes("b");
+        TokenRequestContext c = new TokenRequestContext().addScopes("c");
+
+        cache.getToken(a, tokenSupplier).block();
+        cache.getToken(b, tokenSupplier).block();
+        cache.getToken(a, tokenSupplier).block();
+        cache.getToken(c, tokenSupplier).block();
+        Assert.assertEquals(3, fetches.get());
+        Assert.assertEquals(2, cache.size());
+
+        // b was evicted, a was kept.
+        cache.getToken(a, tokenSupplier).block();
+        Assert.assertEquals(3, fetches.get());
+        cache.getToken(b, tokenSupplier).block();
+        Assert.assertEquals(4, fetches.get());
+    }
+
+    @Test
+    public void failuresAreNotCached() {
+        AccessTokenCache cache = new AccessTokenCache(10);
+        TokenRequestContext request = new TokenRequestContext().addScopes("a");
+
+        AtomicInteger attempts = new AtomicInteger();
+        Function<TokenRequestContext, Mono<AccessToken>> failingOnce = context -> attempts.getAndIncrement() == 0
+            ? Mono.error(new IllegalStateException("unavailable"))
+            : tokenSupplier.apply(context);
+
+        StepVerifier.create(cache.getToken(request, failingOnce))
+            .verifyErrorMessage("unavailable");
+
+        StepVerifier.create(cache.getToken(request, failingOnce).map(AccessToken::getToken))
+            .expectNext("a1")
+            .verifyComplete();
+    }
+
+    @Test
+    public void waitsForNewTokenAfterRefreshTime() throws InterruptedException {
+        AccessTokenCache cache = new AccessTokenCache(10);
+        TokenRequestContext request = new TokenRequestContext().addScopes("a");
+        Function<TokenRequestContext, Mono<AccessToken>> shortLived = tokenSupplier(SHORT_LIFETIME);
+
+        Assert.assertEquals("a1", cache.getToken(request, shortLived).block().getToken());
+
+        // Past half of the lifetime the token isn't handed out anymore, even though it hasn't expired.
+        Thread.sleep(1700);
+        Assert.assertEquals("a2", cache.getToken(request, shortLived).block().getToken());
+        Assert.assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void keepsValidTokenWhenRefreshFails() throws InterruptedException {
+        AccessTokenCache cache = new AccessTokenCache(10);
+        TokenRequestContext request = new TokenRequestContext().addScopes("a");
+        AtomicInteger attempts = new AtomicInteger();
+        Function<TokenRequestContext, Mono<AccessToken>> failingAfterFirst = context ->
+            attempts.getAndIncrement() == 0
+                ? tokenSupplier(SHORT_LIFETIME).apply(context)
+                : Mono.error(new IllegalStateException("unavailable"));
+
+        Assert.assertEquals("a1", cache.getToken(request, failingAfterFirst).block().getToken());
+
+        Thread.sleep(1700);
+        Assert.assertEquals("a1", cache.getToken(request, failingAfterFirst).block().getToken());
+        Assert.assertEquals(2, attempts.get());
+
+        // The failed request isn't retried right away.
+        Assert.assertEquals("a1", cache.getToken(request, failingAfterFirst).block().getToken());
+        Assert.assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void policyRefreshGetsNewToken() throws InterruptedException {
+        AccessTokenCache cache = new AccessTokenCache(10);
+        TokenRequestContext request = new TokenRequestContext().addScopes("a");
+        Function<TokenRequestContext, Mono<AccessToken>> shortLived = tokenSupplier(SHORT_LIFETIME);
+
+        // The cache of BearerTokenAuthenticationPolicy in front of the cache of the credential.
+        RefreshingTokenCache policyCache = new RefreshingTokenCache(() -> cache.getToken(request, shortLived));
+
+        Assert.assertEquals("a1", policyCache.getToken().block().getToken());
+
+        // Past half of the lifetime the policy refreshes in the background, which must not get the same token back.
+        Thread.sleep(1700);
+        Assert.assertEquals("a1", policyCache.getToken().block().getToken());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (policyCache.getRefreshCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        Assert.assertEquals(2, policyCache.getRefreshCount());
+        Assert.assertEquals("a2", policyCache.getToken().block().getToken());
+        Assert.assertEquals(2, fetches.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidMaxSize() {
+        new AccessTokenCache(0);
+    }
+
+    private Function<TokenRequestContext, Mono<AccessToken>> tokenSupplier(Duration lifetime) {
+        return request -> Mono.delay(Duration.ofMillis(100))
+            .map(ignored -> new AccessToken(String.join(" ", request.getScopes()) + fetches.incrementAndGet(),
+                OffsetDateTime.now(ZoneOffset.UTC).plus(lifetime)));
+    }
+}
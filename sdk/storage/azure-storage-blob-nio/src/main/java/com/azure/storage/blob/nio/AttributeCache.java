@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RESERVED FOR INTERNAL USE.
+ *
+ * A bounded cache of the basic attributes of the paths of a file system, filled by directory listings so that reading
+ * the attributes of the listed paths right after doesn't request the properties of each of them.
+ * <p>
+ * Entries expire after a time to live, and the least recently used entry is evicted once the cache is full. Operations
+ * modifying a path through the file system invalidate its entry. Paths are keyed by their normalized absolute form.
+ */
+final class AttributeCache {
+    static final int DEFAULT_MAX_ENTRIES = 10000;
+    static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final long timeToLiveNanos;
+    private final Map<Path, Entry> entries;
+
+    AttributeCache(int maxEntries, Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<Path, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized void put(Path path, AzureBasicFileAttributes attributes) {
+        entries.put(toKey(path), new Entry(attributes, System.nanoTime()));
+    }
+
+    /*
+    Returns the cached attributes of the path, or null if they aren't cached or have expired.
+     */
+    synchronized AzureBasicFileAttributes get(Path path) {
+        Path key = toKey(path);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.cachedAt >= timeToLiveNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.attributes;
+    }
+
+    synchronized void invalidate(Path path) {
+        entries.remove(toKey(path));
+    }
+
+    /*
+    Invalidates the entries of the path and of all the paths under it.
+     */
+    synchronized void invalidateTree(Path path) {
+        Path key = toKey(path);
+        entries.keySet().removeIf(entry -> entry.startsWith(key));
+    }
+
+    private static Path toKey(Path path) {
+        return path.normalize().toAbsolutePath();
+    }
+
+    private static final class Entry {
+        private final AzureBasicFileAttributes attributes;
+        private final long cachedAt;
+
+        Entry(AzureBasicFileAttributes attributes, long cachedAt) {
+            this.attributes = attributes;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobItemProperties;
+import com.azure.storage.blob.models.BlobProperties;
+
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * RESERVED FOR INTERNAL USE.
+ *
+ * The basic attributes of a blob or directory, read from its properties or from the listing of its parent.
+ * <p>
+ * Concrete directories are marker blobs and have their times. Virtual directories and roots have no backing resource,
+ * so their times are the epoch and their size is 0. Blobs have no last access time, so it's the last modified time.
+ */
+final class AzureBasicFileAttributes implements BasicFileAttributes {
+    private static final FileTime EPOCH = FileTime.fromMillis(0);
+
+    private final FileTime lastModifiedTime;
+    private final FileTime creationTime;
+    private final long size;
+    private final boolean isDirectory;
+
+    private AzureBasicFileAttributes(FileTime lastModifiedTime, FileTime creationTime, long size,
+        boolean isDirectory) {
+        this.lastModifiedTime = lastModifiedTime;
+        this.creationTime = creationTime;
+        this.size = size;
+        this.isDirectory = isDirectory;
+    }
+
+    /*
+    The attributes of a directory with no backing blob, either a virtual directory or a root.
+     */
+    static AzureBasicFileAttributes virtualDirectory() {
+        return new AzureBasicFileAttributes(EPOCH, EPOCH, 0, true);
+    }
+
+    static AzureBasicFileAttributes fromProperties(BlobProperties properties) {
+        return new AzureBasicFileAttributes(toFileTime(properties.getLastModified()),
+            toFileTime(properties.getCreationTime()), properties.getBlobSize(),
+            isDirectoryMarker(properties.getMetadata()));
+    }
+
+    /*
+    The item must come from a listing which retrieved metadata, for directory markers to be told apart from files.
+     */
+    static AzureBasicFileAttributes fromBlobItem(BlobItem item) {
+        if (Boolean.TRUE.equals(item.isPrefix()) || item.getProperties() == null) {
+            return virtualDirectory();
+        }
+
+        BlobItemProperties properties = item.getProperties();
+        Long size = properties.getContentLength();
+        return new AzureBasicFileAttributes(toFileTime(properties.getLastModified()),
+            toFileTime(properties.getCreationTime()), (size == null) ? 0 : size,
+            isDirectoryMarker(item.getMetadata()));
+    }
+
+    @Override
+    public FileTime lastModifiedTime() {
+        return lastModifiedTime;
+    }
+
+    @Override
+    public FileTime lastAccessTime() {
+        return lastModifiedTime;
+    }
+
+    @Override
+    public FileTime creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public boolean isRegularFile() {
+        return !isDirectory;
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return isDirectory;
+    }
+
+    @Override
+    public boolean isSymbolicLink() {
+        return false;
+    }
+
+    @Override
+    public boolean isOther() {
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Object fileKey() {
+        return null;
+    }
+
+    private static boolean isDirectoryMarker(Map<String, String> metadata) {
+        return metadata != null && metadata.containsKey(AzureFileSystemProvider.DIR_METADATA_MARKER);
+    }
+
+    private static FileTime toFileTime(OffsetDateTime time) {
+        return (time == null) ? EPOCH : FileTime.from(time.toInstant());
+    }
+}
@@ -0,0 +1,274 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.http.RequestConditions;
+import com.azure.core.util.CoreUtils;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobContainerClientBuilder;
+import com.azure.storage.blob.ProgressReceiver;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.BlobType;
+import com.azure.storage.blob.models.ListBlobsOptions;
+import com.azure.storage.blob.sas.BlobContainerSasPermission;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import com.azure.storage.blob.specialized.BlockBlobAsyncClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * RESERVED FOR INTERNAL USE.
+ *
+ * Copies blobs and trees of blobs with server side copies, so that the data never goes through the client.
+ * <p>
+ * Within an account, a block blob is copied with Put Block From URL: its ranges are staged as blocks of the destination
+ * in parallel, then committed with the properties and metadata of the source. Other blobs are copied with an
+ * asynchronous Copy Blob which is polled until it completes, which keeps their type: blobs of another account, page
+ * and append blobs, and block blobs too large to be staged in {@value #MAX_BLOCKS} blocks of at most the
+ * {@value #MAX_SOURCE_RANGE} bytes a block can be staged from. Either way, the copy is conditioned on the ETag of the
+ * source, so a source modified during the copy fails it rather than leaving a mix of its versions, and the service
+ * reads the source through a read-only SAS of its container.
+ * <p>
+ * A tree is copied by listing the blobs under its prefix and copying up to the maximum concurrency of them at a time,
+ * each of them staging up to that many blocks at a time.
+ */
+final class AzureCopyEngine {
+    static final long DEFAULT_BLOCK_SIZE = 32L * 1024 * 1024;
+    static final int DEFAULT_MAX_CONCURRENCY = 8;
+    static final int MAX_BLOCKS = 50000;
+    static final long MAX_SOURCE_RANGE = 100L * 1024 * 1024;
+    private static final Duration SOURCE_SAS_LIFETIME = Duration.ofDays(1);
+    private static final Duration COPY_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final ClientLogger logger = new ClientLogger(AzureCopyEngine.class);
+
+    private final long blockSize;
+    private final int maxConcurrency;
+    private final ProgressReceiver progressReceiver;
+    private long bytesCopied;
+
+    /**
+     * Creates an engine.
+     *
+     * @param options The options of the copy, or null for the defaults.
+     */
+    AzureCopyEngine(AzureCopyOptions options) {
+        this.blockSize = (options == null || options.getBlockSize() == null)
+            ? DEFAULT_BLOCK_SIZE : options.getBlockSize();
+        this.maxConcurrency = (options == null || options.getMaxConcurrency() == null)
+            ? DEFAULT_MAX_CONCURRENCY : options.getMaxConcurrency();
+        this.progressReceiver = (options == null) ? null : options.getProgressReceiver();
+    }
+
+    /**
+     * Gets a SAS the service can read the blobs of a container with: the SAS of the file system if it has one,
+     * otherwise a short lived read-only SAS of the container signed with the account key.
+     *
+     * @param fileSystem The file system of the container.
+     * @param containerClient The client of the container.
+     * @return The SAS, without a leading question mark.
+     */
+    static String getSourceSas(AzureFileSystem fileSystem, BlobContainerClient containerClient) {
+        String sasToken = fileSystem.getSasToken();
+        if (!CoreUtils.isNullOrEmpty(sasToken)) {
+            return sasToken.startsWith("?") ? sasToken.substring(1) : sasToken;
+        }
+        return containerClient.generateSas(new BlobServiceSasSignatureValues(
+            OffsetDateTime.now().plus(SOURCE_SAS_LIFETIME), new BlobContainerSasPermission().setReadPermission(true)));
+    }
+
+    /**
+     * Copies a blob.
+     *
+     * @param sourceContainer The client of the container of the source.
+     * @param sourceBlobName The name of the source.
+     * @param sourceSas A SAS the service can read the source with.
+     * @param destinationContainer The client of the container of the destination.
+     * @param destinationBlobName The name of the destination.
+     * @param sameAccount Whether both blobs are in the same account.
+     * @param requestConditions The conditions on the destination.
+     * @return The properties of the source.
+     * @throws IOException If a Copy Blob doesn't complete.
+     */
+    BlobProperties copyBlob(BlobContainerClient sourceContainer, String sourceBlobName, String sourceSas,
+        BlobContainerClient destinationContainer, String destinationBlobName, boolean sameAccount,
+        BlobRequestConditions requestConditions) throws IOException {
+        return await(copyBlob(toAsyncClient(sourceContainer).getBlobAsyncClient(sourceBlobName), sourceSas,
+            toAsyncClient(destinationContainer).getBlobAsyncClient(destinationBlobName), sameAccount,
+            requestConditions));
+    }
+
+    /**
+     * Copies all the blobs under a prefix to the same names under another prefix.
+     *
+     * @param sourceContainer The client of the container of the source.
+     * @param sourcePrefix The prefix of the source, ending with the path separator.
+     * @param sourceSas A SAS the service can read the source with.
+     * @param destinationContainer The client of the container of the destination.
+     * @param destinationPrefix The prefix of the destination, ending with the path separator.
+     * @param sameAccount Whether both trees are in the same account.
+     * @param replaceExisting Whether blobs already at the destination are replaced.
+     * @throws IOException If a Copy Blob doesn't complete.
+     */
+    void copyTree(BlobContainerClient sourceContainer, String sourcePrefix, String sourceSas,
+        BlobContainerClient destinationContainer, String destinationPrefix, boolean sameAccount,
+        boolean replaceExisting) throws IOException {
+        BlobContainerAsyncClient source = toAsyncClient(sourceContainer);
+        BlobContainerAsyncClient destination = toAsyncClient(destinationContainer);
+
+        await(source.listBlobs(new ListBlobsOptions().setPrefix(sourcePrefix))
+            .flatMap(item -> copyBlob(source.getBlobAsyncClient(item.getName()), sourceSas,
+                destination.getBlobAsyncClient(destinationPrefix + item.getName().substring(sourcePrefix.length())),
+                sameAccount, replaceExisting ? null : new BlobRequestConditions().setIfNoneMatch("*")),
+                maxConcurrency)
+            .then());
+    }
+
+    /**
+     * Deletes all the blobs under a prefix, up to the maximum concurrency of them at a time.
+     *
+     * @param containerClient The client of the container.
+     * @param prefix The prefix, ending with the path separator.
+     */
+    void deleteTree(BlobContainerClient containerClient, String prefix) {
+        BlobContainerAsyncClient container = toAsyncClient(containerClient);
+        container.listBlobs(new ListBlobsOptions().setPrefix(prefix))
+            .flatMap(item -> container.getBlobAsyncClient(item.getName()).delete()
+                .onErrorResume(AzureCopyEngine::isNotFound, ignored -> Mono.empty()), maxConcurrency)
+            .then()
+            .block();
+    }
+
+    private Mono<BlobProperties> copyBlob(BlobAsyncClient source, String sourceSas, BlobAsyncClient destination,
+        boolean sameAccount, BlobRequestConditions requestConditions) {
+        String sourceUrl = source.getBlobUrl() + "?" + sourceSas;
+        return source.getProperties().flatMap(properties -> {
+            Mono<Void> copy = (sameAccount && canStage(properties.getBlobType(), properties.getBlobSize(), blockSize))
+                ? stageAndCommit(sourceUrl, properties, destination.getBlockBlobAsyncClient(), requestConditions)
+                : copyWithCopyBlob(sourceUrl, properties, destination, requestConditions);
+            return copy.thenReturn(properties);
+        });
+    }
+
+    private Mono<Void> stageAndCommit(String sourceUrl, BlobProperties properties, BlockBlobAsyncClient destination,
+        BlobRequestConditions requestConditions) {
+        long size = properties.getBlobSize();
+        long effectiveBlockSize = effectiveBlockSize(size, blockSize);
+        int blockCount = blockCount(size, effectiveBlockSize);
+
+        List<String> blockIds = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            blockIds.add(Base64.getEncoder()
+                .encodeToString(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        BlobRequestConditions sourceConditions = new BlobRequestConditions().setIfMatch(properties.getETag());
+
+        return Flux.range(0, blockCount)
+            .flatMap(i -> {
+                long offset = i * effectiveBlockSize;
+                long count = Math.min(effectiveBlockSize, size - offset);
+                return destination.stageBlockFromUrlWithResponse(blockIds.get(i), sourceUrl,
+                    new BlobRange(offset, count), null, null, sourceConditions)
+                    .doOnSuccess(ignored -> reportProgress(count));
+            }, maxConcurrency)
+            .then(Mono.defer(() -> destination.commitBlockListWithResponse(blockIds, toHttpHeaders(properties),
+                properties.getMetadata(), null, requestConditions)))
+            .then();
+    }
+
+    /*
+    Whether a blob can be copied by staging its ranges as blocks, which is only the case for block blobs small enough
+    to fit in the block count limit with blocks no larger than the source range limit.
+     */
+    static boolean canStage(BlobType blobType, long blobSize, long blockSize) {
+        return blobType == BlobType.BLOCK_BLOB && effectiveBlockSize(blobSize, blockSize) <= MAX_SOURCE_RANGE;
+    }
+
+    /*
+    The size of the blocks a blob is copied in. Blobs too large for the block count limit are copied in larger blocks.
+     */
+    static long effectiveBlockSize(long blobSize, long blockSize) {
+        return Math.max(blockSize, (blobSize + MAX_BLOCKS - 1) / MAX_BLOCKS);
+    }
+
+    /*
+    The number of blocks a blob is copied in, the last one of which may be shorter. An empty blob has no blocks.
+     */
+    static int blockCount(long blobSize, long blockSize) {
+        return (int) ((blobSize + blockSize - 1) / blockSize);
+    }
+
+    private Mono<Void> copyWithCopyBlob(String sourceUrl, BlobProperties properties, BlobAsyncClient destination,
+        BlobRequestConditions requestConditions) {
+        return destination.beginCopy(sourceUrl, properties.getMetadata(), null, null,
+            new RequestConditions().setIfMatch(properties.getETag()), requestConditions, COPY_POLL_INTERVAL)
+            .last()
+            .flatMap(response -> {
+                if (response.getStatus() != LongRunningOperationStatus.SUCCESSFULLY_COMPLETED) {
+                    return Mono.error(Utility.logError(logger, new IOException(String.format(
+                        "Copy to %s did not complete. Status: %s.", destination.getBlobUrl(), response.getStatus()))));
+                }
+                reportProgress(properties.getBlobSize());
+                return Mono.empty();
+            });
+    }
+
+    private synchronized void reportProgress(long count) {
+        bytesCopied += count;
+        if (progressReceiver != null) {
+            progressReceiver.reportProgress(bytesCopied);
+        }
+    }
+
+    private <T> T await(Mono<T> mono) throws IOException {
+        try {
+            return mono.block();
+        } catch (RuntimeException e) {
+            Throwable cause = Exceptions.unwrap(e);
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static BlobContainerAsyncClient toAsyncClient(BlobContainerClient containerClient) {
+        return new BlobContainerClientBuilder().endpoint(containerClient.getBlobContainerUrl())
+            .pipeline(containerClient.getHttpPipeline())
+            .buildAsyncClient();
+    }
+
+    private static BlobHttpHeaders toHttpHeaders(BlobProperties properties) {
+        return new BlobHttpHeaders().setContentType(properties.getContentType())
+            .setContentEncoding(properties.getContentEncoding())
+            .setContentLanguage(properties.getContentLanguage())
+            .setContentDisposition(properties.getContentDisposition())
+            .setCacheControl(properties.getCacheControl())
+            .setContentMd5(properties.getContentMd5());
+    }
+
+    private static boolean isNotFound(Throwable throwable) {
+        return throwable instanceof BlobStorageException
+            && ((BlobStorageException) throwable).getStatusCode() == HttpURLConnection.HTTP_NOT_FOUND;
+    }
+}
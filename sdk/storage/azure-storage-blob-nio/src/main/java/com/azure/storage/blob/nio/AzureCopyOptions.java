@@ -0,0 +1,110 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.blob.ProgressReceiver;
+
+import java.nio.file.CopyOption;
+import java.nio.file.Path;
+
+/**
+ * A {@link CopyOption} configuring how {@link AzureFileSystemProvider#copy(Path, Path, CopyOption...)} and
+ * {@link AzureFileSystemProvider#move(Path, Path, CopyOption...)} copy data between paths of an
+ * {@link AzureFileSystem}.
+ * <p>
+ * Copies are performed by the service and the data never goes through the client. Within an account, a blob is copied
+ * in blocks which the service stages in parallel; this option sets the size of the blocks and how many are staged at a
+ * time. Directory trees are copied with that many blobs copied at a time.
+ * <p>
+ * By default, copying a directory only creates the directory at the destination, as specified by
+ * {@link java.nio.file.Files#copy(Path, Path, CopyOption...)}. Setting {@link #setRecursive(boolean) recursive} copies
+ * the whole tree under the directory. Moves always move the whole tree.
+ */
+public final class AzureCopyOptions implements CopyOption {
+    static final long MAX_BLOCK_SIZE = 100L * 1024 * 1024;
+
+    private final ClientLogger logger = new ClientLogger(AzureCopyOptions.class);
+
+    private boolean recursive;
+    private Integer maxConcurrency;
+    private Long blockSize;
+    private ProgressReceiver progressReceiver;
+
+    /**
+     * @return Whether the tree under a copied directory is copied.
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * @param recursive Whether the tree under a copied directory is copied.
+     * @return The updated options.
+     */
+    public AzureCopyOptions setRecursive(boolean recursive) {
+        this.recursive = recursive;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of blocks staged, or blobs copied, at a time.
+     */
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @param maxConcurrency The maximum number of blocks staged, or blobs copied, at a time.
+     * @return The updated options.
+     * @throws IllegalArgumentException If {@code maxConcurrency} isn't positive.
+     */
+    public AzureCopyOptions setMaxConcurrency(Integer maxConcurrency) {
+        if (maxConcurrency != null && maxConcurrency < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxConcurrency' must be positive."));
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * @return The size of the blocks a blob is copied in within an account.
+     */
+    public Long getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * A blob larger than the block size times the maximum number of blocks of a blob is copied in larger blocks.
+     *
+     * @param blockSize The size of the blocks a blob is copied in within an account, up to 100MB.
+     * @return The updated options.
+     * @throws IllegalArgumentException If {@code blockSize} isn't positive or is larger than 100MB.
+     */
+    public AzureCopyOptions setBlockSize(Long blockSize) {
+        if (blockSize != null && (blockSize < 1 || blockSize > MAX_BLOCK_SIZE)) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'blockSize' must be positive and at most " + MAX_BLOCK_SIZE + " bytes."));
+        }
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    /**
+     * @return The receiver of the total number of bytes copied so far.
+     */
+    public ProgressReceiver getProgressReceiver() {
+        return progressReceiver;
+    }
+
+    /**
+     * @param progressReceiver The receiver of the total number of bytes copied so far, which is called as blocks and
+     * blobs are copied.
+     * @return The updated options.
+     */
+    public AzureCopyOptions setProgressReceiver(ProgressReceiver progressReceiver) {
+        this.progressReceiver = progressReceiver;
+        return this;
+    }
+}
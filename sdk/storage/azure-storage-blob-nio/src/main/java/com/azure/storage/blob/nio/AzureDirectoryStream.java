@@ -0,0 +1,183 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobListDetails;
+import com.azure.storage.blob.models.ListBlobsOptions;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link DirectoryStream} over the children of a directory, listed by prefix and delimiter so that only the direct
+ * children are returned.
+ * <p>
+ * The listing is lazy: pages are requested as the iterator reaches them, with the next page requested while the
+ * current one is iterated, and the filter is applied to each child as it arrives. Only the current pages are held in
+ * memory no matter how large the directory is. The attributes of each listed child are put in the attribute cache of
+ * the file system, so reading them right after doesn't request the properties of each child.
+ * <p>
+ * As required of directory streams, only one iterator can be obtained, and it has no more elements once the stream is
+ * closed. Failures to list the directory are thrown by the iterator as {@link DirectoryIteratorException}.
+ */
+final class AzureDirectoryStream implements DirectoryStream<Path> {
+    private static final int PREFETCHED_PAGES = 1;
+
+    private final ClientLogger logger = new ClientLogger(AzureDirectoryStream.class);
+
+    private final Path dir;
+    private final BlobContainerClient containerClient;
+    private final String prefix;
+    private final DirectoryStream.Filter<? super Path> filter;
+    private final AttributeCache attributeCache;
+
+    private boolean iteratorReturned;
+    private volatile boolean closed;
+
+    /**
+     * Creates a stream over the children of a directory.
+     *
+     * @param dir The directory, which children are resolved against.
+     * @param containerClient The client of the container of the directory.
+     * @param prefix The prefix of the blob names of the children, ending with the path separator, or null for a root.
+     * @param filter The filter of the children, or null to accept all of them.
+     * @param attributeCache The cache the attributes of the children are put in.
+     */
+    AzureDirectoryStream(Path dir, BlobContainerClient containerClient, String prefix,
+        DirectoryStream.Filter<? super Path> filter, AttributeCache attributeCache) {
+        this.dir = dir;
+        this.containerClient = containerClient;
+        this.prefix = prefix;
+        this.filter = filter;
+        this.attributeCache = attributeCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException If the stream is closed or its iterator was already returned.
+     */
+    @Override
+    public synchronized Iterator<Path> iterator() {
+        if (closed) {
+            throw logger.logExceptionAsError(new IllegalStateException("The directory stream is closed."));
+        }
+        if (iteratorReturned) {
+            throw logger.logExceptionAsError(
+                new IllegalStateException("The iterator of the directory stream was already returned."));
+        }
+        iteratorReturned = true;
+        return new DirectoryIterator();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private final class DirectoryIterator implements Iterator<Path> {
+        /*
+        A concrete directory with children is listed both as its marker blob and as a prefix. The marker always comes
+        first, so the names of the markers are kept until their prefix is skipped. Only directories are kept, not
+        files.
+         */
+        private final Set<String> listedMarkers = new HashSet<>();
+
+        private Iterator<BlobItem> items;
+        private Path next;
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw logger.logExceptionAsError(new NoSuchElementException());
+            }
+            Path result = next;
+            next = null;
+            return result;
+        }
+
+        /*
+        Returns the next child accepted by the filter, or null once the listing is exhausted.
+         */
+        private Path advance() {
+            while (!closed && hasNextItem()) {
+                BlobItem item = items.next();
+                String name = childName(item.getName());
+                if (name.isEmpty()) {
+                    continue; // The directory itself.
+                }
+
+                AzureBasicFileAttributes attributes = AzureBasicFileAttributes.fromBlobItem(item);
+                if (Boolean.TRUE.equals(item.isPrefix())) {
+                    if (listedMarkers.remove(name)) {
+                        continue;
+                    }
+                } else if (attributes.isDirectory()) {
+                    listedMarkers.add(name);
+                }
+
+                Path child = dir.resolve(name);
+                attributeCache.put(child, attributes);
+                try {
+                    if (filter == null || filter.accept(child)) {
+                        return child;
+                    }
+                } catch (IOException e) {
+                    throw logger.logExceptionAsError(new DirectoryIteratorException(e));
+                }
+            }
+            return null;
+        }
+
+        /*
+        Starts the listing on first use, and requests the next page when the current one is exhausted.
+         */
+        private boolean hasNextItem() {
+            try {
+                if (items == null) {
+                    ListBlobsOptions options = new ListBlobsOptions().setPrefix(prefix)
+                        .setDetails(new BlobListDetails().setRetrieveMetadata(true));
+                    items = containerClient.listBlobsByHierarchy(AzureFileSystem.PATH_SEPARATOR, options, null)
+                        .prefetchPages(PREFETCHED_PAGES)
+                        .iterator();
+                }
+                return items.hasNext();
+            } catch (RuntimeException e) {
+                throw logger.logExceptionAsError(new DirectoryIteratorException(
+                    new IOException("Failed to list the directory: " + dir, e)));
+            }
+        }
+
+        /*
+        The name of the child relative to the directory, without the trailing separator of prefixes.
+         */
+        private String childName(String blobName) {
+            String name = (prefix == null) ? blobName : blobName.substring(prefix.length());
+            if (name.endsWith(AzureFileSystem.PATH_SEPARATOR)) {
+                name = name.substring(0, name.length() - AzureFileSystem.PATH_SEPARATOR.length());
+            }
+            return name;
+        }
+    }
+}
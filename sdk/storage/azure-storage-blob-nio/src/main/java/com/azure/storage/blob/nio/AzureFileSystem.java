@@ -126,7 +126,10 @@ public final class AzureFileSystem extends FileSystem {
     private final BlobServiceClient blobServiceClient;
     private final Integer blockSize;
     private final Integer downloadResumeRetries;
+    private final String sasToken;
     private final Map<String, FileStore> fileStores;
+    private final AttributeCache attributeCache =
+        new AttributeCache(AttributeCache.DEFAULT_MAX_ENTRIES, AttributeCache.DEFAULT_TIME_TO_LIVE);
     private FileStore defaultFileStore;
     private boolean closed;
 
@@ -144,6 +147,9 @@ public final class AzureFileSystem extends FileSystem {
             this.blobServiceClient = this.buildBlobServiceClient(accountName, config);
             this.blockSize = (Integer) config.get(AZURE_STORAGE_UPLOAD_BLOCK_SIZE);
             this.downloadResumeRetries = (Integer) config.get(AZURE_STORAGE_DOWNLOAD_RESUME_RETRIES);
+            // The account key takes precedence over the SAS token when building the client.
+            this.sasToken = config.containsKey(AZURE_STORAGE_ACCOUNT_KEY)
+                ? null : (String) config.get(AZURE_STORAGE_SAS_TOKEN);
 
             // Initialize and ensure access to FileStores.
             this.fileStores = this.initializeFileStores(config);
@@ -314,6 +320,13 @@ public final class AzureFileSystem extends FileSystem {
         return this.blobServiceClient;
     }
 
+    /*
+    The SAS token the file system was authenticated with, or null if it was authenticated with the account key.
+     */
+    String getSasToken() {
+        return this.sasToken;
+    }
+
     private BlobServiceClient buildBlobServiceClient(String accountName, Map<String, ?> config) {
         // Build the endpoint.
         String scheme = !config.containsKey(AZURE_STORAGE_USE_HTTPS)
@@ -397,4 +410,8 @@ public final class AzureFileSystem extends FileSystem {
         }
         return store;
     }
+
+    AttributeCache getAttributeCache() {
+        return this.attributeCache;
+    }
 }
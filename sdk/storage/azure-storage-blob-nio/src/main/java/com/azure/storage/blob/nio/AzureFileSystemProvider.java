@@ -5,15 +5,16 @@ package com.azure.storage.blob.nio;
 
 import com.azure.core.util.CoreUtils;
 import com.azure.core.util.logging.ClientLogger;
-import com.azure.core.util.polling.SyncPoller;
+import com.azure.storage.blob.BlobAsyncClient;
 import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobClientBuilder;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobContainerClientBuilder;
-import com.azure.storage.blob.models.BlobCopyInfo;
 import com.azure.storage.blob.models.BlobErrorCode;
 import com.azure.storage.blob.models.BlobHttpHeaders;
 import com.azure.storage.blob.models.BlobItem;
 import com.azure.storage.blob.models.BlobListDetails;
+import com.azure.storage.blob.models.BlobProperties;
 import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.ListBlobsOptions;
@@ -25,6 +26,7 @@ import java.net.HttpURLConnection;
 import java.net.URI;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessMode;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.CopyOption;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.DirectoryStream;
@@ -34,14 +36,16 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystemAlreadyExistsException;
 import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.FileAttributeView;
 import java.nio.file.spi.FileSystemProvider;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -127,7 +131,6 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
     public static final String CACHE_CONTROL = "Cache-Control";
 
     private static final String ACCOUNT_QUERY_KEY = "account";
-    private static final int COPY_TIMEOUT_SECONDS = 30;
     static final String DIR_METADATA_MARKER = "is_hdi_folder";
 
     private final ConcurrentMap<String, FileSystem> openFileSystems;
@@ -194,21 +197,86 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
     }
 
     /**
+     * Opens a channel reading the blob at the given path. Only reading is supported: the only supported option is
+     * {@link StandardOpenOption#READ}, which is the default, and file attributes can't be set.
+     * <p>
+     * The channel downloads the blob in ranges of 4MB, keeping a few recent ranges cached for seeks back, and
+     * downloads up to 4 ranges concurrently ahead of sequential reads. Reads are conditioned on the ETag of the blob
+     * when the channel was opened, so reads of a blob modified after that fail with an {@link IOException}.
+     *
      * {@inheritDoc}
      */
     @Override
     public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> set,
             FileAttribute<?>... fileAttributes) throws IOException {
-        return null;
+        if (!(path instanceof AzurePath)) {
+            throw Utility.logError(logger, new IllegalArgumentException("This provider cannot operate on subtypes of "
+                + "Path other than AzurePath"));
+        }
+        for (OpenOption option : set) {
+            if (option != StandardOpenOption.READ) {
+                throw Utility.logError(logger, new UnsupportedOperationException("Unsupported option: " + option
+                    + ". Only StandardOpenOption.READ is supported."));
+            }
+        }
+        if (fileAttributes != null && fileAttributes.length > 0) {
+            throw Utility.logError(logger, new UnsupportedOperationException("File attributes cannot be set when "
+                + "opening a channel for reading."));
+        }
+
+        BlobClient client = ((AzurePath) path).toBlobClient();
+        BlobProperties properties;
+        try {
+            properties = client.getProperties();
+        } catch (BlobStorageException e) {
+            if (e.getStatusCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                throw Utility.logError(logger, new NoSuchFileException(path.toString()));
+            }
+            throw Utility.logError(logger, new IOException(e));
+        }
+        if (properties.getMetadata() != null && properties.getMetadata().containsKey(DIR_METADATA_MARKER)) {
+            throw Utility.logError(logger, new IOException("Cannot open a channel to a directory: " + path));
+        }
+
+        BlobAsyncClient asyncClient = new BlobClientBuilder().endpoint(client.getBlobUrl())
+            .pipeline(client.getHttpPipeline())
+            .buildAsyncClient();
+        return new AzureSeekableByteChannel(asyncClient, properties.getBlobSize(), properties.getETag(),
+            AzureSeekableByteChannel.DEFAULT_BLOCK_SIZE, AzureSeekableByteChannel.DEFAULT_MAX_READ_AHEAD_BLOCKS);
     }
 
     /**
+     * The children of the directory are listed lazily, a page at a time, as the iterator of the stream reaches them.
+     * Both concrete and virtual directories can be listed, and the root of the file system lists the whole container.
+     * The attributes of the listed children are cached by the file system for a short time, so that reading them with
+     * {@link #readAttributes(Path, Class, LinkOption...)} right after the listing doesn't send a request per child.
+     *
      * {@inheritDoc}
      */
     @Override
     public DirectoryStream<Path> newDirectoryStream(Path path, DirectoryStream.Filter<? super Path> filter)
         throws IOException {
-        return null;
+        if (!(path instanceof AzurePath)) {
+            throw Utility.logError(logger, new IllegalArgumentException("This provider cannot operate on subtypes of "
+                + "Path other than AzurePath"));
+        }
+        AzurePath dir = (AzurePath) path;
+
+        String prefix = null;
+        if (!isRoot(dir)) {
+            BlobClient dirClient = dir.toBlobClient();
+            DirectoryStatus dirStatus = checkDirStatus(dirClient);
+            if (dirStatus.equals(DirectoryStatus.DOES_NOT_EXIST)) {
+                throw Utility.logError(logger, new NoSuchFileException(path.toString()));
+            }
+            if (dirStatus.equals(DirectoryStatus.NOT_A_DIRECTORY)) {
+                throw Utility.logError(logger, new NotDirectoryException(path.toString()));
+            }
+            prefix = dirClient.getBlobName() + AzureFileSystem.PATH_SEPARATOR;
+        }
+
+        return new AzureDirectoryStream(path, dir.toContainerClient(), prefix, filter,
+            ((AzureFileSystem) path.getFileSystem()).getAttributeCache());
     }
 
     /**
@@ -282,6 +350,7 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
 
         // Check if parent exists. If it does, atomically check if a file already exists and create a new dir if not.
         if (checkParentDirectoryExists(path)) {
+            ((AzureFileSystem) path.getFileSystem()).getAttributeCache().invalidate(path);
             try {
                 List<FileAttribute<?>> attributeList = new ArrayList<>(Arrays.asList(fileAttributes));
                 BlobHttpHeaders headers = Utility.extractHttpHeaders(attributeList, logger);
@@ -363,11 +432,41 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
     }
 
     /**
+     * Deletes the file or the empty concrete directory at the given path, and drops its cached attributes. A virtual
+     * directory always has children, so it can't be deleted. As with other operations, the check of the directory
+     * status is not atomic with the deletion.
+     *
      * {@inheritDoc}
      */
     @Override
     public void delete(Path path) throws IOException {
+        if (!(path instanceof AzurePath)) {
+            throw Utility.logError(logger, new IllegalArgumentException("This provider cannot operate on subtypes of "
+                + "Path other than AzurePath"));
+        }
+        if (isRoot(path)) {
+            throw Utility.logError(logger, new IOException("Deleting a root directory is not supported."));
+        }
 
+        BlobClient client = ((AzurePath) path).toBlobClient();
+        DirectoryStatus dirStatus = checkDirStatus(client);
+        if (dirStatus.equals(DirectoryStatus.DOES_NOT_EXIST)) {
+            throw Utility.logError(logger, new NoSuchFileException(path.toString()));
+        }
+        if (dirStatus.equals(DirectoryStatus.NOT_EMPTY)) {
+            throw Utility.logError(logger, new DirectoryNotEmptyException(path.toString()));
+        }
+
+        try {
+            client.delete();
+        } catch (BlobStorageException e) {
+            if (e.getStatusCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                throw Utility.logError(logger, new NoSuchFileException(path.toString()));
+            }
+            throw Utility.logError(logger, new IOException(e));
+        } finally {
+            ((AzureFileSystem) path.getFileSystem()).getAttributeCache().invalidate(path);
+        }
     }
 
     /**
@@ -389,6 +488,12 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
      * This is in order to prevent the possibility of overwriting a non-empty virtual directory with a file. Still, as
      * mentioned above, this check is not atomic with the creation of the resultant directory.
      *
+     * The copy is performed by the service, so the data never goes through the client. Within an account, block blobs
+     * are copied in blocks staged in parallel; across accounts, and for page blobs, append blobs and block blobs too
+     * large for 50,000 blocks of 100 MiB, the service copies the blob asynchronously and this method waits for the copy
+     * to complete. An {@link AzureCopyOptions} may be passed to configure the parallelism, report
+     * progress, or copy the whole tree under a directory rather than only the directory.
+     *
      * {@inheritDoc}
      * @see #createDirectory(Path, FileAttribute[]) for more information about directory existence.
      */
@@ -418,11 +523,23 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
             replaceExisting = true;
             optionsList.remove(StandardCopyOption.REPLACE_EXISTING);
         }
+        AzureCopyOptions azureOptions = removeAzureCopyOptions(optionsList);
         if (!optionsList.isEmpty()) {
             throw Utility.logError(logger, new UnsupportedOperationException("Unsupported copy option found. Only "
-                + "StandardCopyOption.COPY_ATTRIBUTES and StandareCopyOption.REPLACE_EXISTING are supported."));
+                + "StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING and AzureCopyOptions are "
+                + "supported."));
         }
 
+        copyResource((AzurePath) source, (AzurePath) destination, replaceExisting, azureOptions,
+            azureOptions != null && azureOptions.isRecursive());
+    }
+
+    /*
+    Copies the resource at the source, and the tree under it if it is a directory and the copy is recursive. Returns
+    whether the source is a directory.
+     */
+    private boolean copyResource(AzurePath source, AzurePath destination, boolean replaceExisting,
+        AzureCopyOptions azureOptions, boolean recursive) throws IOException {
         // Validate paths.
         // Copying a root directory or attempting to create/overwrite a root directory is illegal.
         if (source.equals(source.getRoot()) || destination.equals(destination.getRoot())) {
@@ -432,8 +549,12 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
         }
 
         // Build clients.
-        BlobClient sourceBlob = ((AzurePath) source).toBlobClient();
-        BlobClient destinationBlob = ((AzurePath) destination).toBlobClient();
+        BlobClient sourceBlob = source.toBlobClient();
+        BlobClient destinationBlob = destination.toBlobClient();
+        BlobContainerClient sourceContainer = source.toContainerClient();
+        BlobContainerClient destinationContainer = destination.toContainerClient();
+        AttributeCache destinationCache = ((AzureFileSystem) destination.getFileSystem()).getAttributeCache();
+        destinationCache.invalidate(destination);
 
         // Check destination is not a directory with children.
         DirectoryStatus destinationStatus = checkDirStatus(destinationBlob);
@@ -475,26 +596,56 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
         customer scenarios and how many virtual directories they copy, it could be better to check the directory status
         first and then do a copy or createDir, which would always be two requests for all resource types.
          */
+        AzureCopyEngine engine = new AzureCopyEngine(azureOptions);
+        boolean sameAccount = source.getFileSystem().equals(destination.getFileSystem());
+        String sourceSas = AzureCopyEngine.getSourceSas((AzureFileSystem) source.getFileSystem(), sourceContainer);
+        boolean sourceIsDirectory;
         try {
-            SyncPoller<BlobCopyInfo, Void> pollResponse =
-                destinationBlob.beginCopy(sourceBlob.getBlobUrl(), null, null, null, null, requestConditions, null);
-            pollResponse.waitForCompletion(Duration.ofSeconds(COPY_TIMEOUT_SECONDS));
+            BlobProperties sourceProperties = engine.copyBlob(sourceContainer, sourceBlob.getBlobName(), sourceSas,
+                destinationContainer, destinationBlob.getBlobName(), sameAccount, requestConditions);
+            sourceIsDirectory = sourceProperties.getMetadata() != null
+                && sourceProperties.getMetadata().containsKey(DIR_METADATA_MARKER);
         } catch (BlobStorageException e) {
             // If the source was not found, it could be because it's a virtual directory. Check the status.
             // If a non-dir resource existed, it would have been copied above. This check is therefore sufficient.
-            if (e.getErrorCode().equals(BlobErrorCode.BLOB_NOT_FOUND)
+            if (e.getStatusCode() == HttpURLConnection.HTTP_NOT_FOUND
                 && !checkDirStatus(sourceBlob).equals(DirectoryStatus.DOES_NOT_EXIST)) {
                 /*
                 We already checked that the parent exists and validated the paths above, so we can put the blob
                 directly.
                  */
                 putDirectoryBlob(destinationBlob, null, null, requestConditions);
+                sourceIsDirectory = true;
             } else {
                 throw Utility.logError(logger, new IOException(e));
             }
-        } catch (RuntimeException e) { // To better log possible timeout from poller.
+        } catch (RuntimeException e) { // To better log failures of the copy other than from the service.
             throw Utility.logError(logger, new IOException(e));
         }
+
+        if (sourceIsDirectory && recursive) {
+            try {
+                engine.copyTree(sourceContainer, sourceBlob.getBlobName() + AzureFileSystem.PATH_SEPARATOR, sourceSas,
+                    destinationContainer, destinationBlob.getBlobName() + AzureFileSystem.PATH_SEPARATOR, sameAccount,
+                    replaceExisting);
+            } catch (RuntimeException e) {
+                throw Utility.logError(logger, new IOException(e));
+            }
+            destinationCache.invalidateTree(destination);
+        }
+        return sourceIsDirectory;
+    }
+
+    private static AzureCopyOptions removeAzureCopyOptions(List<CopyOption> optionsList) {
+        AzureCopyOptions azureOptions = null;
+        for (Iterator<CopyOption> iterator = optionsList.iterator(); iterator.hasNext();) {
+            CopyOption option = iterator.next();
+            if (option instanceof AzureCopyOptions) {
+                azureOptions = (AzureCopyOptions) option;
+                iterator.remove();
+            }
+        }
+        return azureOptions;
     }
 
     /**
@@ -550,11 +701,58 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
     }*/
 
     /**
+     * A move is a copy of the source followed by the deletion of the source, so it is not atomic and
+     * {@link StandardCopyOption#ATOMIC_MOVE} is not supported. Moving a directory moves the whole tree under it. The
+     * copy is performed by the service as described in {@link #copy(Path, Path, CopyOption...)}, and an
+     * {@link AzureCopyOptions} may be passed to configure it. The source is only deleted once the whole copy succeeded.
+     *
      * {@inheritDoc}
      */
     @Override
     public void move(Path path, Path path1, CopyOption... copyOptions) throws IOException {
+        // Validate instance types.
+        if (!(path instanceof AzurePath && path1 instanceof AzurePath)) {
+            throw Utility.logError(logger, new IllegalArgumentException("This provider cannot operate on subtypes of "
+                + "Path other than AzurePath"));
+        }
 
+        // If paths point to the same file, operation is a no-op.
+        if (path.equals(path1)) {
+            return;
+        }
+
+        // Read and validate options. Attributes are always moved, so COPY_ATTRIBUTES is accepted and ignored.
+        List<CopyOption> optionsList = new ArrayList<>(Arrays.asList(copyOptions));
+        if (optionsList.contains(StandardCopyOption.ATOMIC_MOVE)) {
+            throw Utility.logError(logger, new AtomicMoveNotSupportedException(path.toString(), path1.toString(),
+                "A move is a copy followed by a delete."));
+        }
+        optionsList.remove(StandardCopyOption.COPY_ATTRIBUTES);
+        boolean replaceExisting = optionsList.remove(StandardCopyOption.REPLACE_EXISTING);
+        AzureCopyOptions azureOptions = removeAzureCopyOptions(optionsList);
+        if (!optionsList.isEmpty()) {
+            throw Utility.logError(logger, new UnsupportedOperationException("Unsupported copy option found. Only "
+                + "StandardCopyOption.REPLACE_EXISTING and AzureCopyOptions are supported."));
+        }
+
+        AzurePath source = (AzurePath) path;
+        boolean sourceIsDirectory = copyResource(source, (AzurePath) path1, replaceExisting, azureOptions, true);
+
+        // Delete the source. A virtual directory has no marker, so its marker may not be found.
+        BlobClient sourceBlob = source.toBlobClient();
+        try {
+            if (sourceIsDirectory) {
+                new AzureCopyEngine(azureOptions).deleteTree(source.toContainerClient(),
+                    sourceBlob.getBlobName() + AzureFileSystem.PATH_SEPARATOR);
+            }
+            sourceBlob.delete();
+        } catch (BlobStorageException e) {
+            if (!sourceIsDirectory || e.getStatusCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+                throw Utility.logError(logger, new IOException("The source could not be deleted after it was copied "
+                    + "to the destination: " + path, e));
+            }
+        }
+        ((AzureFileSystem) path.getFileSystem()).getAttributeCache().invalidateTree(path);
     }
 
     /**
@@ -598,12 +796,54 @@ public final class AzureFileSystemProvider extends FileSystemProvider {
     }
 
     /**
+     * Only {@link BasicFileAttributes} are supported. The attributes of a path listed by a directory stream in the
+     * last 30 seconds are served from the cache of the file system rather than read from the service, other paths are
+     * read from the service every time. Roots and virtual directories have no backing blob, so their times are the
+     * epoch and their size is 0.
+     *
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <A extends BasicFileAttributes> A readAttributes(Path path, Class<A> aClass, LinkOption... linkOptions)
         throws IOException {
-        return null;
+        if (!(path instanceof AzurePath)) {
+            throw Utility.logError(logger, new IllegalArgumentException("This provider cannot operate on subtypes of "
+                + "Path other than AzurePath"));
+        }
+        if (!aClass.isAssignableFrom(AzureBasicFileAttributes.class)) {
+            throw Utility.logError(logger, new UnsupportedOperationException("Unsupported attributes type: "
+                + aClass.getName() + ". Only BasicFileAttributes are supported."));
+        }
+
+        AzureBasicFileAttributes attributes = ((AzureFileSystem) path.getFileSystem()).getAttributeCache().get(path);
+        return (A) ((attributes == null) ? readBasicAttributes((AzurePath) path) : attributes);
+    }
+
+    private AzureBasicFileAttributes readBasicAttributes(AzurePath path) throws IOException {
+        if (isRoot(path)) {
+            return AzureBasicFileAttributes.virtualDirectory();
+        }
+
+        BlobClient client = path.toBlobClient();
+        try {
+            return AzureBasicFileAttributes.fromProperties(client.getProperties());
+        } catch (BlobStorageException e) {
+            if (e.getStatusCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+                throw Utility.logError(logger, new IOException(e));
+            }
+        }
+
+        // There is no blob at the path, but it may be a virtual directory.
+        if (checkDirStatus(client).equals(DirectoryStatus.DOES_NOT_EXIST)) {
+            throw Utility.logError(logger, new NoSuchFileException(path.toString()));
+        }
+        return AzureBasicFileAttributes.virtualDirectory();
+    }
+
+    private static boolean isRoot(Path path) {
+        Path absolutePath = path.normalize().toAbsolutePath();
+        return absolutePath.equals(absolutePath.getRoot());
     }
 
     /**
@@ -517,6 +517,20 @@ public final class AzurePath implements Path {
     construct the client or perform any validation until it is requested.
      */
     BlobClient toBlobClient() throws IOException {
+        BlobContainerClient containerClient = this.toContainerClient();
+
+        String blobName = this.withoutRoot();
+        if (blobName.isEmpty()) {
+            throw new IOException("Cannot get a blob client to a path that only contains the root");
+        }
+
+        return containerClient.getBlobClient(blobName);
+    }
+
+    /*
+    Gets the client of the container the path is in, which is the container of its root once it is made absolute.
+     */
+    BlobContainerClient toContainerClient() throws IOException {
         // Converting to an absolute path ensures there is a container to operate on even if it is the default.
         // Normalizing ensures the path is clean.
         Path root = this.normalize().toAbsolutePath().getRoot();
@@ -526,15 +540,7 @@ public final class AzurePath implements Path {
         }
         String fileStoreName = this.rootToFileStore(root.toString());
 
-        BlobContainerClient containerClient =
-            ((AzureFileStore) this.parentFileSystem.getFileStore(fileStoreName)).getContainerClient();
-
-        String blobName = this.withoutRoot();
-        if (blobName.isEmpty()) {
-            throw new IOException("Cannot get a blob client to a path that only contains the root");
-        }
-
-        return containerClient.getBlobClient(blobName);
+        return ((AzureFileStore) this.parentFileSystem.getFileStore(fileStoreName)).getContainerClient();
     }
 
     private String withoutRoot() {
@@ -0,0 +1,233 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.specialized.BlobAsyncClientBase;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A read only {@link SeekableByteChannel} over a blob, which reads the blob in blocks with ranged downloads.
+ * <p>
+ * Every download is conditioned on the ETag the blob had when the channel was opened, so a blob modified while it's
+ * read fails the reads rather than mixing two versions of its content.
+ * <p>
+ * Downloaded blocks are kept in a small least recently used cache, so that reads seeking back to a recent position
+ * don't download it again. While the channel is read sequentially it downloads the blocks after the position
+ * concurrently, ahead of the reads: the read-ahead window starts at one block and doubles with each sequential read up
+ * to a maximum. Seeking elsewhere resets the window, so a reader jumping to the footer of a file doesn't download the
+ * blocks after it.
+ * <p>
+ * This type is safe for use by multiple threads, reads and changes of the position are serialized.
+ */
+final class AzureSeekableByteChannel implements SeekableByteChannel {
+    static final int DEFAULT_BLOCK_SIZE = 4 * 1024 * 1024;
+    static final int DEFAULT_MAX_READ_AHEAD_BLOCKS = 4;
+    private static final int BACKWARD_CACHE_BLOCKS = 4;
+
+    private final ClientLogger logger = new ClientLogger(AzureSeekableByteChannel.class);
+
+    private final BlobAsyncClientBase client;
+    private final BlobRequestConditions requestConditions;
+    private final long size;
+    private final int blockSize;
+    private final int maxReadAheadBlocks;
+    private final Map<Long, CompletableFuture<ByteBuffer>> blocks;
+
+    private long position;
+    private long nextSequentialPosition;
+    private int readAheadBlocks;
+    private boolean closed;
+
+    /**
+     * Creates a channel reading a blob.
+     *
+     * @param client The client of the blob.
+     * @param size The size of the blob.
+     * @param eTag The ETag of the blob, which downloads are conditioned on.
+     * @param blockSize The size of the ranges the blob is downloaded in.
+     * @param maxReadAheadBlocks The maximum number of blocks downloaded ahead of sequential reads.
+     */
+    AzureSeekableByteChannel(BlobAsyncClientBase client, long size, String eTag, int blockSize,
+        int maxReadAheadBlocks) {
+        this.client = client;
+        this.requestConditions = new BlobRequestConditions().setIfMatch(eTag);
+        this.size = size;
+        this.blockSize = blockSize;
+        this.maxReadAheadBlocks = maxReadAheadBlocks;
+        int cacheBlocks = maxReadAheadBlocks + BACKWARD_CACHE_BLOCKS;
+        this.blocks = new LinkedHashMap<Long, CompletableFuture<ByteBuffer>>(cacheBlocks * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CompletableFuture<ByteBuffer>> eldest) {
+                if (size() <= cacheBlocks) {
+                    return false;
+                }
+                // An evicted block which is still downloading is cancelled.
+                eldest.getValue().cancel(true);
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        if (position >= size) {
+            return -1;
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+
+        adaptReadAhead();
+
+        // Wait for the block at the position, then copy as much as possible without waiting on further blocks.
+        int read = 0;
+        long blockIndex = position / blockSize;
+        CompletableFuture<ByteBuffer> block = getBlock(blockIndex);
+        do {
+            ByteBuffer content = await(block).duplicate();
+            content.position((int) (position - blockIndex * blockSize));
+            int count = Math.min(content.remaining(), dst.remaining());
+            content.limit(content.position() + count);
+            dst.put(content);
+            read += count;
+            position += count;
+
+            blockIndex++;
+            block = (position < size && dst.hasRemaining()) ? blocks.get(blockIndex) : null;
+        } while (block != null && block.isDone());
+
+        nextSequentialPosition = position;
+        prefetch(position / blockSize);
+        return read;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw logger.logExceptionAsError(new NonWritableChannelException());
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("The position cannot be negative."));
+        }
+        this.position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long newSize) {
+        throw logger.logExceptionAsError(new NonWritableChannelException());
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (CompletableFuture<ByteBuffer> block : blocks.values()) {
+            block.cancel(true);
+        }
+        blocks.clear();
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (closed) {
+            throw Utility.logError(logger, new ClosedChannelException());
+        }
+    }
+
+    /*
+     * Grows the read-ahead window when the read continues the previous one, and drops it when the reader has seeked.
+     */
+    private void adaptReadAhead() {
+        if (position == nextSequentialPosition) {
+            readAheadBlocks = Math.min(maxReadAheadBlocks, Math.max(1, readAheadBlocks * 2));
+        } else {
+            readAheadBlocks = 0;
+        }
+    }
+
+    /*
+     * Starts downloading the blocks of the read-ahead window after the given block which aren't cached.
+     */
+    private void prefetch(long blockIndex) {
+        if (readAheadBlocks == 0) {
+            return;
+        }
+
+        long lastBlockIndex = (size - 1) / blockSize;
+        for (long i = blockIndex; i <= Math.min(lastBlockIndex, blockIndex + readAheadBlocks); i++) {
+            if (!blocks.containsKey(i)) {
+                blocks.put(i, download(i));
+            }
+        }
+    }
+
+    private CompletableFuture<ByteBuffer> getBlock(long blockIndex) {
+        CompletableFuture<ByteBuffer> block = blocks.get(blockIndex);
+        if (block == null || block.isCompletedExceptionally() || block.isCancelled()) {
+            block = download(blockIndex);
+            blocks.put(blockIndex, block);
+        }
+        return block;
+    }
+
+    private CompletableFuture<ByteBuffer> download(long blockIndex) {
+        long offset = blockIndex * blockSize;
+        int count = (int) Math.min(blockSize, size - offset);
+        return client.downloadWithResponse(new BlobRange(offset, (long) count), null, requestConditions, false)
+            .flatMap(response -> response.getValue()
+                .reduce(ByteBuffer.allocate(count), ByteBuffer::put))
+            .map(content -> {
+                content.flip();
+                return content.asReadOnlyBuffer();
+            })
+            .toFuture();
+    }
+
+    private ByteBuffer await(CompletableFuture<ByteBuffer> block) throws IOException {
+        try {
+            return block.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Utility.logError(logger, new InterruptedIOException("Interrupted while reading the blob."));
+        } catch (ExecutionException e) {
+            throw Utility.logError(logger, new IOException("Failed to read the blob.", e.getCause()));
+        }
+    }
+}
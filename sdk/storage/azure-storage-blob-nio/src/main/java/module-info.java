@@ -4,7 +4,7 @@
 module com.azure.storage.blob.nio {
     requires transitive com.azure.core;
     requires transitive com.azure.storage.common;
-    requires com.azure.storage.blob;
+    requires transitive com.azure.storage.blob;
     requires com.fasterxml.jackson.dataformat.xml;
 
     exports com.azure.storage.blob.nio;
@@ -0,0 +1,188 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/*
+The operations of the provider are run against a stubbed HttpClient rather than recorded sessions, and the service is
+changed behind the back of the file system to check which cached attributes are still served.
+ */
+public class AttributeCacheTest {
+    private BlobServiceStub service;
+    private FileSystem fileSystem;
+
+    @Before
+    public void setup() throws IOException {
+        service = new BlobServiceStub(10);
+        fileSystem = service.openFileSystem("c");
+    }
+
+    @Test
+    public void keysAreNormalized() {
+        AttributeCache cache = new AttributeCache(10, Duration.ofMinutes(1));
+        AzureBasicFileAttributes attributes = AzureBasicFileAttributes.virtualDirectory();
+
+        cache.put(fileSystem.getPath("c:/dir/../file"), attributes);
+
+        assertSame(attributes, cache.get(fileSystem.getPath("c:/file")));
+        // Relative paths are resolved against the default directory, the root of the first container.
+        assertSame(attributes, cache.get(fileSystem.getPath("file")));
+    }
+
+    @Test
+    public void entriesExpire() throws InterruptedException {
+        AttributeCache cache = new AttributeCache(10, Duration.ofMillis(50));
+        cache.put(fileSystem.getPath("c:/file"), AzureBasicFileAttributes.virtualDirectory());
+
+        Thread.sleep(100);
+        assertNull(cache.get(fileSystem.getPath("c:/file")));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        AttributeCache cache = new AttributeCache(2, Duration.ofMinutes(1));
+        cache.put(fileSystem.getPath("c:/a"), AzureBasicFileAttributes.virtualDirectory());
+        cache.put(fileSystem.getPath("c:/b"), AzureBasicFileAttributes.virtualDirectory());
+        cache.get(fileSystem.getPath("c:/a"));
+
+        cache.put(fileSystem.getPath("c:/c"), AzureBasicFileAttributes.virtualDirectory());
+
+        assertNotNull(cache.get(fileSystem.getPath("c:/a")));
+        assertNull(cache.get(fileSystem.getPath("c:/b")));
+        assertNotNull(cache.get(fileSystem.getPath("c:/c")));
+    }
+
+    @Test
+    public void invalidateTreeDropsDescendantsOnly() {
+        AttributeCache cache = new AttributeCache(10, Duration.ofMinutes(1));
+        for (String path : new String[] {"c:/dir", "c:/dir/a", "c:/dir/sub/b", "c:/dirx", "c:/other"}) {
+            cache.put(fileSystem.getPath(path), AzureBasicFileAttributes.virtualDirectory());
+        }
+
+        cache.invalidateTree(fileSystem.getPath("c:/dir"));
+
+        assertNull(cache.get(fileSystem.getPath("c:/dir")));
+        assertNull(cache.get(fileSystem.getPath("c:/dir/a")));
+        assertNull(cache.get(fileSystem.getPath("c:/dir/sub/b")));
+        // Paths are compared by name element, so a sibling sharing the prefix is kept.
+        assertNotNull(cache.get(fileSystem.getPath("c:/dirx")));
+        assertNotNull(cache.get(fileSystem.getPath("c:/other")));
+    }
+
+    @Test
+    public void deleteInvalidatesFile() throws IOException {
+        service.putFile("c", "dir/file", new byte[3]);
+        service.putFile("c", "dir/other", new byte[3]);
+        list("c:/dir");
+
+        fileSystem.provider().delete(fileSystem.getPath("c:/dir/file"));
+
+        assertFalse(service.getBlobNames("c").contains("dir/file"));
+        try {
+            readAttributes("c:/dir/file");
+            fail("Expected a NoSuchFileException.");
+        } catch (NoSuchFileException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void deleteInvalidatesEmptyDirectory() throws IOException {
+        service.putDirectory("c", "dir");
+        service.putFile("c", "file", new byte[0]);
+        list("c:");
+
+        fileSystem.provider().delete(fileSystem.getPath("c:/dir"));
+
+        assertFalse(service.getBlobNames("c").contains("dir"));
+        try {
+            readAttributes("c:/dir");
+            fail("Expected a NoSuchFileException.");
+        } catch (NoSuchFileException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void deleteRejectsNonEmptyAndMissingPaths() throws IOException {
+        service.putDirectory("c", "dir");
+        service.putFile("c", "dir/file", new byte[0]);
+
+        try {
+            fileSystem.provider().delete(fileSystem.getPath("c:/dir"));
+            fail("Expected a DirectoryNotEmptyException.");
+        } catch (DirectoryNotEmptyException e) {
+            // Expected.
+        }
+        try {
+            fileSystem.provider().delete(fileSystem.getPath("c:/missing"));
+            fail("Expected a NoSuchFileException.");
+        } catch (NoSuchFileException e) {
+            // Expected.
+        }
+        try {
+            fileSystem.provider().delete(fileSystem.getPath("c:"));
+            fail("Expected an IOException.");
+        } catch (IOException e) {
+            // Expected.
+        }
+        assertTrue(service.getBlobNames("c").contains("dir"));
+    }
+
+    @Test
+    public void copyInvalidatesDestination() throws IOException {
+        service.putFile("c", "dir/source", new byte[7]);
+        service.putFile("c", "dir/destination", new byte[3]);
+        list("c:/dir");
+        assertEquals(3, readAttributes("c:/dir/destination").size());
+
+        fileSystem.provider().copy(fileSystem.getPath("c:/dir/source"), fileSystem.getPath("c:/dir/destination"),
+            StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(7, readAttributes("c:/dir/destination").size());
+    }
+
+    @Test
+    public void createDirectoryInvalidatesPath() throws IOException {
+        service.putFile("c", "dir/child", new byte[0]);
+        list("c:");
+        assertTrue(readAttributes("c:/dir").isDirectory());
+        assertEquals(0, readAttributes("c:/dir").creationTime().toMillis());
+
+        fileSystem.provider().createDirectory(fileSystem.getPath("c:/dir"));
+
+        // The virtual directory is now a concrete one, with the times of its marker.
+        assertTrue(readAttributes("c:/dir").creationTime().toMillis() > 0);
+    }
+
+    private void list(String dir) throws IOException {
+        try (DirectoryStream<Path> stream = fileSystem.provider().newDirectoryStream(fileSystem.getPath(dir), null)) {
+            stream.forEach(child -> { });
+        }
+    }
+
+    private BasicFileAttributes readAttributes(String path) throws IOException {
+        return fileSystem.provider().readAttributes(fileSystem.getPath(path), BasicFileAttributes.class);
+    }
+}
@@ -0,0 +1,388 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobContainerClientBuilder;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.BlobType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystem;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/*
+These tests copy and move blobs served by a stubbed HttpClient rather than recorded sessions, so they can check the
+blocks the service is asked to stage and the conditions sent with them. Both paths of a copy are in the same file
+system, so blobs are always staged and committed rather than copied across accounts.
+ */
+public class AzureCopyEngineTest {
+    private static final long BLOCK_SIZE = 4;
+
+    private BlobServiceStub service;
+    private FileSystem fileSystem;
+    private byte[] content;
+
+    @Before
+    public void setup() throws IOException {
+        service = new BlobServiceStub(10);
+        fileSystem = service.openFileSystem("c");
+        content = new byte[10];
+        new Random(42).nextBytes(content);
+    }
+
+    @Test
+    public void blockMath() {
+        assertEquals(BLOCK_SIZE, AzureCopyEngine.effectiveBlockSize(10, BLOCK_SIZE));
+        assertEquals(3, AzureCopyEngine.blockCount(10, BLOCK_SIZE));
+        assertEquals(2, AzureCopyEngine.blockCount(8, BLOCK_SIZE));
+        assertEquals(1, AzureCopyEngine.blockCount(1, BLOCK_SIZE));
+        assertEquals(0, AzureCopyEngine.blockCount(0, BLOCK_SIZE));
+
+        // A blob filling the block count limit keeps the block size, one byte more needs larger blocks.
+        long full = AzureCopyEngine.MAX_BLOCKS * BLOCK_SIZE;
+        assertEquals(BLOCK_SIZE, AzureCopyEngine.effectiveBlockSize(full, BLOCK_SIZE));
+        assertEquals(BLOCK_SIZE + 1, AzureCopyEngine.effectiveBlockSize(full + 1, BLOCK_SIZE));
+        assertEquals(AzureCopyEngine.MAX_BLOCKS, AzureCopyEngine.blockCount(full, BLOCK_SIZE));
+        assertTrue(AzureCopyEngine.blockCount(full + 1, BLOCK_SIZE + 1) <= AzureCopyEngine.MAX_BLOCKS);
+
+        // The largest block blob fits in the limit with the default block size grown as needed.
+        long largest = 190L * 1024 * 1024 * 1024 * 1024;
+        long blockSize = AzureCopyEngine.effectiveBlockSize(largest, AzureCopyEngine.DEFAULT_BLOCK_SIZE);
+        assertTrue(AzureCopyEngine.blockCount(largest, blockSize) <= AzureCopyEngine.MAX_BLOCKS);
+    }
+
+    @Test
+    public void onlyBlockBlobsWithinTheSourceRangeLimitAreStaged() {
+        long largestStaged = AzureCopyEngine.MAX_BLOCKS * AzureCopyEngine.MAX_SOURCE_RANGE;
+        assertTrue(AzureCopyEngine.canStage(BlobType.BLOCK_BLOB, largestStaged, AzureCopyEngine.DEFAULT_BLOCK_SIZE));
+        assertFalse(AzureCopyEngine.canStage(BlobType.BLOCK_BLOB, largestStaged + 1,
+            AzureCopyEngine.DEFAULT_BLOCK_SIZE));
+        assertFalse(AzureCopyEngine.canStage(BlobType.PAGE_BLOB, BLOCK_SIZE, BLOCK_SIZE));
+        assertFalse(AzureCopyEngine.canStage(BlobType.APPEND_BLOB, BLOCK_SIZE, BLOCK_SIZE));
+    }
+
+    @Test
+    public void copiesPageBlobWithCopyBlob() throws IOException {
+        service.putPageBlob("c", "source", content);
+        service.clearRequests();
+
+        copy("c:/source", "c:/destination", new AzureCopyOptions().setBlockSize(BLOCK_SIZE));
+
+        assertArrayEquals(content, service.getContent("c", "destination"));
+        assertEquals(BlobServiceStub.PAGE_BLOB, service.getBlobType("c", "destination"));
+        assertEquals(0, stageRequests().size());
+        assertEquals(0, commitRequests().size());
+        List<HttpRequest> copies = service.getRequests(HttpMethod.PUT,
+            query -> !query.contains("comp=") && !query.contains("blockid="));
+        assertEquals(1, copies.size());
+        assertEquals("0x1", copies.get(0).getHeaders().getValue("x-ms-source-if-match"));
+        assertEquals("*", copies.get(0).getHeaders().getValue("If-None-Match"));
+    }
+
+    @Test
+    public void stagesRangesOfTheSource() throws IOException {
+        service.putFile("c", "source", content);
+        service.clearRequests();
+
+        copy("c:/source", "c:/destination", new AzureCopyOptions().setBlockSize(BLOCK_SIZE));
+
+        assertArrayEquals(content, service.getContent("c", "destination"));
+        List<HttpRequest> stages = stageRequests();
+        assertEquals(new HashSet<>(Arrays.asList("bytes=0-3", "bytes=4-7", "bytes=8-9")),
+            stages.stream().map(request -> request.getHeaders().getValue("x-ms-source-range"))
+                .collect(Collectors.toSet()));
+        for (HttpRequest request : stages) {
+            assertTrue(request.getHeaders().getValue("x-ms-copy-source").endsWith("/c/source?sv=2019-07-07&sig=stub"));
+            // The source is the first blob of the service.
+            assertEquals("0x1", request.getHeaders().getValue("x-ms-source-if-match"));
+        }
+        assertEquals(1, commitRequests().size());
+        // Nothing went through the client.
+        assertEquals(Collections.emptyList(), service.getRequests(HttpMethod.GET, query -> !query.contains("comp=")));
+    }
+
+    @Test
+    public void copiesEmptyBlobWithoutBlocks() throws IOException {
+        service.putFile("c", "source", new byte[0]);
+        service.clearRequests();
+
+        copy("c:/source", "c:/destination", new AzureCopyOptions().setBlockSize(BLOCK_SIZE));
+
+        assertArrayEquals(new byte[0], service.getContent("c", "destination"));
+        assertEquals(0, stageRequests().size());
+        assertEquals(1, commitRequests().size());
+    }
+
+    @Test
+    public void keepsMetadata() throws IOException {
+        service.putBlob("c", "source", content, Collections.singletonMap("key", "value"));
+
+        copy("c:/source", "c:/destination", null);
+
+        assertEquals("value", service.getMetadata("c", "destination").get("key"));
+    }
+
+    @Test
+    public void reportsProgress() throws IOException {
+        service.putFile("c", "source", content);
+        List<Long> progress = Collections.synchronizedList(new ArrayList<>());
+
+        copy("c:/source", "c:/destination",
+            new AzureCopyOptions().setBlockSize(BLOCK_SIZE).setProgressReceiver(progress::add));
+
+        assertEquals(3, progress.size());
+        assertEquals(content.length, (long) progress.get(progress.size() - 1));
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i) > progress.get(i - 1));
+        }
+    }
+
+    @Test
+    public void commitIsConditionedOnAbsentDestinationUnlessReplacing() throws IOException {
+        service.putFile("c", "source", content);
+
+        copy("c:/source", "c:/destination", null);
+        assertEquals("*", commitRequests().get(0).getHeaders().getValue("If-None-Match"));
+
+        service.clearRequests();
+        fileSystem.provider().copy(fileSystem.getPath("c:/source"), fileSystem.getPath("c:/destination"),
+            StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+        assertNull(commitRequests().get(0).getHeaders().getValue("If-None-Match"));
+    }
+
+    @Test
+    public void existingDestinationFailsUnlessReplacing() throws IOException {
+        service.putFile("c", "source", content);
+        service.putFile("c", "destination", new byte[3]);
+        service.clearRequests();
+
+        try {
+            copy("c:/source", "c:/destination", null);
+            fail("Expected a FileAlreadyExistsException.");
+        } catch (FileAlreadyExistsException e) {
+            // Expected.
+        }
+        assertEquals(Collections.emptyList(), service.getRequests(HttpMethod.PUT, query -> true));
+        assertEquals(3, service.getContent("c", "destination").length);
+    }
+
+    @Test
+    public void copiesDirectoryOnlyUnlessRecursive() throws IOException {
+        putTree("dir");
+
+        copy("c:/dir", "c:/copy", null);
+        assertEquals(Collections.singletonList("copy"), namesUnder("copy"));
+
+        copy("c:/dir", "c:/recursive", new AzureCopyOptions().setRecursive(true));
+        assertEquals(Arrays.asList("recursive", "recursive/a", "recursive/sub/b"), namesUnder("recursive"));
+        assertArrayEquals(content, service.getContent("c", "recursive/sub/b"));
+        assertTrue(service.getMetadata("c", "recursive").containsKey(AzureFileSystemProvider.DIR_METADATA_MARKER));
+    }
+
+    @Test
+    public void copyTreeDoesNotReplaceExistingBlobs() {
+        putTree("dir");
+        service.putFile("c", "copy/a", new byte[3]);
+        BlobContainerClient container = containerClient();
+
+        try {
+            new AzureCopyEngine(null).copyTree(container, "dir/", "sv=2019-07-07&sig=stub", container, "copy/", true,
+                false);
+            fail("Expected a BlobStorageException.");
+        } catch (BlobStorageException e) {
+            assertEquals(409, e.getStatusCode());
+        } catch (IOException e) {
+            fail("Expected a BlobStorageException.");
+        }
+        assertEquals(3, service.getContent("c", "copy/a").length);
+        for (HttpRequest request : commitRequests()) {
+            assertEquals("*", request.getHeaders().getValue("If-None-Match"));
+        }
+    }
+
+    @Test
+    public void deleteTreeDeletesDescendantsOnly() {
+        putTree("dir");
+        service.putFile("c", "dirx", content);
+
+        new AzureCopyEngine(null).deleteTree(containerClient(), "dir/");
+
+        assertEquals(Arrays.asList("dir", "dirx"), service.getBlobNames("c"));
+    }
+
+    @Test
+    public void movesFile() throws IOException {
+        service.putFile("c", "source", content);
+        readAttributes("c:/source");
+
+        fileSystem.provider().move(fileSystem.getPath("c:/source"), fileSystem.getPath("c:/destination"),
+            new AzureCopyOptions().setBlockSize(BLOCK_SIZE));
+
+        assertEquals(Collections.singletonList("destination"), service.getBlobNames("c"));
+        assertArrayEquals(content, service.getContent("c", "destination"));
+        assertMissing("c:/source");
+    }
+
+    @Test
+    public void movesDirectoryTree() throws IOException {
+        putTree("dir");
+        readAttributes("c:/dir");
+        readAttributes("c:/dir/a");
+
+        fileSystem.provider().move(fileSystem.getPath("c:/dir"), fileSystem.getPath("c:/moved"));
+
+        assertEquals(Arrays.asList("moved", "moved/a", "moved/sub/b"), service.getBlobNames("c"));
+        assertMissing("c:/dir");
+        assertMissing("c:/dir/a");
+        assertTrue(readAttributes("c:/moved/sub").isDirectory());
+    }
+
+    @Test
+    public void movesVirtualDirectory() throws IOException {
+        service.putFile("c", "dir/a", content);
+
+        fileSystem.provider().move(fileSystem.getPath("c:/dir"), fileSystem.getPath("c:/moved"));
+
+        // The destination is created as a concrete directory.
+        assertEquals(Arrays.asList("moved", "moved/a"), service.getBlobNames("c"));
+        assertTrue(service.getMetadata("c", "moved").containsKey(AzureFileSystemProvider.DIR_METADATA_MARKER));
+    }
+
+    @Test
+    public void moveKeepsSourceWhenCopyFails() throws IOException {
+        service.putFile("c", "source", content);
+        service.putFile("c", "destination", new byte[3]);
+
+        try {
+            fileSystem.provider().move(fileSystem.getPath("c:/source"), fileSystem.getPath("c:/destination"));
+            fail("Expected a FileAlreadyExistsException.");
+        } catch (FileAlreadyExistsException e) {
+            // Expected.
+        }
+        assertArrayEquals(content, service.getContent("c", "source"));
+        assertEquals(3, service.getContent("c", "destination").length);
+    }
+
+    @Test
+    public void atomicMoveIsRejected() throws IOException {
+        service.putFile("c", "source", content);
+        service.clearRequests();
+
+        try {
+            fileSystem.provider().move(fileSystem.getPath("c:/source"), fileSystem.getPath("c:/destination"),
+                StandardCopyOption.ATOMIC_MOVE);
+            fail("Expected an AtomicMoveNotSupportedException.");
+        } catch (AtomicMoveNotSupportedException e) {
+            // Expected.
+        }
+        assertEquals(Collections.singletonList("source"), service.getBlobNames("c"));
+        for (HttpMethod method : HttpMethod.values()) {
+            assertEquals(Collections.emptyList(), service.getRequests(method, query -> true));
+        }
+    }
+
+    @Test
+    public void optionsAreValidated() {
+        AzureCopyOptions options = new AzureCopyOptions();
+        for (long blockSize : new long[] {0, -1, AzureCopyOptions.MAX_BLOCK_SIZE + 1}) {
+            try {
+                options.setBlockSize(blockSize);
+                fail("Expected an IllegalArgumentException for " + blockSize);
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+        for (int maxConcurrency : new int[] {0, -1}) {
+            try {
+                options.setMaxConcurrency(maxConcurrency);
+                fail("Expected an IllegalArgumentException for " + maxConcurrency);
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+        assertNull(options.getBlockSize());
+        assertNull(options.getMaxConcurrency());
+
+        options.setBlockSize(AzureCopyOptions.MAX_BLOCK_SIZE).setMaxConcurrency(1).setBlockSize(null);
+        assertNull(options.getBlockSize());
+        assertEquals(1, (int) options.getMaxConcurrency());
+        assertFalse(options.isRecursive());
+    }
+
+    private void copy(String source, String destination, AzureCopyOptions options) throws IOException {
+        if (options == null) {
+            fileSystem.provider().copy(fileSystem.getPath(source), fileSystem.getPath(destination),
+                StandardCopyOption.COPY_ATTRIBUTES);
+        } else {
+            fileSystem.provider().copy(fileSystem.getPath(source), fileSystem.getPath(destination),
+                StandardCopyOption.COPY_ATTRIBUTES, options);
+        }
+    }
+
+    /*
+    A concrete directory with a file and a virtual subdirectory.
+     */
+    private void putTree(String dir) {
+        service.putDirectory("c", dir);
+        service.putFile("c", dir + "/a", content);
+        service.putFile("c", dir + "/sub/b", content);
+    }
+
+    private List<String> namesUnder(String dir) {
+        return service.getBlobNames("c").stream()
+            .filter(name -> name.equals(dir) || name.startsWith(dir + "/"))
+            .collect(Collectors.toList());
+    }
+
+    private BlobContainerClient containerClient() {
+        return new BlobContainerClientBuilder()
+            .endpoint("https://" + BlobServiceStub.ACCOUNT + ".blob.core.windows.net/c")
+            .httpClient(service)
+            .buildClient();
+    }
+
+    private List<HttpRequest> stageRequests() {
+        return service.getRequests(HttpMethod.PUT, query -> query.contains("blockid="));
+    }
+
+    private List<HttpRequest> commitRequests() {
+        return service.getRequests(HttpMethod.PUT, query -> query.contains("comp=blocklist"));
+    }
+
+    private BasicFileAttributes readAttributes(String path) throws IOException {
+        return fileSystem.provider().readAttributes(fileSystem.getPath(path), BasicFileAttributes.class);
+    }
+
+    private void assertMissing(String path) throws IOException {
+        try {
+            readAttributes(path);
+            fail("Expected a NoSuchFileException for " + path);
+        } catch (NoSuchFileException e) {
+            // Expected.
+        }
+    }
+}
@@ -0,0 +1,241 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/*
+These tests list directories served by a stubbed HttpClient rather than recorded sessions, which returns pages of 10
+results so that listings cross page boundaries.
+ */
+public class AzureDirectoryStreamTest {
+    private static final int PAGE_SIZE = 10;
+
+    private BlobServiceStub service;
+    private FileSystem fileSystem;
+
+    @Before
+    public void setup() throws IOException {
+        service = new BlobServiceStub(PAGE_SIZE);
+        fileSystem = service.openFileSystem("c");
+    }
+
+    @Test
+    public void iteratesAcrossPages() throws IOException {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            String name = String.format("file%02d", i);
+            service.putFile("c", "dir/" + name, new byte[i]);
+            expected.add("c:/dir/" + name);
+        }
+        service.putFile("c", "other", new byte[1]);
+        service.clearRequests();
+
+        assertEquals(expected, list(fileSystem.getPath("c:/dir"), null));
+        assertEquals(3, listRequests());
+    }
+
+    @Test
+    public void requestsPagesAsIteratorReachesThem() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            service.putFile("c", String.format("dir/file%02d", i), new byte[0]);
+        }
+        service.clearRequests();
+
+        try (DirectoryStream<Path> stream = fileSystem.provider().newDirectoryStream(fileSystem.getPath("c:/dir"),
+            null)) {
+            Iterator<Path> iterator = stream.iterator();
+            assertEquals(0, listRequests());
+
+            iterator.next();
+            // The first page, and the next one prefetched.
+            assertTrue(listRequests() <= 2);
+        }
+    }
+
+    @Test
+    public void listsDirectChildrenOnce() throws IOException {
+        service.putFile("c", "dir/file", new byte[3]);
+        service.putDirectory("c", "dir/concrete");
+        service.putFile("c", "dir/concrete/child", new byte[1]);
+        service.putFile("c", "dir/virtual/child", new byte[1]);
+        service.putDirectory("c", "dir/empty");
+
+        assertEquals(Arrays.asList("c:/dir/concrete", "c:/dir/empty", "c:/dir/file", "c:/dir/virtual"),
+            sorted(list(fileSystem.getPath("c:/dir"), null)));
+    }
+
+    @Test
+    public void listsConcreteDirectoryOnceAcrossPageBoundary() throws IOException {
+        // The marker of the directory ends the first page and its prefix starts the second one.
+        for (int i = 0; i < PAGE_SIZE - 1; i++) {
+            service.putFile("c", "dir/a" + i, new byte[0]);
+        }
+        service.putDirectory("c", "dir/b");
+        service.putFile("c", "dir/b/child", new byte[0]);
+
+        List<String> children = list(fileSystem.getPath("c:/dir"), null);
+        assertEquals(PAGE_SIZE, children.size());
+        assertEquals(1, children.stream().filter("c:/dir/b"::equals).count());
+    }
+
+    @Test
+    public void appliesFilter() throws IOException {
+        for (int i = 0; i < 25; i++) {
+            service.putFile("c", "dir/file" + i, new byte[0]);
+        }
+
+        List<String> children = list(fileSystem.getPath("c:/dir"), path -> path.toString().endsWith("1"));
+        assertEquals(sorted(Arrays.asList("c:/dir/file1", "c:/dir/file11", "c:/dir/file21")), sorted(children));
+    }
+
+    @Test
+    public void listsRoot() throws IOException {
+        service.putFile("c", "file", new byte[0]);
+        service.putFile("c", "dir/file", new byte[0]);
+
+        assertEquals(Arrays.asList("c:/dir", "c:/file"), sorted(list(fileSystem.getPath("c:"), null)));
+    }
+
+    @Test
+    public void listingFillsAttributeCache() throws IOException {
+        service.putFile("c", "dir/file", new byte[3]);
+        service.putDirectory("c", "dir/concrete");
+        service.putFile("c", "dir/virtual/child", new byte[1]);
+        list(fileSystem.getPath("c:/dir"), null);
+        service.clearRequests();
+
+        BasicFileAttributes file = readAttributes("c:/dir/file");
+        BasicFileAttributes concrete = readAttributes("c:/dir/concrete");
+        BasicFileAttributes virtual = readAttributes("c:/dir/virtual");
+
+        assertTrue(file.isRegularFile());
+        assertEquals(3, file.size());
+        assertTrue(concrete.isDirectory());
+        assertTrue(virtual.isDirectory());
+        assertEquals(0, service.getRequests(HttpMethod.HEAD, query -> true).size());
+        assertEquals(0, listRequests());
+    }
+
+    @Test
+    public void attributesReadFromTheServiceAreNotCached() throws IOException {
+        service.putFile("c", "dir/file", new byte[3]);
+        service.clearRequests();
+
+        readAttributes("c:/dir/file");
+        readAttributes("c:/dir/file");
+
+        assertEquals(2, service.getRequests(HttpMethod.HEAD, query -> true).size());
+    }
+
+    @Test
+    public void onlyOneIteratorIsReturned() throws IOException {
+        service.putFile("c", "dir/file", new byte[0]);
+        DirectoryStream<Path> stream = fileSystem.provider().newDirectoryStream(fileSystem.getPath("c:/dir"), null);
+
+        stream.iterator();
+        try {
+            stream.iterator();
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void noIteratorAfterClose() throws IOException {
+        service.putFile("c", "dir/file", new byte[0]);
+        DirectoryStream<Path> stream = fileSystem.provider().newDirectoryStream(fileSystem.getPath("c:/dir"), null);
+
+        stream.close();
+        try {
+            stream.iterator();
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void iteratorHasNoMoreElementsAfterClose() throws IOException {
+        for (int i = 0; i < 25; i++) {
+            service.putFile("c", "dir/file" + i, new byte[0]);
+        }
+        DirectoryStream<Path> stream = fileSystem.provider().newDirectoryStream(fileSystem.getPath("c:/dir"), null);
+        Iterator<Path> iterator = stream.iterator();
+        iterator.next();
+
+        stream.close();
+        // Closing twice has no effect.
+        stream.close();
+
+        assertFalse(iterator.hasNext());
+        try {
+            iterator.next();
+            fail("Expected a NoSuchElementException.");
+        } catch (NoSuchElementException e) {
+            // Expected.
+        }
+    }
+
+    @Test(expected = NoSuchFileException.class)
+    public void missingDirectoryThrows() throws IOException {
+        fileSystem.provider().newDirectoryStream(fileSystem.getPath("c:/missing"), null);
+    }
+
+    @Test(expected = NotDirectoryException.class)
+    public void fileThrows() throws IOException {
+        service.putFile("c", "file", new byte[0]);
+
+        fileSystem.provider().newDirectoryStream(fileSystem.getPath("c:/file"), null);
+    }
+
+    private List<String> list(Path dir, DirectoryStream.Filter<Path> filter) throws IOException {
+        List<String> children = new ArrayList<>();
+        try (DirectoryStream<Path> stream = fileSystem.provider().newDirectoryStream(dir, filter)) {
+            for (Path child : stream) {
+                children.add(child.toString());
+            }
+        }
+        return children;
+    }
+
+    private BasicFileAttributes readAttributes(String path) throws IOException {
+        return fileSystem.provider().readAttributes(fileSystem.getPath(path), BasicFileAttributes.class);
+    }
+
+    /*
+    The listing requests of the stream, checking the status of the directory lists at most 2 results.
+     */
+    private long listRequests() {
+        return service.getRequests(HttpMethod.GET, query -> query.contains("comp=list")
+            && !query.contains("maxresults=2")).size();
+    }
+
+    private static List<String> sorted(List<String> list) {
+        List<String> copy = new ArrayList<>(list);
+        copy.sort(null);
+        return copy;
+    }
+}
@@ -0,0 +1,256 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.BlobClientBuilder;
+import com.azure.storage.blob.models.BlobStorageException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/*
+These tests read blobs served by a stubbed HttpClient rather than recorded sessions, so they can check the ranges the
+channel downloads.
+ */
+public class AzureSeekableByteChannelTest {
+    private static final int BLOCK_SIZE = 4;
+    private static final int MAX_READ_AHEAD_BLOCKS = 4;
+
+    private BlobServiceStub service;
+    private byte[] content;
+
+    @Before
+    public void setup() {
+        service = new BlobServiceStub(10);
+        content = new byte[10 * BLOCK_SIZE + 2];
+        new Random(42).nextBytes(content);
+        service.putFile("c", "file", content);
+    }
+
+    @Test
+    public void readSpansBlockBoundaries() throws IOException {
+        SeekableByteChannel channel = openChannel();
+
+        channel.position(2);
+        ByteBuffer buffer = ByteBuffer.allocate(2 * BLOCK_SIZE + 3);
+        while (buffer.hasRemaining()) {
+            assertTrue(channel.read(buffer) > 0);
+        }
+
+        assertArrayEquals(Arrays.copyOfRange(content, 2, 2 + buffer.capacity()), buffer.array());
+        assertEquals(13, channel.position());
+        // Every block was downloaded once, with a range aligned on the blocks.
+        List<String> ranges = downloadedRanges();
+        assertEquals(ranges.stream().distinct().count(), ranges.size());
+        assertTrue(ranges.containsAll(Arrays.asList("bytes=0-3", "bytes=4-7", "bytes=8-11", "bytes=12-15")));
+    }
+
+    @Test
+    public void readsWholeBlob() throws IOException {
+        SeekableByteChannel channel = openChannel();
+
+        assertArrayEquals(content, readToEnd(channel));
+        assertEquals(content.length, channel.position());
+        // The last block is shorter than the others.
+        assertTrue(downloadedRanges().contains("bytes=40-41"));
+    }
+
+    @Test
+    public void seekBackIsServedFromCache() throws IOException {
+        SeekableByteChannel channel = openChannel();
+        ByteBuffer buffer = ByteBuffer.allocate(3 * BLOCK_SIZE);
+        while (buffer.hasRemaining()) {
+            channel.read(buffer);
+        }
+        service.clearRequests();
+
+        channel.position(BLOCK_SIZE + 1);
+        buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        while (buffer.hasRemaining()) {
+            channel.read(buffer);
+        }
+
+        assertArrayEquals(Arrays.copyOfRange(content, BLOCK_SIZE + 1, 2 * BLOCK_SIZE + 1), buffer.array());
+        assertEquals(Collections.emptyList(), downloadedRanges());
+    }
+
+    @Test
+    public void seekResetsReadAheadWindow() throws IOException {
+        SeekableByteChannel channel = openChannel();
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        channel.read(buffer);
+        buffer.clear();
+        channel.read(buffer);
+        service.clearRequests();
+
+        // After seeking, only the block at the position is downloaded.
+        channel.position(8 * BLOCK_SIZE);
+        buffer.clear();
+        assertEquals(BLOCK_SIZE, channel.read(buffer));
+        assertArrayEquals(Arrays.copyOfRange(content, 8 * BLOCK_SIZE, 9 * BLOCK_SIZE), buffer.array());
+        assertEquals(Collections.singletonList("bytes=32-35"), downloadedRanges());
+
+        // Reading on from there grows the window again.
+        buffer.clear();
+        channel.read(buffer);
+        assertTrue(downloadedRanges().contains("bytes=36-39"));
+    }
+
+    @Test
+    public void sequentialReadsDownloadAhead() throws IOException {
+        SeekableByteChannel channel = openChannel();
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        for (int i = 0; i < 3; i++) {
+            buffer.clear();
+            channel.read(buffer);
+        }
+
+        // The window doubled up to its maximum, so blocks past the position were requested before being read.
+        List<String> ranges = downloadedRanges();
+        assertTrue(ranges.toString(), ranges.contains("bytes=16-19"));
+        assertTrue(ranges.toString(), ranges.size() <= 3 + MAX_READ_AHEAD_BLOCKS + 1);
+    }
+
+    @Test
+    public void readAtOrPastSizeReturnsEndOfStream() throws IOException {
+        SeekableByteChannel channel = openChannel();
+
+        channel.position(content.length);
+        assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        channel.position(content.length + 10);
+        assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        assertEquals(content.length + 10, channel.position());
+        assertEquals(Collections.emptyList(), downloadedRanges());
+    }
+
+    @Test
+    public void modifiedBlobFailsReads() throws IOException {
+        SeekableByteChannel channel = openChannel();
+        service.putFile("c", "file", new byte[content.length]);
+
+        try {
+            channel.read(ByteBuffer.allocate(1));
+            fail("Expected an IOException.");
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof BlobStorageException);
+            assertEquals(412, ((BlobStorageException) e.getCause()).getStatusCode());
+        }
+
+        // Every download was conditioned on the ETag the blob had when the channel was opened.
+        for (HttpRequest request : service.getRequests(HttpMethod.GET, query -> true)) {
+            assertEquals("0x1", request.getHeaders().getValue("If-Match"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativePositionIsRejected() throws IOException {
+        openChannel().position(-1);
+    }
+
+    @Test
+    public void providerOpensChannel() throws IOException {
+        FileSystem fileSystem = service.openFileSystem("c");
+
+        try (SeekableByteChannel channel = fileSystem.provider().newByteChannel(fileSystem.getPath("c:/file"),
+            EnumSet.of(StandardOpenOption.READ))) {
+            assertEquals(content.length, channel.size());
+            assertArrayEquals(content, readToEnd(channel));
+        }
+        try (SeekableByteChannel channel = fileSystem.provider().newByteChannel(fileSystem.getPath("c:/file"),
+            Collections.emptySet())) {
+            assertArrayEquals(content, readToEnd(channel));
+        }
+    }
+
+    @Test
+    public void providerRejectsOptionsOtherThanRead() throws IOException {
+        FileSystem fileSystem = service.openFileSystem("c");
+
+        for (StandardOpenOption option : EnumSet.complementOf(EnumSet.of(StandardOpenOption.READ))) {
+            try {
+                fileSystem.provider().newByteChannel(fileSystem.getPath("c:/file"),
+                    EnumSet.of(StandardOpenOption.READ, option));
+                fail("Expected an UnsupportedOperationException for " + option);
+            } catch (UnsupportedOperationException e) {
+                // Expected.
+            }
+        }
+        // No request is sent for rejected options.
+        assertEquals(Collections.emptyList(), service.getRequests(HttpMethod.HEAD, query -> true));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void providerRejectsFileAttributes() throws IOException {
+        FileSystem fileSystem = service.openFileSystem("c");
+
+        fileSystem.provider().newByteChannel(fileSystem.getPath("c:/file"), EnumSet.of(StandardOpenOption.READ),
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("r--r--r--")));
+    }
+
+    @Test
+    public void providerRejectsDirectoriesAndMissingFiles() throws IOException {
+        FileSystem fileSystem = service.openFileSystem("c");
+        service.putDirectory("c", "dir");
+
+        try {
+            fileSystem.provider().newByteChannel(fileSystem.getPath("c:/dir"), EnumSet.of(StandardOpenOption.READ));
+            fail("Expected an IOException.");
+        } catch (IOException e) {
+            assertFalse(e instanceof NoSuchFileException);
+        }
+        try {
+            fileSystem.provider().newByteChannel(fileSystem.getPath("c:/missing"),
+                EnumSet.of(StandardOpenOption.READ));
+            fail("Expected a NoSuchFileException.");
+        } catch (NoSuchFileException e) {
+            // Expected.
+        }
+    }
+
+    private SeekableByteChannel openChannel() {
+        BlobAsyncClient client = new BlobClientBuilder()
+            .endpoint("https://" + BlobServiceStub.ACCOUNT + ".blob.core.windows.net/c/file")
+            .httpClient(service)
+            .buildAsyncClient();
+        return new AzureSeekableByteChannel(client, content.length, "0x1", BLOCK_SIZE, MAX_READ_AHEAD_BLOCKS);
+    }
+
+    private List<String> downloadedRanges() {
+        return service.getRequests(HttpMethod.GET, query -> true).stream()
+            .map(request -> request.getHeaders().getValue("x-ms-range"))
+            .collect(Collectors.toList());
+    }
+
+    private static byte[] readToEnd(SeekableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (channel.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                break;
+            }
+        }
+        return buffer.array();
+    }
+}
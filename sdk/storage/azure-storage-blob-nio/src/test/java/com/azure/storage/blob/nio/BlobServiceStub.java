@@ -0,0 +1,540 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.nio;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.FluxUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/*
+An HttpClient which serves the requests of the file system from blobs kept in memory, so the tests of the file system
+can run without recorded sessions. It implements just enough of the Blob service for them: container properties, blob
+properties, ranged downloads, listings with prefix, delimiter and paging, Put Block, Put Block From URL, Put Block
+List, Copy Blob, which completes synchronously, and Delete, with the If-Match and If-None-Match conditions of those
+operations. Every request is recorded so tests can check what was sent.
+ */
+final class BlobServiceStub implements HttpClient {
+    static final String ACCOUNT = "account";
+    static final String BLOCK_BLOB = "BlockBlob";
+    static final String PAGE_BLOB = "PageBlob";
+
+    private static final String LAST_MODIFIED = DateTimeFormatter.RFC_1123_DATE_TIME
+        .format(OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+    private static final Pattern BLOCK_ID = Pattern.compile("<(?:Latest|Committed|Uncommitted)>([^<]*)</");
+
+    private final Map<String, Blob> blobs = new TreeMap<>();
+    private final Map<String, Map<String, byte[]>> stagedBlocks = new HashMap<>();
+    private final List<HttpRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger eTags = new AtomicInteger();
+    private final int pageSize;
+
+    /*
+    Listings without a maximum number of results return pages of the given size, so that tests don't need thousands
+    of blobs to cross a page boundary.
+     */
+    BlobServiceStub(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /*
+    Opens a file system of the stubbed account with the given containers as its file stores, the first one being the
+    default.
+     */
+    FileSystem openFileSystem(String... containers) throws IOException {
+        Map<String, Object> config = new HashMap<>();
+        config.put(AzureFileSystem.AZURE_STORAGE_SAS_TOKEN, "sv=2019-07-07&sig=stub");
+        config.put(AzureFileSystem.AZURE_STORAGE_FILE_STORES, String.join(",", containers));
+        config.put(AzureFileSystem.AZURE_STORAGE_HTTP_CLIENT, this);
+        return new AzureFileSystemProvider().newFileSystem(URI.create("azb://?account=" + ACCOUNT), config);
+    }
+
+    synchronized void putBlob(String container, String name, byte[] content, Map<String, String> metadata) {
+        blobs.put(container + "/" + name, new Blob(BLOCK_BLOB, content, metadata, null, nextETag(), null));
+    }
+
+    synchronized void putPageBlob(String container, String name, byte[] content) {
+        blobs.put(container + "/" + name, new Blob(PAGE_BLOB, content, null, null, nextETag(), null));
+    }
+
+    void putFile(String container, String name, byte[] content) {
+        putBlob(container, name, content, null);
+    }
+
+    void putDirectory(String container, String name) {
+        putBlob(container, name, new byte[0],
+            Collections.singletonMap(AzureFileSystemProvider.DIR_METADATA_MARKER, "true"));
+    }
+
+    synchronized byte[] getContent(String container, String name) {
+        Blob blob = blobs.get(container + "/" + name);
+        return (blob == null) ? null : blob.content;
+    }
+
+    synchronized String getBlobType(String container, String name) {
+        Blob blob = blobs.get(container + "/" + name);
+        return (blob == null) ? null : blob.blobType;
+    }
+
+    synchronized Map<String, String> getMetadata(String container, String name) {
+        Blob blob = blobs.get(container + "/" + name);
+        return (blob == null) ? null : blob.metadata;
+    }
+
+    synchronized List<String> getBlobNames(String container) {
+        return blobs.keySet().stream()
+            .filter(key -> key.startsWith(container + "/"))
+            .map(key -> key.substring(container.length() + 1))
+            .collect(Collectors.toList());
+    }
+
+    /*
+    The requests sent for the given method which query matches, in the order they were sent.
+     */
+    List<HttpRequest> getRequests(HttpMethod method, Predicate<String> query) {
+        synchronized (requests) {
+            return requests.stream()
+                .filter(request -> request.getHttpMethod() == method)
+                .filter(request -> query.test(request.getUrl().getQuery() == null ? "" : request.getUrl().getQuery()))
+                .collect(Collectors.toList());
+        }
+    }
+
+    void clearRequests() {
+        requests.clear();
+    }
+
+    @Override
+    public Mono<HttpResponse> send(HttpRequest request) {
+        requests.add(request);
+        return FluxUtil.collectBytesInByteBufferStream(request.getBody() == null ? Flux.empty() : request.getBody())
+            .map(body -> handle(request, body));
+    }
+
+    private synchronized HttpResponse handle(HttpRequest request, byte[] body) {
+        String path = decodedPath(request.getUrl());
+        int separator = path.indexOf('/', 1);
+        String container = (separator < 0) ? path.substring(1) : path.substring(1, separator);
+        String blobName = (separator < 0) ? "" : path.substring(separator + 1);
+        Map<String, String> query = parseQuery(request.getUrl().getQuery());
+
+        if (blobName.isEmpty()) {
+            if ("list".equals(query.get("comp"))) {
+                return list(request, container, query);
+            }
+            // Container properties and creation, every container exists.
+            return response(request, request.getHttpMethod() == HttpMethod.PUT ? 201 : 200, null,
+                "ETag", "\"container\"", "Last-Modified", LAST_MODIFIED, "x-ms-has-immutability-policy", "false",
+                "x-ms-has-legal-hold", "false");
+        }
+
+        String key = container + "/" + blobName;
+        switch (request.getHttpMethod()) {
+            case HEAD:
+                return getProperties(request, key);
+            case GET:
+                return download(request, key);
+            case DELETE:
+                return blobs.remove(key) == null
+                    ? error(request, 404, "BlobNotFound")
+                    : response(request, 202, null);
+            case PUT:
+                if ("block".equals(query.get("comp"))) {
+                    return stageBlock(request, key, query.get("blockid"), body);
+                } else if ("blocklist".equals(query.get("comp"))) {
+                    return commitBlockList(request, key, new String(body, StandardCharsets.UTF_8));
+                } else if (request.getHeaders().getValue("x-ms-copy-source") != null) {
+                    return copyBlob(request, key);
+                }
+                return write(request, key, body);
+            default:
+                return error(request, 400, "UnsupportedHttpVerb");
+        }
+    }
+
+    private HttpResponse getProperties(HttpRequest request, String key) {
+        Blob blob = blobs.get(key);
+        if (blob == null) {
+            return error(request, 404, "BlobNotFound");
+        }
+        List<String> headers = new ArrayList<>(blobHeaders(blob));
+        headers.addAll(Arrays.asList("Content-Length", String.valueOf(blob.content.length)));
+        return response(request, 200, null, headers.toArray(new String[0]));
+    }
+
+    private HttpResponse download(HttpRequest request, String key) {
+        Blob blob = blobs.get(key);
+        if (blob == null) {
+            return error(request, 404, "BlobNotFound");
+        }
+        String ifMatch = request.getHeaders().getValue("If-Match");
+        if (ifMatch != null && !ifMatch.equals(blob.eTag)) {
+            return error(request, 412, "ConditionNotMet");
+        }
+
+        long[] range = parseRange(request.getHeaders().getValue("x-ms-range"), blob.content.length);
+        byte[] content = Arrays.copyOfRange(blob.content, (int) range[0], (int) range[1] + 1);
+        List<String> headers = new ArrayList<>(blobHeaders(blob));
+        headers.addAll(Arrays.asList("Content-Length", String.valueOf(content.length),
+            "Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + blob.content.length));
+        return response(request, 206, content, headers.toArray(new String[0]));
+    }
+
+    private HttpResponse stageBlock(HttpRequest request, String key, String blockId, byte[] body) {
+        byte[] content = body;
+        if (request.getHeaders().getValue("x-ms-copy-source") != null) {
+            Blob source = getCopySource(request);
+            if (source == null) {
+                return error(request, 412, "CannotVerifyCopySource");
+            }
+            long[] range = parseRange(request.getHeaders().getValue("x-ms-source-range"), source.content.length);
+            content = Arrays.copyOfRange(source.content, (int) range[0], (int) range[1] + 1);
+        }
+
+        stagedBlocks.computeIfAbsent(key, ignored -> new HashMap<>()).put(blockId, content);
+        return response(request, 201, null, "x-ms-request-server-encrypted", "true");
+    }
+
+    /*
+    Copies the source blob with its type, and its metadata unless the request sets some.
+     */
+    private HttpResponse copyBlob(HttpRequest request, String key) {
+        Blob source = getCopySource(request);
+        if (source == null) {
+            return error(request, 412, "CannotVerifyCopySource");
+        }
+        HttpResponse failure = checkConditions(request, key);
+        if (failure != null) {
+            return failure;
+        }
+
+        Map<String, String> metadata = getMetadata(request);
+        Blob blob = new Blob(source.blobType, source.content, metadata.isEmpty() ? source.metadata : metadata,
+            source.contentType, nextETag(), request.getHeaders().getValue("x-ms-copy-source"));
+        blobs.put(key, blob);
+        return response(request, 202, null, "ETag", blob.eTag, "Last-Modified", LAST_MODIFIED, "x-ms-copy-id", "copy",
+            "x-ms-copy-status", "success");
+    }
+
+    /*
+    The source of a copy, or null if it doesn't exist or doesn't match the source If-Match condition.
+     */
+    private Blob getCopySource(HttpRequest request) {
+        Blob source;
+        try {
+            source = blobs.get(decodedPath(new URL(request.getHeaders().getValue("x-ms-copy-source"))).substring(1));
+        } catch (MalformedURLException e) {
+            return null;
+        }
+        String sourceIfMatch = request.getHeaders().getValue("x-ms-source-if-match");
+        return (source == null || (sourceIfMatch != null && !sourceIfMatch.equals(source.eTag))) ? null : source;
+    }
+
+    private HttpResponse commitBlockList(HttpRequest request, String key, String body) {
+        HttpResponse failure = checkConditions(request, key);
+        if (failure != null) {
+            return failure;
+        }
+
+        Map<String, byte[]> staged = stagedBlocks.getOrDefault(key, Collections.emptyMap());
+        List<byte[]> blocks = new ArrayList<>();
+        Matcher matcher = BLOCK_ID.matcher(body);
+        while (matcher.find()) {
+            byte[] block = staged.get(matcher.group(1));
+            if (block == null) {
+                return error(request, 400, "InvalidBlockList");
+            }
+            blocks.add(block);
+        }
+        byte[] content = new byte[blocks.stream().mapToInt(block -> block.length).sum()];
+        int offset = 0;
+        for (byte[] block : blocks) {
+            System.arraycopy(block, 0, content, offset, block.length);
+            offset += block.length;
+        }
+        stagedBlocks.remove(key);
+        return put(request, key, content);
+    }
+
+    private HttpResponse write(HttpRequest request, String key, byte[] body) {
+        HttpResponse failure = checkConditions(request, key);
+        return (failure != null) ? failure : put(request, key, body);
+    }
+
+    private HttpResponse put(HttpRequest request, String key, byte[] content) {
+        Blob blob = new Blob(BLOCK_BLOB, content, getMetadata(request),
+            request.getHeaders().getValue("x-ms-blob-content-type"), nextETag(), null);
+        blobs.put(key, blob);
+        return response(request, 201, null, "ETag", blob.eTag, "Last-Modified", LAST_MODIFIED,
+            "x-ms-request-server-encrypted", "true");
+    }
+
+    private static Map<String, String> getMetadata(HttpRequest request) {
+        Map<String, String> metadata = new HashMap<>();
+        for (HttpHeader header : request.getHeaders()) {
+            if (header.getName().toLowerCase().startsWith("x-ms-meta-")) {
+                metadata.put(header.getName().substring("x-ms-meta-".length()), header.getValue());
+            }
+        }
+        return metadata;
+    }
+
+    private HttpResponse checkConditions(HttpRequest request, String key) {
+        Blob existing = blobs.get(key);
+        String ifNoneMatch = request.getHeaders().getValue("If-None-Match");
+        if ("*".equals(ifNoneMatch) && existing != null) {
+            return error(request, 409, "BlobAlreadyExists");
+        }
+        String ifMatch = request.getHeaders().getValue("If-Match");
+        if (ifMatch != null && (existing == null || !ifMatch.equals(existing.eTag))) {
+            return error(request, 412, "ConditionNotMet");
+        }
+        return null;
+    }
+
+    /*
+    Lists the blobs of the container under the prefix. With a delimiter, the blobs under it after the prefix are
+    listed as a single BlobPrefix. Results are returned in name order and the marker is the name of the first result of
+    the next page.
+     */
+    private HttpResponse list(HttpRequest request, String container, Map<String, String> query) {
+        String prefix = query.getOrDefault("prefix", "");
+        String delimiter = query.get("delimiter");
+        String marker = query.get("marker");
+        int maxResults = query.containsKey("maxresults") ? Integer.parseInt(query.get("maxresults")) : pageSize;
+
+        TreeMap<String, Blob> results = new TreeMap<>();
+        for (Map.Entry<String, Blob> entry : blobs.entrySet()) {
+            if (!entry.getKey().startsWith(container + "/")) {
+                continue;
+            }
+            String name = entry.getKey().substring(container.length() + 1);
+            if (!name.startsWith(prefix)) {
+                continue;
+            }
+            int index = (delimiter == null) ? -1 : name.indexOf(delimiter, prefix.length());
+            if (index >= 0) {
+                results.put(name.substring(0, index + delimiter.length()), null);
+            } else {
+                results.put(name, entry.getValue());
+            }
+        }
+
+        StringBuilder blobItems = new StringBuilder();
+        StringBuilder prefixes = new StringBuilder();
+        Iterator<Map.Entry<String, Blob>> iterator = (marker == null || marker.isEmpty())
+            ? results.entrySet().iterator()
+            : results.tailMap(marker, true).entrySet().iterator();
+        for (int i = 0; i < maxResults && iterator.hasNext(); i++) {
+            Map.Entry<String, Blob> entry = iterator.next();
+            Blob blob = entry.getValue();
+            if (blob == null) {
+                prefixes.append("<BlobPrefix><Name>").append(escape(entry.getKey())).append("</Name></BlobPrefix>");
+                continue;
+            }
+            blobItems.append("<Blob><Name>").append(escape(entry.getKey())).append("</Name><Properties>")
+                .append("<Creation-Time>").append(LAST_MODIFIED).append("</Creation-Time>")
+                .append("<Last-Modified>").append(LAST_MODIFIED).append("</Last-Modified>")
+                .append("<Etag>").append(escape(blob.eTag)).append("</Etag>")
+                .append("<Content-Length>").append(blob.content.length).append("</Content-Length>")
+                .append("<BlobType>").append(blob.blobType).append("</BlobType></Properties><Metadata>");
+            for (Map.Entry<String, String> metadata : blob.metadata.entrySet()) {
+                blobItems.append('<').append(metadata.getKey()).append('>').append(escape(metadata.getValue()))
+                    .append("</").append(metadata.getKey()).append('>');
+            }
+            blobItems.append("</Metadata></Blob>");
+        }
+        String nextMarker = iterator.hasNext() ? iterator.next().getKey() : "";
+
+        String xml = "<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+            + "<EnumerationResults ServiceEndpoint=\"https://" + ACCOUNT + ".blob.core.windows.net/\" ContainerName=\""
+            + container + "\"><Prefix>" + escape(prefix) + "</Prefix><MaxResults>" + maxResults + "</MaxResults>"
+            + (delimiter == null ? "" : "<Delimiter>" + escape(delimiter) + "</Delimiter>")
+            + "<Blobs>" + blobItems + prefixes + "</Blobs>"
+            + (nextMarker.isEmpty() ? "<NextMarker />" : "<NextMarker>" + escape(nextMarker) + "</NextMarker>")
+            + "</EnumerationResults>";
+        return response(request, 200, xml.getBytes(StandardCharsets.UTF_8), "Content-Type", "application/xml");
+    }
+
+    private static List<String> blobHeaders(Blob blob) {
+        List<String> headers = new ArrayList<>(Arrays.asList("ETag", blob.eTag, "Last-Modified", LAST_MODIFIED,
+            "x-ms-creation-time", LAST_MODIFIED, "x-ms-blob-type", blob.blobType));
+        if (blob.contentType != null) {
+            headers.addAll(Arrays.asList("Content-Type", blob.contentType));
+        }
+        if (blob.copySource != null) {
+            headers.addAll(Arrays.asList("x-ms-copy-id", "copy", "x-ms-copy-source", blob.copySource,
+                "x-ms-copy-status", "success"));
+        }
+        for (Map.Entry<String, String> metadata : blob.metadata.entrySet()) {
+            headers.addAll(Arrays.asList("x-ms-meta-" + metadata.getKey(), metadata.getValue()));
+        }
+        return headers;
+    }
+
+    private String nextETag() {
+        return "0x" + eTags.incrementAndGet();
+    }
+
+    private static HttpResponse error(HttpRequest request, int statusCode, String errorCode) {
+        byte[] body = (request.getHttpMethod() == HttpMethod.HEAD) ? null
+            : ("<?xml version=\"1.0\" encoding=\"utf-8\"?><Error><Code>" + errorCode + "</Code><Message>"
+                + errorCode + "</Message></Error>").getBytes(StandardCharsets.UTF_8);
+        return response(request, statusCode, body, "x-ms-error-code", errorCode, "Content-Type", "application/xml");
+    }
+
+    private static HttpResponse response(HttpRequest request, int statusCode, byte[] body, String... headers) {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        for (int i = 0; i < headers.length; i += 2) {
+            httpHeaders.put(headers[i], headers[i + 1]);
+        }
+        httpHeaders.put("x-ms-request-id", "stub");
+        httpHeaders.put("x-ms-version", "2019-07-07");
+        if (body != null && httpHeaders.getValue("Content-Length") == null) {
+            httpHeaders.put("Content-Length", String.valueOf(body.length));
+        }
+        return new StubResponse(request, statusCode, httpHeaders, body);
+    }
+
+    private static long[] parseRange(String range, long size) {
+        if (range == null) {
+            return new long[] {0, size - 1};
+        }
+        String[] bounds = range.substring("bytes=".length()).split("-");
+        long start = Long.parseLong(bounds[0]);
+        long end = (bounds.length < 2 || bounds[1].isEmpty())
+            ? size - 1 : Math.min(Long.parseLong(bounds[1]), size - 1);
+        return new long[] {start, end};
+    }
+
+    private static String decodedPath(URL url) {
+        try {
+            // Blob names are sent with their separators encoded, as in "c/dir%2Ffile".
+            return new URI(url.toString()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int index = parameter.indexOf('=');
+            try {
+                parameters.put(index < 0 ? parameter : parameter.substring(0, index),
+                    index < 0 ? "" : URLDecoder.decode(parameter.substring(index + 1), "UTF-8"));
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return parameters;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static final class Blob {
+        private final String blobType;
+        private final byte[] content;
+        private final Map<String, String> metadata;
+        private final String contentType;
+        private final String eTag;
+        private final String copySource;
+
+        Blob(String blobType, byte[] content, Map<String, String> metadata, String contentType, String eTag,
+            String copySource) {
+            this.blobType = blobType;
+            this.content = content;
+            this.metadata = (metadata == null) ? Collections.emptyMap() : new HashMap<>(metadata);
+            this.contentType = contentType;
+            this.eTag = eTag;
+            this.copySource = copySource;
+        }
+    }
+
+    private static final class StubResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        StubResponse(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body) {
+            super(request);
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return (body == null) ? Flux.empty() : Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return (body == null) ? Mono.empty() : Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return getBodyAsString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
+        }
+    }
+}
@@ -3,6 +3,7 @@
 
 package com.azure.storage.blob;
 
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpPipeline;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.FluxUtil;
@@ -22,16 +23,18 @@ import com.azure.storage.blob.specialized.BlobAsyncClientBase;
 import com.azure.storage.blob.specialized.BlockBlobAsyncClient;
 import com.azure.storage.blob.specialized.PageBlobAsyncClient;
 import com.azure.storage.blob.specialized.SpecializedBlobClientBuilder;
+import com.azure.storage.common.implementation.AdaptiveTransferController;
 import com.azure.storage.common.implementation.Constants;
 import com.azure.storage.common.implementation.UploadUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.LinkedList;
@@ -366,26 +369,34 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
         Lock progressLock = new ReentrantLock();
 
         // Validation done in the constructor.
-        UploadBufferPool pool = new UploadBufferPool(parallelTransferOptions.getNumBuffers(),
-            parallelTransferOptions.getBlockSize());
+        AdaptiveTransferController controller = parallelTransferOptions.isAdaptive()
+            ? new AdaptiveTransferController(parallelTransferOptions.getBlockSize(),
+                (long) parallelTransferOptions.getBlockSize() * parallelTransferOptions.getNumBuffers(),
+                BlockBlobAsyncClient.MAX_STAGE_BLOCK_BYTES)
+            : null;
+        UploadBufferPool pool = (controller == null)
+            ? new UploadBufferPool(parallelTransferOptions.getNumBuffers(), parallelTransferOptions.getBlockSize())
+            : new UploadBufferPool(controller);
 
         /*
         Break the source Flux into chunks that are <= chunk size. This makes filling the pooled buffers much easier
         as we can guarantee we only need at most two buffers for any call to write (two in the case of one pool
         buffer filling up with more data to write). We use flatMapSequential because we need to guarantee we
-        preserve the ordering of the buffers, but we don't really care if one is split before another.
+        preserve the ordering of the buffers, but we don't really care if one is split before another. The chunk size
+        of an adaptive upload changes as it runs, so its source is broken into chunks no greater than any chunk size.
          */
+        int splitSize = (controller == null) ? parallelTransferOptions.getBlockSize() : controller.getMinBlockSize();
         Flux<ByteBuffer> chunkedSource = data
             .flatMapSequential(buffer -> {
-                if (buffer.remaining() <= parallelTransferOptions.getBlockSize()) {
+                if (buffer.remaining() <= splitSize) {
                     return Flux.just(buffer);
                 }
-                int numSplits = (int) Math.ceil(buffer.remaining() / (double) parallelTransferOptions.getBlockSize());
+                int numSplits = (int) Math.ceil(buffer.remaining() / (double) splitSize);
                 return Flux.range(0, numSplits)
                     .map(i -> {
                         ByteBuffer duplicate = buffer.duplicate().asReadOnlyBuffer();
-                        duplicate.position(i * parallelTransferOptions.getBlockSize());
-                        duplicate.limit(Math.min(duplicate.limit(), (i + 1) * parallelTransferOptions.getBlockSize()));
+                        duplicate.position(i * splitSize);
+                        duplicate.limit(Math.min(duplicate.limit(), (i + 1) * splitSize));
                         return duplicate;
                     });
             });
@@ -403,11 +414,16 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
                 final String blockId = Base64.getEncoder().encodeToString(
                     UUID.randomUUID().toString().getBytes(UTF_8));
 
-                return blockBlobAsyncClient.stageBlockWithResponse(blockId, progressData, buffer.remaining(),
-                    null, requestConditions.getLeaseId())
+                long blockLength = buffer.remaining();
+                Mono<String> stageBlock = blockBlobAsyncClient.stageBlockWithResponse(blockId, progressData,
+                    blockLength, null, requestConditions.getLeaseId())
                     // We only care about the stageBlock insofar as it was successful,
                     // but we need to collect the ids.
-                    .map(x -> blockId)
+                    .map(x -> blockId);
+                if (controller != null) {
+                    stageBlock = controller.measure(blockLength, stageBlock);
+                }
+                return stageBlock
                     .doFinally(x -> pool.returnBuffer(buffer))
                     .flux();
             }) // TODO: parallelism?
@@ -570,29 +586,22 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
         final ParallelTransferOptions finalParallelTransferOptions =
             ModelHelper.populateAndApplyDefaults(parallelTransferOptions);
         try {
-            return Mono.using(() -> UploadUtils.uploadFileResourceSupplier(filePath, logger),
-                channel -> {
-                    try {
-                        BlockBlobAsyncClient blockBlobAsyncClient = getBlockBlobAsyncClient();
-                        long fileSize = channel.size();
-
-                        // If the file is larger than 256MB chunk it and stage it as blocks.
-                        if (UploadUtils.shouldUploadInChunks(filePath,
-                            finalParallelTransferOptions.getMaxSingleUploadSize(), logger)) {
-                            return uploadFileChunks(fileSize, finalParallelTransferOptions, originalBlockSize, headers,
-                                metadata, tier, requestConditions, channel, blockBlobAsyncClient);
-                        } else {
-                            // Otherwise we know it can be sent in a single request reducing network overhead.
-                            return blockBlobAsyncClient.uploadWithResponse(FluxUtil.readFile(channel), fileSize,
-                                headers, metadata, tier, null, requestConditions)
-                                .then();
-                        }
-                    } catch (IOException ex) {
-                        return Mono.error(ex);
-                    }
-                },
-                channel ->
-                UploadUtils.uploadFileCleanup(channel, logger));
+            return Mono.defer(() -> {
+                BlockBlobAsyncClient blockBlobAsyncClient = getBlockBlobAsyncClient();
+                long fileSize = UploadUtils.getFileSize(filePath, logger);
+
+                // If the file is larger than 256MB chunk it and stage it as blocks.
+                if (fileSize > finalParallelTransferOptions.getMaxSingleUploadSize()) {
+                    return uploadFileChunks(fileSize, finalParallelTransferOptions, originalBlockSize, headers,
+                        metadata, tier, requestConditions, Paths.get(filePath), blockBlobAsyncClient);
+                } else {
+                    // Otherwise we know it can be sent in a single request reducing network overhead.
+                    return blockBlobAsyncClient.uploadWithResponse(
+                        new FileContent(Paths.get(filePath), 0, fileSize), fileSize, headers, metadata, tier,
+                        null, requestConditions)
+                        .then();
+                }
+            });
         } catch (RuntimeException ex) {
             return monoError(logger, ex);
         }
@@ -600,7 +609,7 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
 
     private Mono<Void> uploadFileChunks(long fileSize, ParallelTransferOptions parallelTransferOptions,
         Integer originalBlockSize, BlobHttpHeaders headers, Map<String, String> metadata, AccessTier tier,
-        BlobRequestConditions requestConditions, AsynchronousFileChannel channel, BlockBlobAsyncClient client) {
+        BlobRequestConditions requestConditions, Path file, BlockBlobAsyncClient client) {
         final BlobRequestConditions finalRequestConditions = (requestConditions == null)
             ? new BlobRequestConditions() : requestConditions;
         // parallelTransferOptions are finalized in the calling method.
@@ -615,8 +624,9 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
                 String blockId = getBlockID();
                 blockIds.put(chunk.getOffset(), blockId);
 
+                // Without a progress receiver the FileContent is passed on, so it can be sent straight from the file.
                 Flux<ByteBuffer> progressData = ProgressReporter.addParallelProgressReporting(
-                    FluxUtil.readFile(channel, chunk.getOffset(), chunk.getCount()),
+                    new FileContent(file, chunk.getOffset(), chunk.getCount()),
                     parallelTransferOptions.getProgressReceiver(), progressLock, totalProgress);
 
                 return client.stageBlockWithResponse(blockId, progressData, chunk.getCount(), null,
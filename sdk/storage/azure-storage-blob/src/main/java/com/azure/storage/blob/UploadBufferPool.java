@@ -5,6 +5,7 @@ package com.azure.storage.blob;
 
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.storage.blob.specialized.BlockBlobClient;
+import com.azure.storage.common.implementation.AdaptiveTransferController;
 import com.azure.storage.common.implementation.StorageImplUtils;
 import reactor.core.publisher.Flux;
 
@@ -28,6 +29,10 @@ import java.util.concurrent.LinkedBlockingQueue;
  * to be available, and either store the incomplete buffer to be filled on the next write or return the filled buffer to
  * be sent. Filled buffers can be uploaded in parallel and should return buffers to the pool after the upload completes.
  * Once the source terminates, it should call flush.
+ *
+ * An adaptive pool follows an {@link AdaptiveTransferController}: buffers are allocated with its current block size,
+ * and at most one more than its current concurrency are allocated at a time. In that case, the caller must break the
+ * source into ByteBuffers that are no greater than the minimum block size of the controller.
  */
 final class UploadBufferPool {
     private final ClientLogger logger = new ClientLogger(UploadBufferPool.class);
@@ -41,6 +46,8 @@ final class UploadBufferPool {
 
     private final int maxBuffs;
 
+    private final AdaptiveTransferController controller;
+
     // The number of buffs we have allocated. We can query the queue for how many are available.
     private int numBuffs;
 
@@ -72,6 +79,20 @@ final class UploadBufferPool {
         buffers.add(ByteBuffer.allocate(this.buffSize));
         buffers.add(ByteBuffer.allocate(this.buffSize));
         this.numBuffs = 2;
+        this.controller = null;
+    }
+
+    /**
+     * Creates a new instance of UploadBufferPool which sizes and counts its buffers as the controller says.
+     * @param controller The controller of the upload.
+     */
+    UploadBufferPool(final AdaptiveTransferController controller) {
+        // Buffers are allocated lazily and counted against the concurrency of the controller instead.
+        this.buffers = new LinkedBlockingQueue<>();
+        this.maxBuffs = 0;
+        this.buffSize = 0;
+        this.numBuffs = 0;
+        this.controller = controller;
     }
 
     /*
@@ -137,6 +158,10 @@ final class UploadBufferPool {
     and calling write. Hence there is only one worker calling getBuffer at any time.
      */
     private ByteBuffer getBuffer() {
+        if (this.controller != null) {
+            return this.getAdaptiveBuffer();
+        }
+
         ByteBuffer result;
         /*
          There are no buffers in the queue and we have space to allocate one. We do not add the new buffer to the queue
@@ -148,16 +173,48 @@ final class UploadBufferPool {
             result = ByteBuffer.allocate(this.buffSize);
             this.numBuffs++;
         } else {
-            try {
-                // If empty, this will wait for an upload to finish and return a buffer.
-                result = this.buffers.take();
+            // If empty, this will wait for an upload to finish and return a buffer.
+            result = this.takeBuffer();
+        }
+        return result;
+    }
+
+    /*
+    As with getBuffer, only one worker calls this at any time.
+     */
+    private ByteBuffer getAdaptiveBuffer() {
+        while (true) {
+            int size = this.controller.getBlockSize();
+            int allowedBuffs = this.controller.getConcurrency() + 1;
+
+            ByteBuffer result = this.buffers.poll();
+            if (result == null && this.numBuffs < allowedBuffs) {
+                this.numBuffs++;
+                return ByteBuffer.allocate(size);
+            }
+            if (result == null) {
+                result = this.takeBuffer();
+            }
 
-            } catch (InterruptedException e) {
-                throw logger.logExceptionAsError(new IllegalStateException("BufferedUpload thread interrupted. Thread:"
-                    + Thread.currentThread().getId()));
+            if (result.capacity() == size && this.numBuffs <= allowedBuffs) {
+                return result;
             }
+            /*
+            The block size or concurrency changed since this buffer was allocated. It is dropped, so that a buffer of
+            the new size is allocated once fewer buffers than allowed remain. We always have at least two buffers
+            allowed, so the buffer being sent while this one is filled never prevents getting one.
+             */
+            this.numBuffs--;
+        }
+    }
+
+    private ByteBuffer takeBuffer() {
+        try {
+            return this.buffers.take();
+        } catch (InterruptedException e) {
+            throw logger.logExceptionAsError(new IllegalStateException("BufferedUpload thread interrupted. Thread:"
+                + Thread.currentThread().getId()));
         }
-        return result;
     }
 
     /**
@@ -19,6 +19,7 @@ public final class ParallelTransferOptions {
     private final Integer numBuffers;
     private final ProgressReceiver progressReceiver;
     private final Integer maxSingleUploadSize;
+    private final boolean adaptive;
 
     /**
      * Creates a new {@link ParallelTransferOptions} with default parameters applied.
@@ -63,6 +64,37 @@ public final class ParallelTransferOptions {
      */
     public ParallelTransferOptions(Integer blockSize, Integer numBuffers, ProgressReceiver progressReceiver,
         Integer maxSingleUploadSize) {
+        this(blockSize, numBuffers, progressReceiver, maxSingleUploadSize, false);
+    }
+
+    /**
+     * Creates a new {@link ParallelTransferOptions} with default parameters applied.
+     *
+     * @param blockSize The block size. If {@code adaptive} is true, the block size the transfer starts with.
+     * For upload, The block size is the size of each block that will be staged. This value also determines the number
+     * of requests that need to be made. If block size is large, upload will make fewer network calls, but each
+     * individual call will send more data and will therefore take longer. This parameter also determines the size
+     * that each buffer uses when buffering is required and consequently amount of memory consumed by such methods may
+     * be up to blockSize * numBuffers.
+     * @param numBuffers For buffered upload only, the number of buffers is the maximum number of buffers this method
+     * should allocate. Memory will be allocated lazily as needed. Must be at least two. Typically, the larger the
+     * number of buffers, the more parallel, and thus faster, the upload portion  of this operation will be.
+     * The amount of memory consumed by methods using this value may be up to blockSize * numBuffers.
+     * @param progressReceiver {@link ProgressReceiver}
+     * @param maxSingleUploadSize If the size of the data is less than or equal to this value, it will be uploaded in a
+     * single put rather than broken up into chunks. If the data is uploaded in a single shot, the block size will be
+     * ignored. Some constraints to consider are that more requests cost more, but several small or mid-sized requests
+     * may sometimes perform better. In the case of buffered upload, up to this amount of data may be buffered before
+     * any data is sent. Must be greater than 0. May be null to accept default behavior, which is the maximum value the
+     * service accepts for uploading in a single requests and is represented by
+     * {@link BlockBlobAsyncClient#MAX_UPLOAD_BLOB_BYTES}.
+     * @param adaptive Whether buffered uploads and downloads to file tune the block size and the number of blocks
+     * transferred at a time while they run, from the measured throughput and latency of the blocks. The transfer
+     * starts from the block size and grows or shrinks both within a memory limit of blockSize * numBuffers, so the
+     * number of buffers bounds the memory rather than the concurrency. Other methods ignore this value.
+     */
+    public ParallelTransferOptions(Integer blockSize, Integer numBuffers, ProgressReceiver progressReceiver,
+        Integer maxSingleUploadSize, boolean adaptive) {
         if (blockSize != null) {
             StorageImplUtils.assertInBounds("blockSize", blockSize, 1, BlockBlobAsyncClient.MAX_STAGE_BLOCK_BYTES);
         }
@@ -79,6 +111,7 @@ public final class ParallelTransferOptions {
                 BlockBlobAsyncClient.MAX_UPLOAD_BLOB_BYTES);
         }
         this.maxSingleUploadSize = maxSingleUploadSize;
+        this.adaptive = adaptive;
     }
 
     /**
@@ -112,4 +145,12 @@ public final class ParallelTransferOptions {
     public Integer getMaxSingleUploadSize() {
         return this.maxSingleUploadSize;
     }
+
+    /**
+     * Gets whether the block size and concurrency are tuned while the transfer runs.
+     * @return Whether the transfer is adaptive.
+     */
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
 }
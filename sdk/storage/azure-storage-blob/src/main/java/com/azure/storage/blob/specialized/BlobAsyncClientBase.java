@@ -48,6 +48,7 @@ import com.azure.storage.blob.models.UserDelegationKey;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import com.azure.storage.common.Utility;
+import com.azure.storage.common.implementation.AdaptiveTransferController;
 import com.azure.storage.common.implementation.SasImplUtils;
 import com.azure.storage.common.implementation.StorageImplUtils;
 import reactor.core.publisher.Flux;
@@ -872,6 +873,13 @@ public class BlobAsyncClientBase {
                 numChunks = numChunks == 0 ? 1 : numChunks;
 
                 BlobDownloadAsyncResponse initialResponse = setupTuple3.getT3();
+                if (finalParallelTransferOptions.isAdaptive()) {
+                    return downloadChunksAdaptively(file, finalRange, newCount, initialResponse,
+                        finalParallelTransferOptions, downloadRetryOptions, finalConditions, rangeGetContentMd5,
+                        progressLock, totalProgress)
+                        .then(Mono.just(buildBlobPropertiesResponse(initialResponse)));
+                }
+
                 return Flux.range(0, numChunks)
                     .flatMap(chunkNum -> {
                         // The first chunk was retrieved during setup.
@@ -891,7 +899,7 @@ public class BlobAsyncClientBase {
                             rangeGetContentMd5, null)
                             .subscribeOn(Schedulers.elastic())
                             .flatMap(response ->
-                                writeBodyToFile(response, file, chunkNum, finalParallelTransferOptions, progressLock,
+                                writeBodyToFile(response, file, modifier, finalParallelTransferOptions, progressLock,
                                     totalProgress));
                     })
                     // Only the first download call returns a value.
@@ -899,6 +907,34 @@ public class BlobAsyncClientBase {
             });
     }
 
+    /*
+    Downloads the chunks after the first one with the block size and concurrency of an adaptive controller. Chunks are
+    claimed only once the controller lets them run, so that each one gets the block size of that moment rather than of
+    when the download started, and no claimed chunk waits for a slot.
+     */
+    private Mono<Void> downloadChunksAdaptively(AsynchronousFileChannel file, BlobRange finalRange, long newCount,
+        BlobDownloadAsyncResponse initialResponse, ParallelTransferOptions finalParallelTransferOptions,
+        DownloadRetryOptions downloadRetryOptions, BlobRequestConditions finalConditions, boolean rangeGetContentMd5,
+        Lock progressLock, AtomicLong totalProgress) {
+        int initialBlockSize = finalParallelTransferOptions.getBlockSize();
+        AdaptiveTransferController controller = new AdaptiveTransferController(initialBlockSize,
+            (long) initialBlockSize * finalParallelTransferOptions.getNumBuffers(),
+            BlockBlobAsyncClient.MAX_STAGE_BLOCK_BYTES);
+
+        // The first chunk was retrieved during setup.
+        Mono<Void> firstChunk = writeBodyToFile(initialResponse, file, 0, finalParallelTransferOptions, progressLock,
+            totalProgress);
+
+        Flux<Void> otherChunks = controller.runRanges(Math.min(initialBlockSize, newCount), newCount,
+            (position, count) -> this.downloadWithResponse(new BlobRange(finalRange.getOffset() + position, count),
+                downloadRetryOptions, finalConditions, rangeGetContentMd5, null)
+                .subscribeOn(Schedulers.elastic())
+                .flatMap(response -> writeBodyToFile(response, file, position, finalParallelTransferOptions,
+                    progressLock, totalProgress)));
+
+        return Flux.merge(firstChunk, otherChunks).then();
+    }
+
     private int calculateNumBlocks(long dataSize, long blockLength) {
         // Can successfully cast to an int because MaxBlockSize is an int, which this expression must be less than.
         int numBlocks = toIntExact(dataSize / blockLength);
@@ -990,7 +1026,7 @@ public class BlobAsyncClientBase {
     }
 
     private static Mono<Void> writeBodyToFile(BlobDownloadAsyncResponse response, AsynchronousFileChannel file,
-        long chunkNum, ParallelTransferOptions finalParallelTransferOptions, Lock progressLock,
+        long position, ParallelTransferOptions finalParallelTransferOptions, Lock progressLock,
         AtomicLong totalProgress) {
 
         // Extract the body.
@@ -1001,7 +1037,7 @@ public class BlobAsyncClientBase {
             finalParallelTransferOptions.getProgressReceiver(), progressLock, totalProgress);
 
         // Write to the file.
-        return FluxUtil.writeFile(data, file, chunkNum * finalParallelTransferOptions.getBlockSize());
+        return FluxUtil.writeFile(data, file, position);
     }
 
     private static Response<BlobProperties> buildBlobPropertiesResponse(BlobDownloadAsyncResponse response) {
@@ -344,7 +344,7 @@ public final class BlockBlobAsyncClient extends BlobAsyncClientBase {
         BlobRange sourceRange, byte[] sourceContentMd5, String leaseId, BlobRequestConditions sourceRequestConditions) {
         try {
             return withContext(context -> stageBlockFromUrlWithResponse(base64BlockId, sourceUrl, sourceRange,
-                sourceContentMd5, leaseId, sourceRequestConditions));
+                sourceContentMd5, leaseId, sourceRequestConditions, context));
         } catch (RuntimeException ex) {
             return monoError(logger, ex);
         }
@@ -0,0 +1,170 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.specialized;
+
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.common.implementation.LocalFileTransfer;
+import com.azure.storage.common.implementation.StorageImplUtils;
+import com.azure.storage.common.transfer.ResumableTransfer;
+import com.azure.storage.common.transfer.TransferChunk;
+import com.azure.storage.common.transfer.TransferManager;
+import com.azure.storage.common.transfer.TransferPlan;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Creates {@link ResumableTransfer resumable transfers} between blobs and local files, run by a
+ * {@link TransferManager}.
+ * <p>
+ * Downloads read ranges of the blob conditioned on its ETag, so a blob modified since the download started fails it
+ * rather than mixing its versions in the file; the download then starts over when run again. Uploads stage the chunks
+ * of the file as blocks and commit them once all are staged. The service discards uncommitted blocks after a week, so
+ * an upload must be resumed within that time.
+ *
+ * <p><strong>Code Samples</strong></p>
+ *
+ * <pre>
+ * transferManager.transfer(ResumableBlobTransfers.upload(blockBlobAsyncClient, "file.bin", true)).block();
+ * </pre>
+ */
+public final class ResumableBlobTransfers {
+    /**
+     * The size of the chunks blobs are transferred in.
+     */
+    public static final long DEFAULT_CHUNK_SIZE = BlobAsyncClient.BLOB_DEFAULT_HTBB_UPLOAD_BLOCK_SIZE;
+
+    private ResumableBlobTransfers() {
+    }
+
+    /**
+     * Creates a transfer downloading a blob to a file, which is created or replaced.
+     *
+     * @param client The client of the blob.
+     * @param filePath The path of the file.
+     * @return The transfer.
+     * @throws NullPointerException If {@code client} or {@code filePath} is null.
+     */
+    public static ResumableTransfer download(BlobAsyncClientBase client, String filePath) {
+        StorageImplUtils.assertNotNull("client", client);
+        StorageImplUtils.assertNotNull("filePath", filePath);
+        return new BlobDownload(client, Paths.get(filePath).toAbsolutePath());
+    }
+
+    /**
+     * Creates a transfer uploading a file to a block blob.
+     *
+     * @param client The client of the blob.
+     * @param filePath The path of the file.
+     * @param overwrite Whether an existing blob is replaced. Otherwise, the upload fails if the blob exists once the
+     * file is uploaded.
+     * @return The transfer.
+     * @throws NullPointerException If {@code client} or {@code filePath} is null.
+     */
+    public static ResumableTransfer upload(BlockBlobAsyncClient client, String filePath, boolean overwrite) {
+        StorageImplUtils.assertNotNull("client", client);
+        StorageImplUtils.assertNotNull("filePath", filePath);
+        return new BlobUpload(client, Paths.get(filePath).toAbsolutePath(), overwrite);
+    }
+
+    private static final class BlobDownload extends LocalFileTransfer {
+        private final BlobAsyncClientBase client;
+        private volatile BlobRequestConditions sourceConditions;
+
+        BlobDownload(BlobAsyncClientBase client, Path file) {
+            super(file);
+            this.client = client;
+        }
+
+        @Override
+        public String getTransferId() {
+            return "blob-download " + client.getBlobUrl() + " " + getFile();
+        }
+
+        @Override
+        public Mono<TransferPlan> plan() {
+            return client.getProperties().map(properties -> {
+                sourceConditions = new BlobRequestConditions().setIfMatch(properties.getETag());
+                return new TransferPlan(properties.getBlobSize(), DEFAULT_CHUNK_SIZE, properties.getETag());
+            });
+        }
+
+        @Override
+        public Mono<Void> start(TransferPlan plan, boolean resuming) {
+            return openForWriting(resuming);
+        }
+
+        @Override
+        public Mono<String> transferChunk(TransferChunk chunk) {
+            return client.downloadWithResponse(new BlobRange(chunk.getOffset(), chunk.getLength()), null,
+                sourceConditions, false)
+                .flatMap(response -> FluxUtil.writeFile(response.getValue(), getChannel(), chunk.getOffset()))
+                .then(force())
+                .then(Mono.empty());
+        }
+
+        @Override
+        public Mono<Void> complete(TransferPlan plan, List<String> chunkRecords) {
+            return Mono.empty();
+        }
+    }
+
+    private static final class BlobUpload extends LocalFileTransfer {
+        private final BlockBlobAsyncClient client;
+        private final boolean overwrite;
+
+        BlobUpload(BlockBlobAsyncClient client, Path file, boolean overwrite) {
+            super(file);
+            this.client = client;
+            this.overwrite = overwrite;
+        }
+
+        @Override
+        public String getTransferId() {
+            return "blob-upload " + getFile() + " " + client.getBlobUrl();
+        }
+
+        @Override
+        public Mono<TransferPlan> plan() {
+            return Mono.fromCallable(() -> {
+                long size = Files.size(getFile());
+                // Files too large for the block count limit are uploaded in larger blocks.
+                long chunkSize = Math.max(DEFAULT_CHUNK_SIZE,
+                    (size + BlockBlobAsyncClient.MAX_BLOCKS - 1) / BlockBlobAsyncClient.MAX_BLOCKS);
+                return new TransferPlan(size, chunkSize,
+                    size + ":" + Files.getLastModifiedTime(getFile()).toMillis());
+            });
+        }
+
+        @Override
+        public Mono<Void> start(TransferPlan plan, boolean resuming) {
+            return openForReading();
+        }
+
+        @Override
+        public Mono<String> transferChunk(TransferChunk chunk) {
+            String blockId = Base64.getEncoder()
+                .encodeToString(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+            return client.stageBlock(blockId, FluxUtil.readFile(getChannel(), chunk.getOffset(), chunk.getLength()),
+                chunk.getLength())
+                .thenReturn(blockId);
+        }
+
+        @Override
+        public Mono<Void> complete(TransferPlan plan, List<String> chunkRecords) {
+            BlobRequestConditions requestConditions = overwrite
+                ? null : new BlobRequestConditions().setIfNoneMatch("*");
+            return client.commitBlockListWithResponse(chunkRecords, null, null, null, requestConditions).then();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob;
+
+import com.azure.storage.blob.specialized.BlockBlobAsyncClient;
+import com.azure.storage.common.implementation.AdaptiveTransferController;
+import com.azure.storage.common.implementation.Constants;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+
+public class UploadBufferPoolTest {
+    @Test(timeout = 10000)
+    public void adaptivePoolFollowsTheControllerMidUpload() {
+        // Each block takes 11 seconds, which halves the block size and doubles the concurrency after the first round.
+        AtomicLong clock = new AtomicLong();
+        AdaptiveTransferController controller = new AdaptiveTransferController(2 * Constants.MB, 8L * Constants.MB,
+            BlockBlobAsyncClient.MAX_STAGE_BLOCK_BYTES, clock::get);
+        UploadBufferPool pool = new UploadBufferPool(controller);
+        List<Integer> sent = new ArrayList<>();
+
+        ByteBuffer first = write(pool, 2).get(0);
+        sent.add(first.capacity());
+        controller.measure(first.remaining(),
+            Mono.fromRunnable(() -> clock.addAndGet(TimeUnit.SECONDS.toNanos(11)))).block();
+        pool.returnBuffer(first);
+
+        // Three buffers may now be held at a time; none of these are returned, so a fourth would block the upload.
+        for (ByteBuffer buffer : write(pool, 3)) {
+            sent.add(buffer.capacity());
+        }
+
+        assertEquals(Arrays.asList(2 * Constants.MB, Constants.MB, Constants.MB, Constants.MB), sent);
+        assertEquals(2, controller.getConcurrency());
+    }
+
+    /*
+     * Writes the given number of megabytes to the pool, one megabyte at a time, and returns the filled buffers.
+     */
+    private static List<ByteBuffer> write(UploadBufferPool pool, int megabytes) {
+        List<ByteBuffer> filled = new ArrayList<>();
+        for (int i = 0; i < megabytes; i++) {
+            filled.addAll(pool.write(ByteBuffer.allocate(Constants.MB)).collectList().block());
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.specialized;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/*
+These tests run against a stubbed HttpClient rather than recorded sessions, they check the requests the client sends.
+ */
+public class BlockBlobAsyncClientTest {
+    private static final String BLOB_URL = "https://account.blob.core.windows.net/container/blob";
+    private static final String SOURCE_URL = "https://account.blob.core.windows.net/container/source?sig=signature";
+
+    @Test
+    public void stageBlockFromUrlWithResponseSendsPutBlockFromUrl() {
+        List<HttpRequest> requests = new ArrayList<>();
+        BlockBlobAsyncClient client = new SpecializedBlobClientBuilder()
+            .endpoint(BLOB_URL)
+            .httpClient(request -> {
+                requests.add(request);
+                return Mono.just(new EmptyResponse(request, 201));
+            })
+            .buildBlockBlobAsyncClient();
+
+        int statusCode = client.stageBlockFromUrlWithResponse("YmxvY2sx", SOURCE_URL, new BlobRange(0, 512L), null,
+            null, new BlobRequestConditions().setIfMatch("\"source-etag\""))
+            .block()
+            .getStatusCode();
+
+        assertEquals(201, statusCode);
+        assertEquals(1, requests.size());
+        HttpRequest request = requests.get(0);
+        assertEquals(HttpMethod.PUT, request.getHttpMethod());
+        assertEquals("block", queryParameter(request, "comp"));
+        assertEquals("YmxvY2sx", queryParameter(request, "blockid"));
+        assertEquals(SOURCE_URL, request.getHeaders().getValue("x-ms-copy-source"));
+        assertEquals("bytes=0-511", request.getHeaders().getValue("x-ms-source-range"));
+        assertEquals("\"source-etag\"", request.getHeaders().getValue("x-ms-source-if-match"));
+    }
+
+    @Test
+    public void stageBlockFromUrlCompletes() {
+        BlockBlobAsyncClient client = new SpecializedBlobClientBuilder()
+            .endpoint(BLOB_URL)
+            .httpClient(request -> Mono.just(new EmptyResponse(request, 201)))
+            .buildBlockBlobAsyncClient();
+
+        client.stageBlockFromUrl("YmxvY2sx", SOURCE_URL, null).block();
+    }
+
+    private static String queryParameter(HttpRequest request, String name) {
+        for (String parameter : request.getUrl().getQuery().split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return parameter.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static final class EmptyResponse extends HttpResponse {
+        private final int statusCode;
+
+        EmptyResponse(HttpRequest request, int statusCode) {
+            super(request);
+            this.statusCode = statusCode;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.empty();
+        }
+    }
+}
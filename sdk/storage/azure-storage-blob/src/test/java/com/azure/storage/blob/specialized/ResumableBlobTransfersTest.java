@@ -0,0 +1,199 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.specialized;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.common.transfer.TransferManager;
+import com.azure.storage.common.transfer.TransferManagerOptions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/*
+These tests run against a stubbed HttpClient rather than recorded sessions, which serves a single blob from memory.
+ */
+public class ResumableBlobTransfersTest {
+    private static final String BLOB_URL = "https://account.blob.core.windows.net/container/blob";
+    private static final String ETAG = "0x8D7C0E8F0E8F0E8";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+    private static final Pattern BLOCK_ID = Pattern.compile("<Latest>([^<]+)</Latest>");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void downloadWritesEveryChunkConditionedOnTheETag() throws IOException {
+        byte[] content = randomBytes((int) ResumableBlobTransfers.DEFAULT_CHUNK_SIZE + 1024);
+        List<String> ifMatches = Collections.synchronizedList(new ArrayList<>());
+        BlockBlobAsyncClient client = new SpecializedBlobClientBuilder()
+            .endpoint(BLOB_URL)
+            .httpClient(request -> {
+                if (request.getHttpMethod() == HttpMethod.HEAD) {
+                    return Mono.just(new FakeResponse(request, 200, blobHeaders(content.length), new byte[0]));
+                }
+
+                ifMatches.add(request.getHeaders().getValue("If-Match"));
+                Matcher range = RANGE.matcher(request.getHeaders().getValue("x-ms-range"));
+                range.matches();
+                int start = Integer.parseInt(range.group(1));
+                int end = Math.min(Integer.parseInt(range.group(2)), content.length - 1);
+                HttpHeaders headers = blobHeaders(end - start + 1)
+                    .put("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+                return Mono.just(new FakeResponse(request, 206, headers,
+                    Arrays.copyOfRange(content, start, end + 1)));
+            })
+            .buildBlockBlobAsyncClient();
+        Path file = folder.getRoot().toPath().resolve("download.bin");
+
+        manager().transfer(ResumableBlobTransfers.download(client, file.toString())).block();
+
+        assertArrayEquals(content, Files.readAllBytes(file));
+        assertEquals(Arrays.asList(ETAG, ETAG), ifMatches);
+    }
+
+    @Test
+    public void uploadCommitsTheStagedBlocksInOrder() throws IOException {
+        byte[] content = randomBytes((int) ResumableBlobTransfers.DEFAULT_CHUNK_SIZE + 1024);
+        Path file = folder.getRoot().toPath().resolve("upload.bin");
+        Files.write(file, content);
+
+        Map<String, byte[]> stagedBlocks = new ConcurrentHashMap<>();
+        List<String> committedBlocks = new ArrayList<>();
+        List<String> commitIfNoneMatches = new ArrayList<>();
+        BlockBlobAsyncClient client = new SpecializedBlobClientBuilder()
+            .endpoint(BLOB_URL)
+            .httpClient(request -> FluxUtil.collectBytesInByteBufferStream(request.getBody())
+                .<HttpResponse>handle((body, sink) -> {
+                    String query = request.getUrl().getQuery();
+                    if (query.contains("comp=blocklist")) {
+                        commitIfNoneMatches.add(request.getHeaders().getValue("If-None-Match"));
+                        Matcher blockId = BLOCK_ID.matcher(new String(body, StandardCharsets.UTF_8));
+                        while (blockId.find()) {
+                            committedBlocks.add(blockId.group(1));
+                        }
+                    } else {
+                        try {
+                            stagedBlocks.put(URLDecoder.decode(queryParameter(request, "blockid"), "UTF-8"), body);
+                        } catch (IOException e) {
+                            sink.error(e);
+                            return;
+                        }
+                    }
+                    sink.next(new FakeResponse(request, 201, new HttpHeaders().put("ETag", ETAG)
+                        .put("x-ms-request-server-encrypted", "true"), new byte[0]));
+                }))
+            .buildBlockBlobAsyncClient();
+
+        manager().transfer(ResumableBlobTransfers.upload(client, file.toString(), false)).block();
+
+        assertEquals(2, committedBlocks.size());
+        ByteArrayOutputStream committed = new ByteArrayOutputStream();
+        for (String blockId : committedBlocks) {
+            committed.write(stagedBlocks.get(blockId));
+        }
+        assertArrayEquals(content, committed.toByteArray());
+        assertEquals(Arrays.asList("*"), commitIfNoneMatches);
+    }
+
+    private TransferManager manager() throws IOException {
+        return new TransferManager(new TransferManagerOptions().setJournalDirectory(folder.newFolder().toPath()));
+    }
+
+    private static HttpHeaders blobHeaders(long contentLength) {
+        return new HttpHeaders()
+            .put("Content-Length", String.valueOf(contentLength))
+            .put("ETag", ETAG)
+            .put("x-ms-blob-type", "BlockBlob");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String queryParameter(HttpRequest request, String name) {
+        for (String parameter : request.getUrl().getQuery().split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return parameter.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static final class FakeResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        FakeResponse(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body) {
+            super(request);
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.just(new String(body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.just(new String(body, charset));
+        }
+    }
+}
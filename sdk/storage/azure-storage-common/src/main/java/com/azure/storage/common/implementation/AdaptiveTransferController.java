@@ -0,0 +1,305 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.implementation;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * RESERVED FOR INTERNAL USE.
+ *
+ * Tunes the block size and concurrency of a parallel transfer while it runs, from the throughput and latency of the
+ * blocks it transferred, within a memory limit.
+ * <p>
+ * The controller works in rounds of as many blocks as it lets run at a time. At the end of each round it compares the
+ * throughput of the round with the previous one, in the manner of TCP congestion control: concurrency doubles per
+ * round until throughput first drops, then increases by one block per round while throughput holds, and halves
+ * whenever throughput drops. Once more concurrency stops increasing throughput, blocks transferred quickly enough for
+ * the fixed cost of a request to matter are doubled in size, and blocks slow enough to make failures expensive are
+ * halved. The memory limit bounds the block size times the concurrency, plus one block for the buffer being filled.
+ * <p>
+ * Transfers which buffer their blocks follow the block size and concurrency when they allocate buffers; others run
+ * their blocks with {@link #runBlocks(Supplier)} or {@link #runRanges(long, long, BiFunction)}. Either way, each block
+ * is timed with {@link #measure(long, Mono)}.
+ * <p>
+ * This type is safe for use by multiple threads.
+ */
+public final class AdaptiveTransferController {
+    /**
+     * The size blocks don't shrink below, unless the initial block size is smaller.
+     */
+    public static final int MIN_BLOCK_SIZE = Constants.MB;
+
+    private static final int MAX_CONCURRENCY = 256;
+    private static final long LOW_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long HIGH_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final double THROUGHPUT_DROP_TOLERANCE = 0.1;
+
+    private final long memoryLimit;
+    private final int minBlockSize;
+    private final int maxBlockSize;
+    private final LongSupplier nanoClock;
+
+    private int blockSize;
+    private int concurrency;
+
+    private long roundStartNanos = -1;
+    private long roundBytes;
+    private long roundLatencyNanos;
+    private int roundBlocks;
+    private double previousThroughput;
+    private boolean slowStart = true;
+
+    /**
+     * Creates a controller. It starts with half the concurrency the memory limit allows at the initial block size,
+     * leaving room to grow.
+     *
+     * @param initialBlockSize The block size to start with.
+     * @param memoryLimit The maximum number of bytes buffered at a time, which must hold at least two blocks of the
+     * initial size.
+     * @param maxBlockSize The maximum block size.
+     * @throws IllegalArgumentException If {@code initialBlockSize} isn't between 1 and {@code maxBlockSize}, or
+     * {@code memoryLimit} is smaller than two blocks.
+     */
+    public AdaptiveTransferController(int initialBlockSize, long memoryLimit, int maxBlockSize) {
+        this(initialBlockSize, memoryLimit, maxBlockSize, System::nanoTime);
+    }
+
+    /**
+     * Creates a controller which times blocks with the given clock.
+     *
+     * @param initialBlockSize The block size to start with.
+     * @param memoryLimit The maximum number of bytes buffered at a time, which must hold at least two blocks of the
+     * initial size.
+     * @param maxBlockSize The maximum block size.
+     * @param nanoClock The clock blocks are timed with, in nanoseconds.
+     * @throws IllegalArgumentException If {@code initialBlockSize} isn't between 1 and {@code maxBlockSize}, or
+     * {@code memoryLimit} is smaller than two blocks.
+     */
+    public AdaptiveTransferController(int initialBlockSize, long memoryLimit, int maxBlockSize,
+        LongSupplier nanoClock) {
+        StorageImplUtils.assertInBounds("initialBlockSize", initialBlockSize, 1, maxBlockSize);
+        StorageImplUtils.assertInBounds("memoryLimit", memoryLimit, 2L * initialBlockSize, Long.MAX_VALUE);
+        this.memoryLimit = memoryLimit;
+        this.minBlockSize = Math.min(initialBlockSize, MIN_BLOCK_SIZE);
+        this.maxBlockSize = (int) Math.min(maxBlockSize, memoryLimit / 2);
+        this.blockSize = initialBlockSize;
+        this.concurrency = Math.max(1, maxConcurrency(initialBlockSize) / 2);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return The size of the next block.
+     */
+    public synchronized int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * @return The number of blocks to transfer at a time.
+     */
+    public synchronized int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return The smallest size blocks can have, so that data split in pieces of this size fits any block.
+     */
+    public int getMinBlockSize() {
+        return minBlockSize;
+    }
+
+    /**
+     * @return The largest number of blocks the controller can let run at a time.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency(minBlockSize);
+    }
+
+    /**
+     * Runs blocks, as many at a time as the concurrency allows. Blocks are only claimed while fewer run than the current
+     * concurrency, so none wait to run once claimed, and each one gets the block size of the moment it starts.
+     *
+     * @param nextBlock The supplier of the transfer of the next block, or of null once there are no more blocks. It is
+     * called once the block may run, and never concurrently.
+     * @param <T> The type of the results of the transfers.
+     * @return The results of the transfers, which errors as soon as one of them does, cancelling the others.
+     */
+    public <T> Flux<T> runBlocks(Supplier<Mono<T>> nextBlock) {
+        return Flux.create(sink -> new BlockRunner<>(nextBlock, sink).claimBlocks());
+    }
+
+    /**
+     * Transfers a range of data in consecutive blocks with {@link #runBlocks(Supplier)}, timing each one with
+     * {@link #measure(long, Mono)}. Each block is claimed with the block size of the moment it starts, so the blocks
+     * claimed after the block size changes have the new size.
+     *
+     * @param start The position of the first byte of the range.
+     * @param end The position after the last byte of the range.
+     * @param transfer Transfers the block at the given position with the given size.
+     * @param <T> The type of the results of the transfers.
+     * @return The results of the transfers.
+     */
+    public <T> Flux<T> runRanges(long start, long end, BiFunction<Long, Long, Mono<T>> transfer) {
+        AtomicLong nextPosition = new AtomicLong(start);
+        return runBlocks(() -> {
+            long position = nextPosition.get();
+            if (position >= end) {
+                return null;
+            }
+
+            long count = Math.min(getBlockSize(), end - position);
+            nextPosition.set(position + count);
+            return measure(count, transfer.apply(position, count));
+        });
+    }
+
+    /**
+     * Times the transfer of a block, from its subscription to its success, and adjusts the block size and concurrency
+     * once a round of blocks completes.
+     *
+     * @param bytes The size of the block.
+     * @param transfer The transfer of the block.
+     * @param <T> The type of the result of the transfer.
+     * @return The result of the transfer.
+     */
+    public <T> Mono<T> measure(long bytes, Mono<T> transfer) {
+        return Mono.defer(() -> {
+            long start = nanoClock.getAsLong();
+            startRound(start);
+            return transfer.doOnSuccess(ignored -> record(bytes, nanoClock.getAsLong() - start));
+        });
+    }
+
+    private synchronized void startRound(long nanos) {
+        if (roundStartNanos < 0) {
+            roundStartNanos = nanos;
+        }
+    }
+
+    private synchronized void record(long bytes, long latencyNanos) {
+        roundBytes += bytes;
+        roundLatencyNanos += latencyNanos;
+        roundBlocks++;
+        if (roundBlocks < concurrency) {
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        double throughput = roundBytes / (double) Math.max(1, now - roundStartNanos);
+        adjust(throughput, roundLatencyNanos / roundBlocks);
+
+        previousThroughput = throughput;
+        roundStartNanos = now;
+        roundBytes = 0;
+        roundLatencyNanos = 0;
+        roundBlocks = 0;
+    }
+
+    /*
+     * Adjusts one dimension per round, so that the effect of each change is measured on its own.
+     */
+    private void adjust(double throughput, long averageLatencyNanos) {
+        boolean measured = previousThroughput > 0;
+        if (averageLatencyNanos > HIGH_LATENCY_NANOS && blockSize > minBlockSize) {
+            // Smaller blocks spread the data over more connections and make a failed block cheaper to retry.
+            blockSize = Math.max(minBlockSize, blockSize / 2);
+            concurrency = Math.min(maxConcurrency(blockSize), concurrency * 2);
+        } else if (measured && throughput < previousThroughput * (1 - THROUGHPUT_DROP_TOLERANCE)) {
+            concurrency = Math.max(1, concurrency / 2);
+            slowStart = false;
+        } else if (measured && throughput < previousThroughput * (1 + THROUGHPUT_DROP_TOLERANCE)
+            && averageLatencyNanos < LOW_LATENCY_NANOS && blockSize < maxBlockSize
+            && (long) blockSize * 2 * (concurrency + 1) <= memoryLimit) {
+            // More blocks at a time no longer help, and requests this short are dominated by their fixed cost.
+            blockSize = (int) Math.min(maxBlockSize, (long) blockSize * 2);
+        } else if (slowStart) {
+            concurrency = Math.min(maxConcurrency(blockSize), concurrency * 2);
+            slowStart = concurrency < maxConcurrency(blockSize);
+        } else if (concurrency < maxConcurrency(blockSize)) {
+            concurrency++;
+        }
+    }
+
+    private int maxConcurrency(int size) {
+        // One block of the memory is kept for the buffer being filled while the others are transferred.
+        return (int) Math.max(1, Math.min(MAX_CONCURRENCY, memoryLimit / size - 1));
+    }
+
+    /*
+     * Claims blocks for one call of runBlocks. Each block that terminates claims the blocks its slot and any growth of
+     * the concurrency allow, so the concurrency is followed without a queue of claims waiting for a permit.
+     */
+    private final class BlockRunner<T> {
+        private final Supplier<Mono<T>> nextBlock;
+        private final FluxSink<T> sink;
+        private final Disposable.Composite running = Disposables.composite();
+
+        private int active;
+        private boolean exhausted;
+        private boolean terminated;
+
+        BlockRunner(Supplier<Mono<T>> nextBlock, FluxSink<T> sink) {
+            this.nextBlock = nextBlock;
+            this.sink = sink;
+            sink.onDispose(running);
+        }
+
+        void claimBlocks() {
+            while (true) {
+                Mono<T> block;
+                synchronized (this) {
+                    if (terminated) {
+                        return;
+                    }
+                    if (!exhausted && active < getConcurrency()) {
+                        block = nextBlock.get();
+                        exhausted = block == null;
+                    } else {
+                        block = null;
+                    }
+                    if (block == null) {
+                        if (exhausted && active == 0) {
+                            terminated = true;
+                            sink.complete();
+                        }
+                        return;
+                    }
+                    active++;
+                }
+                // Terminated blocks leave the composite, so it only holds the running ones.
+                Disposable.Swap subscription = Disposables.swap();
+                running.add(subscription);
+                subscription.update(block.doFinally(ignored -> running.remove(subscription))
+                    .subscribe(sink::next, this::fail, this::blockCompleted));
+            }
+        }
+
+        private void blockCompleted() {
+            synchronized (this) {
+                active--;
+            }
+            claimBlocks();
+        }
+
+        private void fail(Throwable error) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+            }
+            sink.error(error);
+        }
+    }
+}
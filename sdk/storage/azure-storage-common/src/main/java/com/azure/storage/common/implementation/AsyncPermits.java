@@ -0,0 +1,132 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.implementation;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * RESERVED FOR INTERNAL USE.
+ *
+ * A semaphore for reactive work: work run with a permit is subscribed once a permit is available, without blocking a
+ * thread while it waits, and releases its permit when it terminates or is cancelled. The number of permits can be
+ * changed while work is running; lowering it lets the running work finish and holds back new work until fewer than
+ * the new limit run.
+ */
+public final class AsyncPermits {
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+    private int limit;
+    private int acquired;
+
+    /**
+     * Creates a semaphore.
+     *
+     * @param limit The number of permits.
+     */
+    public AsyncPermits(int limit) {
+        StorageImplUtils.assertInBounds("limit", limit, 1, Integer.MAX_VALUE);
+        this.limit = limit;
+    }
+
+    /**
+     * Changes the number of permits.
+     *
+     * @param limit The number of permits.
+     */
+    public void setLimit(int limit) {
+        StorageImplUtils.assertInBounds("limit", limit, 1, Integer.MAX_VALUE);
+        List<Waiter> granted;
+        synchronized (this) {
+            this.limit = limit;
+            granted = grantWaiters();
+        }
+        granted.forEach(Waiter::grant);
+    }
+
+    /**
+     * Runs work once a permit is available.
+     *
+     * @param work The supplier of the work, called once the permit is acquired.
+     * @param <T> The type of the result of the work.
+     * @return The result of the work.
+     */
+    public <T> Mono<T> withPermit(Supplier<Mono<T>> work) {
+        return Mono.defer(() -> {
+            Waiter waiter = new Waiter();
+            return Mono.<Boolean>create(sink -> acquire(waiter, sink))
+                .flatMap(ignored -> work.get())
+                .doFinally(ignored -> waiter.finish());
+        });
+    }
+
+    private void acquire(Waiter waiter, MonoSink<Boolean> sink) {
+        synchronized (this) {
+            waiter.sink = sink;
+            if (acquired >= limit) {
+                waiters.add(waiter);
+                return;
+            }
+            acquired++;
+            waiter.state.set(Waiter.GRANTED);
+        }
+        waiter.grant();
+    }
+
+    private void release() {
+        List<Waiter> granted;
+        synchronized (this) {
+            acquired--;
+            granted = grantWaiters();
+        }
+        granted.forEach(Waiter::grant);
+    }
+
+    /*
+     * Grants permits to waiting work while permits are available. The work is signalled outside of the lock.
+     */
+    private List<Waiter> grantWaiters() {
+        List<Waiter> granted = new ArrayList<>();
+        while (acquired < limit) {
+            Waiter next = waiters.poll();
+            if (next == null) {
+                break;
+            }
+            if (next.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                acquired++;
+                granted.add(next);
+            }
+        }
+        return granted;
+    }
+
+    /*
+     * The state of one acquisition. Whichever of the grant and the termination of the work comes first decides whether
+     * the permit has to be released, so that a permit granted to work which was cancelled meanwhile isn't lost.
+     */
+    private final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int DONE = 2;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private MonoSink<Boolean> sink;
+
+        void grant() {
+            sink.success(true);
+        }
+
+        void finish() {
+            if (state.getAndSet(DONE) == GRANTED) {
+                release();
+            }
+        }
+    }
+}
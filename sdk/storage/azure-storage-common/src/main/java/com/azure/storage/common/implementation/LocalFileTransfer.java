@@ -0,0 +1,113 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.implementation;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.common.transfer.ResumableTransfer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Base of the {@link ResumableTransfer resumable transfers} between a local file and a storage resource, which keeps
+ * the channel of the local file open from {@link #start(com.azure.storage.common.transfer.TransferPlan, boolean)
+ * start} to {@link #close()}.
+ * <p>
+ * A download must {@link #force() force} each chunk it writes to the storage device before the chunk is journaled,
+ * otherwise a crash could lose chunks the journal records as transferred, which a resumed download wouldn't transfer
+ * again.
+ */
+public abstract class LocalFileTransfer implements ResumableTransfer {
+    private final ClientLogger logger = new ClientLogger(LocalFileTransfer.class);
+
+    private final Path file;
+    private volatile AsynchronousFileChannel channel;
+
+    /**
+     * Creates a transfer of the local file.
+     *
+     * @param file The path of the local file.
+     */
+    protected LocalFileTransfer(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return The path of the local file.
+     */
+    protected final Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return The channel of the local file, once it is opened.
+     */
+    protected final AsynchronousFileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Opens the local file to read it.
+     *
+     * @return A reactive response signalling completion.
+     */
+    protected final Mono<Void> openForReading() {
+        return open(StandardOpenOption.READ);
+    }
+
+    /**
+     * Opens the local file to write it, creating it if it doesn't exist.
+     *
+     * @param resuming Whether chunks were already written to the file by an earlier run, which are then kept.
+     * Otherwise, the file is truncated.
+     * @return A reactive response signalling completion.
+     */
+    protected final Mono<Void> openForWriting(boolean resuming) {
+        return resuming
+            ? open(StandardOpenOption.CREATE, StandardOpenOption.WRITE)
+            : open(StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Forces the content written to the local file to the storage device. As this blocks until the device has written
+     * it, it runs on a bounded elastic thread.
+     *
+     * @return A reactive response signalling completion.
+     */
+    protected final Mono<Void> force() {
+        return Mono.<Void>fromRunnable(() -> {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw logger.logExceptionAsError(new UncheckedIOException(e));
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Void> open(StandardOpenOption... options) {
+        return Mono.fromRunnable(() -> {
+            try {
+                channel = AsynchronousFileChannel.open(file, options);
+            } catch (IOException e) {
+                throw logger.logExceptionAsError(new UncheckedIOException(e));
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw logger.logExceptionAsError(new UncheckedIOException(e));
+        }
+    }
+}
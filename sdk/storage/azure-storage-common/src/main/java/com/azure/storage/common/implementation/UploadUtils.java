@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.LinkedList;
@@ -133,17 +134,24 @@ public class UploadUtils {
 
 
     public static boolean shouldUploadInChunks(String filePath, Integer maxSingleUploadSize, ClientLogger logger) {
-        AsynchronousFileChannel channel = uploadFileResourceSupplier(filePath, logger);
-        boolean retVal;
+        return getFileSize(filePath, logger) > maxSingleUploadSize;
+    }
+
+    /**
+     * RESERVED FOR INTERNAL USE.
+     *
+     * Gets the size of a file without opening it.
+     *
+     * @param filePath The path for the file
+     * @return The size of the file in bytes.
+     * @throws UncheckedIOException an input output exception.
+     */
+    public static long getFileSize(String filePath, ClientLogger logger) {
         try {
-            retVal = channel.size() > maxSingleUploadSize;
+            return Files.size(Paths.get(filePath));
         } catch (IOException e) {
             throw logger.logExceptionAsError(new UncheckedIOException(e));
-        } finally {
-            uploadFileCleanup(channel, logger);
         }
-
-        return retVal;
     }
 
     /**
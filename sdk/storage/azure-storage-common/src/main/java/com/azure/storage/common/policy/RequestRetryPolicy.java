@@ -4,6 +4,7 @@
 package com.azure.storage.common.policy;
 
 
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
@@ -90,12 +91,14 @@ public final class RequestRetryPolicy implements HttpPipelinePolicy {
          stream, the buffers that were emitted will have already been consumed (their position set to their limit),
          so it is not a true reset. By adding the map function, we ensure that anything which consumes the
          ByteBuffers downstream will only actually consume a duplicate so the original is preserved. This only
-         duplicates the ByteBuffer object, not the underlying data.
+         duplicates the ByteBuffer object, not the underlying data. FileContent reads new buffers from the file each
+         time it's subscribed to, so it's left as is for the HTTP client to send straight from the file.
          */
         context.setHttpRequest(originalRequest.copy());
-        Flux<ByteBuffer> bufferedBody = (context.getHttpRequest().getBody() == null)
-            ? null
-            : context.getHttpRequest().getBody().map(ByteBuffer::duplicate);
+        Flux<ByteBuffer> originalBody = context.getHttpRequest().getBody();
+        Flux<ByteBuffer> bufferedBody = (originalBody == null || originalBody instanceof FileContent)
+            ? originalBody
+            : originalBody.map(ByteBuffer::duplicate);
         context.getHttpRequest().setBody(bufferedBody);
         if (!tryingPrimary) {
             UrlBuilder builder = UrlBuilder.parse(context.getHttpRequest().getUrl());
@@ -0,0 +1,44 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces transfers to a maximum number of bytes per second shared by all of them.
+ * <p>
+ * Each transfer reserves its bytes before it starts, and is delayed until the bytes reserved before it have had their
+ * time at the maximum rate. Reservations are served in order, so a large chunk doesn't starve the others.
+ */
+final class BandwidthThrottle {
+    private final long maxBytesPerSecond;
+    private long nextFreeNanos = System.nanoTime();
+
+    BandwidthThrottle(long maxBytesPerSecond) {
+        this.maxBytesPerSecond = maxBytesPerSecond;
+    }
+
+    /**
+     * Reserves bandwidth for a transfer.
+     *
+     * @param bytes The number of bytes to transfer.
+     * @return A reactive response completing when the transfer may start.
+     */
+    Mono<Void> reserve(long bytes) {
+        return Mono.defer(() -> {
+            long delayNanos = reserveNanos(bytes);
+            return (delayNanos <= 0) ? Mono.empty() : Mono.delay(Duration.ofNanos(delayNanos)).then();
+        });
+    }
+
+    private synchronized long reserveNanos(long bytes) {
+        long now = System.nanoTime();
+        long start = Math.max(now, nextFreeNanos);
+        nextFreeNanos = start + (long) ((double) bytes / maxBytesPerSecond * TimeUnit.SECONDS.toNanos(1));
+        return start - now;
+    }
+}
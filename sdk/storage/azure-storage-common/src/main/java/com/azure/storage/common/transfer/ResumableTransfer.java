@@ -0,0 +1,72 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * A transfer of data between a local file and a storage resource, in chunks which can be transferred in any order and
+ * concurrently, run by a {@link TransferManager}.
+ * <p>
+ * The manager records each transferred chunk in a journal. When a transfer is run again after it was interrupted, the
+ * chunks recorded in its journal are not transferred again. Implementations are provided by the clients of each
+ * service, such as {@code ResumableBlobTransfers}, {@code ResumableShareFileTransfers} and
+ * {@code ResumableDataLakeFileTransfers}.
+ * <p>
+ * The manager calls {@link #plan()}, then {@link #start(TransferPlan, boolean)}, then
+ * {@link #transferChunk(TransferChunk)} for each chunk not recorded in the journal, then
+ * {@link #complete(TransferPlan, List)}. It always calls {@link #close()} last, whether the transfer succeeded or not.
+ */
+public interface ResumableTransfer {
+    /**
+     * Gets the identifier of the transfer, which must be the same every time the transfer of the same data between
+     * the same file and resource is run, so that it finds its journal.
+     *
+     * @return The identifier of the transfer.
+     */
+    String getTransferId();
+
+    /**
+     * Reads the size and fingerprint of the data to transfer, without modifying the source or the destination.
+     *
+     * @return The plan of the transfer.
+     */
+    Mono<TransferPlan> plan();
+
+    /**
+     * Prepares the destination of the transfer.
+     *
+     * @param plan The plan of the transfer.
+     * @param resuming Whether chunks were already transferred to the destination by an earlier run, in which case the
+     * destination must be kept as it is.
+     * @return A reactive response signalling completion.
+     */
+    Mono<Void> start(TransferPlan plan, boolean resuming);
+
+    /**
+     * Transfers a chunk.
+     *
+     * @param chunk The chunk.
+     * @return A reactive response emitting the record of the chunk kept in the journal, such as the ID of a staged
+     * block, or completing empty if the chunk has no record. Records cannot contain line breaks.
+     */
+    Mono<String> transferChunk(TransferChunk chunk);
+
+    /**
+     * Completes the transfer once all its chunks are transferred.
+     *
+     * @param plan The plan of the transfer.
+     * @param chunkRecords The records of the chunks, in the order of the chunks. A chunk without a record has an empty
+     * record.
+     * @return A reactive response signalling completion.
+     */
+    Mono<Void> complete(TransferPlan plan, List<String> chunkRecords);
+
+    /**
+     * Releases the local resources of the transfer, such as open files.
+     */
+    void close();
+}
@@ -0,0 +1,43 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import com.azure.core.annotation.Immutable;
+
+/**
+ * A range of the data of a {@link ResumableTransfer}, which is transferred and recorded in the journal as one unit.
+ */
+@Immutable
+public final class TransferChunk {
+    private final int index;
+    private final long offset;
+    private final long length;
+
+    TransferChunk(int index, long offset, long length) {
+        this.index = index;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @return The index of the chunk in the data.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return The offset of the chunk in the data.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return The length of the chunk.
+     */
+    public long getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,184 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The persistent record of the chunks of a transfer which have been transferred.
+ * <p>
+ * The journal is a text file starting with a header line describing the plan of the transfer, followed by a line per
+ * transferred chunk with its index and record. Lines are appended and forced to the storage device once the chunk is
+ * transferred, so that a process dying at any point loses at most the chunks in flight. A journal whose header doesn't
+ * match the plan of the transfer is discarded, and a line left incomplete by a dying process is ignored.
+ * <p>
+ * This type is safe for use by multiple threads.
+ */
+final class TransferJournal implements AutoCloseable {
+    private static final String HEADER_PREFIX = "AzureStorageTransferJournal/1 ";
+
+    private final ClientLogger logger = new ClientLogger(TransferJournal.class);
+
+    private final Path file;
+    private final FileChannel channel;
+    private final String[] records;
+    private final boolean resumed;
+
+    private TransferJournal(Path file, FileChannel channel, String[] records, boolean resumed) {
+        this.file = file;
+        this.channel = channel;
+        this.records = records;
+        this.resumed = resumed;
+    }
+
+    /**
+     * Opens the journal of a transfer, reading the chunks it recorded if it was written for the same plan and
+     * creating it otherwise.
+     *
+     * @param file The journal file.
+     * @param plan The plan of the transfer.
+     * @return The journal.
+     * @throws IOException If the journal can't be read or written.
+     */
+    static TransferJournal open(Path file, TransferPlan plan) throws IOException {
+        byte[] header = (HEADER_PREFIX + plan.getSize() + " " + plan.getChunkSize() + " " + plan.getFingerprint()
+            + "\n").getBytes(StandardCharsets.UTF_8);
+        String[] records = new String[plan.getChunkCount()];
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            boolean resumed = false;
+            byte[] content = Files.readAllBytes(file);
+            if (startsWith(content, header)) {
+                // Only complete lines are read, a trailing partial line is truncated before appending after it.
+                int end = content.length;
+                while (end > header.length && content[end - 1] != '\n') {
+                    end--;
+                }
+                String lines = new String(content, header.length, end - header.length, StandardCharsets.UTF_8);
+                for (String line : lines.split("\n")) {
+                    resumed |= readRecord(line, records);
+                }
+                channel.truncate(end);
+            } else {
+                channel.truncate(0);
+                channel.position(0);
+                write(channel, ByteBuffer.wrap(header));
+                channel.force(false);
+            }
+            channel.position(channel.size());
+            return new TransferJournal(file, channel, records, resumed);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Whether chunks recorded by an earlier run of the transfer were read.
+     */
+    boolean isResumed() {
+        return resumed;
+    }
+
+    /**
+     * @param index The index of a chunk.
+     * @return Whether the chunk has been transferred.
+     */
+    synchronized boolean isTransferred(int index) {
+        return records[index] != null;
+    }
+
+    /**
+     * Records that a chunk has been transferred.
+     *
+     * @param index The index of the chunk.
+     * @param record The record of the chunk, which cannot contain line breaks.
+     * @throws IOException If the journal can't be written.
+     */
+    synchronized void record(int index, String record) throws IOException {
+        if (record.indexOf('\n') >= 0 || record.indexOf('\r') >= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("Chunk records cannot contain line breaks."));
+        }
+        write(channel, ByteBuffer.wrap((index + " " + record + "\n").getBytes(StandardCharsets.UTF_8)));
+        channel.force(false);
+        records[index] = record;
+    }
+
+    /**
+     * @return The records of all the chunks, in the order of the chunks.
+     * @throws IllegalStateException If a chunk hasn't been transferred.
+     */
+    synchronized List<String> getRecords() {
+        for (int i = 0; i < records.length; i++) {
+            if (records[i] == null) {
+                throw logger.logExceptionAsError(new IllegalStateException("Chunk " + i + " wasn't transferred."));
+            }
+        }
+        return Arrays.asList(records.clone());
+    }
+
+    /**
+     * Closes and deletes the journal, once the transfer is complete.
+     *
+     * @throws IOException If the journal can't be deleted.
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw logger.logExceptionAsError(new UncheckedIOException(e));
+        }
+    }
+
+    /*
+     * Reads a record line into the records, returning whether it was a valid record. Lines which aren't valid are
+     * ignored, the chunk they describe is transferred again.
+     */
+    private static boolean readRecord(String line, String[] records) {
+        int separator = line.indexOf(' ');
+        if (separator <= 0) {
+            return false;
+        }
+        try {
+            int index = Integer.parseInt(line.substring(0, separator));
+            if (index < 0 || index >= records.length) {
+                return false;
+            }
+            records[index] = line.substring(separator + 1);
+            return true;
+        } catch (NumberFormatException ignored) {
+            return false;
+        }
+    }
+
+    private static boolean startsWith(byte[] content, byte[] prefix) {
+        return content.length >= prefix.length
+            && Arrays.equals(Arrays.copyOf(content, prefix.length), prefix);
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.common.implementation.AsyncPermits;
+import com.azure.storage.common.implementation.StorageImplUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs {@link ResumableTransfer resumable transfers} between local files and storage resources, which resume from the
+ * last transferred chunk when they are run again after the process running them died or they failed.
+ * <p>
+ * Each transfer keeps a journal of its transferred chunks in the journal directory of the manager, which is deleted
+ * once the transfer completes. Running a transfer with the same identifier again while its journal exists only
+ * transfers the chunks the journal doesn't have, as long as the data has the same fingerprint; otherwise the transfer
+ * starts over. Chunks being transferred when the process died are transferred again.
+ * <p>
+ * All the transfers of a manager share its concurrency and bandwidth: at most the maximum concurrency of chunks are
+ * transferred at a time, and at most the maximum bytes per second, whether the chunks are from one large file or from
+ * many small files.
+ *
+ * <p><strong>Code Samples</strong></p>
+ *
+ * <pre>
+ * TransferManager manager = new TransferManager(new TransferManagerOptions()
+ *     .setJournalDirectory(Paths.get("journals"))
+ *     .setMaxConcurrency(16));
+ * manager.transferAll(Arrays.asList(
+ *     ResumableBlobTransfers.download(blobAsyncClient, "blob.bin"),
+ *     ResumableShareFileTransfers.upload(fileAsyncClient, "file.bin"))).block();
+ * </pre>
+ */
+public final class TransferManager {
+    static final int DEFAULT_MAX_CONCURRENCY = 8;
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private final ClientLogger logger = new ClientLogger(TransferManager.class);
+
+    private final Path journalDirectory;
+    private final int maxConcurrency;
+    private final AsyncPermits permits;
+    private final BandwidthThrottle throttle;
+    private final Set<String> runningTransfers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a manager.
+     *
+     * @param options The options of the manager, which must have a journal directory.
+     * @throws NullPointerException If {@code options} or its journal directory is null.
+     */
+    public TransferManager(TransferManagerOptions options) {
+        StorageImplUtils.assertNotNull("options", options);
+        StorageImplUtils.assertNotNull("journalDirectory", options.getJournalDirectory());
+        this.journalDirectory = options.getJournalDirectory();
+        this.maxConcurrency = options.getMaxConcurrency();
+        this.permits = new AsyncPermits(options.getMaxConcurrency());
+        this.throttle = (options.getMaxBytesPerSecond() == null)
+            ? null : new BandwidthThrottle(options.getMaxBytesPerSecond());
+    }
+
+    /**
+     * Runs a transfer, resuming it if it was interrupted.
+     * <p>
+     * A transfer with the same identifier as a transfer the manager is running fails with an
+     * {@link IllegalStateException}.
+     *
+     * @param transfer The transfer.
+     * @return A reactive response signalling the completion of the transfer.
+     */
+    public Mono<Void> transfer(ResumableTransfer transfer) {
+        // Resources are released eagerly, so that the transfer can run again as soon as its completion is signalled.
+        return Mono.using(() -> register(transfer),
+            registered -> registered.plan()
+                .flatMap(plan -> Mono.using(() -> openJournal(registered.getTransferId(), plan),
+                    journal -> run(registered, plan, journal), TransferJournal::close, true)
+                    .subscribeOn(Schedulers.boundedElastic())),
+            this::release, true);
+    }
+
+    /**
+     * Runs transfers, resuming those which were interrupted. Up to the maximum concurrency of the manager of transfers
+     * run at a time. A failed transfer doesn't stop the others, the failures are signalled once all the transfers
+     * completed or failed.
+     *
+     * @param transfers The transfers.
+     * @return A reactive response signalling the completion of all the transfers.
+     */
+    public Mono<Void> transferAll(Collection<? extends ResumableTransfer> transfers) {
+        return Flux.fromIterable(transfers)
+            .flatMapDelayError(this::transfer, maxConcurrency, 1)
+            .then();
+    }
+
+    private Mono<Void> run(ResumableTransfer transfer, TransferPlan plan, TransferJournal journal) {
+        return transfer.start(plan, journal.isResumed())
+            .thenMany(Flux.range(0, plan.getChunkCount()))
+            .filter(index -> !journal.isTransferred(index))
+            .flatMap(index -> permits.withPermit(() -> transferChunk(transfer, plan.getChunk(index), journal)),
+                maxConcurrency)
+            .then(Mono.defer(() -> transfer.complete(plan, journal.getRecords())))
+            .then(Mono.fromCallable(() -> {
+                journal.delete();
+                return true;
+            }).subscribeOn(Schedulers.boundedElastic()))
+            .then();
+    }
+
+    private Mono<Boolean> transferChunk(ResumableTransfer transfer, TransferChunk chunk, TransferJournal journal) {
+        Mono<String> chunkTransfer = transfer.transferChunk(chunk).defaultIfEmpty("");
+        if (throttle != null) {
+            chunkTransfer = throttle.reserve(chunk.getLength()).then(chunkTransfer);
+        }
+
+        // Recording forces the journal to the storage device, which mustn't block the threads of the transfer.
+        return chunkTransfer.publishOn(Schedulers.boundedElastic())
+            .map(record -> {
+                try {
+                    journal.record(chunk.getIndex(), record);
+                    return true;
+                } catch (IOException e) {
+                    throw logger.logExceptionAsError(new IllegalStateException(
+                        "Failed to record chunk " + chunk.getIndex() + " in the journal.", e));
+                }
+            });
+    }
+
+    private ResumableTransfer register(ResumableTransfer transfer) {
+        if (!runningTransfers.add(transfer.getTransferId())) {
+            throw logger.logExceptionAsError(
+                new IllegalStateException("The transfer is already running: " + transfer.getTransferId()));
+        }
+        return transfer;
+    }
+
+    private void release(ResumableTransfer transfer) {
+        try {
+            transfer.close();
+        } finally {
+            runningTransfers.remove(transfer.getTransferId());
+        }
+    }
+
+    private TransferJournal openJournal(String transferId, TransferPlan plan) throws IOException {
+        Files.createDirectories(journalDirectory);
+        return TransferJournal.open(journalDirectory.resolve(toFileName(transferId)), plan);
+    }
+
+    /*
+     * Transfer identifiers are typically URLs and paths, so journals are named after their hash.
+     */
+    private String toFileName(String transferId) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(transferId.getBytes(StandardCharsets.UTF_8));
+            StringBuilder fileName = new StringBuilder(hash.length * 2 + JOURNAL_EXTENSION.length());
+            for (byte b : hash) {
+                fileName.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return fileName.append(JOURNAL_EXTENSION).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw logger.logExceptionAsError(new IllegalStateException(e));
+        }
+    }
+}
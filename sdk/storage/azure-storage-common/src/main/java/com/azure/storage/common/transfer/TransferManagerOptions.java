@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import com.azure.core.annotation.Fluent;
+import com.azure.storage.common.implementation.StorageImplUtils;
+
+import java.nio.file.Path;
+
+/**
+ * The options of a {@link TransferManager}.
+ */
+@Fluent
+public final class TransferManagerOptions {
+    private Path journalDirectory;
+    private int maxConcurrency = TransferManager.DEFAULT_MAX_CONCURRENCY;
+    private Long maxBytesPerSecond;
+
+    /**
+     * @return The directory the journals of the transfers are kept in.
+     */
+    public Path getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    /**
+     * Sets the directory the journals of the transfers are kept in. Interrupted transfers only resume when they are
+     * run with the same journal directory.
+     *
+     * @param journalDirectory The directory the journals of the transfers are kept in.
+     * @return The updated options.
+     */
+    public TransferManagerOptions setJournalDirectory(Path journalDirectory) {
+        this.journalDirectory = journalDirectory;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of chunks transferred at a time, across all the transfers of the manager.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of chunks transferred at a time, across all the transfers of the manager. The default is
+     * 8.
+     *
+     * @param maxConcurrency The maximum number of chunks transferred at a time.
+     * @return The updated options.
+     * @throws IllegalArgumentException If {@code maxConcurrency} isn't positive.
+     */
+    public TransferManagerOptions setMaxConcurrency(int maxConcurrency) {
+        StorageImplUtils.assertInBounds("maxConcurrency", maxConcurrency, 1, Integer.MAX_VALUE);
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of bytes transferred per second, across all the transfers of the manager, or null if
+     * the bandwidth isn't limited.
+     */
+    public Long getMaxBytesPerSecond() {
+        return maxBytesPerSecond;
+    }
+
+    /**
+     * Sets the maximum number of bytes transferred per second, across all the transfers of the manager. By default the
+     * bandwidth isn't limited.
+     *
+     * @param maxBytesPerSecond The maximum number of bytes transferred per second, or null not to limit the bandwidth.
+     * @return The updated options.
+     * @throws IllegalArgumentException If {@code maxBytesPerSecond} isn't positive.
+     */
+    public TransferManagerOptions setMaxBytesPerSecond(Long maxBytesPerSecond) {
+        if (maxBytesPerSecond != null) {
+            StorageImplUtils.assertInBounds("maxBytesPerSecond", maxBytesPerSecond, 1, Long.MAX_VALUE);
+        }
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        return this;
+    }
+}
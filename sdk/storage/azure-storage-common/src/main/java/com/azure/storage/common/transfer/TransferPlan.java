@@ -0,0 +1,90 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.common.implementation.StorageImplUtils;
+
+/**
+ * The layout of a {@link ResumableTransfer}: the size of the data, the size of the chunks it is transferred in, and a
+ * fingerprint of the data.
+ * <p>
+ * The fingerprint identifies the version of the data being transferred, such as the ETag of a downloaded resource or
+ * the size and last modified time of an uploaded file. A transfer only resumes from its journal when its plan is the
+ * same as when the journal was written, so that chunks of a different version of the data are never mixed.
+ */
+@Immutable
+public final class TransferPlan {
+    private final ClientLogger logger = new ClientLogger(TransferPlan.class);
+
+    private final long size;
+    private final long chunkSize;
+    private final String fingerprint;
+
+    /**
+     * Creates a plan.
+     *
+     * @param size The size of the data.
+     * @param chunkSize The size of the chunks the data is transferred in. The last chunk may be smaller.
+     * @param fingerprint The fingerprint of the data, which cannot contain line breaks.
+     * @throws IllegalArgumentException If {@code size} is negative, {@code chunkSize} isn't positive, or
+     * {@code fingerprint} contains a line break.
+     * @throws NullPointerException If {@code fingerprint} is null.
+     */
+    public TransferPlan(long size, long chunkSize, String fingerprint) {
+        StorageImplUtils.assertInBounds("size", size, 0, Long.MAX_VALUE);
+        StorageImplUtils.assertInBounds("chunkSize", chunkSize, 1, Long.MAX_VALUE);
+        StorageImplUtils.assertNotNull("fingerprint", fingerprint);
+        if (fingerprint.indexOf('\n') >= 0 || fingerprint.indexOf('\r') >= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'fingerprint' cannot contain line breaks."));
+        }
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @return The size of the data.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return The size of the chunks the data is transferred in.
+     */
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return The fingerprint of the data.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return The number of chunks the data is transferred in.
+     */
+    public int getChunkCount() {
+        return (int) ((size + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * Gets a chunk of the data.
+     *
+     * @param index The index of the chunk.
+     * @return The chunk.
+     * @throws IndexOutOfBoundsException If {@code index} isn't the index of a chunk.
+     */
+    public TransferChunk getChunk(int index) {
+        if (index < 0 || index >= getChunkCount()) {
+            throw logger.logExceptionAsError(new IndexOutOfBoundsException("No chunk at index " + index + "."));
+        }
+        long offset = index * chunkSize;
+        return new TransferChunk(index, offset, Math.min(chunkSize, size - offset));
+    }
+}
@@ -0,0 +1,7 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * This package contains classes to run resumable transfers of files to and from Azure Storage services.
+ */
+package com.azure.storage.common.transfer;
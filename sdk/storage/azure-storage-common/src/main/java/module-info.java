@@ -7,6 +7,7 @@ module com.azure.storage.common {
     exports com.azure.storage.common;
     exports com.azure.storage.common.sas;
     exports com.azure.storage.common.policy;
+    exports com.azure.storage.common.transfer;
 
     exports com.azure.storage.common.implementation to // FIXME this should not be a long-term solution
         com.azure.storage.blob,
@@ -0,0 +1,145 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.implementation;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveTransferControllerTest {
+    private static final int BLOCK_SIZE = 4 * Constants.MB;
+
+    @Test
+    public void startWithHalfTheConcurrencyMemoryAllows() {
+        AdaptiveTransferController controller = new AdaptiveTransferController(BLOCK_SIZE, 8L * BLOCK_SIZE,
+            100 * Constants.MB);
+
+        assertEquals(BLOCK_SIZE, controller.getBlockSize());
+        assertEquals(3, controller.getConcurrency());
+        assertEquals(Constants.MB, controller.getMinBlockSize());
+        assertEquals(31, controller.getMaxConcurrency());
+    }
+
+    @Test
+    public void doubleConcurrencyAfterFirstRound() {
+        AdaptiveTransferController controller = new AdaptiveTransferController(BLOCK_SIZE, 8L * BLOCK_SIZE,
+            100 * Constants.MB);
+
+        Flux.range(0, 3).concatMap(i -> controller.measure(BLOCK_SIZE, Mono.just(i))).blockLast();
+
+        assertEquals(6, controller.getConcurrency());
+        assertEquals(BLOCK_SIZE, controller.getBlockSize());
+    }
+
+    @Test
+    public void stayWithinMemoryLimit() {
+        long memoryLimit = 16L * BLOCK_SIZE;
+        AdaptiveTransferController controller = new AdaptiveTransferController(BLOCK_SIZE, memoryLimit,
+            100 * Constants.MB);
+        AtomicInteger remaining = new AtomicInteger(200);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        controller.runBlocks(() -> (remaining.getAndDecrement() <= 0) ? null
+            : controller.measure(controller.getBlockSize(),
+                Mono.fromRunnable(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .then(Mono.delay(Duration.ofMillis(2)))
+                    .then(Mono.fromCallable(inFlight::decrementAndGet)))
+                .doOnNext(ignored -> assertTrue(
+                    (long) controller.getBlockSize() * (controller.getConcurrency() + 1) <= memoryLimit)))
+            .blockLast();
+
+        assertTrue(maxInFlight.get() <= controller.getMaxConcurrency());
+    }
+
+    @Test
+    public void claimBlocksOnlyWhileFewerRunThanTheConcurrency() {
+        AdaptiveTransferController controller = new AdaptiveTransferController(BLOCK_SIZE, 16L * BLOCK_SIZE,
+            100 * Constants.MB);
+        AtomicInteger remaining = new AtomicInteger(100);
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicInteger maxClaimedOverConcurrency = new AtomicInteger(Integer.MIN_VALUE);
+
+        controller.runBlocks(() -> {
+            if (remaining.getAndDecrement() <= 0) {
+                return null;
+            }
+            maxClaimedOverConcurrency.accumulateAndGet(claimed.incrementAndGet() - controller.getConcurrency(),
+                Math::max);
+            return controller.measure(BLOCK_SIZE, Mono.delay(Duration.ofMillis(2)))
+                .doOnTerminate(claimed::decrementAndGet);
+        }).blockLast();
+
+        assertEquals(0, maxClaimedOverConcurrency.get());
+    }
+
+    @Test
+    public void runOneBlockAtATimeWhenMemoryHoldsTwoBlocks() {
+        AdaptiveTransferController controller = new AdaptiveTransferController(BLOCK_SIZE, 2L * BLOCK_SIZE,
+            100 * Constants.MB);
+        AtomicInteger remaining = new AtomicInteger(10);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        controller.runBlocks(() -> (remaining.getAndDecrement() <= 0) ? null
+            : controller.measure(BLOCK_SIZE,
+                Mono.fromRunnable(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .then(Mono.delay(Duration.ofMillis(5)))
+                    .then(Mono.fromCallable(inFlight::decrementAndGet))))
+            .blockLast();
+
+        assertEquals(1, maxInFlight.get());
+        assertEquals(1, controller.getConcurrency());
+    }
+
+    @Test
+    public void stopClaimingBlocksAfterAnError() throws InterruptedException {
+        AdaptiveTransferController controller = new AdaptiveTransferController(BLOCK_SIZE, 8L * BLOCK_SIZE,
+            100 * Constants.MB);
+        AtomicInteger claimed = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> controller.runBlocks(() -> (claimed.incrementAndGet() > 10)
+            ? Mono.error(new IllegalStateException())
+            : Mono.delay(Duration.ofMillis(2))).blockLast());
+        int claimedBeforeError = claimed.get();
+        Thread.sleep(50);
+
+        assertEquals(claimedBeforeError, claimed.get());
+    }
+
+    @Test
+    public void claimRangesWithTheBlockSizeOfTheMomentTheyStart() {
+        // Each block takes 11 seconds, which halves the block size after the first round.
+        AtomicLong clock = new AtomicLong();
+        AdaptiveTransferController controller = new AdaptiveTransferController(2 * Constants.MB, 8L * Constants.MB,
+            100 * Constants.MB, clock::get);
+        List<String> ranges = new ArrayList<>();
+
+        controller.runRanges(Constants.MB, 7L * Constants.MB, (position, count) -> {
+            ranges.add(position / Constants.MB + "+" + count / Constants.MB);
+            return Mono.<Void>fromRunnable(() -> clock.addAndGet(TimeUnit.SECONDS.toNanos(11)));
+        }).blockLast();
+
+        assertEquals(Arrays.asList("1+2", "3+1", "4+1", "5+1", "6+1"), ranges);
+        assertEquals(Constants.MB, controller.getBlockSize());
+    }
+
+    @Test
+    public void rejectMemoryLimitBelowTwoBlocks() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveTransferController(BLOCK_SIZE, 2L * BLOCK_SIZE - 1, 100 * Constants.MB));
+    }
+}
@@ -0,0 +1,244 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransferManagerTest {
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    public void transfer() throws IOException {
+        FakeTransfer transfer = new FakeTransfer("transfer", new TransferPlan(10, 4, "v1"));
+
+        manager(8).transfer(transfer).block();
+
+        assertFalse(transfer.resuming);
+        assertEquals(Arrays.asList(0, 1, 2), transfer.sortedTransferredChunks());
+        assertEquals(Arrays.asList("chunk-0", "chunk-1", "chunk-2"), transfer.completedRecords);
+        assertTrue(transfer.closed);
+        assertJournalsDeleted();
+    }
+
+    @Test
+    public void transferEmpty() throws IOException {
+        FakeTransfer transfer = new FakeTransfer("empty", new TransferPlan(0, 4, "v1"));
+
+        manager(8).transfer(transfer).block();
+
+        assertEquals(Collections.emptyList(), transfer.completedRecords);
+        assertJournalsDeleted();
+    }
+
+    @Test
+    public void resumeFromJournal() throws IOException {
+        TransferManager manager = manager(1);
+        FakeTransfer failing = new FakeTransfer("resume", new TransferPlan(20, 4, "v1")).failingAt(3);
+
+        assertThrows(IllegalStateException.class, () -> manager.transfer(failing).block());
+        assertTrue(failing.closed);
+
+        FakeTransfer resumed = new FakeTransfer("resume", new TransferPlan(20, 4, "v1"));
+        manager.transfer(resumed).block();
+
+        assertTrue(resumed.resuming);
+        assertEquals(Arrays.asList(3, 4), resumed.sortedTransferredChunks());
+        assertEquals(Arrays.asList("chunk-0", "chunk-1", "chunk-2", "chunk-3", "chunk-4"), resumed.completedRecords);
+        assertJournalsDeleted();
+    }
+
+    @Test
+    public void restartWhenPlanChanged() throws IOException {
+        TransferManager manager = manager(1);
+        FakeTransfer failing = new FakeTransfer("restart", new TransferPlan(20, 4, "v1")).failingAt(3);
+        assertThrows(IllegalStateException.class, () -> manager.transfer(failing).block());
+
+        FakeTransfer restarted = new FakeTransfer("restart", new TransferPlan(20, 4, "v2"));
+        manager.transfer(restarted).block();
+
+        assertFalse(restarted.resuming);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), restarted.sortedTransferredChunks());
+        assertJournalsDeleted();
+    }
+
+    @Test
+    public void ignorePartialJournalLine() throws IOException {
+        TransferPlan plan = new TransferPlan(12, 4, "v1");
+        Path file = journalDirectory.resolve("partial.journal");
+        try (TransferJournal journal = TransferJournal.open(file, plan)) {
+            journal.record(0, "chunk-0");
+        }
+        Files.write(file, "2 chunk".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (TransferJournal journal = TransferJournal.open(file, plan)) {
+            assertTrue(journal.isResumed());
+            assertTrue(journal.isTransferred(0));
+            assertFalse(journal.isTransferred(1));
+            assertFalse(journal.isTransferred(2));
+            journal.record(1, "chunk-1");
+            journal.record(2, "chunk-2");
+        }
+
+        try (TransferJournal journal = TransferJournal.open(file, plan)) {
+            assertEquals(Arrays.asList("chunk-0", "chunk-1", "chunk-2"), journal.getRecords());
+        }
+    }
+
+    @Test
+    public void shareConcurrencyAcrossTransfers() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<FakeTransfer> transfers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            transfers.add(new FakeTransfer("concurrent-" + i, new TransferPlan(40, 4, "v1"))
+                .tracking(inFlight, maxInFlight));
+        }
+
+        manager(3).transferAll(transfers).block();
+
+        assertEquals(3, maxInFlight.get());
+        for (FakeTransfer transfer : transfers) {
+            assertEquals(10, transfer.completedRecords.size());
+        }
+    }
+
+    @Test
+    public void rejectRunningTransfer() {
+        TransferManager manager = manager(8);
+        FakeTransfer first = new FakeTransfer("running", new TransferPlan(40, 4, "v1"))
+            .tracking(new AtomicInteger(), new AtomicInteger());
+        FakeTransfer second = new FakeTransfer("running", new TransferPlan(40, 4, "v1"));
+
+        assertThrows(IllegalStateException.class,
+            () -> Mono.when(manager.transfer(first), manager.transfer(second)).block());
+        assertFalse(second.closed);
+    }
+
+    @Test
+    public void throttleBandwidth() {
+        FakeTransfer transfer = new FakeTransfer("throttled", new TransferPlan(3000, 500, "v1"));
+        TransferManager manager = new TransferManager(new TransferManagerOptions()
+            .setJournalDirectory(journalDirectory)
+            .setMaxBytesPerSecond(10000L));
+
+        long start = System.nanoTime();
+        manager.transfer(transfer).block();
+
+        // The first chunk is sent right away, the other 2500 bytes are paced at 10000 bytes per second.
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 200);
+    }
+
+    private TransferManager manager(int maxConcurrency) {
+        return new TransferManager(new TransferManagerOptions()
+            .setJournalDirectory(journalDirectory)
+            .setMaxConcurrency(maxConcurrency));
+    }
+
+    private void assertJournalsDeleted() throws IOException {
+        try (Stream<Path> journals = Files.list(journalDirectory)) {
+            assertEquals(0, journals.count());
+        }
+    }
+
+    private static final class FakeTransfer implements ResumableTransfer {
+        private final String transferId;
+        private final TransferPlan plan;
+        private final List<Integer> transferredChunks = Collections.synchronizedList(new ArrayList<>());
+        private int failingChunk = -1;
+        private AtomicInteger inFlight;
+        private AtomicInteger maxInFlight;
+
+        private volatile boolean resuming;
+        private volatile List<String> completedRecords;
+        private volatile boolean closed;
+
+        FakeTransfer(String transferId, TransferPlan plan) {
+            this.transferId = transferId;
+            this.plan = plan;
+        }
+
+        FakeTransfer failingAt(int chunk) {
+            this.failingChunk = chunk;
+            return this;
+        }
+
+        FakeTransfer tracking(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+            this.inFlight = inFlight;
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        List<Integer> sortedTransferredChunks() {
+            return transferredChunks.stream().sorted().collect(Collectors.toList());
+        }
+
+        @Override
+        public String getTransferId() {
+            return transferId;
+        }
+
+        @Override
+        public Mono<TransferPlan> plan() {
+            return Mono.just(plan);
+        }
+
+        @Override
+        public Mono<Void> start(TransferPlan plan, boolean resuming) {
+            this.resuming = resuming;
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<String> transferChunk(TransferChunk chunk) {
+            if (chunk.getIndex() == failingChunk) {
+                return Mono.error(new IllegalStateException("Chunk " + chunk.getIndex() + " failed."));
+            }
+            if (inFlight == null) {
+                transferredChunks.add(chunk.getIndex());
+                return Mono.just("chunk-" + chunk.getIndex());
+            }
+
+            return Mono.fromRunnable(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .then(Mono.delay(Duration.ofMillis(10)))
+                .then(Mono.fromCallable(() -> {
+                    inFlight.decrementAndGet();
+                    transferredChunks.add(chunk.getIndex());
+                    return "chunk-" + chunk.getIndex();
+                }));
+        }
+
+        @Override
+        public Mono<Void> complete(TransferPlan plan, List<String> chunkRecords) {
+            this.completedRecords = chunkRecords;
+            return Mono.empty();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.datalake;
+
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.common.implementation.Constants;
+import com.azure.storage.common.implementation.LocalFileTransfer;
+import com.azure.storage.common.implementation.StorageImplUtils;
+import com.azure.storage.common.transfer.ResumableTransfer;
+import com.azure.storage.common.transfer.TransferChunk;
+import com.azure.storage.common.transfer.TransferManager;
+import com.azure.storage.common.transfer.TransferPlan;
+import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
+import com.azure.storage.file.datalake.models.FileRange;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Creates {@link ResumableTransfer resumable transfers} between Data Lake files and local files, run by a
+ * {@link TransferManager}.
+ * <p>
+ * Downloads read ranges of the Data Lake file conditioned on its ETag, so a file modified since the download started
+ * fails it rather than mixing its versions in the local file; the download then starts over when run again. Uploads
+ * create the Data Lake file, append the chunks of the local file at their offsets, and flush them once all are
+ * appended.
+ *
+ * <p><strong>Code Samples</strong></p>
+ *
+ * <pre>
+ * transferManager.transfer(ResumableDataLakeFileTransfers.upload(dataLakeFileAsyncClient, "file.bin", true)).block();
+ * </pre>
+ */
+public final class ResumableDataLakeFileTransfers {
+    /**
+     * The size of the chunks Data Lake files are transferred in.
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 8 * Constants.MB;
+
+    private ResumableDataLakeFileTransfers() {
+    }
+
+    /**
+     * Creates a transfer downloading a Data Lake file to a local file, which is created or replaced.
+     *
+     * @param client The client of the Data Lake file.
+     * @param filePath The path of the local file.
+     * @return The transfer.
+     * @throws NullPointerException If {@code client} or {@code filePath} is null.
+     */
+    public static ResumableTransfer download(DataLakeFileAsyncClient client, String filePath) {
+        StorageImplUtils.assertNotNull("client", client);
+        StorageImplUtils.assertNotNull("filePath", filePath);
+        return new DataLakeFileDownload(client, Paths.get(filePath).toAbsolutePath());
+    }
+
+    /**
+     * Creates a transfer uploading a local file to a Data Lake file.
+     *
+     * @param client The client of the Data Lake file.
+     * @param filePath The path of the local file.
+     * @param overwrite Whether an existing Data Lake file is replaced. Otherwise, the upload fails if the file exists.
+     * @return The transfer.
+     * @throws NullPointerException If {@code client} or {@code filePath} is null.
+     */
+    public static ResumableTransfer upload(DataLakeFileAsyncClient client, String filePath, boolean overwrite) {
+        StorageImplUtils.assertNotNull("client", client);
+        StorageImplUtils.assertNotNull("filePath", filePath);
+        return new DataLakeFileUpload(client, Paths.get(filePath).toAbsolutePath(), overwrite);
+    }
+
+    private static final class DataLakeFileDownload extends LocalFileTransfer {
+        private final DataLakeFileAsyncClient client;
+        private volatile DataLakeRequestConditions sourceConditions;
+
+        DataLakeFileDownload(DataLakeFileAsyncClient client, Path file) {
+            super(file);
+            this.client = client;
+        }
+
+        @Override
+        public String getTransferId() {
+            return "datalake-file-download " + client.getFileUrl() + " " + getFile();
+        }
+
+        @Override
+        public Mono<TransferPlan> plan() {
+            return client.getProperties().map(properties -> {
+                sourceConditions = new DataLakeRequestConditions().setIfMatch(properties.getETag());
+                return new TransferPlan(properties.getFileSize(), DEFAULT_CHUNK_SIZE, properties.getETag());
+            });
+        }
+
+        @Override
+        public Mono<Void> start(TransferPlan plan, boolean resuming) {
+            return openForWriting(resuming);
+        }
+
+        @Override
+        public Mono<String> transferChunk(TransferChunk chunk) {
+            return client.readWithResponse(new FileRange(chunk.getOffset(), chunk.getLength()), null,
+                sourceConditions, false)
+                .flatMap(response -> FluxUtil.writeFile(response.getValue(), getChannel(), chunk.getOffset()))
+                .then(force())
+                .then(Mono.empty());
+        }
+
+        @Override
+        public Mono<Void> complete(TransferPlan plan, List<String> chunkRecords) {
+            return Mono.empty();
+        }
+    }
+
+    private static final class DataLakeFileUpload extends LocalFileTransfer {
+        private final DataLakeFileAsyncClient client;
+        private final boolean overwrite;
+
+        DataLakeFileUpload(DataLakeFileAsyncClient client, Path file, boolean overwrite) {
+            super(file);
+            this.client = client;
+            this.overwrite = overwrite;
+        }
+
+        @Override
+        public String getTransferId() {
+            return "datalake-file-upload " + getFile() + " " + client.getFileUrl();
+        }
+
+        @Override
+        public Mono<TransferPlan> plan() {
+            return Mono.fromCallable(() -> {
+                long size = Files.size(getFile());
+                return new TransferPlan(size, DEFAULT_CHUNK_SIZE,
+                    size + ":" + Files.getLastModifiedTime(getFile()).toMillis());
+            });
+        }
+
+        @Override
+        public Mono<Void> start(TransferPlan plan, boolean resuming) {
+            Mono<Void> open = openForReading();
+            // Creating the Data Lake file again would discard the data appended by the earlier run.
+            return resuming ? open : open.then(client.create(overwrite)).then();
+        }
+
+        @Override
+        public Mono<String> transferChunk(TransferChunk chunk) {
+            return client.append(FluxUtil.readFile(getChannel(), chunk.getOffset(), chunk.getLength()),
+                chunk.getOffset(), chunk.getLength())
+                .then(Mono.empty());
+        }
+
+        @Override
+        public Mono<Void> complete(TransferPlan plan, List<String> chunkRecords) {
+            // The file was created by the transfer, so the flush overwrites it whether or not existing files are.
+            return client.flush(plan.getSize(), true).then();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.datalake;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.common.transfer.TransferManager;
+import com.azure.storage.common.transfer.TransferManagerOptions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/*
+These tests run against a stubbed HttpClient rather than recorded sessions, which serves a single Data Lake file from
+memory.
+ */
+public class ResumableDataLakeFileTransfersTest {
+    private static final String FILE_URL = "https://account.dfs.core.windows.net/filesystem/file";
+    private static final String ETAG = "0x8D7C0E8F0E8F0E8";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+    private static final Pattern POSITION = Pattern.compile("position=(\\d+)");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void downloadWritesEveryChunkConditionedOnTheETag() throws IOException {
+        byte[] content = randomBytes((int) ResumableDataLakeFileTransfers.DEFAULT_CHUNK_SIZE + 1024);
+        List<String> ifMatches = Collections.synchronizedList(new ArrayList<>());
+        HttpClient httpClient = request -> {
+            if (request.getHttpMethod() == HttpMethod.HEAD) {
+                return Mono.just(new FakeResponse(request, 200, fileHeaders(content.length), new byte[0]));
+            }
+
+            ifMatches.add(request.getHeaders().getValue("If-Match"));
+            Matcher range = RANGE.matcher(request.getHeaders().getValue("x-ms-range"));
+            range.matches();
+            int start = Integer.parseInt(range.group(1));
+            int end = Math.min(Integer.parseInt(range.group(2)), content.length - 1);
+            HttpHeaders headers = fileHeaders(end - start + 1)
+                .put("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+            return Mono.just(new FakeResponse(request, 206, headers, Arrays.copyOfRange(content, start, end + 1)));
+        };
+        Path file = folder.getRoot().toPath().resolve("download.bin");
+
+        manager().transfer(ResumableDataLakeFileTransfers.download(client(httpClient), file.toString())).block();
+
+        assertArrayEquals(content, Files.readAllBytes(file));
+        assertEquals(Arrays.asList(ETAG, ETAG), ifMatches);
+    }
+
+    @Test
+    public void uploadAppendsEveryChunkAndFlushesTheFile() throws IOException {
+        byte[] content = randomBytes((int) ResumableDataLakeFileTransfers.DEFAULT_CHUNK_SIZE + 1024);
+        Path file = folder.getRoot().toPath().resolve("upload.bin");
+        Files.write(file, content);
+
+        byte[] uploaded = new byte[content.length];
+        List<String> createIfNoneMatches = new ArrayList<>();
+        List<String> flushPositions = new ArrayList<>();
+        HttpClient httpClient = request -> readBody(request).map(body -> {
+            String query = request.getUrl().getQuery();
+            Matcher position = POSITION.matcher(query);
+            if (query.contains("action=append") && position.find()) {
+                System.arraycopy(body, 0, uploaded, Integer.parseInt(position.group(1)), body.length);
+                return new FakeResponse(request, 202, fileHeaders(0), new byte[0]);
+            } else if (query.contains("action=flush") && position.find()) {
+                flushPositions.add(position.group(1));
+                return new FakeResponse(request, 200, fileHeaders(0), new byte[0]);
+            }
+            createIfNoneMatches.add(request.getHeaders().getValue("If-None-Match"));
+            return new FakeResponse(request, 201, fileHeaders(0), new byte[0]);
+        });
+
+        manager().transfer(ResumableDataLakeFileTransfers.upload(client(httpClient), file.toString(), false)).block();
+
+        assertEquals(Arrays.asList("*"), createIfNoneMatches);
+        assertEquals(Arrays.asList(String.valueOf(content.length)), flushPositions);
+        assertArrayEquals(content, uploaded);
+    }
+
+    private TransferManager manager() {
+        return new TransferManager(new TransferManagerOptions()
+            .setJournalDirectory(folder.getRoot().toPath().resolve("journals")));
+    }
+
+    private static DataLakeFileAsyncClient client(HttpClient httpClient) {
+        return new DataLakePathClientBuilder()
+            .endpoint(FILE_URL)
+            .httpClient(httpClient)
+            .buildFileAsyncClient();
+    }
+
+    private static Mono<byte[]> readBody(HttpRequest request) {
+        return (request.getBody() == null)
+            ? Mono.just(new byte[0])
+            : FluxUtil.collectBytesInByteBufferStream(request.getBody());
+    }
+
+    private static HttpHeaders fileHeaders(long contentLength) {
+        return new HttpHeaders()
+            .put("Content-Length", String.valueOf(contentLength))
+            .put("ETag", ETAG)
+            .put("x-ms-blob-type", "BlockBlob")
+            .put("x-ms-request-server-encrypted", "true")
+            .put("x-ms-server-encrypted", "true");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class FakeResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        FakeResponse(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body) {
+            super(request);
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.just(new String(body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.just(new String(body, charset));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.share;
+
+import com.azure.core.util.FluxUtil;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.common.implementation.LocalFileTransfer;
+import com.azure.storage.common.implementation.StorageImplUtils;
+import com.azure.storage.common.transfer.ResumableTransfer;
+import com.azure.storage.common.transfer.TransferChunk;
+import com.azure.storage.common.transfer.TransferManager;
+import com.azure.storage.common.transfer.TransferPlan;
+import com.azure.storage.file.share.models.ShareFileRange;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Creates {@link ResumableTransfer resumable transfers} between share files and local files, run by a
+ * {@link TransferManager}.
+ * <p>
+ * Files are transferred in chunks of 4MB, the largest range the service writes at once. Downloads check that each
+ * range comes from the version of the share file the download started with, so a share file modified since fails the
+ * download rather than mixing its versions in the local file; the download then starts over when run again. Uploads
+ * create the share file with the size of the local file, then write its ranges.
+ *
+ * <p><strong>Code Samples</strong></p>
+ *
+ * <pre>
+ * transferManager.transfer(ResumableShareFileTransfers.upload(shareFileAsyncClient, "file.bin")).block();
+ * </pre>
+ */
+public final class ResumableShareFileTransfers {
+    private ResumableShareFileTransfers() {
+    }
+
+    /**
+     * Creates a transfer downloading a share file to a local file, which is created or replaced.
+     *
+     * @param client The client of the share file.
+     * @param filePath The path of the local file.
+     * @return The transfer.
+     * @throws NullPointerException If {@code client} or {@code filePath} is null.
+     */
+    public static ResumableTransfer download(ShareFileAsyncClient client, String filePath) {
+        StorageImplUtils.assertNotNull("client", client);
+        StorageImplUtils.assertNotNull("filePath", filePath);
+        return new ShareFileDownload(client, Paths.get(filePath).toAbsolutePath());
+    }
+
+    /**
+     * Creates a transfer uploading a local file to a share file, which is created or replaced.
+     *
+     * @param client The client of the share file.
+     * @param filePath The path of the local file.
+     * @return The transfer.
+     * @throws NullPointerException If {@code client} or {@code filePath} is null.
+     */
+    public static ResumableTransfer upload(ShareFileAsyncClient client, String filePath) {
+        StorageImplUtils.assertNotNull("client", client);
+        StorageImplUtils.assertNotNull("filePath", filePath);
+        return new ShareFileUpload(client, Paths.get(filePath).toAbsolutePath());
+    }
+
+    private static final class ShareFileDownload extends LocalFileTransfer {
+        private final ClientLogger logger = new ClientLogger(ShareFileDownload.class);
+
+        private final ShareFileAsyncClient client;
+        private volatile String eTag;
+
+        ShareFileDownload(ShareFileAsyncClient client, Path file) {
+            super(file);
+            this.client = client;
+        }
+
+        @Override
+        public String getTransferId() {
+            return "share-file-download " + client.getFileUrl() + " " + getFile();
+        }
+
+        @Override
+        public Mono<TransferPlan> plan() {
+            return client.getProperties().map(properties -> {
+                eTag = properties.getETag();
+                return new TransferPlan(properties.getContentLength(), ShareFileAsyncClient.FILE_DEFAULT_BLOCK_SIZE,
+                    properties.getETag());
+            });
+        }
+
+        @Override
+        public Mono<Void> start(TransferPlan plan, boolean resuming) {
+            return openForWriting(resuming);
+        }
+
+        @Override
+        public Mono<String> transferChunk(TransferChunk chunk) {
+            // Share file downloads can't be conditioned on the ETag, so it is checked before writing the range.
+            return client.downloadWithResponse(new ShareFileRange(chunk.getOffset(),
+                chunk.getOffset() + chunk.getLength() - 1), false)
+                .flatMap(response -> {
+                    if (!Objects.equals(eTag, response.getDeserializedHeaders().getETag())) {
+                        return FluxUtil.monoError(logger, new IllegalStateException(
+                            "The share file was modified since the download started: " + client.getFileUrl()));
+                    }
+                    return FluxUtil.writeFile(response.getValue(), getChannel(), chunk.getOffset());
+                })
+                .then(force())
+                .then(Mono.empty());
+        }
+
+        @Override
+        public Mono<Void> complete(TransferPlan plan, List<String> chunkRecords) {
+            return Mono.empty();
+        }
+    }
+
+    private static final class ShareFileUpload extends LocalFileTransfer {
+        private final ShareFileAsyncClient client;
+
+        ShareFileUpload(ShareFileAsyncClient client, Path file) {
+            super(file);
+            this.client = client;
+        }
+
+        @Override
+        public String getTransferId() {
+            return "share-file-upload " + getFile() + " " + client.getFileUrl();
+        }
+
+        @Override
+        public Mono<TransferPlan> plan() {
+            return Mono.fromCallable(() -> {
+                long size = Files.size(getFile());
+                return new TransferPlan(size, ShareFileAsyncClient.FILE_DEFAULT_BLOCK_SIZE,
+                    size + ":" + Files.getLastModifiedTime(getFile()).toMillis());
+            });
+        }
+
+        @Override
+        public Mono<Void> start(TransferPlan plan, boolean resuming) {
+            Mono<Void> open = openForReading();
+            // Creating the share file again would clear the ranges written by the earlier run.
+            return resuming ? open : open.then(client.create(plan.getSize())).then();
+        }
+
+        @Override
+        public Mono<String> transferChunk(TransferChunk chunk) {
+            return client.uploadWithResponse(FluxUtil.readFile(getChannel(), chunk.getOffset(), chunk.getLength()),
+                chunk.getLength(), chunk.getOffset())
+                .then(Mono.empty());
+        }
+
+        @Override
+        public Mono<Void> complete(TransferPlan plan, List<String> chunkRecords) {
+            return Mono.empty();
+        }
+    }
+}
@@ -5,6 +5,7 @@ package com.azure.storage.file.share;
 
 import com.azure.core.annotation.ServiceClient;
 import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.FileContent;
 import com.azure.core.http.HttpPipeline;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.rest.PagedFlux;
@@ -23,6 +24,7 @@ import com.azure.storage.common.StorageSharedKeyCredential;
 import com.azure.storage.common.implementation.Constants;
 import com.azure.storage.common.implementation.SasImplUtils;
 import com.azure.storage.common.implementation.StorageImplUtils;
+import com.azure.storage.common.implementation.UploadUtils;
 import com.azure.storage.file.share.implementation.AzureFileStorageImpl;
 import com.azure.storage.file.share.implementation.models.CopyFileSmbInfo;
 import com.azure.storage.file.share.implementation.models.FileGetPropertiesHeaders;
@@ -63,7 +65,6 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -1504,28 +1505,25 @@ public class ShareFileAsyncClient {
      */
     public Mono<Void> uploadFromFile(String uploadFilePath, ShareRequestConditions requestConditions) {
         try {
-            return Mono.using(() -> channelSetup(uploadFilePath, StandardOpenOption.READ),
-                channel -> Flux.fromIterable(sliceFile(uploadFilePath))
-                    .flatMap(chunk -> uploadWithResponse(FluxUtil.readFile(channel, chunk.getStart(),
-                        chunk.getEnd() - chunk.getStart() + 1), chunk.getEnd() - chunk.getStart() + 1,
-                        chunk.getStart(), requestConditions)
-                        .timeout(Duration.ofSeconds(DOWNLOAD_UPLOAD_CHUNK_TIMEOUT))
-                        .retry(3,
-                            throwable -> throwable instanceof IOException || throwable instanceof TimeoutException))
-                    .then(), this::channelCleanUp);
+            return Flux.defer(() -> Flux.fromIterable(sliceFile(UploadUtils.getFileSize(uploadFilePath, logger))))
+                .flatMap(chunk -> uploadWithResponse(new FileContent(Paths.get(uploadFilePath),
+                    chunk.getStart(), chunk.getEnd() - chunk.getStart() + 1), chunk.getEnd() - chunk.getStart() + 1,
+                    chunk.getStart(), requestConditions)
+                    .timeout(Duration.ofSeconds(DOWNLOAD_UPLOAD_CHUNK_TIMEOUT))
+                    .retry(3,
+                        throwable -> throwable instanceof IOException || throwable instanceof TimeoutException))
+                .then();
         } catch (RuntimeException ex) {
             return monoError(logger, ex);
         }
     }
 
-    private List<ShareFileRange> sliceFile(String path) {
-        File file = new File(path);
-        assert file.exists();
+    private List<ShareFileRange> sliceFile(long fileSize) {
         List<ShareFileRange> ranges = new ArrayList<>();
-        for (long pos = 0; pos < file.length(); pos += FILE_DEFAULT_BLOCK_SIZE) {
+        for (long pos = 0; pos < fileSize; pos += FILE_DEFAULT_BLOCK_SIZE) {
             long count = FILE_DEFAULT_BLOCK_SIZE;
-            if (pos + count > file.length()) {
-                count = file.length() - pos;
+            if (pos + count > fileSize) {
+                count = fileSize - pos;
             }
             ranges.add(new ShareFileRange(pos, pos + count - 1));
         }
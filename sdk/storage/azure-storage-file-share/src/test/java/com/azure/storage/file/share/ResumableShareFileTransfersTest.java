@@ -0,0 +1,244 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.share;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.common.transfer.TransferManager;
+import com.azure.storage.common.transfer.TransferManagerOptions;
+import com.azure.storage.file.share.models.ShareStorageException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/*
+These tests run against a stubbed HttpClient rather than recorded sessions, which serves a single share file from
+memory.
+ */
+public class ResumableShareFileTransfersTest {
+    private static final String FILE_URL = "https://account.file.core.windows.net/share/file";
+    private static final String SAS_TOKEN = "sv=2019-02-02&sig=signature";
+    private static final String ETAG = "0x8D7C0E8F0E8F0E8";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void downloadWritesEveryChunk() throws IOException {
+        byte[] content = randomBytes((int) ShareFileAsyncClient.FILE_DEFAULT_BLOCK_SIZE + 1024);
+        Path file = folder.getRoot().toPath().resolve("download.bin");
+
+        manager().transfer(ResumableShareFileTransfers.download(client(downloadClient(content, new AtomicInteger())),
+            file.toString())).block();
+
+        assertArrayEquals(content, Files.readAllBytes(file));
+    }
+
+    @Test
+    public void downloadFailsWhenTheShareFileIsModified() throws IOException {
+        byte[] content = randomBytes((int) ShareFileAsyncClient.FILE_DEFAULT_BLOCK_SIZE + 1024);
+        Path file = folder.getRoot().toPath().resolve("download.bin");
+        // The ETag of the share file changes after its properties are read.
+        AtomicInteger version = new AtomicInteger();
+        HttpClient httpClient = downloadClient(content, version);
+        HttpClient modifyingClient = request -> httpClient.send(request)
+            .doOnNext(response -> version.compareAndSet(0, 1));
+
+        try {
+            manager().transfer(ResumableShareFileTransfers.download(client(modifyingClient), file.toString())).block();
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void uploadCreatesTheShareFileAndWritesEveryRange() throws IOException {
+        byte[] content = randomBytes((int) ShareFileAsyncClient.FILE_DEFAULT_BLOCK_SIZE + 1024);
+        Path file = folder.getRoot().toPath().resolve("upload.bin");
+        Files.write(file, content);
+
+        byte[] uploaded = new byte[content.length];
+        List<String> createdLengths = Collections.synchronizedList(new ArrayList<>());
+        HttpClient httpClient = request -> readBody(request).map(body -> {
+            if (request.getUrl().getQuery().contains("comp=range")) {
+                Matcher range = RANGE.matcher(request.getHeaders().getValue("x-ms-range"));
+                range.matches();
+                System.arraycopy(body, 0, uploaded, Integer.parseInt(range.group(1)), body.length);
+            } else {
+                createdLengths.add(request.getHeaders().getValue("x-ms-content-length"));
+            }
+            return new FakeResponse(request, 201, fileHeaders(0), new byte[0]);
+        });
+
+        manager().transfer(ResumableShareFileTransfers.upload(client(httpClient), file.toString())).block();
+
+        assertEquals(Arrays.asList(String.valueOf(content.length)), createdLengths);
+        assertArrayEquals(content, uploaded);
+    }
+
+    @Test
+    public void resumedUploadDoesNotCreateTheShareFileAgain() throws IOException {
+        byte[] content = randomBytes((int) ShareFileAsyncClient.FILE_DEFAULT_BLOCK_SIZE + 1024);
+        Path file = folder.getRoot().toPath().resolve("upload.bin");
+        Files.write(file, content);
+        TransferManager manager = new TransferManager(new TransferManagerOptions()
+            .setJournalDirectory(folder.getRoot().toPath().resolve("journals"))
+            .setMaxConcurrency(1));
+
+        // The second range fails, which the client doesn't retry. The ranges are written one at a time, so the first is
+        // journaled by then.
+        AtomicInteger creates = new AtomicInteger();
+        AtomicInteger ranges = new AtomicInteger();
+        HttpClient httpClient = request -> readBody(request).map(body -> {
+            if (!request.getUrl().getQuery().contains("comp=range")) {
+                creates.incrementAndGet();
+            } else if (ranges.incrementAndGet() == 2) {
+                return new FakeResponse(request, 412, fileHeaders(0), new byte[0]);
+            }
+            return new FakeResponse(request, 201, fileHeaders(0), new byte[0]);
+        });
+        ShareFileAsyncClient client = client(httpClient);
+
+        try {
+            manager.transfer(ResumableShareFileTransfers.upload(client, file.toString())).block();
+            fail("Expected the second range to fail.");
+        } catch (ShareStorageException e) {
+            assertEquals(412, e.getStatusCode());
+        }
+        manager.transfer(ResumableShareFileTransfers.upload(client, file.toString())).block();
+
+        assertEquals(1, creates.get());
+        assertEquals(3, ranges.get());
+        assertEquals(0, folder.getRoot().toPath().resolve("journals").toFile().list().length);
+    }
+
+    private TransferManager manager() {
+        return new TransferManager(new TransferManagerOptions()
+            .setJournalDirectory(folder.getRoot().toPath().resolve("journals")));
+    }
+
+    private static ShareFileAsyncClient client(HttpClient httpClient) {
+        return new ShareFileClientBuilder()
+            .endpoint(FILE_URL)
+            .sasToken(SAS_TOKEN)
+            .httpClient(httpClient)
+            .buildFileAsyncClient();
+    }
+
+    /*
+     * Serves the content of the share file, with an ETag of the given version.
+     */
+    private static HttpClient downloadClient(byte[] content, AtomicInteger version) {
+        return request -> {
+            if (request.getHttpMethod() == HttpMethod.HEAD) {
+                return Mono.just(new FakeResponse(request, 200, fileHeaders(content.length)
+                    .put("ETag", ETAG + version.get()), new byte[0]));
+            }
+
+            Matcher range = RANGE.matcher(request.getHeaders().getValue("x-ms-range"));
+            range.matches();
+            int start = Integer.parseInt(range.group(1));
+            int end = Math.min(Integer.parseInt(range.group(2)), content.length - 1);
+            HttpHeaders headers = fileHeaders(end - start + 1)
+                .put("ETag", ETAG + version.get())
+                .put("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+            return Mono.just(new FakeResponse(request, 206, headers, Arrays.copyOfRange(content, start, end + 1)));
+        };
+    }
+
+    private static Mono<byte[]> readBody(HttpRequest request) {
+        return (request.getBody() == null)
+            ? Mono.just(new byte[0])
+            : FluxUtil.collectBytesInByteBufferStream(request.getBody());
+    }
+
+    private static HttpHeaders fileHeaders(long contentLength) {
+        return new HttpHeaders()
+            .put("Content-Length", String.valueOf(contentLength))
+            .put("ETag", ETAG)
+            .put("x-ms-request-server-encrypted", "true")
+            .put("x-ms-server-encrypted", "true");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class FakeResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        FakeResponse(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body) {
+            super(request);
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.just(new String(body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.just(new String(body, charset));
+        }
+    }
+}
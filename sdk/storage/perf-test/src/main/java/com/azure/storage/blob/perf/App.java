@@ -21,11 +21,13 @@ public class App {
         try {
             testClasses = new Class<?>[] {
                 Class.forName("com.azure.storage.blob.perf.DownloadBlobTest"),
+                Class.forName("com.azure.storage.blob.perf.DownloadToFileTest"),
                 Class.forName("com.azure.storage.blob.perf.ListBlobsTest"),
                 Class.forName("com.azure.storage.blob.perf.UploadBlockBlobTest"),
                 Class.forName("com.azure.storage.blob.perf.UploadFromFileTest"),
                 Class.forName("com.azure.storage.blob.perf.UploadOutputStreamTest"),
                 Class.forName("com.azure.storage.blob.perf.UploadBlobTest"),
+                Class.forName("com.azure.storage.blob.perf.UploadBufferedTest"),
             };
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
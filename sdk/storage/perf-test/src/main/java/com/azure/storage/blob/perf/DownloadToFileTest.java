@@ -0,0 +1,75 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.azure.core.util.Context;
+import com.azure.perf.test.core.RandomFlux;
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.perf.core.ContainerTest;
+import com.azure.storage.blob.perf.core.ParallelTransferPerfOptions;
+
+import reactor.core.publisher.Mono;
+
+public class DownloadToFileTest extends ContainerTest<ParallelTransferPerfOptions> {
+    private static final Set<OpenOption> OPEN_OPTIONS = new HashSet<>(Arrays.asList(StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+
+    private final BlobClient blobClient;
+    private final BlobAsyncClient blobAsyncClient;
+    private final Path tempFile;
+
+    public DownloadToFileTest(ParallelTransferPerfOptions options) {
+        super(options);
+        String blobName = "downloadToFileTest";
+        blobClient = blobContainerClient.getBlobClient(blobName);
+        blobAsyncClient = blobContainerAsyncClient.getBlobAsyncClient(blobName);
+
+        // Each parallel instance downloads to its own file.
+        try {
+            tempFile = Files.createTempFile(null, null);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Required resource setup goes here, upload the file to be downloaded during tests.
+    @Override
+    public Mono<Void> globalSetupAsync() {
+        return super.globalSetupAsync()
+                   .then(blobAsyncClient.upload(RandomFlux.create(options.getSize()), null, true))
+                   .then();
+    }
+
+    @Override
+    public Mono<Void> cleanupAsync() {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return super.cleanupAsync();
+    }
+
+    @Override
+    public void run() {
+        blobClient.downloadToFileWithResponse(tempFile.toString(), null, options.toParallelTransferOptions(), null,
+            null, false, OPEN_OPTIONS, null, Context.NONE);
+    }
+
+    @Override
+    public Mono<Void> runAsync() {
+        return blobAsyncClient.downloadToFileWithResponse(tempFile.toString(), null,
+            options.toParallelTransferOptions(), null, null, false, OPEN_OPTIONS).then();
+    }
+}
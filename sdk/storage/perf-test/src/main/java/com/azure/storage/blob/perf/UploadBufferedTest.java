@@ -0,0 +1,27 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.perf;
+
+import com.azure.perf.test.core.RandomFlux;
+import com.azure.storage.blob.perf.core.BlobTestBase;
+import com.azure.storage.blob.perf.core.ParallelTransferPerfOptions;
+import reactor.core.publisher.Mono;
+
+public class UploadBufferedTest extends BlobTestBase<ParallelTransferPerfOptions> {
+
+    public UploadBufferedTest(ParallelTransferPerfOptions options) {
+        super(options);
+    }
+
+    @Override
+    public void run() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Mono<Void> runAsync() {
+        return blobAsyncClient.uploadWithResponse(RandomFlux.create(options.getSize()),
+            options.toParallelTransferOptions(), null, null, null, null).then();
+    }
+}
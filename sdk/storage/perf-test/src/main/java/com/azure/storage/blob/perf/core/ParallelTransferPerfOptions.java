@@ -0,0 +1,55 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.perf.core;
+
+import com.azure.perf.test.core.SizeOptions;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.beust.jcommander.Parameter;
+
+/**
+ * Represents the options of the parallel transfer performance tests, which compare fixed block sizes and concurrency
+ * with adaptive tuning within the same memory limit.
+ */
+public class ParallelTransferPerfOptions extends SizeOptions {
+    @Parameter(names = { "--block-size" }, description = "Size of the blocks (in bytes), the initial size if adaptive")
+    private int blockSize = 4 * 1024 * 1024;
+
+    @Parameter(names = { "--buffers" }, description = "Number of buffers, which bounds memory to block size * buffers")
+    private int buffers = 8;
+
+    @Parameter(names = { "--adaptive" }, description = "Tunes block size and concurrency while transferring")
+    private boolean adaptive = false;
+
+    /**
+     * Get the configured block size option for performance test.
+     * @return The block size.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Get the configured number of buffers option for performance test.
+     * @return The number of buffers.
+     */
+    public int getBuffers() {
+        return buffers;
+    }
+
+    /**
+     * Get the configured adaptive option for performance test.
+     * @return Whether transfers are adaptive.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Creates the transfer options of the test. Data larger than a block is always uploaded in blocks.
+     * @return The transfer options.
+     */
+    public ParallelTransferOptions toParallelTransferOptions() {
+        return new ParallelTransferOptions(blockSize, buffers, null, blockSize, adaptive);
+    }
+}